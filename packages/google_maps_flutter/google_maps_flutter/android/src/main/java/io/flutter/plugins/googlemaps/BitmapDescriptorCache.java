@@ -0,0 +1,112 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Caches the {@link BitmapDescriptor}s of marker icons and caps, shared by all maps.
+ *
+ * <p>Markers that use the same icon share one {@link BitmapDescriptor}, so the image is decoded and
+ * held once. Descriptors created from bytes are keyed by a hash of the bytes, and descriptors
+ * created from assets by their asset key. The cache is a least recently used cache bounded by the
+ * total size of the decoded bitmaps and by the number of descriptors; asset descriptors are decoded
+ * by the Maps SDK, so only the number of entries bounds them.
+ *
+ * <p>All methods must be called on the main thread.
+ */
+class BitmapDescriptorCache {
+  private static final long DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+  private static final int DEFAULT_MAX_ENTRIES = 256;
+
+  private static final BitmapDescriptorCache instance =
+      new BitmapDescriptorCache(DEFAULT_MAX_BYTES, DEFAULT_MAX_ENTRIES);
+
+  private static final class Entry {
+    final BitmapDescriptor bitmapDescriptor;
+    final long byteCount;
+
+    Entry(BitmapDescriptor bitmapDescriptor, long byteCount) {
+      this.bitmapDescriptor = bitmapDescriptor;
+      this.byteCount = byteCount;
+    }
+  }
+
+  private final long maxBytes;
+  private final int maxEntries;
+  // Access ordered, so the first entry is the least recently used one.
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long byteCount = 0;
+
+  BitmapDescriptorCache(long maxBytes, int maxEntries) {
+    this.maxBytes = maxBytes;
+    this.maxEntries = maxEntries;
+  }
+
+  /** Returns the cache shared by all maps. */
+  static BitmapDescriptorCache getInstance() {
+    return instance;
+  }
+
+  /** Returns the cache key of an image, which is a SHA-256 hash of its bytes. */
+  static String getBytesKey(byte[] bytes) {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256.
+      throw new IllegalStateException(e);
+    }
+    final StringBuilder key = new StringBuilder("bytes:");
+    for (byte b : digest.digest(bytes)) {
+      key.append(String.format("%02x", b));
+    }
+    return key.toString();
+  }
+
+  /** Returns the cache key of an asset. */
+  static String getAssetKey(String assetLookupKey) {
+    return "asset:" + assetLookupKey;
+  }
+
+  @Nullable
+  BitmapDescriptor get(String key) {
+    final Entry entry = entries.get(key);
+    return entry != null ? entry.bitmapDescriptor : null;
+  }
+
+  /**
+   * Caches a descriptor, evicting the least recently used ones if the cache is full.
+   *
+   * @param key the key returned by {@link #getBytesKey} or {@link #getAssetKey}
+   * @param bitmapDescriptor the descriptor
+   * @param byteCount the size of the bitmap held by the descriptor, or 0 for asset descriptors
+   */
+  void put(String key, BitmapDescriptor bitmapDescriptor, long byteCount) {
+    if (byteCount > maxBytes) {
+      return;
+    }
+    final Entry previousEntry = entries.put(key, new Entry(bitmapDescriptor, byteCount));
+    if (previousEntry != null) {
+      this.byteCount -= previousEntry.byteCount;
+    }
+    this.byteCount += byteCount;
+
+    final Iterator<Entry> iterator = entries.values().iterator();
+    while ((this.byteCount > maxBytes || entries.size() > maxEntries) && iterator.hasNext()) {
+      this.byteCount -= iterator.next().byteCount;
+      iterator.remove();
+    }
+  }
+
+  long getByteCount() {
+    return byteCount;
+  }
+}
@@ -0,0 +1,39 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link BitmapDescriptor}s registered by Dart for one map.
+ *
+ * <p>Markers and caps refer to registered descriptors by id, so the image isn't sent again for
+ * every marker. Descriptors are kept until they are unregistered or the map is disposed.
+ *
+ * <p>All methods must be called on the main thread.
+ */
+class BitmapDescriptorRegistry {
+  private final Map<String, BitmapDescriptor> bitmapDescriptors = new HashMap<>();
+
+  void register(String id, BitmapDescriptor bitmapDescriptor) {
+    bitmapDescriptors.put(id, bitmapDescriptor);
+  }
+
+  void unregister(String id) {
+    bitmapDescriptors.remove(id);
+  }
+
+  @Nullable
+  BitmapDescriptor get(String id) {
+    return bitmapDescriptors.get(id);
+  }
+
+  void clear() {
+    bitmapDescriptors.clear();
+  }
+}
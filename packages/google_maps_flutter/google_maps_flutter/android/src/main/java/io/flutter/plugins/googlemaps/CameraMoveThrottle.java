@@ -0,0 +1,94 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.CameraPosition;
+import java.util.Map;
+
+/**
+ * Decides which camera positions are sent to Dart while the camera moves.
+ *
+ * <p>A position is sent once the minimum interval has passed since the previous one, and only if
+ * the camera target, zoom, bearing or tilt changed by at least its minimum delta. The last position
+ * is always sent when the camera becomes idle, so Dart ends up with the final position.
+ */
+class CameraMoveThrottle {
+  private final long minIntervalMillis;
+  private final double minTargetDelta;
+  private final double minZoomDelta;
+  private final double minBearingDelta;
+
+  @Nullable private CameraPosition sentPosition;
+  private long sentTimeMillis;
+
+  /**
+   * Creates a {@link CameraMoveThrottle}.
+   *
+   * @param minIntervalMillis the minimum time between two sent positions
+   * @param minTargetDelta the minimum distance the target moves on screen, in density-independent
+   *     pixels
+   * @param minZoomDelta the minimum change of the zoom level
+   * @param minBearingDelta the minimum change of the bearing or tilt in degrees
+   */
+  CameraMoveThrottle(
+      long minIntervalMillis, double minTargetDelta, double minZoomDelta, double minBearingDelta) {
+    this.minIntervalMillis = minIntervalMillis;
+    this.minTargetDelta = minTargetDelta;
+    this.minZoomDelta = minZoomDelta;
+    this.minBearingDelta = minBearingDelta;
+  }
+
+  static CameraMoveThrottle fromOptions(Map<?, ?> data) {
+    return new CameraMoveThrottle(
+        ((Number) data.get("minInterval")).longValue(),
+        ((Number) data.get("minTargetDelta")).doubleValue(),
+        ((Number) data.get("minZoomDelta")).doubleValue(),
+        ((Number) data.get("minBearingDelta")).doubleValue());
+  }
+
+  /** Returns whether a position should be sent while the camera moves, and records it if so. */
+  boolean onCameraMove(CameraPosition position, long timeMillis) {
+    if (sentPosition != null
+        && (timeMillis - sentTimeMillis < minIntervalMillis || !hasMoved(position))) {
+      return false;
+    }
+    sentPosition = position;
+    sentTimeMillis = timeMillis;
+    return true;
+  }
+
+  /** Returns whether the final position still has to be sent when the camera becomes idle. */
+  boolean onCameraIdle(CameraPosition position) {
+    if (position.equals(sentPosition)) {
+      return false;
+    }
+    sentPosition = position;
+    return true;
+  }
+
+  private boolean hasMoved(CameraPosition position) {
+    if (Math.abs(position.zoom - sentPosition.zoom) >= minZoomDelta
+        || getAngleDelta(position.bearing, sentPosition.bearing) >= minBearingDelta
+        || Math.abs(position.tilt - sentPosition.tilt) >= minBearingDelta) {
+      return true;
+    }
+    final double worldSize = WebMercator.getWorldSize(position.zoom);
+    double dx = Math.abs(position.target.longitude - sentPosition.target.longitude) / 360;
+    if (dx > 0.5) {
+      // The target moved across the antimeridian.
+      dx = 1 - dx;
+    }
+    final double dy =
+        WebMercator.getWorldY(position.target.latitude)
+            - WebMercator.getWorldY(sentPosition.target.latitude);
+    return Math.hypot(dx * worldSize, dy * worldSize) >= minTargetDelta;
+  }
+
+  private static double getAngleDelta(float a, float b) {
+    final double delta = Math.abs(a - b) % 360;
+    return Math.min(delta, 360 - delta);
+  }
+}
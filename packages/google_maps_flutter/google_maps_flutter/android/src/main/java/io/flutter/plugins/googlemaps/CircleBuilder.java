@@ -25,6 +25,14 @@ class CircleBuilder implements CircleOptionsSink {
     return consumeTapEvents;
   }
 
+  LatLng getCenter() {
+    return circleOptions.getCenter();
+  }
+
+  double getRadius() {
+    return circleOptions.getRadius();
+  }
+
   @Override
   public void setFillColor(int color) {
     circleOptions.fillColor(color);
@@ -66,6 +66,18 @@ class CircleController implements CircleOptionsSink {
     circle.setZIndex(zIndex);
   }
 
+  /** Sends the current options of the circle to {@code sink}, so it can be added again later. */
+  void copyTo(CircleOptionsSink sink) {
+    sink.setConsumeTapEvents(consumeTapEvents);
+    sink.setStrokeColor(circle.getStrokeColor());
+    sink.setFillColor(circle.getFillColor());
+    sink.setCenter(circle.getCenter());
+    sink.setRadius(circle.getRadius());
+    sink.setVisible(circle.isVisible());
+    sink.setStrokeWidth(circle.getStrokeWidth() / density);
+    sink.setZIndex(circle.getZIndex());
+  }
+
   String getGoogleMapsCircleId() {
     return googleMapsCircleId;
   }
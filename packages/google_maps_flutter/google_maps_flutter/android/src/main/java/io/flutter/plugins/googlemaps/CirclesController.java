@@ -7,10 +7,12 @@ package io.flutter.plugins.googlemaps;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.Circle;
 import com.google.android.gms.maps.model.CircleOptions;
+import com.google.android.gms.maps.model.LatLngBounds;
 import io.flutter.plugin.common.MethodChannel;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 class CirclesController {
 
@@ -18,6 +20,7 @@ class CirclesController {
   private final Map<String, String> googleMapsCircleIdToDartCircleId;
   private final MethodChannel methodChannel;
   private final float density;
+  private final ViewportCuller<CircleBuilder> culler;
   private GoogleMap googleMap;
 
   CirclesController(MethodChannel methodChannel, float density) {
@@ -25,17 +28,62 @@ class CirclesController {
     this.googleMapsCircleIdToDartCircleId = new HashMap<>();
     this.methodChannel = methodChannel;
     this.density = density;
+    this.culler =
+        new ViewportCuller<>(
+            new ViewportCuller.Delegate<CircleBuilder>() {
+              @Override
+              public Set<String> getIdsOnMap() {
+                return circleIdToController.keySet();
+              }
+
+              @Override
+              public CircleBuilder readOptions(String circleId) {
+                final CircleBuilder circleBuilder = new CircleBuilder(density);
+                circleIdToController.get(circleId).copyTo(circleBuilder);
+                return circleBuilder;
+              }
+
+              @Override
+              public LatLngBounds getBounds(CircleBuilder circleBuilder) {
+                return Convert.getCircleBounds(
+                    circleBuilder.getCenter(), circleBuilder.getRadius());
+              }
+
+              @Override
+              public void addToMap(String circleId, CircleBuilder circleBuilder) {
+                addCircle(circleId, circleBuilder.build(), circleBuilder.consumeTapEvents());
+              }
+
+              @Override
+              public void removeFromMap(String circleId) {
+                removeCircleFromMap(circleId);
+              }
+            });
   }
 
   void setGoogleMap(GoogleMap googleMap) {
     this.googleMap = googleMap;
   }
 
+  /**
+   * Enables or disables viewport culling.
+   *
+   * <p>While culling is enabled, only the circles in the culled region are added to the map.
+   */
+  void setViewportCulling(boolean enabled) {
+    culler.setEnabled(enabled);
+  }
+
+  void setCulledRegion(LatLngBounds culledRegion) {
+    culler.setCulledRegion(culledRegion);
+  }
+
   void addCircles(List<Object> circlesToAdd) {
     if (circlesToAdd != null) {
       for (Object circleToAdd : circlesToAdd) {
         addCircle(circleToAdd);
       }
+      culler.update();
     }
   }
 
@@ -44,6 +92,7 @@ class CirclesController {
       for (Object circleToChange : circlesToChange) {
         changeCircle(circleToChange);
       }
+      culler.update();
     }
   }
 
@@ -56,11 +105,8 @@ class CirclesController {
         continue;
       }
       String circleId = (String) rawCircleId;
-      final CircleController circleController = circleIdToController.remove(circleId);
-      if (circleController != null) {
-        circleController.remove();
-        googleMapsCircleIdToDartCircleId.remove(circleController.getGoogleMapsCircleId());
-      }
+      culler.remove(circleId);
+      removeCircleFromMap(circleId);
     }
   }
 
@@ -83,6 +129,11 @@ class CirclesController {
     }
     CircleBuilder circleBuilder = new CircleBuilder(density);
     String circleId = Convert.interpretCircleOptions(circle, circleBuilder);
+    if (culler.isEnabled()) {
+      // The circle is added to the map by the culler if it is in the culled region.
+      culler.put(circleId, circleBuilder);
+      return;
+    }
     CircleOptions options = circleBuilder.build();
     addCircle(circleId, options, circleBuilder.consumeTapEvents());
   }
@@ -103,6 +154,19 @@ class CirclesController {
     if (circleController != null) {
       Convert.interpretCircleOptions(circle, circleController);
     }
+    CircleBuilder circleBuilder = culler.get(circleId);
+    if (circleBuilder != null) {
+      Convert.interpretCircleOptions(circle, circleBuilder);
+      culler.put(circleId, circleBuilder);
+    }
+  }
+
+  private void removeCircleFromMap(String circleId) {
+    final CircleController circleController = circleIdToController.remove(circleId);
+    if (circleController != null) {
+      circleController.remove();
+      googleMapsCircleIdToDartCircleId.remove(circleController.getGoogleMapsCircleId());
+    }
   }
 
   @SuppressWarnings("unchecked")
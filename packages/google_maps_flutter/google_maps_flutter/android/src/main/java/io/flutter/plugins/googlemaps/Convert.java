@@ -25,6 +25,7 @@ import com.google.android.gms.maps.model.RoundCap;
 import com.google.android.gms.maps.model.SquareCap;
 import com.google.android.gms.maps.model.Tile;
 import io.flutter.view.FlutterMain;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -33,11 +34,13 @@ import java.util.Map;
 
 /** Conversions between JSON-like values and GoogleMaps data types. */
 class Convert {
+  // The mean radius of the Earth in meters.
+  private static final double EARTH_RADIUS = 6371009;
 
   // TODO(hamdikahloun): FlutterMain has been deprecated and should be replaced with FlutterLoader
   //  when it's available in Stable channel: https://github.com/flutter/flutter/issues/70923.
   @SuppressWarnings("deprecation")
-  private static BitmapDescriptor toBitmapDescriptor(Object o) {
+  static BitmapDescriptor toBitmapDescriptor(Object o, BitmapDescriptorRegistry registry) {
     final List<?> data = toList(o);
     switch (toString(data.get(0))) {
       case "defaultMarker":
@@ -48,32 +51,61 @@ class Convert {
         }
       case "fromAsset":
         if (data.size() == 2) {
-          return BitmapDescriptorFactory.fromAsset(
-              FlutterMain.getLookupKeyForAsset(toString(data.get(1))));
+          return getBitmapFromAsset(FlutterMain.getLookupKeyForAsset(toString(data.get(1))));
         } else {
-          return BitmapDescriptorFactory.fromAsset(
+          return getBitmapFromAsset(
               FlutterMain.getLookupKeyForAsset(toString(data.get(1)), toString(data.get(2))));
         }
       case "fromAssetImage":
         if (data.size() == 3) {
-          return BitmapDescriptorFactory.fromAsset(
-              FlutterMain.getLookupKeyForAsset(toString(data.get(1))));
+          return getBitmapFromAsset(FlutterMain.getLookupKeyForAsset(toString(data.get(1))));
         } else {
           throw new IllegalArgumentException(
               "'fromAssetImage' Expected exactly 3 arguments, got: " + data.size());
         }
       case "fromBytes":
         return getBitmapFromBytes(data);
+      case "registered":
+        return getRegisteredBitmap(toString(data.get(1)), registry);
       default:
         throw new IllegalArgumentException("Cannot interpret " + o + " as BitmapDescriptor");
     }
   }
 
+  private static BitmapDescriptor getRegisteredBitmap(
+      String id, BitmapDescriptorRegistry registry) {
+    final BitmapDescriptor bitmapDescriptor = registry.get(id);
+    if (bitmapDescriptor == null) {
+      throw new IllegalArgumentException("No BitmapDescriptor is registered with id " + id);
+    }
+    return bitmapDescriptor;
+  }
+
+  private static BitmapDescriptor getBitmapFromAsset(String assetLookupKey) {
+    final BitmapDescriptorCache cache = BitmapDescriptorCache.getInstance();
+    final String key = BitmapDescriptorCache.getAssetKey(assetLookupKey);
+    BitmapDescriptor bitmapDescriptor = cache.get(key);
+    if (bitmapDescriptor == null) {
+      bitmapDescriptor = BitmapDescriptorFactory.fromAsset(assetLookupKey);
+      cache.put(key, bitmapDescriptor, 0);
+    }
+    return bitmapDescriptor;
+  }
+
   private static BitmapDescriptor getBitmapFromBytes(List<?> data) {
     if (data.size() == 2) {
+      // Markers usually share a few icons, so each distinct image is only decoded once.
+      final BitmapDescriptorCache cache = BitmapDescriptorCache.getInstance();
+      final String key = BitmapDescriptorCache.getBytesKey((byte[]) data.get(1));
+      final BitmapDescriptor cachedBitmapDescriptor = cache.get(key);
+      if (cachedBitmapDescriptor != null) {
+        return cachedBitmapDescriptor;
+      }
       try {
         Bitmap bitmap = toBitmap(data.get(1));
-        return BitmapDescriptorFactory.fromBitmap(bitmap);
+        BitmapDescriptor bitmapDescriptor = BitmapDescriptorFactory.fromBitmap(bitmap);
+        cache.put(key, bitmapDescriptor, bitmap.getByteCount());
+        return bitmapDescriptor;
       } catch (Exception e) {
         throw new IllegalArgumentException("Unable to interpret bytes as a valid image.", e);
       }
@@ -147,6 +179,10 @@ class Convert {
     return ((Number) o).intValue();
   }
 
+  static long toLong(Object o) {
+    return ((Number) o).longValue();
+  }
+
   static Object cameraPositionToJson(CameraPosition position) {
     if (position == null) {
       return null;
@@ -216,6 +252,14 @@ class Convert {
     return data;
   }
 
+  static Map<String, Object> tileCoordinatesToJson(int x, int y, int zoom) {
+    final Map<String, Object> data = new HashMap<>(3);
+    data.put("x", x);
+    data.put("y", y);
+    data.put("zoom", zoom);
+    return data;
+  }
+
   static Object latLngToJson(LatLng latLng) {
     return Arrays.asList(latLng.latitude, latLng.longitude);
   }
@@ -344,6 +388,11 @@ class Convert {
     if (trackCameraPosition != null) {
       sink.setTrackCameraPosition(toBoolean(trackCameraPosition));
     }
+    final Object cameraMoveThrottle = data.get("cameraMoveThrottle");
+    if (cameraMoveThrottle != null) {
+      final List<?> cameraMoveThrottleData = toList(cameraMoveThrottle);
+      sink.setCameraMoveThrottle(toMap(cameraMoveThrottleData.get(0)));
+    }
     final Object zoomGesturesEnabled = data.get("zoomGesturesEnabled");
     if (zoomGesturesEnabled != null) {
       sink.setZoomGesturesEnabled(toBoolean(zoomGesturesEnabled));
@@ -376,10 +425,21 @@ class Convert {
     if (buildingsEnabled != null) {
       sink.setBuildingsEnabled(toBoolean(buildingsEnabled));
     }
+    final Object markerClustering = data.get("markerClustering");
+    if (markerClustering != null) {
+      final List<?> markerClusteringData = toList(markerClustering);
+      sink.setMarkerClustering(toMap(markerClusteringData.get(0)));
+    }
+    final Object viewportCulling = data.get("viewportCulling");
+    if (viewportCulling != null) {
+      final List<?> viewportCullingData = toList(viewportCulling);
+      sink.setViewportCulling(toMap(viewportCullingData.get(0)));
+    }
   }
 
   /** Returns the dartMarkerId of the interpreted marker. */
-  static String interpretMarkerOptions(Object o, MarkerOptionsSink sink) {
+  static String interpretMarkerOptions(
+      Object o, MarkerOptionsSink sink, BitmapDescriptorRegistry registry) {
     final Map<?, ?> data = toMap(o);
     final Object alpha = data.get("alpha");
     if (alpha != null) {
@@ -404,7 +464,7 @@ class Convert {
     }
     final Object icon = data.get("icon");
     if (icon != null) {
-      sink.setIcon(toBitmapDescriptor(icon));
+      sink.setIcon(toBitmapDescriptor(icon, registry));
     }
 
     final Object infoWindow = data.get("infoWindow");
@@ -480,6 +540,10 @@ class Convert {
     if (zIndex != null) {
       sink.setZIndex(toFloat(zIndex));
     }
+    final Object simplificationTolerance = data.get("simplificationTolerance");
+    if (simplificationTolerance != null) {
+      sink.setSimplificationTolerance(toFloat(simplificationTolerance));
+    }
     final Object points = data.get("points");
     if (points != null) {
       sink.setPoints(toPoints(points));
@@ -496,7 +560,8 @@ class Convert {
     }
   }
 
-  static String interpretPolylineOptions(Object o, PolylineOptionsSink sink) {
+  static String interpretPolylineOptions(
+      Object o, PolylineOptionsSink sink, BitmapDescriptorRegistry registry) {
     final Map<?, ?> data = toMap(o);
     final Object consumeTapEvents = data.get("consumeTapEvents");
     if (consumeTapEvents != null) {
@@ -508,7 +573,7 @@ class Convert {
     }
     final Object endCap = data.get("endCap");
     if (endCap != null) {
-      sink.setEndCap(toCap(endCap));
+      sink.setEndCap(toCap(endCap, registry));
     }
     final Object geodesic = data.get("geodesic");
     if (geodesic != null) {
@@ -520,7 +585,7 @@ class Convert {
     }
     final Object startCap = data.get("startCap");
     if (startCap != null) {
-      sink.setStartCap(toCap(startCap));
+      sink.setStartCap(toCap(startCap, registry));
     }
     final Object visible = data.get("visible");
     if (visible != null) {
@@ -534,6 +599,10 @@ class Convert {
     if (zIndex != null) {
       sink.setZIndex(toFloat(zIndex));
     }
+    final Object simplificationTolerance = data.get("simplificationTolerance");
+    if (simplificationTolerance != null) {
+      sink.setSimplificationTolerance(toFloat(simplificationTolerance));
+    }
     final Object points = data.get("points");
     if (points != null) {
       sink.setPoints(toPoints(points));
@@ -592,17 +661,61 @@ class Convert {
     }
   }
 
+  // Points are either a list of [latitude, longitude] lists, or a Float64List of alternating
+  // latitudes and longitudes.
   private static List<LatLng> toPoints(Object o) {
+    if (o instanceof double[]) {
+      final double[] coordinates = (double[]) o;
+      final List<LatLng> points = new ArrayList<>(coordinates.length / 2);
+      for (int i = 0; i + 1 < coordinates.length; i += 2) {
+        points.add(new LatLng(coordinates[i], coordinates[i + 1]));
+      }
+      return points;
+    }
     final List<?> data = toList(o);
     final List<LatLng> points = new ArrayList<>(data.size());
 
     for (Object rawPoint : data) {
       final List<?> point = toList(rawPoint);
-      points.add(new LatLng(toFloat(point.get(0)), toFloat(point.get(1))));
+      points.add(new LatLng(toDouble(point.get(0)), toDouble(point.get(1))));
     }
     return points;
   }
 
+  /** Returns the bounds of a circle. */
+  static LatLngBounds getCircleBounds(LatLng center, double radius) {
+    final double latitudeRadius = Math.toDegrees(radius / EARTH_RADIUS);
+    final double south = Math.max(center.latitude - latitudeRadius, -90);
+    final double north = Math.min(center.latitude + latitudeRadius, 90);
+    final double cosLatitude = Math.cos(Math.toRadians(Math.max(Math.abs(south), Math.abs(north))));
+    final double longitudeRadius = latitudeRadius / Math.max(cosLatitude, 1e-6);
+    if (longitudeRadius >= 180) {
+      return new LatLngBounds(
+          new LatLng(south, -180), new LatLng(north, SpatialIndex.MAX_LONGITUDE));
+    }
+    return new LatLngBounds(
+        new LatLng(south, center.longitude - longitudeRadius),
+        new LatLng(north, center.longitude + longitudeRadius));
+  }
+
+  /** Returns the bounds of the points of a polygon or polyline. */
+  static LatLngBounds getPointsBounds(List<LatLng> points) {
+    if (points.isEmpty()) {
+      return new LatLngBounds(new LatLng(0, 0), new LatLng(0, 0));
+    }
+    double south = 90;
+    double north = -90;
+    double west = 180;
+    double east = -180;
+    for (LatLng point : points) {
+      south = Math.min(south, point.latitude);
+      north = Math.max(north, point.latitude);
+      west = Math.min(west, point.longitude);
+      east = Math.max(east, point.longitude);
+    }
+    return new LatLngBounds(new LatLng(south, west), new LatLng(north, east));
+  }
+
   private static List<List<LatLng>> toHoles(Object o) {
     final List<?> data = toList(o);
     final List<List<LatLng>> holes = new ArrayList<>(data.size());
@@ -642,7 +755,7 @@ class Convert {
     return pattern;
   }
 
-  private static Cap toCap(Object o) {
+  private static Cap toCap(Object o, BitmapDescriptorRegistry registry) {
     final List<?> data = toList(o);
     switch (toString(data.get(0))) {
       case "buttCap":
@@ -653,9 +766,9 @@ class Convert {
         return new SquareCap();
       case "customCap":
         if (data.size() == 2) {
-          return new CustomCap(toBitmapDescriptor(data.get(1)));
+          return new CustomCap(toBitmapDescriptor(data.get(1), registry));
         } else {
-          return new CustomCap(toBitmapDescriptor(data.get(1)), toFloat(data.get(2)));
+          return new CustomCap(toBitmapDescriptor(data.get(1), registry), toFloat(data.get(2)));
         }
       default:
         throw new IllegalArgumentException("Cannot interpret " + o + " as Cap");
@@ -687,6 +800,18 @@ class Convert {
     }
   }
 
+  static LocalTileProvider toLocalTileProvider(Object o) {
+    final List<?> data = toList(o);
+    switch (toString(data.get(0))) {
+      case "mbTiles":
+        return new MBTilesTileProvider(toString(data.get(1)));
+      case "directory":
+        return new DirectoryTileProvider(new File(toString(data.get(1))), toString(data.get(2)));
+      default:
+        throw new IllegalArgumentException("Cannot interpret " + o + " as a tile overlay source");
+    }
+  }
+
   static Tile interpretTile(Map<String, ?> data) {
     int width = toInt(data.get("width"));
     int height = toInt(data.get("height"));
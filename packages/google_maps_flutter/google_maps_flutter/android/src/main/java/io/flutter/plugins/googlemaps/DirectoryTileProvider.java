@@ -0,0 +1,50 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.util.Log;
+import com.google.android.gms.maps.model.Tile;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/** Reads tiles from a directory laid out as {@code <zoom>/<x>/<y>.<extension>}. */
+class DirectoryTileProvider extends LocalTileProvider {
+  private static final String TAG = "DirectoryTileProvider";
+
+  private final File directory;
+  private final String extension;
+  private volatile boolean isClosed = false;
+
+  DirectoryTileProvider(File directory, String extension) {
+    this.directory = directory;
+    this.extension = extension;
+  }
+
+  @Override
+  public Tile getTile(int x, int y, int zoom) {
+    if (isClosed) {
+      return NO_TILE;
+    }
+    final File file = new File(directory, zoom + "/" + x + "/" + y + "." + extension);
+    if (!file.isFile()) {
+      return NO_TILE;
+    }
+    try (DataInputStream input = new DataInputStream(new FileInputStream(file))) {
+      final byte[] data = new byte[(int) file.length()];
+      input.readFully(data);
+      return toTile(data);
+    } catch (IOException e) {
+      Log.e(TAG, "Can't read tile " + file, e);
+      return NO_TILE;
+    }
+  }
+
+  @Override
+  void close() {
+    isClosed = true;
+  }
+}
@@ -6,6 +6,7 @@ package io.flutter.plugins.googlemaps;
 
 import android.content.Context;
 import android.graphics.Rect;
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.GoogleMapOptions;
 import com.google.android.gms.maps.model.CameraPosition;
 import com.google.android.gms.maps.model.LatLngBounds;
@@ -16,11 +17,14 @@ import java.util.Map;
 class GoogleMapBuilder implements GoogleMapOptionsSink {
   private final GoogleMapOptions options = new GoogleMapOptions();
   private boolean trackCameraPosition = false;
+  private Map<?, ?> cameraMoveThrottle;
   private boolean myLocationEnabled = false;
   private boolean myLocationButtonEnabled = false;
   private boolean indoorEnabled = true;
   private boolean trafficEnabled = false;
   private boolean buildingsEnabled = true;
+  private Map<?, ?> markerClustering;
+  private Map<?, ?> viewportCulling;
   private Object initialMarkers;
   private Object initialPolygons;
   private Object initialPolylines;
@@ -42,6 +46,9 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
     controller.setTrafficEnabled(trafficEnabled);
     controller.setBuildingsEnabled(buildingsEnabled);
     controller.setTrackCameraPosition(trackCameraPosition);
+    controller.setCameraMoveThrottle(cameraMoveThrottle);
+    controller.setMarkerClustering(markerClustering);
+    controller.setViewportCulling(viewportCulling);
     controller.setInitialMarkers(initialMarkers);
     controller.setInitialPolygons(initialPolygons);
     controller.setInitialPolylines(initialPolylines);
@@ -95,6 +102,11 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
     this.trackCameraPosition = trackCameraPosition;
   }
 
+  @Override
+  public void setCameraMoveThrottle(@Nullable Map<?, ?> cameraMoveThrottle) {
+    this.cameraMoveThrottle = cameraMoveThrottle;
+  }
+
   @Override
   public void setRotateGesturesEnabled(boolean rotateGesturesEnabled) {
     options.rotateGesturesEnabled(rotateGesturesEnabled);
@@ -150,6 +162,16 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
     this.myLocationButtonEnabled = myLocationButtonEnabled;
   }
 
+  @Override
+  public void setMarkerClustering(@Nullable Map<?, ?> markerClustering) {
+    this.markerClustering = markerClustering;
+  }
+
+  @Override
+  public void setViewportCulling(@Nullable Map<?, ?> viewportCulling) {
+    this.viewportCulling = viewportCulling;
+  }
+
   @Override
   public void setInitialMarkers(Object initialMarkers) {
     this.initialMarkers = initialMarkers;
@@ -11,6 +11,7 @@ import android.content.pm.PackageManager;
 import android.graphics.Bitmap;
 import android.graphics.Point;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.util.Log;
 import android.view.View;
 import androidx.annotation.NonNull;
@@ -37,7 +38,6 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.platform.PlatformView;
-import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -61,6 +61,7 @@ final class GoogleMapController
   @Nullable private MapView mapView;
   @Nullable private GoogleMap googleMap;
   private boolean trackCameraPosition = false;
+  @Nullable private CameraMoveThrottle cameraMoveThrottle;
   private boolean myLocationEnabled = false;
   private boolean myLocationButtonEnabled = false;
   private boolean zoomControlsEnabled = true;
@@ -68,6 +69,10 @@ final class GoogleMapController
   private boolean trafficEnabled = false;
   private boolean buildingsEnabled = true;
   private boolean disposed = false;
+  private boolean viewportCullingEnabled = false;
+  private double viewportCullingMargin;
+  // The visible region grown by the culling margin, in which objects are added to the map.
+  @Nullable private LatLngBounds culledRegion;
   private final float density;
   private MethodChannel.Result mapReadyResult;
   private final Context context;
@@ -77,6 +82,8 @@ final class GoogleMapController
   private final PolylinesController polylinesController;
   private final CirclesController circlesController;
   private final TileOverlaysController tileOverlaysController;
+  // The bitmaps registered by Dart for this map, released when the map is disposed.
+  private final BitmapDescriptorRegistry bitmapDescriptorRegistry = new BitmapDescriptorRegistry();
   private List<Object> initialMarkers;
   private List<Object> initialPolygons;
   private List<Object> initialPolylines;
@@ -97,11 +104,13 @@ final class GoogleMapController
     methodChannel = new MethodChannel(binaryMessenger, "plugins.flutter.io/google_maps_" + id);
     methodChannel.setMethodCallHandler(this);
     this.lifecycleProvider = lifecycleProvider;
-    this.markersController = new MarkersController(methodChannel);
+    this.markersController =
+        new MarkersController(methodChannel, density, bitmapDescriptorRegistry);
     this.polygonsController = new PolygonsController(methodChannel, density);
-    this.polylinesController = new PolylinesController(methodChannel, density);
+    this.polylinesController =
+        new PolylinesController(methodChannel, density, bitmapDescriptorRegistry);
     this.circlesController = new CirclesController(methodChannel, density);
-    this.tileOverlaysController = new TileOverlaysController(methodChannel);
+    this.tileOverlaysController = new TileOverlaysController(methodChannel, context.getCacheDir());
   }
 
   @Override
@@ -144,6 +153,7 @@ final class GoogleMapController
     polylinesController.setGoogleMap(googleMap);
     circlesController.setGoogleMap(googleMap);
     tileOverlaysController.setGoogleMap(googleMap);
+    updateCulledRegion(true);
     updateInitialMarkers();
     updateInitialPolygons();
     updateInitialPolylines();
@@ -210,15 +220,18 @@ final class GoogleMapController
         {
           if (googleMap != null) {
             final MethodChannel.Result _result = result;
+            final SnapshotEncoder encoder =
+                SnapshotEncoder.fromArguments((Map<?, ?>) call.arguments, density);
             googleMap.snapshot(
                 new SnapshotReadyCallback() {
                   @Override
                   public void onSnapshotReady(Bitmap bitmap) {
-                    ByteArrayOutputStream stream = new ByteArrayOutputStream();
-                    bitmap.compress(Bitmap.CompressFormat.PNG, 100, stream);
-                    byte[] byteArray = stream.toByteArray();
-                    bitmap.recycle();
-                    _result.success(byteArray);
+                    if (bitmap == null) {
+                      _result.success(null);
+                      return;
+                    }
+                    // Compressing takes long enough to drop frames, so it's done in the background.
+                    encoder.encodeInBackground(bitmap, _result);
                   }
                 });
           } else {
@@ -253,6 +266,13 @@ final class GoogleMapController
           result.success(null);
           break;
         }
+      case "markers#animate":
+        {
+          List<Object> animations = call.argument("animations");
+          markersController.animateMarkers(animations);
+          result.success(null);
+          break;
+        }
       case "markers#showInfoWindow":
         {
           Object markerId = call.argument("markerId");
@@ -414,6 +434,22 @@ final class GoogleMapController
           result.success(tileOverlaysController.getTileOverlayInfo(tileOverlayId));
           break;
         }
+      case "bitmaps#register":
+        {
+          String bitmapId = call.argument("bitmapId");
+          bitmapDescriptorRegistry.register(
+              bitmapId,
+              Convert.toBitmapDescriptor(call.argument("bitmap"), bitmapDescriptorRegistry));
+          result.success(null);
+          break;
+        }
+      case "bitmaps#unregister":
+        {
+          String bitmapId = call.argument("bitmapId");
+          bitmapDescriptorRegistry.unregister(bitmapId);
+          result.success(null);
+          break;
+        }
       default:
         result.notImplemented();
     }
@@ -448,16 +484,38 @@ final class GoogleMapController
 
   @Override
   public void onCameraMove() {
+    updateCulledRegion(false);
     if (!trackCameraPosition) {
       return;
     }
+    final CameraPosition position = googleMap.getCameraPosition();
+    if (cameraMoveThrottle != null
+        && !cameraMoveThrottle.onCameraMove(position, SystemClock.uptimeMillis())) {
+      return;
+    }
+    invokeCameraOnMove(position);
+  }
+
+  private void invokeCameraOnMove(CameraPosition position) {
     final Map<String, Object> arguments = new HashMap<>(2);
-    arguments.put("position", Convert.cameraPositionToJson(googleMap.getCameraPosition()));
+    arguments.put("position", Convert.cameraPositionToJson(position));
     methodChannel.invokeMethod("camera#onMove", arguments);
   }
 
   @Override
   public void onCameraIdle() {
+    tileOverlaysController.onCameraIdle();
+    updateCulledRegion(true);
+    markersController.onCameraIdle();
+    polygonsController.onCameraIdle();
+    polylinesController.onCameraIdle();
+    if (trackCameraPosition && cameraMoveThrottle != null) {
+      // Positions may have been skipped while the camera moved, so send the final one.
+      final CameraPosition position = googleMap.getCameraPosition();
+      if (cameraMoveThrottle.onCameraIdle(position)) {
+        invokeCameraOnMove(position);
+      }
+    }
     methodChannel.invokeMethod("camera#onIdle", Collections.singletonMap("map", id));
   }
 
@@ -503,6 +561,9 @@ final class GoogleMapController
     }
     disposed = true;
     methodChannel.setMethodCallHandler(null);
+    tileOverlaysController.dispose();
+    markersController.dispose();
+    bitmapDescriptorRegistry.clear();
     setGoogleMapListener(null);
     destroyMapViewIfNecessary();
     Lifecycle lifecycle = lifecycleProvider.getLifecycle();
@@ -636,6 +697,12 @@ final class GoogleMapController
     this.trackCameraPosition = trackCameraPosition;
   }
 
+  @Override
+  public void setCameraMoveThrottle(@Nullable Map<?, ?> cameraMoveThrottle) {
+    this.cameraMoveThrottle =
+        cameraMoveThrottle != null ? CameraMoveThrottle.fromOptions(cameraMoveThrottle) : null;
+  }
+
   @Override
   public void setRotateGesturesEnabled(boolean rotateGesturesEnabled) {
     googleMap.getUiSettings().setRotateGesturesEnabled(rotateGesturesEnabled);
@@ -717,6 +784,54 @@ final class GoogleMapController
     }
   }
 
+  @Override
+  public void setViewportCulling(@Nullable Map<?, ?> viewportCulling) {
+    final boolean enabled = viewportCulling != null;
+    final double margin = enabled ? ((Number) viewportCulling.get("margin")).doubleValue() : 0;
+    if (enabled == viewportCullingEnabled && margin == viewportCullingMargin) {
+      return;
+    }
+    viewportCullingEnabled = enabled;
+    viewportCullingMargin = margin;
+    culledRegion = null;
+    markersController.setViewportCulling(enabled);
+    polygonsController.setViewportCulling(enabled);
+    polylinesController.setViewportCulling(enabled);
+    circlesController.setViewportCulling(enabled);
+    updateCulledRegion(true);
+  }
+
+  /**
+   * Updates the region in which objects are added to the map when viewport culling is enabled.
+   *
+   * <p>While the camera moves, the region is only updated when the visible region leaves it, so
+   * objects aren't added and removed on every frame.
+   *
+   * @param force whether to update the region even if it contains the visible region
+   */
+  private void updateCulledRegion(boolean force) {
+    if (!viewportCullingEnabled || googleMap == null) {
+      return;
+    }
+    final LatLngBounds visibleBounds = googleMap.getProjection().getVisibleRegion().latLngBounds;
+    if (!force
+        && culledRegion != null
+        && culledRegion.contains(visibleBounds.southwest)
+        && culledRegion.contains(visibleBounds.northeast)) {
+      return;
+    }
+    culledRegion = SpatialIndex.expand(visibleBounds, viewportCullingMargin);
+    markersController.setCulledRegion(culledRegion);
+    polygonsController.setCulledRegion(culledRegion);
+    polylinesController.setCulledRegion(culledRegion);
+    circlesController.setCulledRegion(culledRegion);
+  }
+
+  @Override
+  public void setMarkerClustering(@Nullable Map<?, ?> markerClustering) {
+    markersController.setMarkerClustering(markerClustering);
+  }
+
   @Override
   public void setInitialMarkers(Object initialMarkers) {
     ArrayList<?> markers = (ArrayList<?>) initialMarkers;
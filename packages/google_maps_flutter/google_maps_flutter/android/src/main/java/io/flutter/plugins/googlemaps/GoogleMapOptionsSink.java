@@ -4,6 +4,7 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.model.LatLngBounds;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +31,8 @@ interface GoogleMapOptionsSink {
 
   void setTrackCameraPosition(boolean trackCameraPosition);
 
+  void setCameraMoveThrottle(@Nullable Map<?, ?> cameraMoveThrottle);
+
   void setZoomGesturesEnabled(boolean zoomGesturesEnabled);
 
   void setLiteModeEnabled(boolean liteModeEnabled);
@@ -46,6 +49,10 @@ interface GoogleMapOptionsSink {
 
   void setBuildingsEnabled(boolean buildingsEnabled);
 
+  void setMarkerClustering(@Nullable Map<?, ?> markerClustering);
+
+  void setViewportCulling(@Nullable Map<?, ?> viewportCulling);
+
   void setInitialMarkers(Object initialMarkers);
 
   void setInitialPolygons(Object initialPolygons);
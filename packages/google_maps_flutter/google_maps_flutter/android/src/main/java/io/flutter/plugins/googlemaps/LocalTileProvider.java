@@ -0,0 +1,39 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.BitmapFactory;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+
+/**
+ * A {@link TileProvider} that reads tiles from local storage without calling Dart.
+ *
+ * <p>The Maps SDK calls {@link #getTile} from its own threads, so implementations open their
+ * storage lazily on those threads rather than on the main thread.
+ */
+abstract class LocalTileProvider implements TileProvider {
+
+  /**
+   * Releases the storage of this tile provider. Tiles requested afterwards are {@link #NO_TILE}.
+   */
+  abstract void close();
+
+  /**
+   * Creates a tile from encoded image data, reading its size from the image header.
+   *
+   * @param data the encoded image, or null if there is no tile
+   */
+  static Tile toTile(@Nullable byte[] data) {
+    if (data == null) {
+      return NO_TILE;
+    }
+    final BitmapFactory.Options options = new BitmapFactory.Options();
+    options.inJustDecodeBounds = true;
+    BitmapFactory.decodeByteArray(data, 0, data.length, options);
+    return new Tile(options.outWidth, options.outHeight, data);
+  }
+}
@@ -0,0 +1,79 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteException;
+import android.util.Log;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.Tile;
+
+/**
+ * Reads tiles from an MBTiles file, a SQLite database with a {@code tiles} table.
+ *
+ * <p>The database is opened read-only on the first tile request and shared by all tile threads.
+ * MBTiles rows follow the TMS scheme, so the y coordinate is flipped.
+ */
+class MBTilesTileProvider extends LocalTileProvider {
+  private static final String TAG = "MBTilesTileProvider";
+
+  private static final String TILE_QUERY =
+      "SELECT tile_data FROM tiles WHERE zoom_level = ? AND tile_column = ? AND tile_row = ?";
+
+  private final String path;
+  @Nullable private SQLiteDatabase database;
+  private boolean isClosed = false;
+
+  MBTilesTileProvider(String path) {
+    this.path = path;
+  }
+
+  @Override
+  public Tile getTile(int x, int y, int zoom) {
+    final SQLiteDatabase database = getDatabase();
+    if (database == null) {
+      return NO_TILE;
+    }
+    final int row = (1 << zoom) - 1 - y;
+    try (Cursor cursor =
+        database.rawQuery(
+            TILE_QUERY,
+            new String[] {String.valueOf(zoom), String.valueOf(x), String.valueOf(row)})) {
+      return toTile(cursor.moveToFirst() ? cursor.getBlob(0) : null);
+    } catch (SQLiteException | IllegalStateException e) {
+      // The database throws IllegalStateException if it's closed while reading.
+      Log.e(TAG, String.format("Can't read tile: x = %d, y = %d, zoom = %d", x, y, zoom), e);
+      return NO_TILE;
+    }
+  }
+
+  @Override
+  synchronized void close() {
+    isClosed = true;
+    if (database != null) {
+      database.close();
+      database = null;
+    }
+  }
+
+  @Nullable
+  private synchronized SQLiteDatabase getDatabase() {
+    if (database == null && !isClosed) {
+      try {
+        database =
+            SQLiteDatabase.openDatabase(
+                path,
+                null,
+                SQLiteDatabase.OPEN_READONLY | SQLiteDatabase.NO_LOCALIZED_COLLATORS);
+      } catch (SQLiteException e) {
+        Log.e(TAG, "Can't open MBTiles file " + path, e);
+        // Don't try to open the file again for every tile.
+        isClosed = true;
+      }
+    }
+    return database;
+  }
+}
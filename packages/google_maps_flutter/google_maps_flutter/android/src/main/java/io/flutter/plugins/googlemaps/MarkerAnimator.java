@@ -0,0 +1,125 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.view.Choreographer;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.LatLng;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Moves markers to new positions over time.
+ *
+ * <p>All running animations are advanced together in a single {@link Choreographer} frame
+ * callback, which is only posted while there are animations left.
+ */
+class MarkerAnimator implements Choreographer.FrameCallback {
+
+  interface Listener {
+    void onMarkerPosition(String markerId, LatLng position);
+  }
+
+  private static final class Animation {
+    final LatLng from;
+    final LatLng to;
+    final long durationNanos;
+    // Set on the first frame of the animation.
+    long startTimeNanos = -1;
+
+    Animation(LatLng from, LatLng to, long durationNanos) {
+      this.from = from;
+      this.to = to;
+      this.durationNanos = durationNanos;
+    }
+  }
+
+  private final Listener listener;
+  private final Map<String, Animation> markerIdToAnimation = new LinkedHashMap<>();
+  private boolean frameScheduled = false;
+
+  MarkerAnimator(Listener listener) {
+    this.listener = listener;
+  }
+
+  /** Starts moving a marker, replacing its running animation if it has one. */
+  void animate(String markerId, LatLng from, LatLng to, long durationMillis) {
+    markerIdToAnimation.put(markerId, new Animation(from, to, durationMillis * 1000000));
+    if (!frameScheduled) {
+      frameScheduled = true;
+      Choreographer.getInstance().postFrameCallback(this);
+    }
+  }
+
+  /** Returns the position a marker is moving to, or null if it isn't moving. */
+  @Nullable
+  LatLng getTarget(String markerId) {
+    final Animation animation = markerIdToAnimation.get(markerId);
+    return animation != null ? animation.to : null;
+  }
+
+  /** Stops moving a marker, leaving it where it is. */
+  void cancel(String markerId) {
+    markerIdToAnimation.remove(markerId);
+  }
+
+  void cancelAll() {
+    markerIdToAnimation.clear();
+    if (frameScheduled) {
+      frameScheduled = false;
+      Choreographer.getInstance().removeFrameCallback(this);
+    }
+  }
+
+  @Override
+  public void doFrame(long frameTimeNanos) {
+    frameScheduled = false;
+    update(frameTimeNanos);
+    if (!markerIdToAnimation.isEmpty()) {
+      frameScheduled = true;
+      Choreographer.getInstance().postFrameCallback(this);
+    }
+  }
+
+  /** Moves every animated marker to its position at the given frame time. */
+  void update(long frameTimeNanos) {
+    final Iterator<Map.Entry<String, Animation>> iterator =
+        markerIdToAnimation.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<String, Animation> entry = iterator.next();
+      final Animation animation = entry.getValue();
+      if (animation.startTimeNanos < 0) {
+        animation.startTimeNanos = frameTimeNanos;
+      }
+      final long elapsedNanos = frameTimeNanos - animation.startTimeNanos;
+      if (elapsedNanos >= animation.durationNanos) {
+        iterator.remove();
+        listener.onMarkerPosition(entry.getKey(), animation.to);
+        continue;
+      }
+      final double fraction = (double) elapsedNanos / animation.durationNanos;
+      listener.onMarkerPosition(
+          entry.getKey(), interpolate(animation.from, animation.to, fraction));
+    }
+  }
+
+  /**
+   * Returns the position at a fraction of the way between two positions, taking the shorter way
+   * around the antimeridian.
+   */
+  static LatLng interpolate(LatLng from, LatLng to, double fraction) {
+    double longitudeDelta = to.longitude - from.longitude;
+    if (longitudeDelta > 180) {
+      longitudeDelta -= 360;
+    } else if (longitudeDelta < -180) {
+      longitudeDelta += 360;
+    }
+    // LatLng wraps longitudes outside of [-180, 180).
+    return new LatLng(
+        from.latitude + (to.latitude - from.latitude) * fraction,
+        from.longitude + longitudeDelta * fraction);
+  }
+}
@@ -24,6 +24,10 @@ class MarkerBuilder implements MarkerOptionsSink {
     return consumeTapEvents;
   }
 
+  LatLng getPosition() {
+    return markerOptions.getPosition();
+  }
+
   @Override
   public void setAlpha(float alpha) {
     markerOptions.alpha(alpha);
@@ -0,0 +1,183 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import com.google.android.gms.maps.model.BitmapDescriptorFactory;
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups markers that are close to each other on screen into clusters.
+ *
+ * <p>Markers are indexed by the cell of a screen-space grid they fall into at a zoom level. Cells
+ * with at least {@code minClusterSize} markers form a cluster, and the markers of the other cells
+ * stay on their own. Clusters are computed once per integer zoom level and reused until markers are
+ * added, moved or removed.
+ */
+class MarkerClusterer {
+  private static final int[] ICON_BUCKETS = {10, 20, 50, 100, 200, 500, 1000};
+
+  /** A group of markers. Markers that aren't clustered are clusters of one marker. */
+  static final class Cluster {
+    final LatLng position;
+    final List<String> markerIds;
+
+    Cluster(LatLng position, List<String> markerIds) {
+      this.position = position;
+      this.markerIds = markerIds;
+    }
+  }
+
+  private final double gridSize;
+  private final int minClusterSize;
+  private final double maxZoom;
+
+  // Insertion ordered, so clusters are computed in the same order every time.
+  private final Map<String, LatLng> markerIdToPosition = new LinkedHashMap<>();
+  private final Map<Integer, List<Cluster>> zoomToClusters = new HashMap<>();
+  private final Map<String, BitmapDescriptor> labelToIcon = new HashMap<>();
+
+  /**
+   * Creates a {@link MarkerClusterer}.
+   *
+   * @param gridSize the size of the grid cells in density-independent pixels
+   * @param minClusterSize the minimum number of markers in a cell that form a cluster
+   * @param maxZoom the zoom level above which markers are not clustered
+   */
+  MarkerClusterer(double gridSize, int minClusterSize, double maxZoom) {
+    this.gridSize = gridSize;
+    this.minClusterSize = minClusterSize;
+    this.maxZoom = maxZoom;
+  }
+
+  static MarkerClusterer fromOptions(Map<?, ?> data) {
+    return new MarkerClusterer(
+        ((Number) data.get("gridSize")).doubleValue(),
+        ((Number) data.get("minClusterSize")).intValue(),
+        ((Number) data.get("maxZoom")).doubleValue());
+  }
+
+  void setMarker(String markerId, LatLng position) {
+    final LatLng previousPosition = markerIdToPosition.put(markerId, position);
+    if (!position.equals(previousPosition)) {
+      zoomToClusters.clear();
+    }
+  }
+
+  void removeMarker(String markerId) {
+    if (markerIdToPosition.remove(markerId) != null) {
+      zoomToClusters.clear();
+    }
+  }
+
+  /**
+   * Returns the clusters at a zoom level, including the markers that aren't clustered as clusters
+   * of one marker.
+   */
+  List<Cluster> getClusters(float zoom) {
+    final int zoomLevel = (int) Math.floor(zoom);
+    List<Cluster> clusters = zoomToClusters.get(zoomLevel);
+    if (clusters == null) {
+      clusters = computeClusters(zoomLevel);
+      zoomToClusters.put(zoomLevel, clusters);
+    }
+    return clusters;
+  }
+
+  private List<Cluster> computeClusters(int zoomLevel) {
+    final List<Cluster> clusters = new ArrayList<>();
+    if (zoomLevel > maxZoom) {
+      for (Map.Entry<String, LatLng> entry : markerIdToPosition.entrySet()) {
+        clusters.add(new Cluster(entry.getValue(), Collections.singletonList(entry.getKey())));
+      }
+      return clusters;
+    }
+
+    final double cellSize = gridSize / WebMercator.getWorldSize(zoomLevel);
+    final Map<Long, List<String>> cellToMarkerIds = new LinkedHashMap<>();
+    for (Map.Entry<String, LatLng> entry : markerIdToPosition.entrySet()) {
+      final LatLng position = entry.getValue();
+      final long column = (long) Math.floor(WebMercator.getWorldX(position.longitude) / cellSize);
+      final long row = (long) Math.floor(WebMercator.getWorldY(position.latitude) / cellSize);
+      final long cell = (column << 32) | (row & 0xffffffffL);
+      List<String> markerIds = cellToMarkerIds.get(cell);
+      if (markerIds == null) {
+        markerIds = new ArrayList<>();
+        cellToMarkerIds.put(cell, markerIds);
+      }
+      markerIds.add(entry.getKey());
+    }
+
+    for (List<String> markerIds : cellToMarkerIds.values()) {
+      if (markerIds.size() < minClusterSize) {
+        for (String markerId : markerIds) {
+          clusters.add(
+              new Cluster(markerIdToPosition.get(markerId), Collections.singletonList(markerId)));
+        }
+        continue;
+      }
+      double latitude = 0;
+      double longitude = 0;
+      for (String markerId : markerIds) {
+        final LatLng position = markerIdToPosition.get(markerId);
+        latitude += position.latitude;
+        longitude += position.longitude;
+      }
+      clusters.add(
+          new Cluster(
+              new LatLng(latitude / markerIds.size(), longitude / markerIds.size()), markerIds));
+    }
+    return clusters;
+  }
+
+  /**
+   * Returns the icon of a cluster marker, a circle labelled with the number of markers.
+   *
+   * <p>Large counts are rounded down to a few buckets, such as "100+", so only a few icons are
+   * ever drawn.
+   */
+  BitmapDescriptor getIcon(int count, float density) {
+    String label = String.valueOf(count);
+    for (int i = ICON_BUCKETS.length - 1; i >= 0; i--) {
+      if (count >= ICON_BUCKETS[i]) {
+        label = ICON_BUCKETS[i] + "+";
+        break;
+      }
+    }
+    BitmapDescriptor icon = labelToIcon.get(label);
+    if (icon == null) {
+      icon = BitmapDescriptorFactory.fromBitmap(drawIcon(label, density));
+      labelToIcon.put(label, icon);
+    }
+    return icon;
+  }
+
+  private static Bitmap drawIcon(String label, float density) {
+    final int size = (int) (40 * density);
+    final Bitmap bitmap = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+    final Canvas canvas = new Canvas(bitmap);
+    final Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    paint.setColor(Color.WHITE);
+    canvas.drawCircle(size / 2f, size / 2f, size / 2f, paint);
+    paint.setColor(Color.rgb(0x1a, 0x73, 0xe8));
+    canvas.drawCircle(size / 2f, size / 2f, size / 2f - 3 * density, paint);
+    paint.setColor(Color.WHITE);
+    paint.setTextAlign(Paint.Align.CENTER);
+    paint.setTextSize((label.length() > 3 ? 11 : 14) * density);
+    paint.setFakeBoldText(true);
+    canvas.drawText(label, size / 2f, size / 2f - (paint.descent() + paint.ascent()) / 2, paint);
+    return bitmap;
+  }
+}
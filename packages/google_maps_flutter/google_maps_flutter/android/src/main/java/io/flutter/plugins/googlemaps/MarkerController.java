@@ -4,6 +4,7 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.model.BitmapDescriptor;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Marker;
@@ -14,6 +15,12 @@ class MarkerController implements MarkerOptionsSink {
   private final Marker marker;
   private final String googleMapsMarkerId;
   private boolean consumeTapEvents;
+  // The options that can't be read back from the marker, with the defaults of MarkerOptions.
+  @Nullable private BitmapDescriptor icon;
+  private float anchorU = 0.5f;
+  private float anchorV = 1.0f;
+  private float infoWindowAnchorU = 0.5f;
+  private float infoWindowAnchorV = 0.0f;
 
   MarkerController(Marker marker, boolean consumeTapEvents) {
     this.marker = marker;
@@ -33,6 +40,8 @@ class MarkerController implements MarkerOptionsSink {
   @Override
   public void setAnchor(float u, float v) {
     marker.setAnchor(u, v);
+    anchorU = u;
+    anchorV = v;
   }
 
   @Override
@@ -53,11 +62,14 @@ class MarkerController implements MarkerOptionsSink {
   @Override
   public void setIcon(BitmapDescriptor bitmapDescriptor) {
     marker.setIcon(bitmapDescriptor);
+    icon = bitmapDescriptor;
   }
 
   @Override
   public void setInfoWindowAnchor(float u, float v) {
     marker.setInfoWindowAnchor(u, v);
+    infoWindowAnchorU = u;
+    infoWindowAnchorV = v;
   }
 
   @Override
@@ -86,6 +98,28 @@ class MarkerController implements MarkerOptionsSink {
     marker.setZIndex(zIndex);
   }
 
+  LatLng getPosition() {
+    return marker.getPosition();
+  }
+
+  /** Sends the current options of the marker to {@code sink}, so it can be added again later. */
+  void copyTo(MarkerOptionsSink sink) {
+    sink.setAlpha(marker.getAlpha());
+    sink.setAnchor(anchorU, anchorV);
+    sink.setConsumeTapEvents(consumeTapEvents);
+    sink.setDraggable(marker.isDraggable());
+    sink.setFlat(marker.isFlat());
+    if (icon != null) {
+      sink.setIcon(icon);
+    }
+    sink.setInfoWindowAnchor(infoWindowAnchorU, infoWindowAnchorV);
+    sink.setInfoWindowText(marker.getTitle(), marker.getSnippet());
+    sink.setPosition(marker.getPosition());
+    sink.setRotation(marker.getRotation());
+    sink.setVisible(marker.isVisible());
+    sink.setZIndex(marker.getZIndex());
+  }
+
   String getGoogleMapsMarkerId() {
     return googleMapsMarkerId;
   }
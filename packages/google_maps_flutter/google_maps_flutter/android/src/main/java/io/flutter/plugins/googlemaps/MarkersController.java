@@ -4,37 +4,132 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
 import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 class MarkersController {
 
   private final Map<String, MarkerController> markerIdToController;
   private final Map<String, String> googleMapsMarkerIdToDartMarkerId;
+  // The parsed options of all markers while clustering or culling is enabled, so the clustered
+  // and culled markers can be added to the map again. Icons are shared descriptors, not images.
+  private final Map<String, MarkerBuilder> markerIdToOptions;
   private final MethodChannel methodChannel;
+  private final float density;
+  private final BitmapDescriptorRegistry bitmapDescriptorRegistry;
   private GoogleMap googleMap;
 
-  MarkersController(MethodChannel methodChannel) {
+  @Nullable private Map<?, ?> clusteringOptions;
+  @Nullable private MarkerClusterer markerClusterer;
+  @Nullable private List<MarkerClusterer.Cluster> renderedClusters;
+  private final List<Marker> clusterMarkers = new ArrayList<>();
+  private final Map<String, MarkerClusterer.Cluster> googleMapsMarkerIdToCluster = new HashMap<>();
+
+  // Indexes all markers by their position when viewport culling is enabled.
+  @Nullable private SpatialIndex spatialIndex;
+  @Nullable private LatLngBounds culledRegion;
+  @Nullable private LatLngBounds renderedRegion;
+
+  private final MarkerAnimator markerAnimator;
+
+  MarkersController(
+      MethodChannel methodChannel,
+      float density,
+      BitmapDescriptorRegistry bitmapDescriptorRegistry) {
     this.markerIdToController = new HashMap<>();
     this.googleMapsMarkerIdToDartMarkerId = new HashMap<>();
+    this.markerIdToOptions = new HashMap<>();
     this.methodChannel = methodChannel;
+    this.density = density;
+    this.bitmapDescriptorRegistry = bitmapDescriptorRegistry;
+    this.markerAnimator = new MarkerAnimator(this::onAnimatedMarkerPosition);
   }
 
   void setGoogleMap(GoogleMap googleMap) {
     this.googleMap = googleMap;
   }
 
+  /**
+   * Enables clustering with the given options, or disables it if they are null.
+   *
+   * <p>Only markers that aren't part of a cluster are added to the map.
+   */
+  void setMarkerClustering(@Nullable Map<?, ?> options) {
+    if (options == null ? clusteringOptions == null : options.equals(clusteringOptions)) {
+      return;
+    }
+    clusteringOptions = options;
+    renderedClusters = null;
+    if (options == null) {
+      markerClusterer = null;
+      removeClusterMarkers();
+      if (spatialIndex == null) {
+        addAllMarkersToMap();
+      }
+    } else {
+      if (markerClusterer == null && spatialIndex == null) {
+        storeMarkerOptions();
+      }
+      markerClusterer = MarkerClusterer.fromOptions(options);
+      for (Map.Entry<String, MarkerBuilder> entry : markerIdToOptions.entrySet()) {
+        markerClusterer.setMarker(entry.getKey(), entry.getValue().getPosition());
+      }
+    }
+    updateMarkers();
+  }
+
+  /**
+   * Enables or disables viewport culling.
+   *
+   * <p>While culling is enabled, only the markers in the culled region are added to the map.
+   */
+  void setViewportCulling(boolean enabled) {
+    if (enabled == (spatialIndex != null)) {
+      return;
+    }
+    culledRegion = null;
+    renderedClusters = null;
+    if (!enabled) {
+      spatialIndex = null;
+      if (markerClusterer == null) {
+        addAllMarkersToMap();
+      }
+    } else {
+      if (markerClusterer == null) {
+        storeMarkerOptions();
+      }
+      spatialIndex = new SpatialIndex();
+      for (Map.Entry<String, MarkerBuilder> entry : markerIdToOptions.entrySet()) {
+        spatialIndex.put(entry.getKey(), getBounds(entry.getValue().getPosition()));
+      }
+    }
+    updateMarkers();
+  }
+
+  void setCulledRegion(LatLngBounds culledRegion) {
+    this.culledRegion = culledRegion;
+    updateMarkers();
+  }
+
   void addMarkers(List<Object> markersToAdd) {
     if (markersToAdd != null) {
       for (Object markerToAdd : markersToAdd) {
         addMarker(markerToAdd);
       }
+      updateMarkers();
     }
   }
 
@@ -43,6 +138,7 @@ class MarkersController {
       for (Object markerToChange : markersToChange) {
         changeMarker(markerToChange);
       }
+      updateMarkers();
     }
   }
 
@@ -55,12 +151,61 @@ class MarkersController {
         continue;
       }
       String markerId = (String) rawMarkerId;
-      final MarkerController markerController = markerIdToController.remove(markerId);
+      markerIdToOptions.remove(markerId);
+      if (markerClusterer != null) {
+        markerClusterer.removeMarker(markerId);
+      }
+      if (spatialIndex != null) {
+        spatialIndex.remove(markerId);
+      }
+      removeMarkerFromMap(markerId);
+    }
+    updateMarkers();
+  }
+
+  /**
+   * Moves markers to new positions over the given durations.
+   *
+   * <p>The new positions are stored right away, so clustering and culling use them, and the markers
+   * on the map glide there on the frame clock.
+   */
+  void animateMarkers(List<Object> animations) {
+    if (animations == null) {
+      return;
+    }
+    for (Object rawAnimation : animations) {
+      final Map<?, ?> animation = (Map<?, ?>) rawAnimation;
+      final String markerId = (String) animation.get("markerId");
+      final LatLng position = Convert.toLatLng(animation.get("position"));
+      final MarkerBuilder markerOptions = markerIdToOptions.get(markerId);
+      if (markerOptions != null) {
+        markerOptions.setPosition(position);
+        if (markerClusterer != null) {
+          markerClusterer.setMarker(markerId, position);
+        }
+        if (spatialIndex != null) {
+          spatialIndex.put(markerId, getBounds(position));
+        }
+      }
+      final MarkerController markerController = markerIdToController.get(markerId);
       if (markerController != null) {
-        markerController.remove();
-        googleMapsMarkerIdToDartMarkerId.remove(markerController.getGoogleMapsMarkerId());
+        markerAnimator.animate(
+            markerId,
+            markerController.getPosition(),
+            position,
+            ((Number) animation.get("duration")).longValue());
       }
     }
+    updateMarkers();
+  }
+
+  void dispose() {
+    markerAnimator.cancelAll();
+  }
+
+  /** Computes the clusters again if the zoom level has changed. */
+  void onCameraIdle() {
+    updateMarkers();
   }
 
   void showMarkerInfoWindow(String markerId, MethodChannel.Result result) {
@@ -93,6 +238,14 @@ class MarkersController {
   }
 
   boolean onMarkerTap(String googleMarkerId) {
+    MarkerClusterer.Cluster cluster = googleMapsMarkerIdToCluster.get(googleMarkerId);
+    if (cluster != null) {
+      final Map<String, Object> data = new HashMap<>();
+      data.put("position", Convert.latLngToJson(cluster.position));
+      data.put("markerIds", cluster.markerIds);
+      methodChannel.invokeMethod("cluster#onTap", data);
+      return true;
+    }
     String markerId = googleMapsMarkerIdToDartMarkerId.get(googleMarkerId);
     if (markerId == null) {
       return false;
@@ -151,9 +304,24 @@ class MarkersController {
       return;
     }
     MarkerBuilder markerBuilder = new MarkerBuilder();
-    String markerId = Convert.interpretMarkerOptions(marker, markerBuilder);
-    MarkerOptions options = markerBuilder.build();
-    addMarker(markerId, options, markerBuilder.consumeTapEvents());
+    String markerId =
+        Convert.interpretMarkerOptions(marker, markerBuilder, bitmapDescriptorRegistry);
+    if (markerClusterer == null && spatialIndex == null) {
+      addMarkerToMap(markerId, markerBuilder);
+      return;
+    }
+    // The marker is added to the map by updateMarkers if it isn't clustered or culled.
+    markerIdToOptions.put(markerId, markerBuilder);
+    if (markerClusterer != null) {
+      markerClusterer.setMarker(markerId, markerBuilder.getPosition());
+    }
+    if (spatialIndex != null) {
+      spatialIndex.put(markerId, getBounds(markerBuilder.getPosition()));
+    }
+  }
+
+  private void addMarkerToMap(String markerId, MarkerBuilder markerBuilder) {
+    addMarker(markerId, markerBuilder.build(), markerBuilder.consumeTapEvents());
   }
 
   private void addMarker(String markerId, MarkerOptions markerOptions, boolean consumeTapEvents) {
@@ -168,12 +336,162 @@ class MarkersController {
       return;
     }
     String markerId = getMarkerId(marker);
+    final LatLng position = getMarkerPosition(marker);
+    final LatLng target = markerAnimator.getTarget(markerId);
+    if (target != null && !target.equals(position)) {
+      // The new position replaces the one the marker is animated to.
+      markerAnimator.cancel(markerId);
+    }
+    final MarkerBuilder markerOptions = markerIdToOptions.get(markerId);
+    if (markerOptions != null) {
+      Convert.interpretMarkerOptions(marker, markerOptions, bitmapDescriptorRegistry);
+      if (markerClusterer != null) {
+        markerClusterer.setMarker(markerId, position);
+      }
+      if (spatialIndex != null) {
+        spatialIndex.put(markerId, getBounds(position));
+      }
+    }
     MarkerController markerController = markerIdToController.get(markerId);
     if (markerController != null) {
-      Convert.interpretMarkerOptions(marker, markerController);
+      if (markerAnimator.getTarget(markerId) != null) {
+        // The marker is still moving to its new position, which the animator sets on each frame.
+        // Setting it here would make the marker jump there and back.
+        Convert.interpretMarkerOptions(
+            withoutPosition(marker), markerController, bitmapDescriptorRegistry);
+      } else {
+        Convert.interpretMarkerOptions(marker, markerController, bitmapDescriptorRegistry);
+      }
+    }
+  }
+
+  private static Object withoutPosition(Object marker) {
+    final Map<Object, Object> markerMap = new HashMap<>((Map<?, ?>) marker);
+    markerMap.remove("position");
+    return markerMap;
+  }
+
+  private void removeMarkerFromMap(String markerId) {
+    markerAnimator.cancel(markerId);
+    final MarkerController markerController = markerIdToController.remove(markerId);
+    if (markerController != null) {
+      markerController.remove();
+      googleMapsMarkerIdToDartMarkerId.remove(markerController.getGoogleMapsMarkerId());
     }
   }
 
+  // Adds the clustered and culled markers to the map once clustering and culling are disabled.
+  private void addAllMarkersToMap() {
+    for (Map.Entry<String, MarkerBuilder> entry : markerIdToOptions.entrySet()) {
+      if (!markerIdToController.containsKey(entry.getKey())) {
+        addMarkerToMap(entry.getKey(), entry.getValue());
+      }
+    }
+    markerIdToOptions.clear();
+  }
+
+  // Reads the options of the markers on the map when clustering or culling is enabled, so the
+  // ones that get clustered or culled can be added again later.
+  private void storeMarkerOptions() {
+    for (Map.Entry<String, MarkerController> entry : markerIdToController.entrySet()) {
+      final MarkerBuilder markerBuilder = new MarkerBuilder();
+      entry.getValue().copyTo(markerBuilder);
+      final LatLng target = markerAnimator.getTarget(entry.getKey());
+      if (target != null) {
+        markerBuilder.setPosition(target);
+      }
+      markerIdToOptions.put(entry.getKey(), markerBuilder);
+    }
+  }
+
+  // Adds the markers that aren't clustered at the current zoom level or culled to the map, and a
+  // marker for each cluster in the culled region.
+  private void updateMarkers() {
+    if (googleMap == null || (markerClusterer == null && spatialIndex == null)) {
+      return;
+    }
+    if (markerClusterer == null) {
+      showMarkers(
+          culledRegion != null ? spatialIndex.query(culledRegion) : Collections.<String>emptySet());
+      return;
+    }
+    final List<MarkerClusterer.Cluster> clusters =
+        markerClusterer.getClusters(googleMap.getCameraPosition().zoom);
+    if (clusters == renderedClusters && culledRegion == renderedRegion) {
+      return;
+    }
+    renderedClusters = clusters;
+    renderedRegion = culledRegion;
+    removeClusterMarkers();
+
+    final Set<String> unclusteredMarkerIds = new HashSet<>();
+    for (MarkerClusterer.Cluster cluster : clusters) {
+      if (isCulled(cluster.position)) {
+        continue;
+      }
+      if (cluster.markerIds.size() == 1) {
+        unclusteredMarkerIds.add(cluster.markerIds.get(0));
+        continue;
+      }
+      final Marker clusterMarker =
+          googleMap.addMarker(
+              new MarkerOptions()
+                  .position(cluster.position)
+                  .anchor(0.5f, 0.5f)
+                  .icon(markerClusterer.getIcon(cluster.markerIds.size(), density)));
+      clusterMarkers.add(clusterMarker);
+      googleMapsMarkerIdToCluster.put(clusterMarker.getId(), cluster);
+    }
+    showMarkers(unclusteredMarkerIds);
+  }
+
+  // Adds the given markers to the map and removes the others.
+  private void showMarkers(Set<String> visibleMarkerIds) {
+    final Iterator<String> iterator = markerIdToController.keySet().iterator();
+    while (iterator.hasNext()) {
+      final String markerId = iterator.next();
+      if (!visibleMarkerIds.contains(markerId)) {
+        final MarkerController markerController = markerIdToController.get(markerId);
+        iterator.remove();
+        markerAnimator.cancel(markerId);
+        markerController.remove();
+        googleMapsMarkerIdToDartMarkerId.remove(markerController.getGoogleMapsMarkerId());
+      }
+    }
+    for (String markerId : visibleMarkerIds) {
+      if (!markerIdToController.containsKey(markerId)) {
+        addMarkerToMap(markerId, markerIdToOptions.get(markerId));
+      }
+    }
+  }
+
+  private void onAnimatedMarkerPosition(String markerId, LatLng position) {
+    final MarkerController markerController = markerIdToController.get(markerId);
+    if (markerController != null) {
+      markerController.setPosition(position);
+    }
+  }
+
+  private boolean isCulled(LatLng position) {
+    return spatialIndex != null && (culledRegion == null || !culledRegion.contains(position));
+  }
+
+  private void removeClusterMarkers() {
+    for (Marker clusterMarker : clusterMarkers) {
+      clusterMarker.remove();
+    }
+    clusterMarkers.clear();
+    googleMapsMarkerIdToCluster.clear();
+  }
+
+  private static LatLngBounds getBounds(LatLng position) {
+    return new LatLngBounds(position, position);
+  }
+
+  private static LatLng getMarkerPosition(Object marker) {
+    return Convert.toLatLng(((Map<?, ?>) marker).get("position"));
+  }
+
   @SuppressWarnings("unchecked")
   private static String getMarkerId(Object marker) {
     Map<String, Object> markerMap = (Map<String, Object>) marker;
@@ -6,20 +6,43 @@ package io.flutter.plugins.googlemaps;
 
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.PolygonOptions;
+import java.util.Collections;
 import java.util.List;
 
 class PolygonBuilder implements PolygonOptionsSink {
+  // All options but the points and holes, which are only added by build.
   private final PolygonOptions polygonOptions;
+  private List<List<LatLng>> holes = Collections.emptyList();
+  private final SimplifiedPoints simplifiedPoints;
   private final float density;
   private boolean consumeTapEvents;
 
-  PolygonBuilder(float density) {
+  PolygonBuilder(float density, int zoomLevel) {
     this.polygonOptions = new PolygonOptions();
+    this.simplifiedPoints = new SimplifiedPoints(zoomLevel, true);
     this.density = density;
   }
 
+  /** Returns new options each time, so a culled polygon can be added to the map again. */
   PolygonOptions build() {
-    return polygonOptions;
+    final PolygonOptions options =
+        new PolygonOptions()
+            .addAll(simplifiedPoints.get())
+            .clickable(polygonOptions.isClickable())
+            .fillColor(polygonOptions.getFillColor())
+            .geodesic(polygonOptions.isGeodesic())
+            .strokeColor(polygonOptions.getStrokeColor())
+            .strokeWidth(polygonOptions.getStrokeWidth())
+            .visible(polygonOptions.isVisible())
+            .zIndex(polygonOptions.getZIndex());
+    for (List<LatLng> hole : holes) {
+      options.addHole(hole);
+    }
+    return options;
+  }
+
+  SimplifiedPoints getSimplifiedPoints() {
+    return simplifiedPoints;
   }
 
   boolean consumeTapEvents() {
@@ -38,14 +61,17 @@ class PolygonBuilder implements PolygonOptionsSink {
 
   @Override
   public void setPoints(List<LatLng> points) {
-    polygonOptions.addAll(points);
+    simplifiedPoints.setPoints(points);
+  }
+
+  @Override
+  public void setSimplificationTolerance(float tolerance) {
+    simplifiedPoints.setTolerance(tolerance);
   }
 
   @Override
   public void setHoles(List<List<LatLng>> holes) {
-    for (List<LatLng> hole : holes) {
-      polygonOptions.addHole(hole);
-    }
+    this.holes = holes;
   }
 
   @Override
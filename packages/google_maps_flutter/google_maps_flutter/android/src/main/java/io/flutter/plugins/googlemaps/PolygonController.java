@@ -13,11 +13,14 @@ class PolygonController implements PolygonOptionsSink {
   private final Polygon polygon;
   private final String googleMapsPolygonId;
   private final float density;
+  private final SimplifiedPoints simplifiedPoints;
   private boolean consumeTapEvents;
 
-  PolygonController(Polygon polygon, boolean consumeTapEvents, float density) {
+  PolygonController(
+      Polygon polygon, boolean consumeTapEvents, float density, SimplifiedPoints simplifiedPoints) {
     this.polygon = polygon;
     this.density = density;
+    this.simplifiedPoints = simplifiedPoints;
     this.consumeTapEvents = consumeTapEvents;
     this.googleMapsPolygonId = polygon.getId();
   }
@@ -26,6 +29,13 @@ class PolygonController implements PolygonOptionsSink {
     polygon.remove();
   }
 
+  /** Simplifies the points again for a new zoom level, if they are simplified. */
+  void setZoomLevel(int zoomLevel) {
+    if (simplifiedPoints.setZoomLevel(zoomLevel)) {
+      polygon.setPoints(simplifiedPoints.get());
+    }
+  }
+
   @Override
   public void setConsumeTapEvents(boolean consumeTapEvents) {
     this.consumeTapEvents = consumeTapEvents;
@@ -49,7 +59,15 @@ class PolygonController implements PolygonOptionsSink {
 
   @Override
   public void setPoints(List<LatLng> points) {
-    polygon.setPoints(points);
+    simplifiedPoints.setPoints(points);
+    polygon.setPoints(simplifiedPoints.get());
+  }
+
+  @Override
+  public void setSimplificationTolerance(float tolerance) {
+    if (simplifiedPoints.setTolerance(tolerance)) {
+      polygon.setPoints(simplifiedPoints.get());
+    }
   }
 
   public void setHoles(List<List<LatLng>> holes) {
@@ -71,6 +89,20 @@ class PolygonController implements PolygonOptionsSink {
     polygon.setZIndex(zIndex);
   }
 
+  /** Sends the current options of the polygon to {@code sink}, so it can be added again later. */
+  void copyTo(PolygonOptionsSink sink) {
+    sink.setConsumeTapEvents(consumeTapEvents);
+    sink.setFillColor(polygon.getFillColor());
+    sink.setStrokeColor(polygon.getStrokeColor());
+    sink.setGeodesic(polygon.isGeodesic());
+    sink.setPoints(simplifiedPoints.getPoints());
+    sink.setSimplificationTolerance(simplifiedPoints.getTolerance());
+    sink.setHoles(polygon.getHoles());
+    sink.setVisible(polygon.isVisible());
+    sink.setStrokeWidth(polygon.getStrokeWidth() / density);
+    sink.setZIndex(polygon.getZIndex());
+  }
+
   String getGoogleMapsPolygonId() {
     return googleMapsPolygonId;
   }
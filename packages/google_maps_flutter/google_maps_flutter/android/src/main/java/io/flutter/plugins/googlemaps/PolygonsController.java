@@ -5,12 +5,14 @@
 package io.flutter.plugins.googlemaps;
 
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Polygon;
 import com.google.android.gms.maps.model.PolygonOptions;
 import io.flutter.plugin.common.MethodChannel;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 class PolygonsController {
 
@@ -18,17 +20,78 @@ class PolygonsController {
   private final Map<String, String> googleMapsPolygonIdToDartPolygonId;
   private final MethodChannel methodChannel;
   private final float density;
+  private final ViewportCuller<PolygonBuilder> culler;
   private GoogleMap googleMap;
+  // The integer zoom level that the points of polygons are simplified for.
+  private int zoomLevel;
 
   PolygonsController(MethodChannel methodChannel, float density) {
     this.polygonIdToController = new HashMap<>();
     this.googleMapsPolygonIdToDartPolygonId = new HashMap<>();
     this.methodChannel = methodChannel;
     this.density = density;
+    this.culler =
+        new ViewportCuller<>(
+            new ViewportCuller.Delegate<PolygonBuilder>() {
+              @Override
+              public Set<String> getIdsOnMap() {
+                return polygonIdToController.keySet();
+              }
+
+              @Override
+              public PolygonBuilder readOptions(String polygonId) {
+                final PolygonBuilder polygonBuilder = new PolygonBuilder(density, zoomLevel);
+                polygonIdToController.get(polygonId).copyTo(polygonBuilder);
+                return polygonBuilder;
+              }
+
+              @Override
+              public LatLngBounds getBounds(PolygonBuilder polygonBuilder) {
+                return Convert.getPointsBounds(polygonBuilder.getSimplifiedPoints().getPoints());
+              }
+
+              @Override
+              public void addToMap(String polygonId, PolygonBuilder polygonBuilder) {
+                // The zoom level may have changed since the polygon was culled.
+                polygonBuilder.getSimplifiedPoints().setZoomLevel(zoomLevel);
+                addPolygon(polygonId, polygonBuilder);
+              }
+
+              @Override
+              public void removeFromMap(String polygonId) {
+                removePolygonFromMap(polygonId);
+              }
+            });
   }
 
   void setGoogleMap(GoogleMap googleMap) {
     this.googleMap = googleMap;
+    this.zoomLevel = (int) googleMap.getCameraPosition().zoom;
+  }
+
+  /** Simplifies the points of polygons again if the zoom level has changed. */
+  void onCameraIdle() {
+    final int zoomLevel = (int) googleMap.getCameraPosition().zoom;
+    if (zoomLevel == this.zoomLevel) {
+      return;
+    }
+    this.zoomLevel = zoomLevel;
+    for (PolygonController polygonController : polygonIdToController.values()) {
+      polygonController.setZoomLevel(zoomLevel);
+    }
+  }
+
+  /**
+   * Enables or disables viewport culling.
+   *
+   * <p>While culling is enabled, only the polygons in the culled region are added to the map.
+   */
+  void setViewportCulling(boolean enabled) {
+    culler.setEnabled(enabled);
+  }
+
+  void setCulledRegion(LatLngBounds culledRegion) {
+    culler.setCulledRegion(culledRegion);
   }
 
   void addPolygons(List<Object> polygonsToAdd) {
@@ -36,6 +99,7 @@ class PolygonsController {
       for (Object polygonToAdd : polygonsToAdd) {
         addPolygon(polygonToAdd);
       }
+      culler.update();
     }
   }
 
@@ -44,6 +108,7 @@ class PolygonsController {
       for (Object polygonToChange : polygonsToChange) {
         changePolygon(polygonToChange);
       }
+      culler.update();
     }
   }
 
@@ -56,11 +121,8 @@ class PolygonsController {
         continue;
       }
       String polygonId = (String) rawPolygonId;
-      final PolygonController polygonController = polygonIdToController.remove(polygonId);
-      if (polygonController != null) {
-        polygonController.remove();
-        googleMapsPolygonIdToDartPolygonId.remove(polygonController.getGoogleMapsPolygonId());
-      }
+      culler.remove(polygonId);
+      removePolygonFromMap(polygonId);
     }
   }
 
@@ -81,16 +143,33 @@ class PolygonsController {
     if (polygon == null) {
       return;
     }
-    PolygonBuilder polygonBuilder = new PolygonBuilder(density);
+    PolygonBuilder polygonBuilder = new PolygonBuilder(density, zoomLevel);
     String polygonId = Convert.interpretPolygonOptions(polygon, polygonBuilder);
+    if (culler.isEnabled()) {
+      // The polygon is added to the map by the culler if it is in the culled region.
+      culler.put(polygonId, polygonBuilder);
+      return;
+    }
+    addPolygon(polygonId, polygonBuilder);
+  }
+
+  private void addPolygon(String polygonId, PolygonBuilder polygonBuilder) {
     PolygonOptions options = polygonBuilder.build();
-    addPolygon(polygonId, options, polygonBuilder.consumeTapEvents());
+    addPolygon(
+        polygonId,
+        options,
+        polygonBuilder.consumeTapEvents(),
+        polygonBuilder.getSimplifiedPoints());
   }
 
   private void addPolygon(
-      String polygonId, PolygonOptions polygonOptions, boolean consumeTapEvents) {
+      String polygonId,
+      PolygonOptions polygonOptions,
+      boolean consumeTapEvents,
+      SimplifiedPoints simplifiedPoints) {
     final Polygon polygon = googleMap.addPolygon(polygonOptions);
-    PolygonController controller = new PolygonController(polygon, consumeTapEvents, density);
+    PolygonController controller =
+        new PolygonController(polygon, consumeTapEvents, density, simplifiedPoints);
     polygonIdToController.put(polygonId, controller);
     googleMapsPolygonIdToDartPolygonId.put(polygon.getId(), polygonId);
   }
@@ -100,10 +179,25 @@ class PolygonsController {
       return;
     }
     String polygonId = getPolygonId(polygon);
+    // The controller shares its simplified points with the builder, so it is changed first to
+    // see the new points and tolerance as changes.
     PolygonController polygonController = polygonIdToController.get(polygonId);
     if (polygonController != null) {
       Convert.interpretPolygonOptions(polygon, polygonController);
     }
+    PolygonBuilder polygonBuilder = culler.get(polygonId);
+    if (polygonBuilder != null) {
+      Convert.interpretPolygonOptions(polygon, polygonBuilder);
+      culler.put(polygonId, polygonBuilder);
+    }
+  }
+
+  private void removePolygonFromMap(String polygonId) {
+    final PolygonController polygonController = polygonIdToController.remove(polygonId);
+    if (polygonController != null) {
+      polygonController.remove();
+      googleMapsPolygonIdToDartPolygonId.remove(polygonController.getGoogleMapsPolygonId());
+    }
   }
 
   @SuppressWarnings("unchecked")
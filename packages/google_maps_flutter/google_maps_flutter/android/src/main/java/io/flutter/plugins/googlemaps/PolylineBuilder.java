@@ -11,17 +11,36 @@ import com.google.android.gms.maps.model.PolylineOptions;
 import java.util.List;
 
 class PolylineBuilder implements PolylineOptionsSink {
+  // All options but the points, which are only added by build.
   private final PolylineOptions polylineOptions;
+  private final SimplifiedPoints simplifiedPoints;
   private boolean consumeTapEvents;
   private final float density;
 
-  PolylineBuilder(float density) {
+  PolylineBuilder(float density, int zoomLevel) {
     this.polylineOptions = new PolylineOptions();
+    this.simplifiedPoints = new SimplifiedPoints(zoomLevel, false);
     this.density = density;
   }
 
+  /** Returns new options each time, so a culled polyline can be added to the map again. */
   PolylineOptions build() {
-    return polylineOptions;
+    return new PolylineOptions()
+        .addAll(simplifiedPoints.get())
+        .clickable(polylineOptions.isClickable())
+        .color(polylineOptions.getColor())
+        .endCap(polylineOptions.getEndCap())
+        .geodesic(polylineOptions.isGeodesic())
+        .jointType(polylineOptions.getJointType())
+        .pattern(polylineOptions.getPattern())
+        .startCap(polylineOptions.getStartCap())
+        .visible(polylineOptions.isVisible())
+        .width(polylineOptions.getWidth())
+        .zIndex(polylineOptions.getZIndex());
+  }
+
+  SimplifiedPoints getSimplifiedPoints() {
+    return simplifiedPoints;
   }
 
   boolean consumeTapEvents() {
@@ -50,7 +69,12 @@ class PolylineBuilder implements PolylineOptionsSink {
 
   @Override
   public void setPoints(List<LatLng> points) {
-    polylineOptions.addAll(points);
+    simplifiedPoints.setPoints(points);
+  }
+
+  @Override
+  public void setSimplificationTolerance(float tolerance) {
+    simplifiedPoints.setTolerance(tolerance);
   }
 
   @Override
@@ -16,11 +16,17 @@ class PolylineController implements PolylineOptionsSink {
   private final String googleMapsPolylineId;
   private boolean consumeTapEvents;
   private final float density;
+  private final SimplifiedPoints simplifiedPoints;
 
-  PolylineController(Polyline polyline, boolean consumeTapEvents, float density) {
+  PolylineController(
+      Polyline polyline,
+      boolean consumeTapEvents,
+      float density,
+      SimplifiedPoints simplifiedPoints) {
     this.polyline = polyline;
     this.consumeTapEvents = consumeTapEvents;
     this.density = density;
+    this.simplifiedPoints = simplifiedPoints;
     this.googleMapsPolylineId = polyline.getId();
   }
 
@@ -28,6 +34,13 @@ class PolylineController implements PolylineOptionsSink {
     polyline.remove();
   }
 
+  /** Simplifies the points again for a new zoom level, if they are simplified. */
+  void setZoomLevel(int zoomLevel) {
+    if (simplifiedPoints.setZoomLevel(zoomLevel)) {
+      polyline.setPoints(simplifiedPoints.get());
+    }
+  }
+
   @Override
   public void setConsumeTapEvents(boolean consumeTapEvents) {
     this.consumeTapEvents = consumeTapEvents;
@@ -61,7 +74,15 @@ class PolylineController implements PolylineOptionsSink {
 
   @Override
   public void setPoints(List<LatLng> points) {
-    polyline.setPoints(points);
+    simplifiedPoints.setPoints(points);
+    polyline.setPoints(simplifiedPoints.get());
+  }
+
+  @Override
+  public void setSimplificationTolerance(float tolerance) {
+    if (simplifiedPoints.setTolerance(tolerance)) {
+      polyline.setPoints(simplifiedPoints.get());
+    }
   }
 
   @Override
@@ -84,6 +105,22 @@ class PolylineController implements PolylineOptionsSink {
     polyline.setZIndex(zIndex);
   }
 
+  /** Sends the current options of the polyline to {@code sink}, so it can be added again later. */
+  void copyTo(PolylineOptionsSink sink) {
+    sink.setConsumeTapEvents(consumeTapEvents);
+    sink.setColor(polyline.getColor());
+    sink.setEndCap(polyline.getEndCap());
+    sink.setGeodesic(polyline.isGeodesic());
+    sink.setJointType(polyline.getJointType());
+    sink.setPattern(polyline.getPattern());
+    sink.setPoints(simplifiedPoints.getPoints());
+    sink.setSimplificationTolerance(simplifiedPoints.getTolerance());
+    sink.setStartCap(polyline.getStartCap());
+    sink.setVisible(polyline.isVisible());
+    sink.setWidth(polyline.getWidth() / density);
+    sink.setZIndex(polyline.getZIndex());
+  }
+
   String getGoogleMapsPolylineId() {
     return googleMapsPolylineId;
   }
@@ -5,30 +5,98 @@
 package io.flutter.plugins.googlemaps;
 
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Polyline;
 import com.google.android.gms.maps.model.PolylineOptions;
 import io.flutter.plugin.common.MethodChannel;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 class PolylinesController {
 
   private final Map<String, PolylineController> polylineIdToController;
   private final Map<String, String> googleMapsPolylineIdToDartPolylineId;
   private final MethodChannel methodChannel;
-  private GoogleMap googleMap;
   private final float density;
+  private final BitmapDescriptorRegistry bitmapDescriptorRegistry;
+  private final ViewportCuller<PolylineBuilder> culler;
+  private GoogleMap googleMap;
+  // The integer zoom level that the points of polylines are simplified for.
+  private int zoomLevel;
 
-  PolylinesController(MethodChannel methodChannel, float density) {
+  PolylinesController(
+      MethodChannel methodChannel,
+      float density,
+      BitmapDescriptorRegistry bitmapDescriptorRegistry) {
     this.polylineIdToController = new HashMap<>();
     this.googleMapsPolylineIdToDartPolylineId = new HashMap<>();
     this.methodChannel = methodChannel;
     this.density = density;
+    this.bitmapDescriptorRegistry = bitmapDescriptorRegistry;
+    this.culler =
+        new ViewportCuller<>(
+            new ViewportCuller.Delegate<PolylineBuilder>() {
+              @Override
+              public Set<String> getIdsOnMap() {
+                return polylineIdToController.keySet();
+              }
+
+              @Override
+              public PolylineBuilder readOptions(String polylineId) {
+                final PolylineBuilder polylineBuilder = new PolylineBuilder(density, zoomLevel);
+                polylineIdToController.get(polylineId).copyTo(polylineBuilder);
+                return polylineBuilder;
+              }
+
+              @Override
+              public LatLngBounds getBounds(PolylineBuilder polylineBuilder) {
+                return Convert.getPointsBounds(polylineBuilder.getSimplifiedPoints().getPoints());
+              }
+
+              @Override
+              public void addToMap(String polylineId, PolylineBuilder polylineBuilder) {
+                // The zoom level may have changed since the polyline was culled.
+                polylineBuilder.getSimplifiedPoints().setZoomLevel(zoomLevel);
+                addPolyline(polylineId, polylineBuilder);
+              }
+
+              @Override
+              public void removeFromMap(String polylineId) {
+                removePolylineFromMap(polylineId);
+              }
+            });
   }
 
   void setGoogleMap(GoogleMap googleMap) {
     this.googleMap = googleMap;
+    this.zoomLevel = (int) googleMap.getCameraPosition().zoom;
+  }
+
+  /** Simplifies the points of polylines again if the zoom level has changed. */
+  void onCameraIdle() {
+    final int zoomLevel = (int) googleMap.getCameraPosition().zoom;
+    if (zoomLevel == this.zoomLevel) {
+      return;
+    }
+    this.zoomLevel = zoomLevel;
+    for (PolylineController polylineController : polylineIdToController.values()) {
+      polylineController.setZoomLevel(zoomLevel);
+    }
+  }
+
+  /**
+   * Enables or disables viewport culling.
+   *
+   * <p>While culling is enabled, only the polylines in the culled region are added to the map.
+   */
+  void setViewportCulling(boolean enabled) {
+    culler.setEnabled(enabled);
+  }
+
+  void setCulledRegion(LatLngBounds culledRegion) {
+    culler.setCulledRegion(culledRegion);
   }
 
   void addPolylines(List<Object> polylinesToAdd) {
@@ -36,6 +104,7 @@ class PolylinesController {
       for (Object polylineToAdd : polylinesToAdd) {
         addPolyline(polylineToAdd);
       }
+      culler.update();
     }
   }
 
@@ -44,6 +113,7 @@ class PolylinesController {
       for (Object polylineToChange : polylinesToChange) {
         changePolyline(polylineToChange);
       }
+      culler.update();
     }
   }
 
@@ -56,11 +126,8 @@ class PolylinesController {
         continue;
       }
       String polylineId = (String) rawPolylineId;
-      final PolylineController polylineController = polylineIdToController.remove(polylineId);
-      if (polylineController != null) {
-        polylineController.remove();
-        googleMapsPolylineIdToDartPolylineId.remove(polylineController.getGoogleMapsPolylineId());
-      }
+      culler.remove(polylineId);
+      removePolylineFromMap(polylineId);
     }
   }
 
@@ -81,16 +148,34 @@ class PolylinesController {
     if (polyline == null) {
       return;
     }
-    PolylineBuilder polylineBuilder = new PolylineBuilder(density);
-    String polylineId = Convert.interpretPolylineOptions(polyline, polylineBuilder);
+    PolylineBuilder polylineBuilder = new PolylineBuilder(density, zoomLevel);
+    String polylineId =
+        Convert.interpretPolylineOptions(polyline, polylineBuilder, bitmapDescriptorRegistry);
+    if (culler.isEnabled()) {
+      // The polyline is added to the map by the culler if it is in the culled region.
+      culler.put(polylineId, polylineBuilder);
+      return;
+    }
+    addPolyline(polylineId, polylineBuilder);
+  }
+
+  private void addPolyline(String polylineId, PolylineBuilder polylineBuilder) {
     PolylineOptions options = polylineBuilder.build();
-    addPolyline(polylineId, options, polylineBuilder.consumeTapEvents());
+    addPolyline(
+        polylineId,
+        options,
+        polylineBuilder.consumeTapEvents(),
+        polylineBuilder.getSimplifiedPoints());
   }
 
   private void addPolyline(
-      String polylineId, PolylineOptions polylineOptions, boolean consumeTapEvents) {
+      String polylineId,
+      PolylineOptions polylineOptions,
+      boolean consumeTapEvents,
+      SimplifiedPoints simplifiedPoints) {
     final Polyline polyline = googleMap.addPolyline(polylineOptions);
-    PolylineController controller = new PolylineController(polyline, consumeTapEvents, density);
+    PolylineController controller =
+        new PolylineController(polyline, consumeTapEvents, density, simplifiedPoints);
     polylineIdToController.put(polylineId, controller);
     googleMapsPolylineIdToDartPolylineId.put(polyline.getId(), polylineId);
   }
@@ -100,9 +185,24 @@ class PolylinesController {
       return;
     }
     String polylineId = getPolylineId(polyline);
+    // The controller shares its simplified points with the builder, so it is changed first to
+    // see the new points and tolerance as changes.
     PolylineController polylineController = polylineIdToController.get(polylineId);
     if (polylineController != null) {
-      Convert.interpretPolylineOptions(polyline, polylineController);
+      Convert.interpretPolylineOptions(polyline, polylineController, bitmapDescriptorRegistry);
+    }
+    PolylineBuilder polylineBuilder = culler.get(polylineId);
+    if (polylineBuilder != null) {
+      Convert.interpretPolylineOptions(polyline, polylineBuilder, bitmapDescriptorRegistry);
+      culler.put(polylineId, polylineBuilder);
+    }
+  }
+
+  private void removePolylineFromMap(String polylineId) {
+    final PolylineController polylineController = polylineIdToController.remove(polylineId);
+    if (polylineController != null) {
+      polylineController.remove();
+      googleMapsPolylineIdToDartPolylineId.remove(polylineController.getGoogleMapsPolylineId());
     }
   }
 
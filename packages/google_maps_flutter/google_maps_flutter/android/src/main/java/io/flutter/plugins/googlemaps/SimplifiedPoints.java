@@ -0,0 +1,231 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The points of a polyline or polygon, simplified for the zoom level of the map.
+ *
+ * <p>With a simplification tolerance, points are removed with the Douglas-Peucker algorithm as
+ * long as the line stays within the tolerance of the original points at the current zoom level.
+ * The simplified points are computed again when the integer zoom level changes.
+ *
+ * <p>The points of a polygon are simplified as a closed ring that keeps at least three distinct
+ * vertices. Longitudes are unwrapped, so segments crossing the antimeridian are simplified the way
+ * the map draws them, the short way around.
+ */
+class SimplifiedPoints {
+  private final boolean closed;
+  private List<LatLng> points = Collections.emptyList();
+  private float tolerance;
+  private int zoomLevel;
+  @Nullable private List<LatLng> simplifiedPoints;
+
+  /**
+   * Creates {@link SimplifiedPoints} without points.
+   *
+   * @param zoomLevel the current integer zoom level of the map
+   * @param closed whether the points form the ring of a polygon rather than an open line
+   */
+  SimplifiedPoints(int zoomLevel, boolean closed) {
+    this.zoomLevel = zoomLevel;
+    this.closed = closed;
+  }
+
+  /** Returns the original points. */
+  List<LatLng> getPoints() {
+    return points;
+  }
+
+  float getTolerance() {
+    return tolerance;
+  }
+
+  void setPoints(List<LatLng> points) {
+    this.points = points;
+    simplifiedPoints = null;
+  }
+
+  /**
+   * Sets the maximum distance in density-independent pixels between the simplified and the
+   * original line, or 0 to keep all points.
+   *
+   * @return whether the simplified points changed
+   */
+  boolean setTolerance(float tolerance) {
+    if (tolerance == this.tolerance) {
+      return false;
+    }
+    this.tolerance = tolerance;
+    simplifiedPoints = null;
+    return true;
+  }
+
+  /** @return whether the simplified points changed */
+  boolean setZoomLevel(int zoomLevel) {
+    if (zoomLevel == this.zoomLevel) {
+      return false;
+    }
+    this.zoomLevel = zoomLevel;
+    if (tolerance <= 0) {
+      return false;
+    }
+    simplifiedPoints = null;
+    return true;
+  }
+
+  List<LatLng> get() {
+    if (tolerance <= 0) {
+      return points;
+    }
+    if (simplifiedPoints == null) {
+      simplifiedPoints = simplify(points, tolerance / WebMercator.getWorldSize(zoomLevel), closed);
+    }
+    return simplifiedPoints;
+  }
+
+  /**
+   * Simplifies a line or ring with the Douglas-Peucker algorithm.
+   *
+   * @param points the points of the line
+   * @param tolerance the maximum distance between the simplified and the original line, in Web
+   *     Mercator coordinates from 0 to 1
+   * @param closed whether the points form a ring, which may or may not repeat its first point at
+   *     the end
+   */
+  static List<LatLng> simplify(List<LatLng> points, double tolerance, boolean closed) {
+    final int size = points.size();
+    if (size < (closed ? 4 : 3)) {
+      return points;
+    }
+    // A ring is simplified as a line that returns to its first point, which is added at the end
+    // unless the ring already ends with it.
+    final boolean addClosingPoint = closed && !points.get(size - 1).equals(points.get(0));
+    final int count = addClosingPoint ? size + 1 : size;
+    final double[] x = new double[count];
+    final double[] y = new double[count];
+    x[0] = WebMercator.getWorldX(points.get(0).longitude);
+    y[0] = WebMercator.getWorldY(points.get(0).latitude);
+    for (int i = 1; i < count; i++) {
+      final LatLng point = points.get(i % size);
+      double dx =
+          WebMercator.getWorldX(point.longitude)
+              - WebMercator.getWorldX(points.get(i - 1).longitude);
+      // Takes the short way around, across the antimeridian if needed.
+      dx -= Math.rint(dx);
+      x[i] = x[i - 1] + dx;
+      y[i] = WebMercator.getWorldY(point.latitude);
+    }
+
+    final double squaredTolerance = tolerance * tolerance;
+    final boolean[] keep = new boolean[count];
+    keep[0] = true;
+    keep[count - 1] = true;
+    // The ranges of points left to simplify, as pairs of first and last indices. Each range adds
+    // at most one point, so the stack never holds more than one range per point.
+    final int[] stack = new int[count * 2];
+    int stackSize = 0;
+    stack[stackSize++] = 0;
+    stack[stackSize++] = count - 1;
+    while (stackSize > 0) {
+      final int last = stack[--stackSize];
+      final int first = stack[--stackSize];
+      double maxSquaredDistance = 0;
+      int farthest = -1;
+      for (int i = first + 1; i < last; i++) {
+        final double squaredDistance =
+            getSquaredSegmentDistance(x[i], y[i], x[first], y[first], x[last], y[last]);
+        if (squaredDistance > maxSquaredDistance) {
+          maxSquaredDistance = squaredDistance;
+          farthest = i;
+        }
+      }
+      if (farthest >= 0 && maxSquaredDistance > squaredTolerance) {
+        keep[farthest] = true;
+        stack[stackSize++] = first;
+        stack[stackSize++] = farthest;
+        stack[stackSize++] = farthest;
+        stack[stackSize++] = last;
+      }
+    }
+
+    if (closed) {
+      keepTriangle(x, y, keep, count - 1);
+    }
+
+    final List<LatLng> simplifiedPoints = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      if (keep[i]) {
+        simplifiedPoints.add(points.get(i));
+      }
+    }
+    return simplifiedPoints;
+  }
+
+  /**
+   * Keeps more vertices of a ring until it has at least three, so that it doesn't collapse into a
+   * line. Each added vertex is the one farthest from the segment between the first and the last
+   * added vertex.
+   */
+  private static void keepTriangle(double[] x, double[] y, boolean[] keep, int closingIndex) {
+    int keptVertices = 0;
+    int otherVertex = closingIndex;
+    for (int i = 0; i < closingIndex; i++) {
+      if (keep[i]) {
+        keptVertices++;
+        if (i > 0) {
+          otherVertex = i;
+        }
+      }
+    }
+    while (keptVertices < 3) {
+      double maxSquaredDistance = 0;
+      int farthest = -1;
+      for (int i = 1; i < closingIndex; i++) {
+        if (keep[i]) {
+          continue;
+        }
+        final double squaredDistance =
+            getSquaredSegmentDistance(x[i], y[i], x[0], y[0], x[otherVertex], y[otherVertex]);
+        if (squaredDistance > maxSquaredDistance) {
+          maxSquaredDistance = squaredDistance;
+          farthest = i;
+        }
+      }
+      if (farthest < 0) {
+        // The remaining vertices are on the line through the kept ones.
+        return;
+      }
+      keep[farthest] = true;
+      keptVertices++;
+      otherVertex = farthest;
+    }
+  }
+
+  // The squared distance from point p to the segment from a to b.
+  private static double getSquaredSegmentDistance(
+      double px, double py, double ax, double ay, double bx, double by) {
+    double dx = bx - ax;
+    double dy = by - ay;
+    if (dx != 0 || dy != 0) {
+      final double t = ((px - ax) * dx + (py - ay) * dy) / (dx * dx + dy * dy);
+      if (t > 1) {
+        ax = bx;
+        ay = by;
+      } else if (t > 0) {
+        ax += dx * t;
+        ay += dy * t;
+      }
+    }
+    dx = px - ax;
+    dy = py - ay;
+    return dx * dx + dy * dy;
+  }
+}
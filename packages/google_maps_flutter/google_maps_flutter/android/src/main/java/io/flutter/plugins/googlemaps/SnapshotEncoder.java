@@ -0,0 +1,168 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import android.graphics.Rect;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.MethodChannel;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Crops, scales and compresses map snapshots.
+ *
+ * <p>The work is done on a background thread shared by all maps, and the image is either returned
+ * as bytes or written to a file, in which case only the file path is sent back to Dart.
+ */
+class SnapshotEncoder {
+  private static final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+  private final String format;
+  private final int quality;
+  // The region of the map to keep, in physical pixels, or null to keep the whole map.
+  @Nullable private final Rect region;
+  private final float scale;
+  @Nullable private final String filePath;
+
+  SnapshotEncoder(
+      String format, int quality, @Nullable Rect region, float scale, @Nullable String filePath) {
+    this.format = format;
+    this.quality = quality;
+    this.region = region;
+    this.scale = scale;
+    this.filePath = filePath;
+  }
+
+  /**
+   * Creates an encoder from the arguments of a {@code map#takeSnapshot} call, or one that encodes
+   * the whole map as PNG bytes if there are none.
+   */
+  static SnapshotEncoder fromArguments(@Nullable Map<?, ?> arguments, float density) {
+    if (arguments == null) {
+      return new SnapshotEncoder("png", 100, null, 1, null);
+    }
+    final Map<?, ?> options = (Map<?, ?>) arguments.get("options");
+    Rect region = null;
+    final Map<?, ?> regionData = (Map<?, ?>) options.get("region");
+    if (regionData != null) {
+      final int left = (int) (((Number) regionData.get("x")).floatValue() * density);
+      final int top = (int) (((Number) regionData.get("y")).floatValue() * density);
+      region =
+          new Rect(
+              left,
+              top,
+              left + (int) (((Number) regionData.get("width")).floatValue() * density),
+              top + (int) (((Number) regionData.get("height")).floatValue() * density));
+    }
+    return new SnapshotEncoder(
+        (String) options.get("format"),
+        ((Number) options.get("quality")).intValue(),
+        region,
+        ((Number) options.get("scale")).floatValue(),
+        (String) arguments.get("filePath"));
+  }
+
+  /**
+   * Encodes a snapshot in the background, recycles it and sends the result on the main thread.
+   *
+   * <p>Any failure, including running out of memory for a large snapshot, is sent as an error so
+   * the call from Dart always completes.
+   */
+  void encodeInBackground(final Bitmap bitmap, final MethodChannel.Result result) {
+    final Handler handler = new Handler(Looper.getMainLooper());
+    executor.execute(
+        () -> {
+          try {
+            final Object encoded = encode(bitmap);
+            handler.post(() -> result.success(encoded));
+          } catch (IOException | RuntimeException | OutOfMemoryError e) {
+            final String message = e.getMessage() != null ? e.getMessage() : e.toString();
+            handler.post(() -> result.error("Snapshot failed", message, null));
+          } finally {
+            bitmap.recycle();
+          }
+        });
+  }
+
+  /**
+   * Encodes a snapshot. The snapshot itself is not recycled.
+   *
+   * @return the file path if the snapshot is written to a file, or the image bytes otherwise
+   */
+  Object encode(Bitmap bitmap) throws IOException {
+    final Bitmap transformed = transform(bitmap);
+    try {
+      if (filePath != null) {
+        try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(filePath))) {
+          compress(transformed, stream);
+        }
+        return filePath;
+      }
+      final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+      compress(transformed, stream);
+      return stream.toByteArray();
+    } finally {
+      if (transformed != bitmap) {
+        transformed.recycle();
+      }
+    }
+  }
+
+  /** Returns the snapshot cropped to the region and scaled, or the snapshot itself if unchanged. */
+  Bitmap transform(Bitmap bitmap) {
+    Bitmap transformed = bitmap;
+    if (region != null) {
+      final Rect bounds = new Rect(region);
+      if (!bounds.intersect(0, 0, bitmap.getWidth(), bitmap.getHeight())) {
+        throw new IllegalArgumentException("The snapshot region is outside of the map");
+      }
+      transformed =
+          Bitmap.createBitmap(bitmap, bounds.left, bounds.top, bounds.width(), bounds.height());
+    }
+    if (scale != 1) {
+      final int width = Math.max(1, Math.round(transformed.getWidth() * scale));
+      final int height = Math.max(1, Math.round(transformed.getHeight() * scale));
+      final Bitmap scaled = Bitmap.createScaledBitmap(transformed, width, height, true);
+      if (transformed != bitmap && scaled != transformed) {
+        transformed.recycle();
+      }
+      transformed = scaled;
+    }
+    return transformed;
+  }
+
+  private void compress(Bitmap bitmap, OutputStream stream) throws IOException {
+    if (!bitmap.compress(getCompressFormat(), quality, stream)) {
+      throw new IOException("Could not compress the snapshot as " + format);
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private Bitmap.CompressFormat getCompressFormat() {
+    switch (format) {
+      case "jpeg":
+        return Bitmap.CompressFormat.JPEG;
+      case "webp":
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+          return quality == 100
+              ? Bitmap.CompressFormat.WEBP_LOSSLESS
+              : Bitmap.CompressFormat.WEBP_LOSSY;
+        }
+        return Bitmap.CompressFormat.WEBP;
+      default:
+        return Bitmap.CompressFormat.PNG;
+    }
+  }
+}
@@ -0,0 +1,188 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes the bounds of map objects by id, to find the objects in a region quickly.
+ *
+ * <p>Objects are stored in the cells of a sparse latitude and longitude grid that their bounds
+ * overlap. Objects that overlap too many cells, such as long polylines, are kept in a separate list
+ * that every query checks.
+ */
+class SpatialIndex {
+  // The number of grid columns and rows. A cell is about 10 km wide at the equator.
+  private static final int GRID_SIZE = 4096;
+  private static final int MAX_CELLS_PER_OBJECT = 64;
+  // LatLng wraps a longitude of 180 to -180.
+  static final double MAX_LONGITUDE = 179.999999;
+
+  private final Map<String, LatLngBounds> idToBounds = new HashMap<>();
+  private final Map<Long, Set<String>> cellToIds = new HashMap<>();
+  private final Set<String> largeIds = new HashSet<>();
+
+  /** Adds an object to the index, or moves it if it is already indexed. */
+  void put(String id, LatLngBounds bounds) {
+    final LatLngBounds previousBounds = idToBounds.put(id, bounds);
+    if (bounds.equals(previousBounds)) {
+      return;
+    }
+    if (previousBounds != null) {
+      removeFromCells(id, previousBounds);
+    }
+    final List<Long> cells = getCells(bounds, MAX_CELLS_PER_OBJECT);
+    if (cells == null) {
+      largeIds.add(id);
+      return;
+    }
+    for (Long cell : cells) {
+      Set<String> ids = cellToIds.get(cell);
+      if (ids == null) {
+        ids = new HashSet<>();
+        cellToIds.put(cell, ids);
+      }
+      ids.add(id);
+    }
+  }
+
+  void remove(String id) {
+    final LatLngBounds bounds = idToBounds.remove(id);
+    if (bounds != null) {
+      removeFromCells(id, bounds);
+    }
+  }
+
+  /** Returns the ids of the objects whose bounds intersect the given region. */
+  Set<String> query(LatLngBounds region) {
+    final Set<String> ids = new HashSet<>();
+    final List<Long> cells = getCells(region, cellToIds.size());
+    if (cells == null) {
+      // The region covers more cells than there are objects in cells, so it's faster to check all
+      // of them.
+      for (Map.Entry<String, LatLngBounds> entry : idToBounds.entrySet()) {
+        if (intersects(entry.getValue(), region)) {
+          ids.add(entry.getKey());
+        }
+      }
+      return ids;
+    }
+    for (Long cell : cells) {
+      final Set<String> cellIds = cellToIds.get(cell);
+      if (cellIds == null) {
+        continue;
+      }
+      for (String id : cellIds) {
+        if (!ids.contains(id) && intersects(idToBounds.get(id), region)) {
+          ids.add(id);
+        }
+      }
+    }
+    for (String id : largeIds) {
+      if (intersects(idToBounds.get(id), region)) {
+        ids.add(id);
+      }
+    }
+    return ids;
+  }
+
+  private void removeFromCells(String id, LatLngBounds bounds) {
+    if (largeIds.remove(id)) {
+      return;
+    }
+    for (Long cell : getCells(bounds, MAX_CELLS_PER_OBJECT)) {
+      final Set<String> ids = cellToIds.get(cell);
+      if (ids != null && ids.remove(id) && ids.isEmpty()) {
+        cellToIds.remove(cell);
+      }
+    }
+  }
+
+  // Returns the cells that the bounds overlap, or null if there are more than maxCells.
+  private static List<Long> getCells(LatLngBounds bounds, int maxCells) {
+    final int minRow = getRow(bounds.southwest.latitude);
+    final int maxRow = getRow(bounds.northeast.latitude);
+    final int minColumn = getColumn(bounds.southwest.longitude);
+    int maxColumn = getColumn(bounds.northeast.longitude);
+    if (bounds.southwest.longitude > bounds.northeast.longitude) {
+      // The bounds cross the antimeridian, so the columns wrap around.
+      maxColumn += GRID_SIZE;
+    }
+    final long cellCount = (long) (maxRow - minRow + 1) * (maxColumn - minColumn + 1);
+    if (cellCount > maxCells) {
+      return null;
+    }
+    final List<Long> cells = new ArrayList<>((int) cellCount);
+    for (int row = minRow; row <= maxRow; row++) {
+      for (int column = minColumn; column <= maxColumn; column++) {
+        cells.add((long) row * GRID_SIZE + column % GRID_SIZE);
+      }
+    }
+    return cells;
+  }
+
+  private static int getRow(double latitude) {
+    final int row = (int) Math.floor((latitude + 90) / 180 * GRID_SIZE);
+    return Math.min(Math.max(row, 0), GRID_SIZE - 1);
+  }
+
+  private static int getColumn(double longitude) {
+    final int column = (int) Math.floor((longitude + 180) / 360 * GRID_SIZE);
+    return Math.min(Math.max(column, 0), GRID_SIZE - 1);
+  }
+
+  /** Returns whether two bounds overlap, taking the antimeridian into account. */
+  static boolean intersects(LatLngBounds a, LatLngBounds b) {
+    if (a.northeast.latitude < b.southwest.latitude
+        || a.southwest.latitude > b.northeast.latitude) {
+      return false;
+    }
+    final boolean aWraps = a.southwest.longitude > a.northeast.longitude;
+    final boolean bWraps = b.southwest.longitude > b.northeast.longitude;
+    if (aWraps && bWraps) {
+      // Both contain the antimeridian.
+      return true;
+    }
+    if (aWraps || bWraps) {
+      final LatLngBounds wrapping = aWraps ? a : b;
+      final LatLngBounds other = aWraps ? b : a;
+      return other.northeast.longitude >= wrapping.southwest.longitude
+          || other.southwest.longitude <= wrapping.northeast.longitude;
+    }
+    return a.southwest.longitude <= b.northeast.longitude
+        && a.northeast.longitude >= b.southwest.longitude;
+  }
+
+  /**
+   * Returns the given bounds grown by a fraction of their size on every side.
+   *
+   * @param bounds the bounds to grow
+   * @param margin the fraction of the height and width of the bounds to add on each side
+   */
+  static LatLngBounds expand(LatLngBounds bounds, double margin) {
+    final double latitudeMargin =
+        (bounds.northeast.latitude - bounds.southwest.latitude) * margin;
+    double longitudeSpan = bounds.northeast.longitude - bounds.southwest.longitude;
+    if (longitudeSpan < 0) {
+      longitudeSpan += 360;
+    }
+    final double south = Math.max(bounds.southwest.latitude - latitudeMargin, -90);
+    final double north = Math.min(bounds.northeast.latitude + latitudeMargin, 90);
+    if (longitudeSpan * (1 + 2 * margin) >= 360) {
+      return new LatLngBounds(new LatLng(south, -180), new LatLng(north, MAX_LONGITUDE));
+    }
+    // LatLng wraps longitudes outside of [-180, 180).
+    return new LatLngBounds(
+        new LatLng(south, bounds.southwest.longitude - longitudeSpan * margin),
+        new LatLng(north, bounds.northeast.longitude + longitudeSpan * margin));
+  }
+}
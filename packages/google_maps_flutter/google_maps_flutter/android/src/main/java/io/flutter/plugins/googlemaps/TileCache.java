@@ -0,0 +1,412 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.util.Log;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.Tile;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches the tiles of one tile overlay in memory and, optionally, on disk.
+ *
+ * <p>The memory cache is a least recently used cache bounded by the total size of the tile images.
+ * Tiles on disk are stored in a directory named after the tile overlay id, so they are found again
+ * by a tile overlay with the same id after the app restarts. The disk cache is bounded by size as
+ * well and deletes its oldest tiles first. Tiles older than the time to live are never served.
+ *
+ * <p>The Maps SDK requests tiles from several threads. The lock only guards the memory cache, the
+ * index of the tiles on disk and the stats. Tiles are read from and written to disk without holding
+ * it: a tile is written to a temporary file first, and the lock is only taken to move that file in
+ * place and update the index.
+ */
+class TileCache {
+  private static final String TAG = "TileCache";
+  private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+  private static final class Entry {
+    final Tile tile;
+    final long createdAt;
+
+    Entry(Tile tile, long createdAt) {
+      this.tile = tile;
+      this.createdAt = createdAt;
+    }
+  }
+
+  private static final class DiskEntry {
+    final long length;
+    final long createdAt;
+
+    DiskEntry(long length, long createdAt) {
+      this.length = length;
+      this.createdAt = createdAt;
+    }
+  }
+
+  /** Provides the current time, so expiry can be tested. */
+  interface Clock {
+    long currentTimeMillis();
+  }
+
+  private final long maxMemoryBytes;
+  @Nullable private final File diskDirectory;
+  private final long maxDiskBytes;
+  private final long timeToLiveMillis;
+  private final Clock clock;
+
+  // Access ordered, so the first entry is the least recently used one.
+  private final LinkedHashMap<String, Entry> memoryCache = new LinkedHashMap<>(16, 0.75f, true);
+  private long memoryBytes = 0;
+
+  // The tiles on disk in the order they were written, loaded when the disk is first used.
+  @Nullable private LinkedHashMap<String, DiskEntry> diskIndex;
+  private long diskBytes = 0;
+
+  private long memoryHits = 0;
+  private long diskHits = 0;
+  private long misses = 0;
+
+  /**
+   * Creates a {@link TileCache}.
+   *
+   * @param maxMemoryBytes the maximum total size of the tiles kept in memory
+   * @param diskDirectory the directory tiles are stored in, or null to only cache in memory
+   * @param maxDiskBytes the maximum total size of the tiles stored on disk
+   * @param timeToLiveMillis how long a tile is served, or 0 if tiles never expire
+   * @param clock provides the current time
+   */
+  TileCache(
+      long maxMemoryBytes,
+      @Nullable File diskDirectory,
+      long maxDiskBytes,
+      long timeToLiveMillis,
+      Clock clock) {
+    this.maxMemoryBytes = maxMemoryBytes;
+    this.diskDirectory = diskDirectory;
+    this.maxDiskBytes = maxDiskBytes;
+    this.timeToLiveMillis = timeToLiveMillis;
+    this.clock = clock;
+  }
+
+  /**
+   * Creates a {@link TileCache} from the cache options of a tile overlay.
+   *
+   * @param tileOverlayId the id of the tile overlay, used to name its disk directory
+   * @param data the cache options sent by Dart
+   * @param cacheDirectory the app's cache directory
+   */
+  static TileCache fromOptions(String tileOverlayId, Map<String, ?> data, File cacheDirectory) {
+    final long maxMemoryBytes = Convert.toLong(data.get("maxMemoryBytes"));
+    final boolean diskCacheEnabled = Boolean.TRUE.equals(data.get("diskCacheEnabled"));
+    final long maxDiskBytes = Convert.toLong(data.get("maxDiskBytes"));
+    final Object timeToLiveMillis = data.get("timeToLiveMillis");
+    return new TileCache(
+        maxMemoryBytes,
+        diskCacheEnabled ? getDiskDirectory(cacheDirectory, tileOverlayId) : null,
+        maxDiskBytes,
+        timeToLiveMillis != null ? Convert.toLong(timeToLiveMillis) : 0,
+        System::currentTimeMillis);
+  }
+
+  /**
+   * Returns the cached tile, or null if the tile is not cached or has expired.
+   *
+   * @param x the x coordinate of the tile
+   * @param y the y coordinate of the tile
+   * @param zoom the zoom level of the tile
+   */
+  @Nullable
+  Tile get(int x, int y, int zoom) {
+    final String key = getKey(x, y, zoom);
+    loadDiskIndex();
+    final DiskEntry diskEntry;
+    synchronized (this) {
+      final Entry entry = memoryCache.get(key);
+      if (entry != null) {
+        if (!isExpired(entry.createdAt)) {
+          memoryHits++;
+          return entry.tile;
+        }
+        removeFromMemory(key);
+      }
+      diskEntry = getDiskEntry(key);
+      if (diskEntry == null) {
+        misses++;
+        return null;
+      }
+    }
+
+    final Tile tile = readFromDisk(key);
+    synchronized (this) {
+      if (tile == null) {
+        // The file is unreadable, unless it was replaced while it was read.
+        if (diskIndex != null && diskIndex.get(key) == diskEntry) {
+          removeFromDisk(key);
+        }
+        misses++;
+        return null;
+      }
+      diskHits++;
+      putInMemory(key, new Entry(tile, diskEntry.createdAt));
+      return tile;
+    }
+  }
+
+  /**
+   * Caches a tile. Tiles without image data are not cached.
+   *
+   * @param x the x coordinate of the tile
+   * @param y the y coordinate of the tile
+   * @param zoom the zoom level of the tile
+   * @param tile the tile returned by the tile provider
+   */
+  void put(int x, int y, int zoom, Tile tile) {
+    if (tile.data == null) {
+      return;
+    }
+    final String key = getKey(x, y, zoom);
+    final Entry entry = new Entry(tile, clock.currentTimeMillis());
+    synchronized (this) {
+      putInMemory(key, entry);
+    }
+    writeToDisk(key, entry);
+  }
+
+  /** Removes all cached tiles from memory and disk. */
+  synchronized void clear() {
+    clearMemory();
+    if (diskDirectory != null) {
+      final File[] files = diskDirectory.listFiles();
+      if (files != null) {
+        for (File file : files) {
+          file.delete();
+        }
+      }
+      diskIndex = new LinkedHashMap<>();
+      diskBytes = 0;
+    }
+  }
+
+  /** Removes all cached tiles from memory. Tiles on disk are kept. */
+  synchronized void clearMemory() {
+    memoryCache.clear();
+    memoryBytes = 0;
+  }
+
+  /** Returns the number of tiles served from memory and disk, and the number of misses. */
+  synchronized Map<String, Object> getStats() {
+    final Map<String, Object> stats = new HashMap<>();
+    stats.put("memoryHits", memoryHits);
+    stats.put("diskHits", diskHits);
+    stats.put("misses", misses);
+    stats.put("memoryBytes", memoryBytes);
+    return stats;
+  }
+
+  private boolean isExpired(long createdAt) {
+    return timeToLiveMillis > 0 && clock.currentTimeMillis() - createdAt >= timeToLiveMillis;
+  }
+
+  private void putInMemory(String key, Entry entry) {
+    final long size = entry.tile.data.length;
+    if (size > maxMemoryBytes) {
+      return;
+    }
+    removeFromMemory(key);
+    memoryCache.put(key, entry);
+    memoryBytes += size;
+
+    final Iterator<Entry> iterator = memoryCache.values().iterator();
+    while (memoryBytes > maxMemoryBytes && iterator.hasNext()) {
+      memoryBytes -= iterator.next().tile.data.length;
+      iterator.remove();
+    }
+  }
+
+  private void removeFromMemory(String key) {
+    final Entry entry = memoryCache.remove(key);
+    if (entry != null) {
+      memoryBytes -= entry.tile.data.length;
+    }
+  }
+
+  // Must hold the lock. Returns the index entry of a tile on disk that has not expired.
+  @Nullable
+  private DiskEntry getDiskEntry(String key) {
+    if (diskIndex == null) {
+      return null;
+    }
+    final DiskEntry diskEntry = diskIndex.get(key);
+    if (diskEntry != null && isExpired(diskEntry.createdAt)) {
+      removeFromDisk(key);
+      return null;
+    }
+    return diskEntry;
+  }
+
+  @Nullable
+  private Tile readFromDisk(String key) {
+    try (DataInputStream input =
+        new DataInputStream(
+            new BufferedInputStream(new FileInputStream(new File(diskDirectory, key))))) {
+      final int width = input.readInt();
+      final int height = input.readInt();
+      final byte[] data = new byte[input.readInt()];
+      input.readFully(data);
+      return new Tile(width, height, data);
+    } catch (IOException e) {
+      Log.e(TAG, "Can't read cached tile " + key, e);
+      return null;
+    }
+  }
+
+  private void writeToDisk(String key, Entry entry) {
+    if (diskDirectory == null || entry.tile.data.length > maxDiskBytes) {
+      return;
+    }
+    loadDiskIndex();
+    if (!diskDirectory.isDirectory() && !diskDirectory.mkdirs()) {
+      Log.e(TAG, "Can't create tile cache directory " + diskDirectory);
+      return;
+    }
+
+    final File tempFile;
+    try {
+      tempFile = File.createTempFile(key, TEMP_FILE_SUFFIX, diskDirectory);
+    } catch (IOException e) {
+      Log.e(TAG, "Can't write cached tile " + key, e);
+      return;
+    }
+    try (DataOutputStream output =
+        new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+      output.writeInt(entry.tile.width);
+      output.writeInt(entry.tile.height);
+      output.writeInt(entry.tile.data.length);
+      output.write(entry.tile.data);
+    } catch (IOException e) {
+      Log.e(TAG, "Can't write cached tile " + key, e);
+      tempFile.delete();
+      return;
+    }
+    tempFile.setLastModified(entry.createdAt);
+    final long length = tempFile.length();
+
+    synchronized (this) {
+      if (!tempFile.renameTo(new File(diskDirectory, key))) {
+        Log.e(TAG, "Can't write cached tile " + key);
+        tempFile.delete();
+        return;
+      }
+      final DiskEntry previous = diskIndex.remove(key);
+      if (previous != null) {
+        diskBytes -= previous.length;
+      }
+      diskIndex.put(key, new DiskEntry(length, entry.createdAt));
+      diskBytes += length;
+      trimDisk();
+    }
+  }
+
+  // Must hold the lock.
+  private void trimDisk() {
+    final Iterator<String> iterator = diskIndex.keySet().iterator();
+    while (diskBytes > maxDiskBytes && iterator.hasNext()) {
+      final String key = iterator.next();
+      diskBytes -= diskIndex.get(key).length;
+      iterator.remove();
+      new File(diskDirectory, key).delete();
+    }
+  }
+
+  // Must hold the lock.
+  private void removeFromDisk(String key) {
+    final DiskEntry diskEntry = diskIndex.remove(key);
+    if (diskEntry != null) {
+      diskBytes -= diskEntry.length;
+      new File(diskDirectory, key).delete();
+    }
+  }
+
+  // Lists the tiles on disk the first time the disk is used. Must not hold the lock.
+  private void loadDiskIndex() {
+    if (diskDirectory == null) {
+      return;
+    }
+    synchronized (this) {
+      if (diskIndex != null) {
+        return;
+      }
+    }
+
+    final LinkedHashMap<String, DiskEntry> index = new LinkedHashMap<>();
+    long bytes = 0;
+    final List<File> tempFiles = new ArrayList<>();
+    File[] files = diskDirectory.listFiles();
+    if (files == null) {
+      files = new File[0];
+    }
+    Arrays.sort(
+        files,
+        new Comparator<File>() {
+          @Override
+          public int compare(File a, File b) {
+            return Long.compare(a.lastModified(), b.lastModified());
+          }
+        });
+    for (File file : files) {
+      if (file.getName().endsWith(TEMP_FILE_SUFFIX)) {
+        tempFiles.add(file);
+        continue;
+      }
+      final long length = file.length();
+      index.put(file.getName(), new DiskEntry(length, file.lastModified()));
+      bytes += length;
+    }
+
+    synchronized (this) {
+      // Another thread may have loaded the index in the meantime.
+      if (diskIndex != null) {
+        return;
+      }
+      diskIndex = index;
+      diskBytes = bytes;
+    }
+    // No tile is written before the index is loaded, so these were left behind by interrupted
+    // writes.
+    for (File file : tempFiles) {
+      file.delete();
+    }
+  }
+
+  private static String getKey(int x, int y, int zoom) {
+    return zoom + "_" + x + "_" + y;
+  }
+
+  // Tile overlay ids can contain any character, so the directory name is their hex encoding.
+  private static File getDiskDirectory(File cacheDirectory, String tileOverlayId) {
+    final StringBuilder name = new StringBuilder();
+    for (byte b : tileOverlayId.getBytes(Charset.forName("UTF-8"))) {
+      name.append(String.format("%02x", b));
+    }
+    return new File(new File(cacheDirectory, "google_maps_flutter_tiles"), name.toString());
+  }
+}
@@ -4,6 +4,8 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.TileOverlay;
 import com.google.android.gms.maps.model.TileProvider;
 import java.util.HashMap;
@@ -12,19 +14,57 @@ import java.util.Map;
 class TileOverlayController implements TileOverlaySink {
 
   private final TileOverlay tileOverlay;
+  // Exactly one of tileProviderController and localTileProvider is non-null.
+  @Nullable private final TileProviderController tileProviderController;
+  @Nullable private final LocalTileProvider localTileProvider;
+  @Nullable private final TileCache tileCache;
 
-  TileOverlayController(TileOverlay tileOverlay) {
+  TileOverlayController(TileOverlay tileOverlay, TileProviderController tileProviderController) {
     this.tileOverlay = tileOverlay;
+    this.tileProviderController = tileProviderController;
+    this.localTileProvider = null;
+    this.tileCache = tileProviderController.getTileCache();
+  }
+
+  TileOverlayController(TileOverlay tileOverlay, LocalTileProvider localTileProvider) {
+    this.tileOverlay = tileOverlay;
+    this.tileProviderController = null;
+    this.localTileProvider = localTileProvider;
+    this.tileCache = null;
   }
 
   void remove() {
     tileOverlay.remove();
+    release();
+    if (tileCache != null) {
+      // Tiles on disk are kept for tile overlays added later with the same id.
+      tileCache.clearMemory();
+    }
   }
 
   void clearTileCache() {
+    if (tileCache != null) {
+      tileCache.clear();
+    }
     tileOverlay.clearTileCache();
   }
 
+  void setVisibleBounds(LatLngBounds visibleBounds) {
+    if (tileProviderController != null) {
+      tileProviderController.setVisibleBounds(visibleBounds);
+    }
+  }
+
+  /** Cancels pending tile requests and closes local tile sources. */
+  void release() {
+    if (tileProviderController != null) {
+      tileProviderController.cancelRequests();
+    }
+    if (localTileProvider != null) {
+      localTileProvider.close();
+    }
+  }
+
   Map<String, Object> getTileOverlayInfo() {
     Map<String, Object> tileOverlayInfo = new HashMap<>();
     tileOverlayInfo.put("fadeIn", tileOverlay.getFadeIn());
@@ -32,6 +72,9 @@ class TileOverlayController implements TileOverlaySink {
     tileOverlayInfo.put("id", tileOverlay.getId());
     tileOverlayInfo.put("zIndex", tileOverlay.getZIndex());
     tileOverlayInfo.put("visible", tileOverlay.isVisible());
+    if (tileCache != null) {
+      tileOverlayInfo.put("cache", tileCache.getStats());
+    }
     return tileOverlayInfo;
   }
 
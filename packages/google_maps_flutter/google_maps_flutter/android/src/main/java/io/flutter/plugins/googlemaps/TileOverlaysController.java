@@ -5,9 +5,11 @@
 package io.flutter.plugins.googlemaps;
 
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.TileOverlay;
 import com.google.android.gms.maps.model.TileOverlayOptions;
 import io.flutter.plugin.common.MethodChannel;
+import java.io.File;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,11 +18,13 @@ class TileOverlaysController {
 
   private final Map<String, TileOverlayController> tileOverlayIdToController;
   private final MethodChannel methodChannel;
+  private final File cacheDirectory;
   private GoogleMap googleMap;
 
-  TileOverlaysController(MethodChannel methodChannel) {
+  TileOverlaysController(MethodChannel methodChannel, File cacheDirectory) {
     this.tileOverlayIdToController = new HashMap<>();
     this.methodChannel = methodChannel;
+    this.cacheDirectory = cacheDirectory;
   }
 
   void setGoogleMap(GoogleMap googleMap) {
@@ -67,6 +71,27 @@ class TileOverlaysController {
     }
   }
 
+  /** Cancels requests for tiles outside of the visible region of the map. */
+  void onCameraIdle() {
+    if (googleMap == null || tileOverlayIdToController.isEmpty()) {
+      return;
+    }
+    LatLngBounds visibleBounds = googleMap.getProjection().getVisibleRegion().latLngBounds;
+    for (TileOverlayController tileOverlayController : tileOverlayIdToController.values()) {
+      tileOverlayController.setVisibleBounds(visibleBounds);
+    }
+  }
+
+  /**
+   * Cancels all tile requests, releasing the Maps SDK threads waiting for them, and closes local
+   * tile sources.
+   */
+  void dispose() {
+    for (TileOverlayController tileOverlayController : tileOverlayIdToController.values()) {
+      tileOverlayController.release();
+    }
+  }
+
   Map<String, Object> getTileOverlayInfo(String tileOverlayId) {
     if (tileOverlayId == null) {
       return null;
@@ -85,12 +110,35 @@ class TileOverlaysController {
     TileOverlayBuilder tileOverlayOptionsBuilder = new TileOverlayBuilder();
     String tileOverlayId =
         Convert.interpretTileOverlayOptions(tileOverlayOptions, tileOverlayOptionsBuilder);
+    Object source = tileOverlayOptions.get("source");
+    if (source != null) {
+      // Tiles from local sources are read natively and never reach Dart.
+      LocalTileProvider localTileProvider = Convert.toLocalTileProvider(source);
+      tileOverlayOptionsBuilder.setTileProvider(localTileProvider);
+      TileOverlay tileOverlay = googleMap.addTileOverlay(tileOverlayOptionsBuilder.build());
+      tileOverlayIdToController.put(
+          tileOverlayId, new TileOverlayController(tileOverlay, localTileProvider));
+      return;
+    }
+    TileCache tileCache = null;
+    Map<String, ?> cacheOptions = getCacheOptions(tileOverlayOptions);
+    if (cacheOptions != null) {
+      tileCache = TileCache.fromOptions(tileOverlayId, cacheOptions, cacheDirectory);
+    }
+    Object timeoutMillis = tileOverlayOptions.get("tileRequestTimeoutMillis");
     TileProviderController tileProviderController =
-        new TileProviderController(methodChannel, tileOverlayId);
+        new TileProviderController(
+            methodChannel,
+            tileOverlayId,
+            tileCache,
+            timeoutMillis != null
+                ? Convert.toLong(timeoutMillis)
+                : TileProviderController.DEFAULT_TIMEOUT_MILLIS);
     tileOverlayOptionsBuilder.setTileProvider(tileProviderController);
     TileOverlayOptions options = tileOverlayOptionsBuilder.build();
     TileOverlay tileOverlay = googleMap.addTileOverlay(options);
-    TileOverlayController tileOverlayController = new TileOverlayController(tileOverlay);
+    TileOverlayController tileOverlayController =
+        new TileOverlayController(tileOverlay, tileProviderController);
     tileOverlayIdToController.put(tileOverlayId, tileOverlayController);
   }
 
@@ -117,4 +165,9 @@ class TileOverlaysController {
   private static String getTileOverlayId(Map<String, ?> tileOverlay) {
     return (String) tileOverlay.get("tileOverlayId");
   }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, ?> getCacheOptions(Map<String, ?> tileOverlay) {
+    return (Map<String, ?>) tileOverlay.get("cache");
+  }
 }
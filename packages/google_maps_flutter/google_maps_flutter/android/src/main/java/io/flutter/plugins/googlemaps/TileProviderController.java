@@ -7,77 +7,272 @@ package io.flutter.plugins.googlemaps;
 import android.os.Handler;
 import android.os.Looper;
 import android.util.Log;
-import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Tile;
 import com.google.android.gms.maps.model.TileProvider;
 import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Provides the tiles of a tile overlay by requesting them from Dart.
+ *
+ * <p>The Maps SDK requests tiles from its own threads and blocks them until a tile is returned.
+ * Requests made at about the same time are sent to Dart together in one {@code
+ * tileOverlay#getTiles} call from the main thread. A request that isn't answered within the
+ * timeout, and requests for tiles that are no longer visible, return null, which makes the Maps SDK
+ * request the tile again later.
+ */
 class TileProviderController implements TileProvider {
 
   private static final String TAG = "TileProviderController";
 
+  static final long DEFAULT_TIMEOUT_MILLIS = 10000;
+
   private final String tileOverlayId;
   private final MethodChannel methodChannel;
-  private final Handler handler = new Handler(Looper.getMainLooper());
+  private final Handler handler;
+  @Nullable private final TileCache tileCache;
+  private final long timeoutMillis;
+
+  // Requests waiting to be sent to Dart, and requests waiting for a response, guarded by this.
+  private final List<TileRequest> pendingRequests = new ArrayList<>();
+  private final List<TileRequest> sentRequests = new ArrayList<>();
+  private boolean isFlushScheduled = false;
 
-  TileProviderController(MethodChannel methodChannel, String tileOverlayId) {
+  TileProviderController(
+      MethodChannel methodChannel,
+      String tileOverlayId,
+      @Nullable TileCache tileCache,
+      long timeoutMillis) {
+    this(
+        methodChannel,
+        tileOverlayId,
+        tileCache,
+        timeoutMillis,
+        new Handler(Looper.getMainLooper()));
+  }
+
+  TileProviderController(
+      MethodChannel methodChannel,
+      String tileOverlayId,
+      @Nullable TileCache tileCache,
+      long timeoutMillis,
+      Handler handler) {
     this.tileOverlayId = tileOverlayId;
     this.methodChannel = methodChannel;
+    this.tileCache = tileCache;
+    this.timeoutMillis = timeoutMillis;
+    this.handler = handler;
   }
 
   @Override
+  @Nullable
   public Tile getTile(final int x, final int y, final int zoom) {
-    Worker worker = new Worker(x, y, zoom);
-    return worker.getTile();
+    if (tileCache != null) {
+      // Cached tiles are served without a round trip to Dart.
+      Tile cachedTile = tileCache.get(x, y, zoom);
+      if (cachedTile != null) {
+        return cachedTile;
+      }
+    }
+
+    TileRequest request = new TileRequest(x, y, zoom);
+    synchronized (this) {
+      pendingRequests.add(request);
+      if (!isFlushScheduled) {
+        isFlushScheduled = true;
+        handler.post(this::sendPendingRequests);
+      }
+    }
+
+    Tile tile = request.await(timeoutMillis);
+    if (tile == null) {
+      synchronized (this) {
+        pendingRequests.remove(request);
+        sentRequests.remove(request);
+      }
+      return null;
+    }
+    if (tileCache != null) {
+      tileCache.put(x, y, zoom, tile);
+    }
+    return tile;
+  }
+
+  /**
+   * Cancels requests for tiles outside of the visible region of the map.
+   *
+   * <p>Must be called on the main thread when the camera is idle. Requests made later are not
+   * checked against these bounds, because the Maps SDK requests the tiles of the next region
+   * while the camera moves.
+   *
+   * @param visibleBounds the bounds of the visible region
+   */
+  void setVisibleBounds(LatLngBounds visibleBounds) {
+    final List<TileRequest> cancelledRequests = new ArrayList<>();
+    synchronized (this) {
+      for (TileRequest request : pendingRequests) {
+        if (!isVisible(visibleBounds, request.x, request.y, request.zoom)) {
+          cancelledRequests.add(request);
+        }
+      }
+      for (TileRequest request : sentRequests) {
+        if (!isVisible(visibleBounds, request.x, request.y, request.zoom)) {
+          cancelledRequests.add(request);
+        }
+      }
+      pendingRequests.removeAll(cancelledRequests);
+      sentRequests.removeAll(cancelledRequests);
+    }
+    for (TileRequest request : cancelledRequests) {
+      request.complete(null);
+    }
+  }
+
+  /** Cancels all requests, such as when the tile overlay is removed. */
+  void cancelRequests() {
+    final List<TileRequest> cancelledRequests = new ArrayList<>();
+    synchronized (this) {
+      cancelledRequests.addAll(pendingRequests);
+      cancelledRequests.addAll(sentRequests);
+      pendingRequests.clear();
+      sentRequests.clear();
+    }
+    for (TileRequest request : cancelledRequests) {
+      request.complete(null);
+    }
+  }
+
+  @Nullable
+  TileCache getTileCache() {
+    return tileCache;
+  }
+
+  private void sendPendingRequests() {
+    final List<TileRequest> batch;
+    synchronized (this) {
+      isFlushScheduled = false;
+      batch = new ArrayList<>(pendingRequests);
+      pendingRequests.clear();
+      sentRequests.addAll(batch);
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    final List<Object> tiles = new ArrayList<>(batch.size());
+    for (TileRequest request : batch) {
+      tiles.add(Convert.tileCoordinatesToJson(request.x, request.y, request.zoom));
+    }
+    final Map<String, Object> arguments = new HashMap<>(2);
+    arguments.put("tileOverlayId", tileOverlayId);
+    arguments.put("tiles", tiles);
+    methodChannel.invokeMethod("tileOverlay#getTiles", arguments, new BatchResult(batch));
   }
 
-  private final class Worker implements MethodChannel.Result {
+  private synchronized boolean removeSentRequest(TileRequest request) {
+    return sentRequests.remove(request);
+  }
+
+  /**
+   * Returns whether a tile intersects the given bounds, or is next to a tile that does.
+   *
+   * <p>Tiles next to the visible region are kept, so small camera movements don't cancel them.
+   */
+  static boolean isVisible(LatLngBounds bounds, int x, int y, int zoom) {
+    final int tileCount = 1 << zoom;
+    final int minX = getTileX(bounds.southwest.longitude, tileCount) - 1;
+    final int maxX = getTileX(bounds.northeast.longitude, tileCount) + 1;
+    final int minY = getTileY(bounds.northeast.latitude, tileCount) - 1;
+    final int maxY = getTileY(bounds.southwest.latitude, tileCount) + 1;
+    if (y < minY || y > maxY) {
+      return false;
+    }
+    if (bounds.southwest.longitude > bounds.northeast.longitude) {
+      // The bounds cross the antimeridian.
+      return x >= minX || x <= maxX;
+    }
+    return x >= minX && x <= maxX;
+  }
 
+  private static int getTileX(double longitude, int tileCount) {
+    final int x = (int) Math.floor((longitude + 180) / 360 * tileCount);
+    return Math.min(Math.max(x, 0), tileCount - 1);
+  }
+
+  private static int getTileY(double latitude, int tileCount) {
+    final double latitudeRadians = Math.toRadians(latitude);
+    final double mercatorY =
+        Math.log(Math.tan(latitudeRadians) + 1 / Math.cos(latitudeRadians)) / Math.PI;
+    final int y = (int) Math.floor((1 - mercatorY) / 2 * tileCount);
+    return Math.min(Math.max(y, 0), tileCount - 1);
+  }
+
+  private static final class TileRequest {
     private final CountDownLatch countDownLatch = new CountDownLatch(1);
     private final int x;
     private final int y;
     private final int zoom;
-    private Map<String, ?> result;
+    @Nullable private volatile Tile tile;
 
-    Worker(int x, int y, int zoom) {
+    TileRequest(int x, int y, int zoom) {
       this.x = x;
       this.y = y;
       this.zoom = zoom;
     }
 
-    @NonNull
-    Tile getTile() {
-      handler.post(
-          () ->
-              methodChannel.invokeMethod(
-                  "tileOverlay#getTile",
-                  Convert.tileOverlayArgumentsToJson(tileOverlayId, x, y, zoom),
-                  this));
+    void complete(@Nullable Tile tile) {
+      this.tile = tile;
+      countDownLatch.countDown();
+    }
+
+    @Nullable
+    Tile await(long timeoutMillis) {
       try {
-        // Because `methodChannel.invokeMethod` is async, we use a `countDownLatch` make it synchronized.
-        countDownLatch.await();
+        if (!countDownLatch.await(timeoutMillis, TimeUnit.MILLISECONDS)) {
+          Log.w(
+              TAG,
+              String.format(
+                  "Timed out getting tile: x = %d, y = %d, zoom = %d, timeout = %d ms",
+                  x, y, zoom, timeoutMillis));
+          return null;
+        }
       } catch (InterruptedException e) {
         Log.e(
             TAG,
             String.format("countDownLatch: can't get tile: x = %d, y= %d, zoom = %d", x, y, zoom),
             e);
-        return TileProvider.NO_TILE;
-      }
-      try {
-        return Convert.interpretTile(result);
-      } catch (Exception e) {
-        Log.e(TAG, "Can't parse tile data", e);
-        return TileProvider.NO_TILE;
+        return null;
       }
+      return tile;
+    }
+  }
+
+  private final class BatchResult implements MethodChannel.Result {
+    private final List<TileRequest> batch;
+
+    BatchResult(List<TileRequest> batch) {
+      this.batch = batch;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void success(Object data) {
-      result = (Map<String, ?>) data;
-      countDownLatch.countDown();
+      final List<?> tiles = data instanceof List ? (List<?>) data : Collections.emptyList();
+      for (int i = 0; i < batch.size(); i++) {
+        final TileRequest request = batch.get(i);
+        // Cancelled and timed out requests are no longer waiting for a tile.
+        if (!removeSentRequest(request)) {
+          continue;
+        }
+        request.complete(interpretTile(i < tiles.size() ? tiles.get(i) : null));
+      }
     }
 
     @Override
@@ -85,17 +280,37 @@ class TileProviderController implements TileProvider {
       Log.e(
           TAG,
           String.format(
-              "Can't get tile: errorCode = %s, errorMessage = %s, date = %s",
-              errorCode, errorCode, data));
-      result = null;
-      countDownLatch.countDown();
+              "Can't get tiles: errorCode = %s, errorMessage = %s, date = %s",
+              errorCode, errorMessage, data));
+      completeAll(TileProvider.NO_TILE);
     }
 
     @Override
     public void notImplemented() {
-      Log.e(TAG, "Can't get tile: notImplemented");
-      result = null;
-      countDownLatch.countDown();
+      Log.e(TAG, "Can't get tiles: notImplemented");
+      completeAll(TileProvider.NO_TILE);
+    }
+
+    private void completeAll(Tile tile) {
+      for (TileRequest request : batch) {
+        if (removeSentRequest(request)) {
+          request.complete(tile);
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Tile interpretTile(@Nullable Object data) {
+      if (data == null) {
+        Log.e(TAG, "Can't get tile: the tile provider failed");
+        return TileProvider.NO_TILE;
+      }
+      try {
+        return Convert.interpretTile((Map<String, ?>) data);
+      } catch (Exception e) {
+        Log.e(TAG, "Can't parse tile data", e);
+        return TileProvider.NO_TILE;
+      }
     }
   }
 }
@@ -0,0 +1,127 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Culls the map objects of one kind, such as circles, outside of the culled region.
+ *
+ * <p>While culling is enabled, all objects are indexed by their bounds and only the ones in the
+ * culled region are on the map. The options of all objects are kept, so culled objects can be added
+ * again. When culling is disabled, the culled objects are added back and the options are dropped.
+ *
+ * @param <B> the builder that holds the options of one object
+ */
+class ViewportCuller<B> {
+
+  /** Adds and removes the objects of one kind on the map. */
+  interface Delegate<B> {
+    /** Returns the ids of the objects on the map. */
+    Set<String> getIdsOnMap();
+
+    /** Returns the current options of an object on the map. */
+    B readOptions(String id);
+
+    LatLngBounds getBounds(B options);
+
+    void addToMap(String id, B options);
+
+    void removeFromMap(String id);
+  }
+
+  private final Delegate<B> delegate;
+  private final Map<String, B> idToOptions = new HashMap<>();
+  @Nullable private SpatialIndex spatialIndex;
+  @Nullable private LatLngBounds culledRegion;
+
+  ViewportCuller(Delegate<B> delegate) {
+    this.delegate = delegate;
+  }
+
+  boolean isEnabled() {
+    return spatialIndex != null;
+  }
+
+  /**
+   * Enables or disables culling.
+   *
+   * <p>Once enabled, no object is on the map until the culled region is set.
+   */
+  void setEnabled(boolean enabled) {
+    if (enabled == isEnabled()) {
+      return;
+    }
+    culledRegion = null;
+    if (!enabled) {
+      spatialIndex = null;
+      final Set<String> idsOnMap = delegate.getIdsOnMap();
+      for (Map.Entry<String, B> entry : idToOptions.entrySet()) {
+        if (!idsOnMap.contains(entry.getKey())) {
+          delegate.addToMap(entry.getKey(), entry.getValue());
+        }
+      }
+      idToOptions.clear();
+      return;
+    }
+    spatialIndex = new SpatialIndex();
+    for (String id : delegate.getIdsOnMap()) {
+      put(id, delegate.readOptions(id));
+    }
+    update();
+  }
+
+  void setCulledRegion(LatLngBounds culledRegion) {
+    this.culledRegion = culledRegion;
+    update();
+  }
+
+  /**
+   * Adds an object while culling is enabled. It is added to the map by {@link #update} if it is in
+   * the culled region.
+   */
+  void put(String id, B options) {
+    idToOptions.put(id, options);
+    spatialIndex.put(id, delegate.getBounds(options));
+  }
+
+  /** Returns the options of an object while culling is enabled, or null. */
+  @Nullable
+  B get(String id) {
+    return idToOptions.get(id);
+  }
+
+  void remove(String id) {
+    if (idToOptions.remove(id) != null) {
+      spatialIndex.remove(id);
+    }
+  }
+
+  /** Adds the objects in the culled region to the map and removes the others. */
+  void update() {
+    if (spatialIndex == null) {
+      return;
+    }
+    final Set<String> visibleIds =
+        culledRegion != null ? spatialIndex.query(culledRegion) : Collections.<String>emptySet();
+    for (String id : new ArrayList<>(delegate.getIdsOnMap())) {
+      if (!visibleIds.contains(id)) {
+        delegate.removeFromMap(id);
+      }
+    }
+    final Set<String> idsOnMap = delegate.getIdsOnMap();
+    for (String id : visibleIds) {
+      if (!idsOnMap.contains(id)) {
+        delegate.addToMap(id, idToOptions.get(id));
+      }
+    }
+  }
+}
@@ -0,0 +1,38 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+/**
+ * The Web Mercator projection used by the map.
+ *
+ * <p>World coordinates go from 0 to 1 on both axes, with x growing to the east from the
+ * antimeridian and y growing to the south from the northern edge of the map.
+ */
+final class WebMercator {
+  // The width of the world in density-independent pixels at zoom level 0.
+  private static final double WORLD_SIZE = 256;
+  // Latitudes are clamped to the range of the Web Mercator projection.
+  private static final double MAX_SIN_LATITUDE = Math.sin(Math.toRadians(85.05112878));
+
+  private WebMercator() {}
+
+  /** Returns the width of the world in density-independent pixels at a zoom level. */
+  static double getWorldSize(double zoom) {
+    return WORLD_SIZE * Math.pow(2, zoom);
+  }
+
+  /** Returns the x coordinate of a longitude, from 0 to 1. */
+  static double getWorldX(double longitude) {
+    return (longitude + 180) / 360;
+  }
+
+  /** Returns the y coordinate of a latitude, from 0 to 1. */
+  static double getWorldY(double latitude) {
+    final double sinLatitude =
+        Math.max(-MAX_SIN_LATITUDE, Math.min(Math.sin(Math.toRadians(latitude)), MAX_SIN_LATITUDE));
+    final double y = 0.5 - Math.log((1 + sinLatitude) / (1 - sinLatitude)) / (4 * Math.PI);
+    return Math.min(Math.max(y, 0), 1);
+  }
+}
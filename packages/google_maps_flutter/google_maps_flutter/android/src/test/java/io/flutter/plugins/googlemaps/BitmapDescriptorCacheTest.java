@@ -0,0 +1,75 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import com.google.android.gms.dynamic.IObjectWrapper;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import org.junit.Test;
+
+public class BitmapDescriptorCacheTest {
+
+  private static BitmapDescriptor newBitmapDescriptor() {
+    return new BitmapDescriptor(mock(IObjectWrapper.class));
+  }
+
+  @Test
+  public void bytesKeyDependsOnContent() {
+    assertEquals(
+        BitmapDescriptorCache.getBytesKey(new byte[] {1, 2, 3}),
+        BitmapDescriptorCache.getBytesKey(new byte[] {1, 2, 3}));
+    assertNotEquals(
+        BitmapDescriptorCache.getBytesKey(new byte[] {1, 2, 3}),
+        BitmapDescriptorCache.getBytesKey(new byte[] {3, 2, 1}));
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsedDescriptorsBySize() {
+    final BitmapDescriptorCache cache = new BitmapDescriptorCache(100, 10);
+    final BitmapDescriptor first = newBitmapDescriptor();
+    final BitmapDescriptor second = newBitmapDescriptor();
+    final BitmapDescriptor asset = newBitmapDescriptor();
+    cache.put("first", first, 40);
+    cache.put("second", second, 40);
+    cache.put("asset", asset, 0);
+    cache.get("first");
+    cache.put("third", newBitmapDescriptor(), 40);
+
+    assertSame(first, cache.get("first"));
+    assertNull(cache.get("second"));
+    assertSame(asset, cache.get("asset"));
+    assertEquals(80, cache.getByteCount());
+  }
+
+  @Test
+  public void doesNotCacheDescriptorsLargerThanTheCache() {
+    final BitmapDescriptorCache cache = new BitmapDescriptorCache(100, 10);
+    cache.put("large", newBitmapDescriptor(), 101);
+
+    assertNull(cache.get("large"));
+    assertEquals(0, cache.getByteCount());
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsedDescriptorsByCount() {
+    final BitmapDescriptorCache cache = new BitmapDescriptorCache(100, 2);
+    final BitmapDescriptor first = newBitmapDescriptor();
+    final BitmapDescriptor second = newBitmapDescriptor();
+    final BitmapDescriptor third = newBitmapDescriptor();
+    cache.put("first", first, 0);
+    cache.put("second", second, 0);
+    cache.get("first");
+    cache.put("third", third, 0);
+
+    assertSame(first, cache.get("first"));
+    assertNull(cache.get("second"));
+    assertSame(third, cache.get("third"));
+  }
+}
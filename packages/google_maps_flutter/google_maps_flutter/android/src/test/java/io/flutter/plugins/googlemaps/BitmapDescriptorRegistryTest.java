@@ -0,0 +1,38 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import com.google.android.gms.dynamic.IObjectWrapper;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import org.junit.Test;
+
+public class BitmapDescriptorRegistryTest {
+
+  @Test
+  public void keepsRegisteredDescriptorsUntilUnregistered() {
+    final BitmapDescriptorRegistry registry = new BitmapDescriptorRegistry();
+    final BitmapDescriptor bitmapDescriptor = new BitmapDescriptor(mock(IObjectWrapper.class));
+    registry.register("icon", bitmapDescriptor);
+
+    assertSame(bitmapDescriptor, registry.get("icon"));
+    registry.unregister("icon");
+    assertNull(registry.get("icon"));
+  }
+
+  @Test
+  public void clearReleasesAllDescriptors() {
+    final BitmapDescriptorRegistry registry = new BitmapDescriptorRegistry();
+    registry.register("first", new BitmapDescriptor(mock(IObjectWrapper.class)));
+    registry.register("second", new BitmapDescriptor(mock(IObjectWrapper.class)));
+    registry.clear();
+
+    assertNull(registry.get("first"));
+    assertNull(registry.get("second"));
+  }
+}
@@ -0,0 +1,51 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.CameraPosition;
+import com.google.android.gms.maps.model.LatLng;
+import org.junit.Test;
+
+public class CameraMoveThrottleTest {
+
+  private static CameraPosition position(double latitude, double longitude, float zoom) {
+    return new CameraPosition(new LatLng(latitude, longitude), zoom, 0, 0);
+  }
+
+  @Test
+  public void onCameraMoveWaitsForMinInterval() {
+    final CameraMoveThrottle throttle = new CameraMoveThrottle(100, 0, 0, 0);
+
+    assertTrue(throttle.onCameraMove(position(0, 0, 10), 1000));
+    assertFalse(throttle.onCameraMove(position(1, 1, 10), 1050));
+    assertTrue(throttle.onCameraMove(position(1, 1, 10), 1100));
+  }
+
+  @Test
+  public void onCameraMoveWaitsForMinDelta() {
+    final CameraMoveThrottle throttle = new CameraMoveThrottle(0, 2, 0.1, 1);
+
+    assertTrue(throttle.onCameraMove(position(0, 0, 10), 0));
+    // At zoom level 10, a degree of longitude is about 728 pixels.
+    assertFalse(throttle.onCameraMove(position(0, 0.001, 10), 10));
+    assertTrue(throttle.onCameraMove(position(0, 0.01, 10), 20));
+    assertFalse(throttle.onCameraMove(position(0, 0.01, 10.05f), 30));
+    assertTrue(throttle.onCameraMove(position(0, 0.01, 10.2f), 40));
+    assertTrue(throttle.onCameraMove(new CameraPosition(new LatLng(0, 0.01), 10.2f, 0, 359), 50));
+  }
+
+  @Test
+  public void onCameraIdleSendsSkippedPosition() {
+    final CameraMoveThrottle throttle = new CameraMoveThrottle(100, 0, 0, 0);
+    assertTrue(throttle.onCameraMove(position(0, 0, 10), 0));
+    assertFalse(throttle.onCameraMove(position(1, 1, 10), 10));
+
+    assertTrue(throttle.onCameraIdle(position(1, 1, 10)));
+    assertFalse(throttle.onCameraIdle(position(1, 1, 10)));
+  }
+}
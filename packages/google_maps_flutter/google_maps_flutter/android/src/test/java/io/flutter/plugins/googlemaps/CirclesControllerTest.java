@@ -0,0 +1,111 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.Circle;
+import com.google.android.gms.maps.model.CircleOptions;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import io.flutter.plugin.common.MethodChannel;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class CirclesControllerTest {
+
+  private static final LatLngBounds NEAR_CIRCLE =
+      new LatLngBounds(new LatLng(0, 0), new LatLng(2, 2));
+  private static final LatLngBounds FAR_FROM_CIRCLE =
+      new LatLngBounds(new LatLng(10, 10), new LatLng(12, 12));
+
+  private static Map<String, Object> circleOptions(LatLng center) {
+    final Map<String, Object> circleOptions = new HashMap<>();
+    circleOptions.put("circleId", "circle");
+    circleOptions.put("center", Convert.latLngToJson(center));
+    circleOptions.put("radius", 10.0);
+    return circleOptions;
+  }
+
+  @Test
+  public void cullingAddsAndRemovesCirclesAsTheRegionChanges() {
+    final CirclesController controller = new CirclesController(mock(MethodChannel.class), 1);
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    controller.setGoogleMap(googleMap);
+    final Circle circle = mock(Circle.class);
+    when(circle.getId()).thenReturn("abc123");
+    when(googleMap.addCircle(any(CircleOptions.class))).thenReturn(circle);
+
+    controller.setViewportCulling(true);
+    controller.addCircles(Arrays.<Object>asList(circleOptions(new LatLng(1, 1))));
+    Mockito.verify(googleMap, never()).addCircle(any(CircleOptions.class));
+
+    controller.setCulledRegion(NEAR_CIRCLE);
+    Mockito.verify(googleMap).addCircle(any(CircleOptions.class));
+
+    controller.setCulledRegion(FAR_FROM_CIRCLE);
+    Mockito.verify(circle).remove();
+
+    controller.setCulledRegion(NEAR_CIRCLE);
+    Mockito.verify(googleMap, times(2)).addCircle(any(CircleOptions.class));
+  }
+
+  @Test
+  public void cullingMovesChangedCirclesOutOfTheRegion() {
+    final CirclesController controller = new CirclesController(mock(MethodChannel.class), 1);
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    controller.setGoogleMap(googleMap);
+    final Circle circle = mock(Circle.class);
+    when(circle.getId()).thenReturn("abc123");
+    when(googleMap.addCircle(any(CircleOptions.class))).thenReturn(circle);
+
+    controller.setViewportCulling(true);
+    controller.setCulledRegion(NEAR_CIRCLE);
+    controller.addCircles(Arrays.<Object>asList(circleOptions(new LatLng(1, 1))));
+    Mockito.verify(googleMap).addCircle(any(CircleOptions.class));
+
+    controller.changeCircles(Arrays.<Object>asList(circleOptions(new LatLng(11, 11))));
+    Mockito.verify(circle).remove();
+
+    controller.setCulledRegion(FAR_FROM_CIRCLE);
+    final ArgumentCaptor<CircleOptions> optionsCaptor =
+        ArgumentCaptor.forClass(CircleOptions.class);
+    Mockito.verify(googleMap, times(2)).addCircle(optionsCaptor.capture());
+    assertEquals(new LatLng(11, 11), optionsCaptor.getValue().getCenter());
+  }
+
+  @Test
+  public void cullingAddsBackCirclesThatWereOnTheMapBeforeItWasEnabled() {
+    final CirclesController controller = new CirclesController(mock(MethodChannel.class), 1);
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    controller.setGoogleMap(googleMap);
+    final Circle circle = mock(Circle.class);
+    when(circle.getId()).thenReturn("abc123");
+    when(circle.getCenter()).thenReturn(new LatLng(1, 1));
+    when(circle.getRadius()).thenReturn(10.0);
+    when(googleMap.addCircle(any(CircleOptions.class))).thenReturn(circle);
+    controller.addCircles(Arrays.<Object>asList(circleOptions(new LatLng(1, 1))));
+
+    controller.setViewportCulling(true);
+    Mockito.verify(circle).remove();
+
+    controller.setCulledRegion(NEAR_CIRCLE);
+    final ArgumentCaptor<CircleOptions> optionsCaptor =
+        ArgumentCaptor.forClass(CircleOptions.class);
+    Mockito.verify(googleMap, times(2)).addCircle(optionsCaptor.capture());
+    assertEquals(new LatLng(1, 1), optionsCaptor.getValue().getCenter());
+    assertEquals(10.0, optionsCaptor.getValue().getRadius(), 0);
+  }
+}
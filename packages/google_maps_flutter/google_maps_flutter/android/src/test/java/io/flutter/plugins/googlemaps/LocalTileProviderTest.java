@@ -0,0 +1,78 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import android.content.ContentValues;
+import android.database.sqlite.SQLiteDatabase;
+import android.os.Build;
+import com.google.android.gms.maps.model.TileProvider;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class LocalTileProviderTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void mbTilesProviderReadsTilesWithFlippedRows() throws Exception {
+    final File file = temporaryFolder.newFile("tiles.mbtiles");
+    final byte[] data = new byte[] {1, 2, 3};
+    final SQLiteDatabase database = SQLiteDatabase.openOrCreateDatabase(file, null);
+    database.execSQL(
+        "CREATE TABLE tiles (zoom_level INTEGER, tile_column INTEGER, tile_row INTEGER,"
+            + " tile_data BLOB)");
+    final ContentValues values = new ContentValues();
+    values.put("zoom_level", 2);
+    values.put("tile_column", 1);
+    values.put("tile_row", 3);
+    values.put("tile_data", data);
+    database.insert("tiles", null, values);
+    database.close();
+
+    final MBTilesTileProvider tileProvider = new MBTilesTileProvider(file.getPath());
+
+    assertArrayEquals(data, tileProvider.getTile(1, 0, 2).data);
+    assertSame(TileProvider.NO_TILE, tileProvider.getTile(1, 3, 2));
+    tileProvider.close();
+    assertSame(TileProvider.NO_TILE, tileProvider.getTile(1, 0, 2));
+  }
+
+  @Test
+  public void mbTilesProviderReturnsNoTileForMissingFile() {
+    final MBTilesTileProvider tileProvider =
+        new MBTilesTileProvider(new File(temporaryFolder.getRoot(), "missing.mbtiles").getPath());
+
+    assertSame(TileProvider.NO_TILE, tileProvider.getTile(0, 0, 0));
+  }
+
+  @Test
+  public void directoryProviderReadsTilesByPath() throws Exception {
+    final File directory = temporaryFolder.newFolder();
+    final File tileDirectory = new File(directory, "3/4");
+    assertTrue(tileDirectory.mkdirs());
+    final byte[] data = new byte[] {4, 5, 6};
+    try (FileOutputStream output = new FileOutputStream(new File(tileDirectory, "5.jpg"))) {
+      output.write(data);
+    }
+
+    final LocalTileProvider tileProvider =
+        Convert.toLocalTileProvider(Arrays.asList("directory", directory.getPath(), "jpg"));
+
+    assertArrayEquals(data, tileProvider.getTile(4, 5, 3).data);
+    assertSame(TileProvider.NO_TILE, tileProvider.getTile(5, 4, 3));
+  }
+}
@@ -0,0 +1,70 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.os.Build;
+import com.google.android.gms.maps.model.LatLng;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class MarkerAnimatorTest {
+  private static final long MILLIS = 1000000;
+
+  private final Map<String, LatLng> positions = new HashMap<>();
+  private final MarkerAnimator animator = new MarkerAnimator(positions::put);
+
+  @Test
+  public void updateInterpolatesFromFirstFrame() {
+    animator.animate("car", new LatLng(0, 0), new LatLng(10, 20), 100);
+
+    animator.update(1000 * MILLIS);
+    assertEquals(new LatLng(0, 0), positions.get("car"));
+    animator.update(1050 * MILLIS);
+    assertEquals(new LatLng(5, 10), positions.get("car"));
+    animator.update(1200 * MILLIS);
+    assertEquals(new LatLng(10, 20), positions.get("car"));
+
+    positions.clear();
+    animator.update(1300 * MILLIS);
+    assertTrue(positions.isEmpty());
+  }
+
+  @Test
+  public void animateReplacesRunningAnimation() {
+    animator.animate("car", new LatLng(0, 0), new LatLng(10, 0), 100);
+    animator.update(0);
+    animator.animate("car", new LatLng(1, 0), new LatLng(-1, 0), 100);
+    animator.update(100 * MILLIS);
+    animator.update(200 * MILLIS);
+
+    assertEquals(new LatLng(-1, 0), positions.get("car"));
+  }
+
+  @Test
+  public void cancelStopsAnimation() {
+    animator.animate("car", new LatLng(0, 0), new LatLng(10, 0), 100);
+    animator.cancel("car");
+    animator.update(0);
+
+    assertTrue(positions.isEmpty());
+  }
+
+  @Test
+  public void interpolateTakesShorterWayAroundTheAntimeridian() {
+    final LatLng position =
+        MarkerAnimator.interpolate(new LatLng(0, 170), new LatLng(0, -170), 0.75);
+
+    assertEquals(-175, position.longitude, 1e-9);
+  }
+}
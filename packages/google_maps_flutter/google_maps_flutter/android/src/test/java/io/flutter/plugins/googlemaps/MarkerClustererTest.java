@@ -0,0 +1,66 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+public class MarkerClustererTest {
+
+  @Test
+  public void getClustersGroupsMarkersInTheSameCell() {
+    final MarkerClusterer clusterer = new MarkerClusterer(60, 2, 16);
+    clusterer.setMarker("a", new LatLng(0, 0));
+    clusterer.setMarker("b", new LatLng(1, 1));
+    clusterer.setMarker("c", new LatLng(50, 100));
+
+    final List<MarkerClusterer.Cluster> clusters = clusterer.getClusters(0);
+
+    assertEquals(2, clusters.size());
+    assertEquals(Arrays.asList("a", "b"), clusters.get(0).markerIds);
+    assertEquals(0.5, clusters.get(0).position.latitude, 1e-9);
+    assertEquals(0.5, clusters.get(0).position.longitude, 1e-9);
+    assertEquals(Collections.singletonList("c"), clusters.get(1).markerIds);
+  }
+
+  @Test
+  public void getClustersKeepsCellsSmallerThanMinClusterSize() {
+    final MarkerClusterer clusterer = new MarkerClusterer(60, 3, 16);
+    clusterer.setMarker("a", new LatLng(0, 0));
+    clusterer.setMarker("b", new LatLng(1, 1));
+
+    assertEquals(2, clusterer.getClusters(0).size());
+  }
+
+  @Test
+  public void getClustersDoesNotClusterAboveMaxZoom() {
+    final MarkerClusterer clusterer = new MarkerClusterer(60, 2, 4);
+    clusterer.setMarker("a", new LatLng(0, 0));
+    clusterer.setMarker("b", new LatLng(0, 0));
+
+    assertEquals(1, clusterer.getClusters(4).size());
+    assertEquals(2, clusterer.getClusters(5).size());
+  }
+
+  @Test
+  public void getClustersIsCachedPerZoomLevelUntilMarkersMove() {
+    final MarkerClusterer clusterer = new MarkerClusterer(60, 2, 16);
+    clusterer.setMarker("a", new LatLng(0, 0));
+    final List<MarkerClusterer.Cluster> clusters = clusterer.getClusters(3.2f);
+
+    assertSame(clusters, clusterer.getClusters(3.7f));
+    clusterer.setMarker("a", new LatLng(0, 0));
+    assertSame(clusters, clusterer.getClusters(3.7f));
+    clusterer.setMarker("a", new LatLng(1, 0));
+    assertNotSame(clusters, clusterer.getClusters(3.7f));
+  }
+}
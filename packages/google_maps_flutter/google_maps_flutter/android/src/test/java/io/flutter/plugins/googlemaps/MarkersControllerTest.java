@@ -4,13 +4,18 @@
 
 package io.flutter.plugins.googlemaps;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
+import android.os.Build;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
 import io.flutter.plugin.common.BinaryMessenger;
@@ -22,15 +27,22 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
 
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
 public class MarkersControllerTest {
 
   @Test
   public void controller_OnMarkerDragStart() {
     final MethodChannel methodChannel =
         spy(new MethodChannel(mock(BinaryMessenger.class), "no-name", mock(MethodCodec.class)));
-    final MarkersController controller = new MarkersController(methodChannel);
+    final MarkersController controller =
+        new MarkersController(methodChannel, 1, new BitmapDescriptorRegistry());
     final GoogleMap googleMap = mock(GoogleMap.class);
     controller.setGoogleMap(googleMap);
 
@@ -63,7 +75,8 @@ public class MarkersControllerTest {
   public void controller_OnMarkerDragEnd() {
     final MethodChannel methodChannel =
         spy(new MethodChannel(mock(BinaryMessenger.class), "no-name", mock(MethodCodec.class)));
-    final MarkersController controller = new MarkersController(methodChannel);
+    final MarkersController controller =
+        new MarkersController(methodChannel, 1, new BitmapDescriptorRegistry());
     final GoogleMap googleMap = mock(GoogleMap.class);
     controller.setGoogleMap(googleMap);
 
@@ -96,7 +109,8 @@ public class MarkersControllerTest {
   public void controller_OnMarkerDrag() {
     final MethodChannel methodChannel =
         spy(new MethodChannel(mock(BinaryMessenger.class), "no-name", mock(MethodCodec.class)));
-    final MarkersController controller = new MarkersController(methodChannel);
+    final MarkersController controller =
+        new MarkersController(methodChannel, 1, new BitmapDescriptorRegistry());
     final GoogleMap googleMap = mock(GoogleMap.class);
     controller.setGoogleMap(googleMap);
 
@@ -124,4 +138,65 @@ public class MarkersControllerTest {
     data.put("position", points);
     Mockito.verify(methodChannel).invokeMethod("marker#onDrag", data);
   }
+
+  @Test
+  public void cullingAddsBackMarkersThatWereOnTheMapBeforeItWasEnabled() {
+    final MarkersController controller =
+        new MarkersController(mock(MethodChannel.class), 1, new BitmapDescriptorRegistry());
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    controller.setGoogleMap(googleMap);
+    final Marker marker = mock(Marker.class);
+    final LatLng position = new LatLng(1, 1);
+    when(marker.getId()).thenReturn("abc123");
+    when(marker.getPosition()).thenReturn(position);
+    when(marker.getTitle()).thenReturn("title");
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker);
+
+    final Map<String, Object> markerOptions = new HashMap<>();
+    markerOptions.put("markerId", "marker");
+    markerOptions.put("position", Convert.latLngToJson(position));
+    controller.addMarkers(Arrays.<Object>asList(markerOptions));
+
+    controller.setViewportCulling(true);
+    Mockito.verify(marker).remove();
+
+    controller.setCulledRegion(new LatLngBounds(new LatLng(0, 0), new LatLng(2, 2)));
+    final ArgumentCaptor<MarkerOptions> optionsCaptor =
+        ArgumentCaptor.forClass(MarkerOptions.class);
+    Mockito.verify(googleMap, times(2)).addMarker(optionsCaptor.capture());
+    assertEquals(position, optionsCaptor.getValue().getPosition());
+    assertEquals("title", optionsCaptor.getValue().getTitle());
+  }
+
+  @Test
+  public void changeDuringAnimationKeepsTheMarkerMoving() {
+    final MarkersController controller =
+        new MarkersController(mock(MethodChannel.class), 1, new BitmapDescriptorRegistry());
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    controller.setGoogleMap(googleMap);
+    final Marker marker = mock(Marker.class);
+    final LatLng start = new LatLng(1, 1);
+    final LatLng end = new LatLng(2, 2);
+    when(marker.getId()).thenReturn("abc123");
+    when(marker.getPosition()).thenReturn(start);
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker);
+
+    final Map<String, Object> markerOptions = new HashMap<>();
+    markerOptions.put("markerId", "marker");
+    markerOptions.put("position", Convert.latLngToJson(start));
+    controller.addMarkers(Arrays.<Object>asList(markerOptions));
+
+    final Map<String, Object> animation = new HashMap<>();
+    animation.put("markerId", "marker");
+    animation.put("position", Convert.latLngToJson(end));
+    animation.put("duration", 1000);
+    controller.animateMarkers(Arrays.<Object>asList(animation));
+
+    markerOptions.put("position", Convert.latLngToJson(end));
+    markerOptions.put("alpha", 0.5);
+    controller.changeMarkers(Arrays.<Object>asList(markerOptions));
+
+    Mockito.verify(marker).setAlpha(0.5f);
+    Mockito.verify(marker, never()).setPosition(end);
+  }
 }
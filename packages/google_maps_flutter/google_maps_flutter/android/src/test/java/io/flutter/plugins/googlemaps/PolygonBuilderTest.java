@@ -16,7 +16,7 @@ public class PolygonBuilderTest {
     final float density = 5;
     final float strokeWidth = 3;
 
-    final PolygonBuilder builder = new PolygonBuilder(density);
+    final PolygonBuilder builder = new PolygonBuilder(density, 0);
     builder.setStrokeWidth(strokeWidth);
 
     final PolygonOptions options = builder.build();
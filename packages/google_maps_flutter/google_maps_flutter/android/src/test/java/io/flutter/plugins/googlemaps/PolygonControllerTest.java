@@ -21,7 +21,8 @@ public class PolygonControllerTest {
 
     final float density = 5;
     final float strokeWidth = 3;
-    final PolygonController controller = new PolygonController(polygon, false, density);
+    final PolygonController controller =
+        new PolygonController(polygon, false, density, new SimplifiedPoints(0, true));
     controller.setStrokeWidth(strokeWidth);
 
     Mockito.verify(polygon).setStrokeWidth(density * strokeWidth);
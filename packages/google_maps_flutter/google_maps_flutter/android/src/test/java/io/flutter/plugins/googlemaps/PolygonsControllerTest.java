@@ -0,0 +1,107 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.CameraPosition;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import com.google.android.gms.maps.model.Polygon;
+import com.google.android.gms.maps.model.PolygonOptions;
+import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class PolygonsControllerTest {
+
+  private static final LatLngBounds NEAR_POLYGON =
+      new LatLngBounds(new LatLng(0, 0), new LatLng(2, 2));
+  private static final LatLngBounds FAR_FROM_POLYGON =
+      new LatLngBounds(new LatLng(10, 10), new LatLng(12, 12));
+  private static final List<LatLng> POINTS =
+      Arrays.asList(new LatLng(1, 1), new LatLng(1, 1.5), new LatLng(1.5, 1.5));
+
+  private static Map<String, Object> polygonOptions(List<LatLng> points) {
+    final Map<String, Object> polygonOptions = new HashMap<>();
+    polygonOptions.put("polygonId", "polygon");
+    polygonOptions.put("points", pointsToJson(points));
+    return polygonOptions;
+  }
+
+  private static List<Object> pointsToJson(List<LatLng> points) {
+    final List<Object> data = new ArrayList<>();
+    for (LatLng point : points) {
+      data.add(Convert.latLngToJson(point));
+    }
+    return data;
+  }
+
+  private static GoogleMap mockGoogleMap(Polygon polygon) {
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    when(googleMap.getCameraPosition())
+        .thenReturn(new CameraPosition(new LatLng(1, 1), 10, 0, 0));
+    when(googleMap.addPolygon(any(PolygonOptions.class))).thenReturn(polygon);
+    return googleMap;
+  }
+
+  @Test
+  public void cullingAddsAndRemovesPolygonsAsTheRegionChanges() {
+    final PolygonsController controller = new PolygonsController(mock(MethodChannel.class), 1);
+    final Polygon polygon = mock(Polygon.class);
+    when(polygon.getId()).thenReturn("abc123");
+    final GoogleMap googleMap = mockGoogleMap(polygon);
+    controller.setGoogleMap(googleMap);
+
+    controller.setViewportCulling(true);
+    controller.addPolygons(Arrays.<Object>asList(polygonOptions(POINTS)));
+    Mockito.verify(googleMap, never()).addPolygon(any(PolygonOptions.class));
+
+    controller.setCulledRegion(NEAR_POLYGON);
+    Mockito.verify(googleMap).addPolygon(any(PolygonOptions.class));
+
+    controller.setCulledRegion(FAR_FROM_POLYGON);
+    Mockito.verify(polygon).remove();
+
+    controller.setCulledRegion(NEAR_POLYGON);
+    final ArgumentCaptor<PolygonOptions> optionsCaptor =
+        ArgumentCaptor.forClass(PolygonOptions.class);
+    Mockito.verify(googleMap, times(2)).addPolygon(optionsCaptor.capture());
+    assertEquals(POINTS, optionsCaptor.getValue().getPoints());
+  }
+
+  @Test
+  public void cullingAddsBackPolygonsThatWereOnTheMapBeforeItWasEnabled() {
+    final PolygonsController controller = new PolygonsController(mock(MethodChannel.class), 1);
+    final Polygon polygon = mock(Polygon.class);
+    when(polygon.getId()).thenReturn("abc123");
+    when(polygon.getHoles()).thenReturn(Collections.<List<LatLng>>emptyList());
+    final GoogleMap googleMap = mockGoogleMap(polygon);
+    controller.setGoogleMap(googleMap);
+    controller.addPolygons(Arrays.<Object>asList(polygonOptions(POINTS)));
+
+    controller.setViewportCulling(true);
+    Mockito.verify(polygon).remove();
+
+    controller.setCulledRegion(NEAR_POLYGON);
+    final ArgumentCaptor<PolygonOptions> optionsCaptor =
+        ArgumentCaptor.forClass(PolygonOptions.class);
+    Mockito.verify(googleMap, times(2)).addPolygon(optionsCaptor.capture());
+    assertEquals(POINTS, optionsCaptor.getValue().getPoints());
+  }
+}
@@ -16,7 +16,7 @@ public class PolylineBuilderTest {
     final float density = 5;
     final float strokeWidth = 3;
 
-    final PolylineBuilder builder = new PolylineBuilder(density);
+    final PolylineBuilder builder = new PolylineBuilder(density, 0);
     builder.setWidth(strokeWidth);
 
     final PolylineOptions options = builder.build();
@@ -21,7 +21,8 @@ public class PolylineControllerTest {
 
     final float density = 5;
     final float strokeWidth = 3;
-    final PolylineController controller = new PolylineController(polyline, false, density);
+    final PolylineController controller =
+        new PolylineController(polyline, false, density, new SimplifiedPoints(0, false));
     controller.setWidth(strokeWidth);
 
     Mockito.verify(polyline).setWidth(density * strokeWidth);
@@ -0,0 +1,110 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.ButtCap;
+import com.google.android.gms.maps.model.CameraPosition;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import com.google.android.gms.maps.model.Polyline;
+import com.google.android.gms.maps.model.PolylineOptions;
+import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class PolylinesControllerTest {
+
+  private static final LatLngBounds NEAR_POLYLINE =
+      new LatLngBounds(new LatLng(0, 0), new LatLng(2, 2));
+  private static final LatLngBounds FAR_FROM_POLYLINE =
+      new LatLngBounds(new LatLng(10, 10), new LatLng(12, 12));
+  private static final List<LatLng> POINTS =
+      Arrays.asList(new LatLng(1, 1), new LatLng(1, 1.5), new LatLng(1.5, 1.5));
+
+  private static Map<String, Object> polylineOptions(List<LatLng> points) {
+    final Map<String, Object> polylineOptions = new HashMap<>();
+    polylineOptions.put("polylineId", "polyline");
+    polylineOptions.put("points", pointsToJson(points));
+    return polylineOptions;
+  }
+
+  private static List<Object> pointsToJson(List<LatLng> points) {
+    final List<Object> data = new ArrayList<>();
+    for (LatLng point : points) {
+      data.add(Convert.latLngToJson(point));
+    }
+    return data;
+  }
+
+  private static GoogleMap mockGoogleMap(Polyline polyline) {
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    when(googleMap.getCameraPosition())
+        .thenReturn(new CameraPosition(new LatLng(1, 1), 10, 0, 0));
+    when(googleMap.addPolyline(any(PolylineOptions.class))).thenReturn(polyline);
+    return googleMap;
+  }
+
+  @Test
+  public void cullingAddsAndRemovesPolylinesAsTheRegionChanges() {
+    final PolylinesController controller =
+        new PolylinesController(mock(MethodChannel.class), 1, new BitmapDescriptorRegistry());
+    final Polyline polyline = mock(Polyline.class);
+    when(polyline.getId()).thenReturn("abc123");
+    final GoogleMap googleMap = mockGoogleMap(polyline);
+    controller.setGoogleMap(googleMap);
+
+    controller.setViewportCulling(true);
+    controller.addPolylines(Arrays.<Object>asList(polylineOptions(POINTS)));
+    Mockito.verify(googleMap, never()).addPolyline(any(PolylineOptions.class));
+
+    controller.setCulledRegion(NEAR_POLYLINE);
+    Mockito.verify(googleMap).addPolyline(any(PolylineOptions.class));
+
+    controller.setCulledRegion(FAR_FROM_POLYLINE);
+    Mockito.verify(polyline).remove();
+
+    controller.setCulledRegion(NEAR_POLYLINE);
+    final ArgumentCaptor<PolylineOptions> optionsCaptor =
+        ArgumentCaptor.forClass(PolylineOptions.class);
+    Mockito.verify(googleMap, times(2)).addPolyline(optionsCaptor.capture());
+    assertEquals(POINTS, optionsCaptor.getValue().getPoints());
+  }
+
+  @Test
+  public void cullingAddsBackPolylinesThatWereOnTheMapBeforeItWasEnabled() {
+    final PolylinesController controller =
+        new PolylinesController(mock(MethodChannel.class), 1, new BitmapDescriptorRegistry());
+    final Polyline polyline = mock(Polyline.class);
+    when(polyline.getId()).thenReturn("abc123");
+    when(polyline.getStartCap()).thenReturn(new ButtCap());
+    when(polyline.getEndCap()).thenReturn(new ButtCap());
+    final GoogleMap googleMap = mockGoogleMap(polyline);
+    controller.setGoogleMap(googleMap);
+    controller.addPolylines(Arrays.<Object>asList(polylineOptions(POINTS)));
+
+    controller.setViewportCulling(true);
+    Mockito.verify(polyline).remove();
+
+    controller.setCulledRegion(NEAR_POLYLINE);
+    final ArgumentCaptor<PolylineOptions> optionsCaptor =
+        ArgumentCaptor.forClass(PolylineOptions.class);
+    Mockito.verify(googleMap, times(2)).addPolyline(optionsCaptor.capture());
+    assertEquals(POINTS, optionsCaptor.getValue().getPoints());
+  }
+}
@@ -0,0 +1,104 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class SimplifiedPointsTest {
+
+  @Test
+  public void simplifyRemovesPointsWithinTolerance() {
+    final List<LatLng> points =
+        Arrays.asList(
+            new LatLng(0, 0), new LatLng(0, 1), new LatLng(0.0001, 2), new LatLng(0, 3));
+
+    assertEquals(
+        Arrays.asList(new LatLng(0, 0), new LatLng(0, 3)),
+        SimplifiedPoints.simplify(points, 1e-5, false));
+  }
+
+  @Test
+  public void simplifyKeepsPointsOutsideTolerance() {
+    final List<LatLng> points =
+        Arrays.asList(
+            new LatLng(0, 0),
+            new LatLng(10, 1),
+            new LatLng(0, 2),
+            new LatLng(0, 2.5),
+            new LatLng(0, 3));
+
+    assertEquals(
+        Arrays.asList(new LatLng(0, 0), new LatLng(10, 1), new LatLng(0, 2), new LatLng(0, 3)),
+        SimplifiedPoints.simplify(points, 1e-5, false));
+  }
+
+  @Test
+  public void simplifyUnwrapsLongitudesAcrossTheAntimeridian() {
+    // The middle point is on the line from the first to the last point across the antimeridian.
+    final List<LatLng> points =
+        Arrays.asList(new LatLng(10, 179), new LatLng(0, -179), new LatLng(-10, -177));
+
+    assertEquals(
+        Arrays.asList(new LatLng(10, 179), new LatLng(-10, -177)),
+        SimplifiedPoints.simplify(points, 1e-5, false));
+  }
+
+  @Test
+  public void simplifyKeepsThreeVerticesOfClosedRing() {
+    final List<LatLng> points =
+        Arrays.asList(
+            new LatLng(0, 0),
+            new LatLng(0, 3),
+            new LatLng(2, 2),
+            new LatLng(1, 0),
+            new LatLng(0, 0));
+
+    assertEquals(
+        Arrays.asList(new LatLng(0, 0), new LatLng(0, 3), new LatLng(2, 2), new LatLng(0, 0)),
+        SimplifiedPoints.simplify(points, 1, true));
+  }
+
+  @Test
+  public void simplifyKeepsThreeVerticesOfOpenRing() {
+    final List<LatLng> points =
+        Arrays.asList(new LatLng(0, 0), new LatLng(0, 3), new LatLng(2, 2), new LatLng(1, 0));
+
+    assertEquals(
+        Arrays.asList(new LatLng(0, 0), new LatLng(0, 3), new LatLng(2, 2)),
+        SimplifiedPoints.simplify(points, 1, true));
+  }
+
+  @Test
+  public void getReturnsAllPointsWithoutTolerance() {
+    final List<LatLng> points = Arrays.asList(new LatLng(0, 0), new LatLng(0, 1), new LatLng(0, 2));
+    final SimplifiedPoints simplifiedPoints = new SimplifiedPoints(3, false);
+    simplifiedPoints.setPoints(points);
+
+    assertSame(points, simplifiedPoints.get());
+    assertFalse(simplifiedPoints.setZoomLevel(4));
+  }
+
+  @Test
+  public void getSimplifiesLessAtHigherZoomLevels() {
+    // The middle point is about 11 meters off the line.
+    final List<LatLng> points =
+        Arrays.asList(new LatLng(0, 0), new LatLng(0.0001, 0.5), new LatLng(0, 1));
+    final SimplifiedPoints simplifiedPoints = new SimplifiedPoints(0, false);
+    simplifiedPoints.setPoints(points);
+
+    assertTrue(simplifiedPoints.setTolerance(1));
+    assertEquals(2, simplifiedPoints.get().size());
+    assertTrue(simplifiedPoints.setZoomLevel(18));
+    assertEquals(3, simplifiedPoints.get().size());
+  }
+}
@@ -0,0 +1,99 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.graphics.Bitmap;
+import android.graphics.Rect;
+import android.os.Build;
+import io.flutter.plugin.common.MethodChannel;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class SnapshotEncoderTest {
+
+  private static Bitmap createBitmap() {
+    return Bitmap.createBitmap(400, 300, Bitmap.Config.ARGB_8888);
+  }
+
+  @Test
+  public void transformKeepsSnapshotWithoutOptions() {
+    final Bitmap bitmap = createBitmap();
+
+    assertSame(bitmap, SnapshotEncoder.fromArguments(null, 2).transform(bitmap));
+  }
+
+  @Test
+  public void transformCropsAndScales() {
+    final Map<String, Object> region = new HashMap<>();
+    region.put("x", 10.0);
+    region.put("y", 20.0);
+    region.put("width", 100.0);
+    region.put("height", 50.0);
+    final Map<String, Object> options = new HashMap<>();
+    options.put("format", "jpeg");
+    options.put("quality", 80);
+    options.put("scale", 0.5);
+    options.put("region", region);
+    final Map<String, Object> arguments = new HashMap<>();
+    arguments.put("options", options);
+
+    final Bitmap transformed =
+        SnapshotEncoder.fromArguments(arguments, 2).transform(createBitmap());
+
+    assertEquals(100, transformed.getWidth());
+    assertEquals(50, transformed.getHeight());
+  }
+
+  @Test
+  public void transformClampsRegionToSnapshot() {
+    final SnapshotEncoder encoder =
+        new SnapshotEncoder("png", 100, new Rect(300, 200, 500, 400), 1, null);
+
+    final Bitmap transformed = encoder.transform(createBitmap());
+
+    assertEquals(100, transformed.getWidth());
+    assertEquals(100, transformed.getHeight());
+  }
+
+  @Test
+  public void encodeWritesFile() throws Exception {
+    final File file = File.createTempFile("snapshot", ".webp");
+    final SnapshotEncoder encoder = new SnapshotEncoder("webp", 90, null, 1, file.getPath());
+
+    assertEquals(file.getPath(), encoder.encode(createBitmap()));
+    assertTrue(file.length() > 0);
+  }
+
+  @Test
+  public void encodeInBackgroundSendsErrorAndRecyclesSnapshotOnFailure() {
+    final Bitmap bitmap = mock(Bitmap.class);
+    when(bitmap.getWidth()).thenThrow(new IllegalStateException("Bitmap was recycled"));
+    final MethodChannel.Result result = mock(MethodChannel.Result.class);
+    final SnapshotEncoder encoder =
+        new SnapshotEncoder("png", 100, new Rect(0, 0, 10, 10), 1, null);
+
+    encoder.encodeInBackground(bitmap, result);
+
+    verify(result, timeout(1000)).error(eq("Snapshot failed"), eq("Bitmap was recycled"), any());
+    verify(bitmap, timeout(1000)).recycle();
+  }
+}
@@ -0,0 +1,97 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.Test;
+
+public class SpatialIndexTest {
+
+  private static LatLngBounds bounds(double south, double west, double north, double east) {
+    return new LatLngBounds(new LatLng(south, west), new LatLng(north, east));
+  }
+
+  @Test
+  public void queryReturnsObjectsInRegion() {
+    final SpatialIndex index = new SpatialIndex();
+    index.put("inside", bounds(1, 1, 1, 1));
+    index.put("outside", bounds(20, 20, 20, 20));
+    index.put("overlapping", bounds(-5, -5, 0.5, 0.5));
+    index.put("large", bounds(-80, -170, 80, 170));
+
+    assertEquals(
+        new HashSet<>(Arrays.asList("inside", "overlapping", "large")),
+        index.query(bounds(0, 0, 2, 2)));
+    assertEquals(
+        new HashSet<>(Arrays.asList("inside", "large")),
+        index.query(bounds(0.99, 0.99, 1.01, 1.01)));
+  }
+
+  @Test
+  public void queryFindsMovedAndRemovedObjects() {
+    final SpatialIndex index = new SpatialIndex();
+    index.put("a", bounds(1, 1, 1, 1));
+    index.put("b", bounds(1, 1, 1, 1));
+    index.put("a", bounds(30, 30, 30, 30));
+    index.remove("b");
+
+    assertTrue(index.query(bounds(0, 0, 2, 2)).isEmpty());
+    assertEquals(Collections.singleton("a"), index.query(bounds(29, 29, 31, 31)));
+  }
+
+  @Test
+  public void queryHandlesRegionsAcrossTheAntimeridian() {
+    final SpatialIndex index = new SpatialIndex();
+    index.put("east", bounds(0, 179, 0, 179));
+    index.put("west", bounds(0, -179, 0, -179));
+    index.put("middle", bounds(0, 0, 0, 0));
+
+    assertEquals(
+        new HashSet<>(Arrays.asList("east", "west")), index.query(bounds(-1, 178, 1, -178)));
+  }
+
+  @Test
+  public void intersectsHandlesBoundsAcrossTheAntimeridian() {
+    final LatLngBounds wrapping = bounds(-10, 170, 10, -170);
+
+    assertTrue(SpatialIndex.intersects(wrapping, bounds(0, 175, 1, 176)));
+    assertTrue(SpatialIndex.intersects(bounds(0, -175, 1, -174), wrapping));
+    assertFalse(SpatialIndex.intersects(wrapping, bounds(0, 0, 1, 1)));
+    assertTrue(SpatialIndex.intersects(wrapping, bounds(0, 160, 1, -160)));
+  }
+
+  @Test
+  public void expandGrowsBoundsOnEverySide() {
+    final LatLngBounds expanded = SpatialIndex.expand(bounds(0, 0, 10, 20), 0.5);
+
+    assertEquals(bounds(-5, -10, 15, 30), expanded);
+    assertEquals(-180, SpatialIndex.expand(bounds(0, -100, 10, 100), 0.5).southwest.longitude, 0);
+  }
+
+  @Test
+  public void circleBoundsIncludeRadius() {
+    final LatLngBounds circleBounds = Convert.getCircleBounds(new LatLng(0, 0), 111195.0);
+
+    assertEquals(1, circleBounds.northeast.latitude, 0.01);
+    assertEquals(-1, circleBounds.southwest.longitude, 0.01);
+  }
+
+  @Test
+  public void pointsBoundsIncludeAllPoints() {
+    final List<LatLng> points =
+        Arrays.asList(new LatLng(1.0, 2.0), new LatLng(-3.0, 4.0), new LatLng(5.0, -6.0));
+
+    assertEquals(bounds(-3, -6, 5, 4), Convert.getPointsBounds(points));
+  }
+}
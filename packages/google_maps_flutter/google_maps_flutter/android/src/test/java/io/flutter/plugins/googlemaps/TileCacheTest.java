@@ -0,0 +1,123 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import java.io.File;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TileCacheTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private long now = 1000;
+
+  @Test
+  public void getReturnsCachedTileFromMemory() {
+    final TileCache tileCache = new TileCache(100, null, 0, 0, () -> now);
+    final Tile tile = new Tile(256, 256, new byte[10]);
+    tileCache.put(1, 2, 3, tile);
+
+    assertSame(tile, tileCache.get(1, 2, 3));
+    assertNull(tileCache.get(2, 1, 3));
+
+    final Map<String, Object> stats = tileCache.getStats();
+    assertEquals(1L, stats.get("memoryHits"));
+    assertEquals(1L, stats.get("misses"));
+    assertEquals(10L, stats.get("memoryBytes"));
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsedTilesBySize() {
+    final TileCache tileCache = new TileCache(25, null, 0, 0, () -> now);
+    tileCache.put(0, 0, 1, new Tile(256, 256, new byte[10]));
+    tileCache.put(1, 0, 1, new Tile(256, 256, new byte[10]));
+    tileCache.get(0, 0, 1);
+    tileCache.put(0, 1, 1, new Tile(256, 256, new byte[10]));
+
+    assertNotNull(tileCache.get(0, 0, 1));
+    assertNull(tileCache.get(1, 0, 1));
+    assertNotNull(tileCache.get(0, 1, 1));
+    assertEquals(20L, tileCache.getStats().get("memoryBytes"));
+  }
+
+  @Test
+  public void doesNotCacheEmptyTiles() {
+    final TileCache tileCache = new TileCache(100, null, 0, 0, () -> now);
+    tileCache.put(0, 0, 0, TileProvider.NO_TILE);
+
+    assertNull(tileCache.get(0, 0, 0));
+  }
+
+  @Test
+  public void expiresTilesAfterTimeToLive() {
+    final TileCache tileCache = new TileCache(100, null, 0, 500, () -> now);
+    tileCache.put(0, 0, 0, new Tile(256, 256, new byte[10]));
+
+    now += 499;
+    assertNotNull(tileCache.get(0, 0, 0));
+    now += 1;
+    assertNull(tileCache.get(0, 0, 0));
+  }
+
+  @Test
+  public void servesTilesFromDiskAfterMemoryIsCleared() throws Exception {
+    final File directory = temporaryFolder.newFolder();
+    final byte[] data = new byte[] {1, 2, 3};
+    final TileCache tileCache = new TileCache(100, directory, 100, 0, () -> now);
+    tileCache.put(4, 5, 6, new Tile(512, 256, data));
+
+    final TileCache newTileCache = new TileCache(100, directory, 100, 0, () -> now);
+    final Tile tile = newTileCache.get(4, 5, 6);
+    assertNotNull(tile);
+    assertEquals(512, tile.width);
+    assertEquals(256, tile.height);
+    assertArrayEquals(data, tile.data);
+    assertEquals(1L, newTileCache.getStats().get("diskHits"));
+
+    newTileCache.clear();
+    assertNull(new TileCache(100, directory, 100, 0, () -> now).get(4, 5, 6));
+  }
+
+  @Test
+  public void trimsOldestTilesOnDisk() throws Exception {
+    final File directory = temporaryFolder.newFolder();
+    final TileCache tileCache = new TileCache(100, directory, 40, 0, () -> now);
+    tileCache.put(0, 0, 1, new Tile(256, 256, new byte[5]));
+    now += 1000;
+    tileCache.put(1, 0, 1, new Tile(256, 256, new byte[5]));
+    now += 1000;
+    tileCache.put(0, 1, 1, new Tile(256, 256, new byte[5]));
+
+    final TileCache newTileCache = new TileCache(100, directory, 40, 0, () -> now);
+    assertNull(newTileCache.get(0, 0, 1));
+    assertNotNull(newTileCache.get(1, 0, 1));
+    assertNotNull(newTileCache.get(0, 1, 1));
+  }
+
+  @Test
+  public void deletesFilesLeftByInterruptedWrites() throws Exception {
+    final File directory = temporaryFolder.newFolder();
+    final File tempFile = new File(directory, "1_0_0123.tmp");
+    assertTrue(tempFile.createNewFile());
+
+    final TileCache tileCache = new TileCache(100, directory, 100, 0, () -> now);
+    tileCache.put(0, 0, 1, new Tile(256, 256, new byte[5]));
+
+    assertFalse(tempFile.exists());
+    assertEquals(1, directory.listFiles().length);
+  }
+}
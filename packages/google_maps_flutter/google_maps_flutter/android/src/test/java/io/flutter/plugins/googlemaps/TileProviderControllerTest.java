@@ -0,0 +1,151 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import android.os.Handler;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import io.flutter.plugin.common.MethodChannel;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class TileProviderControllerTest {
+  private final MethodChannel methodChannel = mock(MethodChannel.class);
+  private final Handler handler = mock(Handler.class);
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void getTileSendsPendingRequestsInOneCall() throws Exception {
+    final TileProviderController controller =
+        new TileProviderController(methodChannel, "id", null, 5000, handler);
+    final Future<Tile> tile = executor.submit(() -> controller.getTile(1, 2, 3));
+
+    final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(handler, timeout(1000)).post(runnableCaptor.capture());
+    runnableCaptor.getValue().run();
+
+    final ArgumentCaptor<Map<String, Object>> argumentsCaptor = ArgumentCaptor.forClass(Map.class);
+    final ArgumentCaptor<MethodChannel.Result> resultCaptor =
+        ArgumentCaptor.forClass(MethodChannel.Result.class);
+    verify(methodChannel)
+        .invokeMethod(
+            eq("tileOverlay#getTiles"), argumentsCaptor.capture(), resultCaptor.capture());
+    assertEquals("id", argumentsCaptor.getValue().get("tileOverlayId"));
+    final List<Map<String, Object>> tiles =
+        (List<Map<String, Object>>) argumentsCaptor.getValue().get("tiles");
+    assertEquals(Collections.singletonList(Convert.tileCoordinatesToJson(1, 2, 3)), tiles);
+
+    final Map<String, Object> tileJson = new HashMap<>();
+    tileJson.put("width", 256);
+    tileJson.put("height", 256);
+    tileJson.put("data", new byte[] {1});
+    resultCaptor.getValue().success(Collections.singletonList(tileJson));
+
+    assertEquals(256, tile.get(1, TimeUnit.SECONDS).width);
+  }
+
+  @Test
+  public void getTileReturnsNullAfterTimeout() throws Exception {
+    final TileProviderController controller =
+        new TileProviderController(methodChannel, "id", null, 10, handler);
+
+    assertNull(controller.getTile(1, 2, 3));
+  }
+
+  @Test
+  public void getTileReturnsNoTileOnError() throws Exception {
+    final TileProviderController controller =
+        new TileProviderController(methodChannel, "id", null, 5000, handler);
+    final Future<Tile> tile = executor.submit(() -> controller.getTile(1, 2, 3));
+
+    final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(handler, timeout(1000)).post(runnableCaptor.capture());
+    runnableCaptor.getValue().run();
+    final ArgumentCaptor<MethodChannel.Result> resultCaptor =
+        ArgumentCaptor.forClass(MethodChannel.Result.class);
+    verify(methodChannel).invokeMethod(anyString(), any(), resultCaptor.capture());
+    resultCaptor.getValue().error("error", null, null);
+
+    assertSame(TileProvider.NO_TILE, tile.get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void setVisibleBoundsCancelsRequestsForHiddenTiles() throws Exception {
+    final TileProviderController controller =
+        new TileProviderController(methodChannel, "id", null, 5000, handler);
+    final Future<Tile> tile = executor.submit(() -> controller.getTile(0, 0, 4));
+    verify(handler, timeout(1000)).post(any(Runnable.class));
+
+    controller.setVisibleBounds(new LatLngBounds(new LatLng(-10, -10), new LatLng(10, 10)));
+
+    assertNull(tile.get(1, TimeUnit.SECONDS));
+    verify(methodChannel, never()).invokeMethod(anyString(), any(), any());
+  }
+
+  @Test
+  public void getTileSendsRequestsOutsideThePreviousBoundsWhileTheCameraMoves() throws Exception {
+    final TileProviderController controller =
+        new TileProviderController(methodChannel, "id", null, 5000, handler);
+    controller.setVisibleBounds(new LatLngBounds(new LatLng(-10, -10), new LatLng(10, 10)));
+
+    // The camera moved away from the bounds of the last idle event.
+    executor.submit(() -> controller.getTile(0, 0, 4));
+    final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(handler, timeout(1000)).post(runnableCaptor.capture());
+    runnableCaptor.getValue().run();
+
+    verify(methodChannel).invokeMethod(eq("tileOverlay#getTiles"), any(), any());
+  }
+
+  @Test
+  public void isVisibleIncludesNeighboringTiles() {
+    final LatLngBounds bounds = new LatLngBounds(new LatLng(-10, -10), new LatLng(10, 10));
+
+    // At zoom 4 the bounds cover tiles 7 and 8 in both directions.
+    assertTrue(TileProviderController.isVisible(bounds, 7, 8, 4));
+    assertTrue(TileProviderController.isVisible(bounds, 9, 6, 4));
+    assertFalse(TileProviderController.isVisible(bounds, 10, 8, 4));
+    assertFalse(TileProviderController.isVisible(bounds, 7, 5, 4));
+  }
+
+  @Test
+  public void isVisibleHandlesBoundsAcrossTheAntimeridian() {
+    final LatLngBounds bounds = new LatLngBounds(new LatLng(-10, 170), new LatLng(10, -170));
+
+    assertTrue(TileProviderController.isVisible(bounds, 0, 8, 4));
+    assertTrue(TileProviderController.isVisible(bounds, 15, 8, 4));
+    assertFalse(TileProviderController.isVisible(bounds, 8, 8, 4));
+  }
+}
@@ -0,0 +1,27 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class WebMercatorTest {
+
+  @Test
+  public void projectsToWorldCoordinates() {
+    assertEquals(0, WebMercator.getWorldX(-180), 1e-9);
+    assertEquals(0.5, WebMercator.getWorldX(0), 1e-9);
+    assertEquals(0.5, WebMercator.getWorldY(0), 1e-9);
+    assertEquals(0, WebMercator.getWorldY(85.05112878), 1e-6);
+    assertEquals(1024, WebMercator.getWorldSize(2), 1e-9);
+  }
+
+  @Test
+  public void clampsPolarLatitudes() {
+    assertEquals(0, WebMercator.getWorldY(90), 1e-6);
+    assertEquals(1, WebMercator.getWorldY(-90), 1e-6);
+  }
+}
@@ -62,7 +62,7 @@ static int ToInt(NSNumber* data) { return [FLTGoogleMapJsonConversions toInt:dat
 
 static BOOL ToBool(NSNumber* data) { return [FLTGoogleMapJsonConversions toBool:data]; }
 
-static NSArray<CLLocation*>* ToPoints(NSArray* data) {
+static NSArray<CLLocation*>* ToPoints(id data) {
   return [FLTGoogleMapJsonConversions toPoints:data];
 }
 
@@ -85,7 +85,7 @@ static void InterpretPolylineOptions(NSDictionary* data, id<FLTGoogleMapPolyline
     [sink setZIndex:ToInt(zIndex)];
   }
 
-  NSArray* points = data[@"points"];
+  id points = data[@"points"];
   if (points) {
     [sink setPoints:ToPoints(points)];
   }
@@ -176,7 +176,7 @@ static void InterpretPolylineOptions(NSDictionary* data, id<FLTGoogleMapPolyline
   return _polylineIdToController[polylineId] != nil;
 }
 + (GMSMutablePath*)getPath:(NSDictionary*)polyline {
-  NSArray* pointArray = polyline[@"points"];
+  id pointArray = polyline[@"points"];
   NSArray<CLLocation*>* points = ToPoints(pointArray);
   GMSMutablePath* path = [GMSMutablePath path];
   for (CLLocation* location in points) {
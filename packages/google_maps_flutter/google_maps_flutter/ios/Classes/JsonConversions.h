@@ -14,6 +14,6 @@
 + (CGPoint)toPoint:(NSArray*)data;
 + (NSArray*)positionToJson:(CLLocationCoordinate2D)position;
 + (UIColor*)toColor:(NSNumber*)data;
-+ (NSArray<CLLocation*>*)toPoints:(NSArray*)data;
++ (NSArray<CLLocation*>*)toPoints:(id)data;
 + (NSArray<NSArray<CLLocation*>*>*)toHoles:(NSArray*)data;
 @end
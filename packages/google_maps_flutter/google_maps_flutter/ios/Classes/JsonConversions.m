@@ -44,7 +44,18 @@
                          alpha:((float)((value & 0xFF000000) >> 24)) / 255.0];
 }
 
-+ (NSArray<CLLocation*>*)toPoints:(NSArray*)data {
++ (NSArray<CLLocation*>*)toPoints:(id)data {
+  if ([data isKindOfClass:[FlutterStandardTypedData class]]) {
+    // Points packed as alternating latitudes and longitudes in a Float64List.
+    FlutterStandardTypedData* typedData = data;
+    const double* coordinates = typedData.data.bytes;
+    NSMutableArray* points = [[NSMutableArray alloc] initWithCapacity:typedData.elementCount / 2];
+    for (unsigned i = 0; i + 1 < typedData.elementCount; i += 2) {
+      [points addObject:[[CLLocation alloc] initWithLatitude:coordinates[i]
+                                                   longitude:coordinates[i + 1]]];
+    }
+    return points;
+  }
   NSMutableArray* points = [[NSMutableArray alloc] init];
   for (unsigned i = 0; i < [data count]; i++) {
     NSNumber* latitude = data[i][0];
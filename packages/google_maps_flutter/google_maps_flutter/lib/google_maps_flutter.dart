@@ -21,6 +21,7 @@ export 'package:google_maps_flutter_platform_interface/google_maps_flutter_platf
         ArgumentCallbacks,
         ArgumentCallback,
         BitmapDescriptor,
+        CameraMoveThrottle,
         CameraPosition,
         CameraPositionCallback,
         CameraTargetBounds,
@@ -28,6 +29,7 @@ export 'package:google_maps_flutter_platform_interface/google_maps_flutter_platf
         Cap,
         Circle,
         CircleId,
+        Cluster,
         InfoWindow,
         JointType,
         LatLng,
@@ -35,18 +37,26 @@ export 'package:google_maps_flutter_platform_interface/google_maps_flutter_platf
         MapStyleException,
         MapType,
         Marker,
+        MarkerAnimation,
         MarkerId,
+        MarkerClustering,
         MinMaxZoomPreference,
+        PackedLatLngList,
         PatternItem,
         Polygon,
         PolygonId,
         Polyline,
         PolylineId,
         ScreenCoordinate,
+        SnapshotFormat,
+        SnapshotOptions,
         Tile,
+        TileCacheOptions,
         TileOverlayId,
         TileOverlay,
-        TileProvider;
+        TileOverlaySource,
+        TileProvider,
+        ViewportCulling;
 
 part 'src/controller.dart';
 part 'src/google_map.dart';
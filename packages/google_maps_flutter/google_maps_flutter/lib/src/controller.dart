@@ -69,6 +69,11 @@ class GoogleMapController {
     GoogleMapsFlutterPlatform.instance
         .onMarkerTap(mapId: mapId)
         .listen((MarkerTapEvent e) => _googleMapState.onMarkerTap(e.value));
+    // The callback is checked for each event, so it can be set after the map
+    // was created.
+    GoogleMapsFlutterPlatform.instance
+        .onClusterTap(mapId: mapId)
+        .listen((ClusterTapEvent e) => _googleMapState.onClusterTap(e.value));
     GoogleMapsFlutterPlatform.instance.onMarkerDragStart(mapId: mapId).listen(
         (MarkerDragStartEvent e) =>
             _googleMapState.onMarkerDragStart(e.value, e.position));
@@ -180,6 +185,34 @@ class GoogleMapController {
         .clearTileCache(tileOverlayId, mapId: mapId);
   }
 
+  /// Registers [bitmap] under [id], so markers can refer to it with
+  /// [BitmapDescriptor.registered]. Android only.
+  ///
+  /// The image is sent to the platform once, instead of with every marker
+  /// that uses it. Registered bitmaps belong to this map, and are released
+  /// when it is disposed.
+  Future<void> registerBitmapDescriptor(String id, BitmapDescriptor bitmap) {
+    return GoogleMapsFlutterPlatform.instance
+        .registerBitmapDescriptor(id, bitmap, mapId: mapId);
+  }
+
+  /// Releases the bitmap registered under [id].
+  Future<void> unregisterBitmapDescriptor(String id) {
+    return GoogleMapsFlutterPlatform.instance
+        .unregisterBitmapDescriptor(id, mapId: mapId);
+  }
+
+  /// Moves markers to new positions natively. Android only.
+  ///
+  /// The markers glide to their new positions on the platform's frame clock,
+  /// so a single call per position update is enough. Update the positions of
+  /// the markers in [GoogleMap.markers] as well, since a marker update with a
+  /// different position stops the animation and moves the marker there.
+  Future<void> animateMarkers(List<MarkerAnimation> animations) {
+    return GoogleMapsFlutterPlatform.instance
+        .animateMarkers(animations, mapId: mapId);
+  }
+
   /// Starts an animated change of the map camera position.
   ///
   /// The returned [Future] completes after the change has been started on the
@@ -288,10 +321,31 @@ class GoogleMapController {
   }
 
   /// Returns the image bytes of the map
-  Future<Uint8List?> takeSnapshot() {
+  ///
+  /// With [options], the snapshot is cropped, scaled and encoded as requested
+  /// in the background. Options are supported on Android only, and throw an
+  /// [UnimplementedError] on other platforms.
+  Future<Uint8List?> takeSnapshot({SnapshotOptions? options}) {
+    if (options != null) {
+      return GoogleMapsFlutterPlatform.instance
+          .takeSnapshotWithOptions(options, mapId: mapId);
+    }
     return GoogleMapsFlutterPlatform.instance.takeSnapshot(mapId: mapId);
   }
 
+  /// Writes a snapshot of the map to [filePath] and returns the path.
+  /// Android only, throws an [UnimplementedError] on other platforms.
+  ///
+  /// The image is encoded and written in the background, and never sent
+  /// through the platform channel.
+  Future<String?> takeSnapshotToFile(
+    String filePath, {
+    SnapshotOptions options = const SnapshotOptions(),
+  }) {
+    return GoogleMapsFlutterPlatform.instance
+        .takeSnapshotToFile(filePath, options: options, mapId: mapId);
+  }
+
   /// Disposes of the platform resources
   void dispose() {
     GoogleMapsFlutterPlatform.instance.dispose(mapId: mapId);
@@ -107,12 +107,16 @@ class GoogleMap extends StatefulWidget {
     this.trafficEnabled = false,
     this.buildingsEnabled = true,
     this.markers = const <Marker>{},
+    this.markerClustering,
+    this.onClusterTap,
+    this.viewportCulling,
     this.polygons = const <Polygon>{},
     this.polylines = const <Polyline>{},
     this.circles = const <Circle>{},
     this.onCameraMoveStarted,
     this.tileOverlays = const <TileOverlay>{},
     this.onCameraMove,
+    this.cameraMoveThrottle,
     this.onCameraIdle,
     this.onTap,
     this.onLongPress,
@@ -191,6 +195,19 @@ class GoogleMap extends StatefulWidget {
   /// Tile overlays to be placed on the map.
   final Set<TileOverlay> tileOverlays;
 
+  /// Groups nearby [markers] into clusters natively, if non-null. Android only.
+  ///
+  /// Only markers that aren't part of a cluster are added to the map, which
+  /// keeps maps with thousands of markers responsive.
+  final MarkerClustering? markerClustering;
+
+  /// Called every time a [Cluster] of markers is tapped.
+  final ArgumentCallback<Cluster>? onClusterTap;
+
+  /// Only adds the [markers], [polygons], [polylines] and [circles] near the
+  /// visible region to the map, if non-null. Android only.
+  final ViewportCulling? viewportCulling;
+
   /// Called when the camera starts moving.
   ///
   /// This can be initiated by the following:
@@ -208,6 +225,12 @@ class GoogleMap extends StatefulWidget {
   /// not perform expensive operations.
   final CameraPositionCallback? onCameraMove;
 
+  /// Limits how often [onCameraMove] is called while the camera moves, if
+  /// non-null. Android only.
+  ///
+  /// The final camera position is always reported before [onCameraIdle].
+  final CameraMoveThrottle? cameraMoveThrottle;
+
   /// Called when camera movement has ended, there are no pending
   /// animations and the user has stopped interacting with the map.
   final VoidCallback? onCameraIdle;
@@ -416,6 +439,13 @@ class _GoogleMapState extends State<GoogleMap> {
     }
   }
 
+  void onClusterTap(Cluster cluster) {
+    final ArgumentCallback<Cluster>? onClusterTap = widget.onClusterTap;
+    if (onClusterTap != null) {
+      onClusterTap(cluster);
+    }
+  }
+
   void onMarkerDragStart(MarkerId markerId, LatLng position) {
     assert(markerId != null);
     final Marker? marker = _markers[markerId];
@@ -529,6 +559,7 @@ class _GoogleMapOptions {
         scrollGesturesEnabled = map.scrollGesturesEnabled,
         tiltGesturesEnabled = map.tiltGesturesEnabled,
         trackCameraPosition = map.onCameraMove != null,
+        cameraMoveThrottle = map.cameraMoveThrottle,
         zoomControlsEnabled = map.zoomControlsEnabled,
         zoomGesturesEnabled = map.zoomGesturesEnabled,
         liteModeEnabled = map.liteModeEnabled,
@@ -538,6 +569,8 @@ class _GoogleMapOptions {
         indoorViewEnabled = map.indoorViewEnabled,
         trafficEnabled = map.trafficEnabled,
         buildingsEnabled = map.buildingsEnabled,
+        markerClustering = map.markerClustering,
+        viewportCulling = map.viewportCulling,
         assert(!map.liteModeEnabled || Platform.isAndroid);
 
   final bool compassEnabled;
@@ -558,6 +591,8 @@ class _GoogleMapOptions {
 
   final bool trackCameraPosition;
 
+  final CameraMoveThrottle? cameraMoveThrottle;
+
   final bool zoomControlsEnabled;
 
   final bool zoomGesturesEnabled;
@@ -576,6 +611,10 @@ class _GoogleMapOptions {
 
   final bool buildingsEnabled;
 
+  final MarkerClustering? markerClustering;
+
+  final ViewportCulling? viewportCulling;
+
   Map<String, dynamic> toMap() {
     return <String, dynamic>{
       'compassEnabled': compassEnabled,
@@ -590,6 +629,7 @@ class _GoogleMapOptions {
       'zoomGesturesEnabled': zoomGesturesEnabled,
       'liteModeEnabled': liteModeEnabled,
       'trackCameraPosition': trackCameraPosition,
+      'cameraMoveThrottle': <Object?>[cameraMoveThrottle?.toJson()],
       'myLocationEnabled': myLocationEnabled,
       'myLocationButtonEnabled': myLocationButtonEnabled,
       'padding': <double>[
@@ -601,6 +641,8 @@ class _GoogleMapOptions {
       'indoorEnabled': indoorViewEnabled,
       'trafficEnabled': trafficEnabled,
       'buildingsEnabled': buildingsEnabled,
+      'markerClustering': <Object?>[markerClustering?.toJson()],
+      'viewportCulling': <Object?>[viewportCulling?.toJson()],
     };
   }
 
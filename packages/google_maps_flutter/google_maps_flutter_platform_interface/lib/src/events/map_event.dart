@@ -94,6 +94,14 @@ class MarkerTapEvent extends MapEvent<MarkerId> {
   MarkerTapEvent(int mapId, MarkerId markerId) : super(mapId, markerId);
 }
 
+/// An event fired when a [Cluster] of markers is tapped.
+class ClusterTapEvent extends MapEvent<Cluster> {
+  /// Build a ClusterTap Event triggered from the map represented by `mapId`.
+  ///
+  /// The `value` of this event is the tapped [Cluster].
+  ClusterTapEvent(int mapId, Cluster cluster) : super(mapId, cluster);
+}
+
 /// An event fired when an [InfoWindow] is tapped.
 class InfoWindowTapEvent extends MapEvent<MarkerId> {
   /// Build an InfoWindowTap Event triggered from the map represented by `mapId`.
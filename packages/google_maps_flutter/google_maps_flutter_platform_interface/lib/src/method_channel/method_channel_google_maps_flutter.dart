@@ -119,6 +119,11 @@ class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
     return _events(mapId).whereType<MarkerTapEvent>();
   }
 
+  @override
+  Stream<ClusterTapEvent> onClusterTap({required int mapId}) {
+    return _events(mapId).whereType<ClusterTapEvent>();
+  }
+
   @override
   Stream<InfoWindowTapEvent> onInfoWindowTap({required int mapId}) {
     return _events(mapId).whereType<InfoWindowTapEvent>();
@@ -184,6 +189,17 @@ class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
           MarkerId(call.arguments['markerId']),
         ));
         break;
+      case 'cluster#onTap':
+        _mapEventStreamController.add(ClusterTapEvent(
+          mapId,
+          Cluster(
+            position: LatLng.fromJson(call.arguments['position'])!,
+            markerIds: (call.arguments['markerIds'] as List<dynamic>)
+                .map((dynamic markerId) => MarkerId(markerId as String))
+                .toList(),
+          ),
+        ));
+        break;
       case 'marker#onDragStart':
         _mapEventStreamController.add(MarkerDragStartEvent(
           mapId,
@@ -257,11 +273,40 @@ class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
           call.arguments['zoom'],
         );
         return tile.toJson();
+      case 'tileOverlay#getTiles':
+        return _getTiles(mapId, call.arguments['tileOverlayId'],
+            call.arguments['tiles'].cast<Map<dynamic, dynamic>>());
       default:
         throw MissingPluginException();
     }
   }
 
+  // Gets a batch of tiles requested together by the platform.
+  //
+  // A tile that fails is returned as null, so the other tiles of the batch are
+  // still shown.
+  Future<List<Object?>> _getTiles(int mapId, String tileOverlayId,
+      List<Map<dynamic, dynamic>> coordinates) {
+    final TileProvider? tileProvider =
+        _tileOverlays[mapId]?[TileOverlayId(tileOverlayId)]?.tileProvider;
+    return Future.wait(
+        coordinates.map((Map<dynamic, dynamic> coordinate) async {
+      if (tileProvider == null) {
+        return TileProvider.noTile.toJson();
+      }
+      try {
+        final Tile tile = await tileProvider.getTile(
+          coordinate['x'],
+          coordinate['y'],
+          coordinate['zoom'],
+        );
+        return tile.toJson();
+      } catch (e) {
+        return null;
+      }
+    }));
+  }
+
   @override
   Future<void> updateMapOptions(
     Map<String, dynamic> optionsUpdate, {
@@ -354,6 +399,43 @@ class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
     });
   }
 
+  @override
+  Future<void> registerBitmapDescriptor(
+    String id,
+    BitmapDescriptor bitmap, {
+    required int mapId,
+  }) {
+    return channel(mapId)
+        .invokeMethod<void>('bitmaps#register', <String, Object>{
+      'bitmapId': id,
+      'bitmap': bitmap.toJson(),
+    });
+  }
+
+  @override
+  Future<void> unregisterBitmapDescriptor(
+    String id, {
+    required int mapId,
+  }) {
+    return channel(mapId)
+        .invokeMethod<void>('bitmaps#unregister', <String, Object>{
+      'bitmapId': id,
+    });
+  }
+
+  @override
+  Future<void> animateMarkers(
+    List<MarkerAnimation> animations, {
+    required int mapId,
+  }) {
+    return channel(mapId)
+        .invokeMethod<void>('markers#animate', <String, Object>{
+      'animations': animations
+          .map((MarkerAnimation animation) => animation.toJson())
+          .toList(),
+    });
+  }
+
   @override
   Future<void> animateCamera(
     CameraUpdate cameraUpdate, {
@@ -466,6 +548,41 @@ class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
     return channel(mapId).invokeMethod<Uint8List>('map#takeSnapshot');
   }
 
+  @override
+  Future<Uint8List?> takeSnapshotWithOptions(
+    SnapshotOptions options, {
+    required int mapId,
+  }) {
+    _ensureSnapshotOptionsSupported('takeSnapshotWithOptions');
+    return channel(mapId)
+        .invokeMethod<Uint8List>('map#takeSnapshot', <String, Object>{
+      'options': options.toJson(),
+    });
+  }
+
+  @override
+  Future<String?> takeSnapshotToFile(
+    String filePath, {
+    SnapshotOptions options = const SnapshotOptions(),
+    required int mapId,
+  }) {
+    _ensureSnapshotOptionsSupported('takeSnapshotToFile');
+    return channel(mapId)
+        .invokeMethod<String>('map#takeSnapshot', <String, Object>{
+      'options': options.toJson(),
+      'filePath': filePath,
+    });
+  }
+
+  // The iOS implementation of map#takeSnapshot ignores its arguments and
+  // always returns PNG bytes, so the options would be silently dropped.
+  void _ensureSnapshotOptionsSupported(String method) {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      throw UnimplementedError(
+          '$method() is not supported on $defaultTargetPlatform.');
+    }
+  }
+
   /// Set [GoogleMapsFlutterPlatform] to use [AndroidViewSurface] to build the Google Maps widget.
   ///
   /// This implementation uses hybrid composition to render the Google Maps
@@ -142,6 +142,43 @@ abstract class GoogleMapsFlutterPlatform extends PlatformInterface {
     throw UnimplementedError('clearTileCache() has not been implemented.');
   }
 
+  /// Registers [bitmap] with the platform under [id], so markers can use it
+  /// through [BitmapDescriptor.registered]. Android only.
+  ///
+  /// Registered bitmaps can only be used by the map with [mapId], and are
+  /// kept until they are unregistered or the map is disposed.
+  Future<void> registerBitmapDescriptor(
+    String id,
+    BitmapDescriptor bitmap, {
+    required int mapId,
+  }) {
+    throw UnimplementedError(
+        'registerBitmapDescriptor() has not been implemented.');
+  }
+
+  /// Releases the bitmap registered under [id].
+  ///
+  /// Markers already using the bitmap keep it.
+  Future<void> unregisterBitmapDescriptor(
+    String id, {
+    required int mapId,
+  }) {
+    throw UnimplementedError(
+        'unregisterBitmapDescriptor() has not been implemented.');
+  }
+
+  /// Moves markers to new positions on the platform's frame clock.
+  /// Android only.
+  ///
+  /// The markers keep their new positions until they are updated with a
+  /// different position.
+  Future<void> animateMarkers(
+    List<MarkerAnimation> animations, {
+    required int mapId,
+  }) {
+    throw UnimplementedError('animateMarkers() has not been implemented.');
+  }
+
   /// Starts an animated change of the map camera position.
   ///
   /// The returned [Future] completes after the change has been started on the
@@ -275,6 +312,29 @@ abstract class GoogleMapsFlutterPlatform extends PlatformInterface {
     throw UnimplementedError('takeSnapshot() has not been implemented.');
   }
 
+  /// Returns the image bytes of the map, encoded with [options].
+  ///
+  /// Returns null if a snapshot cannot be created.
+  Future<Uint8List?> takeSnapshotWithOptions(
+    SnapshotOptions options, {
+    required int mapId,
+  }) {
+    throw UnimplementedError(
+        'takeSnapshotWithOptions() has not been implemented.');
+  }
+
+  /// Writes a snapshot of the map encoded with [options] to [filePath], and
+  /// returns the path.
+  ///
+  /// Returns null if a snapshot cannot be created.
+  Future<String?> takeSnapshotToFile(
+    String filePath, {
+    SnapshotOptions options = const SnapshotOptions(),
+    required int mapId,
+  }) {
+    throw UnimplementedError('takeSnapshotToFile() has not been implemented.');
+  }
+
   // The following are the 11 possible streams of data from the native side
   // into the plugin
 
@@ -298,6 +358,11 @@ abstract class GoogleMapsFlutterPlatform extends PlatformInterface {
     throw UnimplementedError('onMarkerTap() has not been implemented.');
   }
 
+  /// A [Cluster] of markers has been tapped.
+  Stream<ClusterTapEvent> onClusterTap({required int mapId}) {
+    throw UnimplementedError('onClusterTap() has not been implemented.');
+  }
+
   /// An [InfoWindow] has been tapped.
   Stream<InfoWindowTapEvent> onInfoWindowTap({required int mapId}) {
     throw UnimplementedError('onInfoWindowTap() has not been implemented.');
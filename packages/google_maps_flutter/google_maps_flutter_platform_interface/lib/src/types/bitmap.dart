@@ -22,12 +22,14 @@ class BitmapDescriptor {
   static const String _fromAsset = 'fromAsset';
   static const String _fromAssetImage = 'fromAssetImage';
   static const String _fromBytes = 'fromBytes';
+  static const String _registered = 'registered';
 
   static const Set<String> _validTypes = {
     _defaultMarker,
     _fromAsset,
     _fromAssetImage,
     _fromBytes,
+    _registered,
   };
 
   /// Convenience hue value representing red.
@@ -117,6 +119,16 @@ class BitmapDescriptor {
     return BitmapDescriptor._(<Object>[_fromBytes, byteData]);
   }
 
+  /// Creates a BitmapDescriptor that refers to a bitmap registered with the
+  /// platform under [id]. Android only.
+  ///
+  /// Registering an icon that is shared by many markers sends its image to the
+  /// platform once, instead of with every marker.
+  static BitmapDescriptor registered(String id) {
+    assert(id.isNotEmpty);
+    return BitmapDescriptor._(<Object>[_registered, id]);
+  }
+
   /// The inverse of .toJson.
   // This is needed in Web to re-hydrate BitmapDescriptors that have been
   // transformed to JSON for transport.
@@ -147,6 +159,11 @@ class BitmapDescriptor {
           assert((jsonList[2] as String).isNotEmpty);
         }
         break;
+      case _registered:
+        assert(jsonList.length == 2);
+        assert(jsonList[1] != null && jsonList[1] is String);
+        assert((jsonList[1] as String).isNotEmpty);
+        break;
       case _fromAssetImage:
         assert(jsonList.length <= 4);
         assert(jsonList[1] != null && jsonList[1] is String);
@@ -0,0 +1,63 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:ui' show hashValues;
+
+import 'package:meta/meta.dart' show immutable;
+
+/// Limits how often camera move events are sent while the camera moves.
+/// Android only.
+///
+/// A camera move event is only sent once [minInterval] has passed since the
+/// previous one, and only if the camera has moved by at least one of the
+/// minimum deltas. The final position is always sent before the camera idle
+/// event.
+@immutable
+class CameraMoveThrottle {
+  /// Creates an immutable representation of camera move throttling options.
+  const CameraMoveThrottle({
+    this.minInterval = const Duration(milliseconds: 100),
+    this.minTargetDelta = 2,
+    this.minZoomDelta = 0.05,
+    this.minBearingDelta = 1,
+  })  : assert(minTargetDelta >= 0),
+        assert(minZoomDelta >= 0),
+        assert(minBearingDelta >= 0);
+
+  /// The minimum time between two camera move events.
+  final Duration minInterval;
+
+  /// The minimum distance in logical pixels that the camera target has to move
+  /// on screen.
+  final double minTargetDelta;
+
+  /// The minimum change of the zoom level.
+  final double minZoomDelta;
+
+  /// The minimum change of the bearing or tilt in degrees.
+  final double minBearingDelta;
+
+  /// Converts this object to something serializable in JSON.
+  Object toJson() => <String, Object>{
+        'minInterval': minInterval.inMilliseconds,
+        'minTargetDelta': minTargetDelta,
+        'minZoomDelta': minZoomDelta,
+        'minBearingDelta': minBearingDelta,
+      };
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    return other is CameraMoveThrottle &&
+        minInterval == other.minInterval &&
+        minTargetDelta == other.minTargetDelta &&
+        minZoomDelta == other.minZoomDelta &&
+        minBearingDelta == other.minBearingDelta;
+  }
+
+  @override
+  int get hashCode =>
+      hashValues(minInterval, minTargetDelta, minZoomDelta, minBearingDelta);
+}
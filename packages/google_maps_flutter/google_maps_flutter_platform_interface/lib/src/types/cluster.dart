@@ -0,0 +1,45 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:ui' show hashList, hashValues;
+
+import 'package:flutter/foundation.dart' show listEquals;
+import 'package:meta/meta.dart' show immutable;
+
+import 'types.dart';
+
+/// A group of markers drawn as a single marker when [MarkerClustering] is
+/// enabled.
+@immutable
+class Cluster {
+  /// Creates an immutable representation of a cluster of markers.
+  const Cluster({
+    required this.position,
+    required this.markerIds,
+  });
+
+  /// The position of the cluster marker, which is the center of its markers.
+  final LatLng position;
+
+  /// The ids of the markers in this cluster.
+  final List<MarkerId> markerIds;
+
+  /// The number of markers in this cluster.
+  int get count => markerIds.length;
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    return other is Cluster &&
+        position == other.position &&
+        listEquals(markerIds, other.markerIds);
+  }
+
+  @override
+  int get hashCode => hashValues(position, hashList(markerIds));
+
+  @override
+  String toString() => 'Cluster($position, $count markers)';
+}
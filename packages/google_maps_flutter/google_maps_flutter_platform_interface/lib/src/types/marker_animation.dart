@@ -0,0 +1,49 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:ui' show hashValues;
+
+import 'package:meta/meta.dart' show immutable;
+
+import 'types.dart';
+
+/// Moves a [Marker] to a new position over time.
+@immutable
+class MarkerAnimation {
+  /// Creates an immutable representation of a marker animation.
+  const MarkerAnimation({
+    required this.markerId,
+    required this.position,
+    this.duration = const Duration(seconds: 1),
+  });
+
+  /// The marker to move.
+  final MarkerId markerId;
+
+  /// The position that the marker moves to.
+  final LatLng position;
+
+  /// How long the marker takes to reach [position].
+  final Duration duration;
+
+  /// Converts this object to something serializable in JSON.
+  Object toJson() => <String, Object>{
+        'markerId': markerId.value,
+        'position': position.toJson(),
+        'duration': duration.inMilliseconds,
+      };
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    return other is MarkerAnimation &&
+        markerId == other.markerId &&
+        position == other.position &&
+        duration == other.duration;
+  }
+
+  @override
+  int get hashCode => hashValues(markerId, position, duration);
+}
@@ -0,0 +1,54 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:ui' show hashValues;
+
+import 'package:meta/meta.dart' show immutable;
+
+/// Configures native clustering of the markers of a map. Android only.
+///
+/// Markers that are close to each other on screen are grouped into a [Cluster]
+/// that is drawn as a single marker showing the number of markers in it. The
+/// clusters are computed again when the camera stops moving.
+@immutable
+class MarkerClustering {
+  /// Creates an immutable representation of marker clustering options.
+  const MarkerClustering({
+    this.gridSize = 60,
+    this.minClusterSize = 2,
+    this.maxZoom = 16,
+  })  : assert(gridSize > 0),
+        assert(minClusterSize >= 2);
+
+  /// The size in logical pixels of the grid cells markers are grouped by.
+  final double gridSize;
+
+  /// The minimum number of markers in a grid cell that are drawn as a cluster.
+  ///
+  /// Cells with fewer markers show the markers themselves.
+  final int minClusterSize;
+
+  /// The zoom level above which markers are never clustered.
+  final double maxZoom;
+
+  /// Converts this object to something serializable in JSON.
+  Object toJson() => <String, Object>{
+        'gridSize': gridSize,
+        'minClusterSize': minClusterSize,
+        'maxZoom': maxZoom,
+      };
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    return other is MarkerClustering &&
+        gridSize == other.gridSize &&
+        minClusterSize == other.minClusterSize &&
+        maxZoom == other.maxZoom;
+  }
+
+  @override
+  int get hashCode => hashValues(gridSize, minClusterSize, maxZoom);
+}
@@ -0,0 +1,51 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:collection';
+import 'dart:typed_data';
+
+import 'types.dart';
+
+/// A fixed-length list of [LatLng]s stored as a [Float64List] of alternating
+/// latitudes and longitudes.
+///
+/// When used as the points of a [Polyline] or [Polygon], the coordinates are
+/// sent to the platform as a single typed array instead of one list per point,
+/// which is much cheaper for lines with thousands of points.
+class PackedLatLngList extends ListBase<LatLng> {
+  /// Creates a list of points backed by [coordinates], which holds the
+  /// latitude and longitude of each point in turn.
+  PackedLatLngList(this.coordinates) : assert(coordinates.length.isEven);
+
+  /// Creates a list of points with the coordinates of [points].
+  factory PackedLatLngList.fromLatLngs(List<LatLng> points) {
+    final Float64List coordinates = Float64List(points.length * 2);
+    for (int i = 0; i < points.length; i++) {
+      coordinates[i * 2] = points[i].latitude;
+      coordinates[i * 2 + 1] = points[i].longitude;
+    }
+    return PackedLatLngList(coordinates);
+  }
+
+  /// The latitude and longitude of each point in turn.
+  final Float64List coordinates;
+
+  @override
+  int get length => coordinates.length ~/ 2;
+
+  @override
+  set length(int newLength) {
+    throw UnsupportedError('Cannot change the length of a PackedLatLngList');
+  }
+
+  @override
+  LatLng operator [](int index) =>
+      LatLng(coordinates[index * 2], coordinates[index * 2 + 1]);
+
+  @override
+  void operator []=(int index, LatLng value) {
+    coordinates[index * 2] = value.latitude;
+    coordinates[index * 2 + 1] = value.longitude;
+  }
+}
@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'package:collection/collection.dart';
 import 'package:flutter/foundation.dart' show listEquals, VoidCallback;
 import 'package:flutter/material.dart' show Color, Colors;
@@ -33,6 +35,7 @@ class Polygon implements MapsObject {
     this.strokeWidth = 10,
     this.visible = true,
     this.zIndex = 0,
+    this.simplificationTolerance = 0,
     this.onTap,
   });
 
@@ -90,6 +93,15 @@ class Polygon implements MapsObject {
   /// earlier, and thus appearing to be closer to the surface of the Earth.
   final int zIndex;
 
+  /// The maximum distance in logical pixels by which the drawn polygon may
+  /// deviate from [points], or 0 to draw all of the points. Android only.
+  ///
+  /// Points are removed with the Douglas-Peucker algorithm for the current
+  /// zoom level, so long polygons are drawn with few points when zoomed out.
+  /// At least three vertices are kept, so a polygon never collapses into a
+  /// line.
+  final double simplificationTolerance;
+
   /// Callbacks to receive tap events for polygon placed on this map.
   final VoidCallback? onTap;
 
@@ -105,6 +117,7 @@ class Polygon implements MapsObject {
     int? strokeWidthParam,
     bool? visibleParam,
     int? zIndexParam,
+    double? simplificationToleranceParam,
     VoidCallback? onTapParam,
   }) {
     return Polygon(
@@ -119,12 +132,14 @@ class Polygon implements MapsObject {
       visible: visibleParam ?? visible,
       onTap: onTapParam ?? onTap,
       zIndex: zIndexParam ?? zIndex,
+      simplificationTolerance:
+          simplificationToleranceParam ?? simplificationTolerance,
     );
   }
 
   /// Creates a new [Polygon] object whose values are the same as this instance.
   Polygon clone() {
-    return copyWith(pointsParam: List<LatLng>.of(points));
+    return copyWith(pointsParam: _copyPoints(points));
   }
 
   /// Converts this object to something serializable in JSON.
@@ -145,6 +160,7 @@ class Polygon implements MapsObject {
     addIfPresent('strokeWidth', strokeWidth);
     addIfPresent('visible', visible);
     addIfPresent('zIndex', zIndex);
+    addIfPresent('simplificationTolerance', simplificationTolerance);
 
     if (points != null) {
       json['points'] = _pointsToJson();
@@ -171,13 +187,25 @@ class Polygon implements MapsObject {
         visible == typedOther.visible &&
         strokeColor == typedOther.strokeColor &&
         strokeWidth == typedOther.strokeWidth &&
-        zIndex == typedOther.zIndex;
+        zIndex == typedOther.zIndex &&
+        simplificationTolerance == typedOther.simplificationTolerance;
   }
 
   @override
   int get hashCode => polygonId.hashCode;
 
+  static List<LatLng> _copyPoints(List<LatLng> points) {
+    if (points is PackedLatLngList) {
+      return PackedLatLngList(Float64List.fromList(points.coordinates));
+    }
+    return List<LatLng>.of(points);
+  }
+
   Object _pointsToJson() {
+    final List<LatLng> points = this.points;
+    if (points is PackedLatLngList) {
+      return points.coordinates;
+    }
     final List<Object> result = <Object>[];
     for (final LatLng point in points) {
       result.add(point.toJson());
@@ -185,9 +213,13 @@ class Polygon implements MapsObject {
     return result;
   }
 
-  List<List<Object>> _holesToJson() {
-    final List<List<Object>> result = <List<Object>>[];
+  List<Object> _holesToJson() {
+    final List<Object> result = <Object>[];
     for (final List<LatLng> hole in holes) {
+      if (hole is PackedLatLngList) {
+        result.add(hole.coordinates);
+        continue;
+      }
       final List<Object> jsonHole = <Object>[];
       for (final LatLng point in hole) {
         jsonHole.add(point.toJson());
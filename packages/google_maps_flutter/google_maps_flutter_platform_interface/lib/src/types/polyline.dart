@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'package:flutter/foundation.dart' show listEquals, VoidCallback;
 import 'package:flutter/material.dart' show Color, Colors;
 import 'package:meta/meta.dart' show immutable;
@@ -36,6 +38,7 @@ class Polyline implements MapsObject {
     this.visible = true,
     this.width = 10,
     this.zIndex = 0,
+    this.simplificationTolerance = 0,
     this.onTap,
   });
 
@@ -112,6 +115,13 @@ class Polyline implements MapsObject {
   /// earlier, and thus appearing to be closer to the surface of the Earth.
   final int zIndex;
 
+  /// The maximum distance in logical pixels by which the drawn polyline may
+  /// deviate from [points], or 0 to draw all of the points. Android only.
+  ///
+  /// Points are removed with the Douglas-Peucker algorithm for the current
+  /// zoom level, so long polylines are drawn with few points when zoomed out.
+  final double simplificationTolerance;
+
   /// Callbacks to receive tap events for polyline placed on this map.
   final VoidCallback? onTap;
 
@@ -129,6 +139,7 @@ class Polyline implements MapsObject {
     bool? visibleParam,
     int? widthParam,
     int? zIndexParam,
+    double? simplificationToleranceParam,
     VoidCallback? onTapParam,
   }) {
     return Polyline(
@@ -145,6 +156,8 @@ class Polyline implements MapsObject {
       width: widthParam ?? width,
       onTap: onTapParam ?? onTap,
       zIndex: zIndexParam ?? zIndex,
+      simplificationTolerance:
+          simplificationToleranceParam ?? simplificationTolerance,
     );
   }
 
@@ -153,7 +166,7 @@ class Polyline implements MapsObject {
   Polyline clone() {
     return copyWith(
       patternsParam: List<PatternItem>.of(patterns),
-      pointsParam: List<LatLng>.of(points),
+      pointsParam: _copyPoints(points),
     );
   }
 
@@ -177,6 +190,7 @@ class Polyline implements MapsObject {
     addIfPresent('visible', visible);
     addIfPresent('width', width);
     addIfPresent('zIndex', zIndex);
+    addIfPresent('simplificationTolerance', simplificationTolerance);
 
     if (points != null) {
       json['points'] = _pointsToJson();
@@ -205,13 +219,25 @@ class Polyline implements MapsObject {
         endCap == typedOther.endCap &&
         visible == typedOther.visible &&
         width == typedOther.width &&
-        zIndex == typedOther.zIndex;
+        zIndex == typedOther.zIndex &&
+        simplificationTolerance == typedOther.simplificationTolerance;
   }
 
   @override
   int get hashCode => polylineId.hashCode;
 
+  static List<LatLng> _copyPoints(List<LatLng> points) {
+    if (points is PackedLatLngList) {
+      return PackedLatLngList(Float64List.fromList(points.coordinates));
+    }
+    return List<LatLng>.of(points);
+  }
+
   Object _pointsToJson() {
+    final List<LatLng> points = this.points;
+    if (points is PackedLatLngList) {
+      return points.coordinates;
+    }
     final List<Object> result = <Object>[];
     for (final LatLng point in points) {
       result.add(point.toJson());
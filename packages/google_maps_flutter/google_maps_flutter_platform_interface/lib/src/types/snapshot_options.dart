@@ -0,0 +1,79 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:ui' show hashValues, Rect;
+
+import 'package:meta/meta.dart' show immutable;
+
+/// The image format of a map snapshot.
+enum SnapshotFormat {
+  /// Lossless PNG.
+  png,
+
+  /// Lossy JPEG, without transparency.
+  jpeg,
+
+  /// WebP, lossless at a quality of 100 and lossy otherwise.
+  webp,
+}
+
+/// Configures how a map snapshot is encoded. Android only.
+@immutable
+class SnapshotOptions {
+  /// Creates an immutable representation of map snapshot options.
+  const SnapshotOptions({
+    this.format = SnapshotFormat.png,
+    this.quality = 100,
+    this.region,
+    this.scale = 1,
+  })  : assert(quality >= 0 && quality <= 100),
+        assert(scale > 0 && scale <= 1);
+
+  /// The image format of the snapshot.
+  final SnapshotFormat format;
+
+  /// The compression quality from 0 to 100, ignored for PNG.
+  final int quality;
+
+  /// The region of the map to keep in logical pixels, or null to keep the
+  /// whole map.
+  final Rect? region;
+
+  /// The factor by which the snapshot is downscaled, after it is cropped to
+  /// [region].
+  final double scale;
+
+  /// Converts this object to something serializable in JSON.
+  Object toJson() {
+    final Map<String, Object> json = <String, Object>{
+      'format': format.toString().split('.').last,
+      'quality': quality,
+      'scale': scale,
+    };
+    final Rect? region = this.region;
+    if (region != null) {
+      json['region'] = <String, Object>{
+        'x': region.left,
+        'y': region.top,
+        'width': region.width,
+        'height': region.height,
+      };
+    }
+    return json;
+  }
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    return other is SnapshotOptions &&
+        format == other.format &&
+        quality == other.quality &&
+        region == other.region &&
+        scale == other.scale;
+  }
+
+  @override
+  int get hashCode => hashValues(format, quality, region, scale);
+}
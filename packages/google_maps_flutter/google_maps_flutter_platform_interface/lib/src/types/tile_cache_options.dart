@@ -0,0 +1,81 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:ui' show hashValues;
+
+import 'package:meta/meta.dart' show immutable;
+
+import 'types.dart';
+
+/// Configures the native cache of the tiles of a [TileOverlay].
+///
+/// Tiles returned by the [TileProvider] are kept in an in-memory cache, and
+/// optionally on disk, so tiles that are requested again are served without
+/// calling the [TileProvider]. Android only.
+@immutable
+class TileCacheOptions {
+  /// Creates an immutable representation of the cache options of a [TileOverlay].
+  const TileCacheOptions({
+    this.maxMemoryBytes = 8 * 1024 * 1024,
+    this.diskCacheEnabled = false,
+    this.maxDiskBytes = 50 * 1024 * 1024,
+    this.timeToLive,
+  })  : assert(maxMemoryBytes >= 0),
+        assert(maxDiskBytes >= 0);
+
+  /// The maximum total size in bytes of the tile images kept in memory.
+  ///
+  /// Defaults to 8 MiB. The least recently used tiles are evicted first.
+  final int maxMemoryBytes;
+
+  /// Whether tiles are also stored on disk, where they outlive the map.
+  ///
+  /// Tiles on disk are keyed by the [TileOverlayId] and the tile coordinates,
+  /// so a [TileOverlay] with the same id serves them again after the app restarts.
+  final bool diskCacheEnabled;
+
+  /// The maximum total size in bytes of the tile images stored on disk.
+  ///
+  /// Defaults to 50 MiB. The oldest tiles are deleted first.
+  final int maxDiskBytes;
+
+  /// How long a cached tile is served before it is requested again.
+  ///
+  /// Tiles never expire if null, which is the default.
+  final Duration? timeToLive;
+
+  /// Converts this object to JSON.
+  Object toJson() {
+    final Map<String, Object> json = <String, Object>{};
+
+    void addIfPresent(String fieldName, Object? value) {
+      if (value != null) {
+        json[fieldName] = value;
+      }
+    }
+
+    addIfPresent('maxMemoryBytes', maxMemoryBytes);
+    addIfPresent('diskCacheEnabled', diskCacheEnabled);
+    addIfPresent('maxDiskBytes', maxDiskBytes);
+    addIfPresent('timeToLiveMillis', timeToLive?.inMilliseconds);
+
+    return json;
+  }
+
+  @override
+  bool operator ==(Object other) {
+    if (other.runtimeType != runtimeType) {
+      return false;
+    }
+    return other is TileCacheOptions &&
+        maxMemoryBytes == other.maxMemoryBytes &&
+        diskCacheEnabled == other.diskCacheEnabled &&
+        maxDiskBytes == other.maxDiskBytes &&
+        timeToLive == other.timeToLive;
+  }
+
+  @override
+  int get hashCode =>
+      hashValues(maxMemoryBytes, diskCacheEnabled, maxDiskBytes, timeToLive);
+}
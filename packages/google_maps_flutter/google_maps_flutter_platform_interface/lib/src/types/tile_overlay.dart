@@ -55,7 +55,11 @@ class TileOverlay implements MapsObject {
     this.zIndex = 0,
     this.visible = true,
     this.tileSize = 256,
-  }) : assert(transparency >= 0.0 && transparency <= 1.0);
+    this.cache,
+    this.tileRequestTimeout,
+    this.source,
+  })  : assert(transparency >= 0.0 && transparency <= 1.0),
+        assert(tileProvider == null || source == null);
 
   /// Uniquely identifies a [TileOverlay].
   final TileOverlayId tileOverlayId;
@@ -88,6 +92,26 @@ class TileOverlay implements MapsObject {
   /// would give on a non-retina device.
   final int tileSize;
 
+  /// Caches the tiles of this tile overlay natively, if non-null. Android only.
+  ///
+  /// Cached tiles are served without calling [tileProvider]. The cache is set
+  /// up when the tile overlay is added to the map, so changes to it only take
+  /// effect for a tile overlay with a new [tileOverlayId].
+  final TileCacheOptions? cache;
+
+  /// How long the map waits for [tileProvider] to return a tile. Android only.
+  ///
+  /// A tile that isn't returned in time is requested again later. Defaults to
+  /// 10 seconds if null.
+  final Duration? tileRequestTimeout;
+
+  /// Local storage the tiles are read from natively, instead of [tileProvider].
+  /// Android only.
+  ///
+  /// Like [cache], the source is set when the tile overlay is added to the
+  /// map.
+  final TileOverlaySource? source;
+
   /// Creates a new [TileOverlay] object whose values are the same as this instance,
   /// unless overwritten by the specified parameters.
   TileOverlay copyWith({
@@ -97,6 +121,9 @@ class TileOverlay implements MapsObject {
     int? zIndexParam,
     bool? visibleParam,
     int? tileSizeParam,
+    TileCacheOptions? cacheParam,
+    Duration? tileRequestTimeoutParam,
+    TileOverlaySource? sourceParam,
   }) {
     return TileOverlay(
       tileOverlayId: tileOverlayId,
@@ -106,6 +133,9 @@ class TileOverlay implements MapsObject {
       zIndex: zIndexParam ?? zIndex,
       visible: visibleParam ?? visible,
       tileSize: tileSizeParam ?? tileSize,
+      cache: cacheParam ?? cache,
+      tileRequestTimeout: tileRequestTimeoutParam ?? tileRequestTimeout,
+      source: sourceParam ?? source,
     );
   }
 
@@ -127,6 +157,10 @@ class TileOverlay implements MapsObject {
     addIfPresent('zIndex', zIndex);
     addIfPresent('visible', visible);
     addIfPresent('tileSize', tileSize);
+    addIfPresent('cache', cache?.toJson());
+    addIfPresent(
+        'tileRequestTimeoutMillis', tileRequestTimeout?.inMilliseconds);
+    addIfPresent('source', source?.toJson());
 
     return json;
   }
@@ -143,10 +177,14 @@ class TileOverlay implements MapsObject {
         transparency == other.transparency &&
         zIndex == other.zIndex &&
         visible == other.visible &&
-        tileSize == other.tileSize;
+        tileSize == other.tileSize &&
+        cache == other.cache &&
+        tileRequestTimeout == other.tileRequestTimeout &&
+        source == other.source;
   }
 
   @override
   int get hashCode => hashValues(tileOverlayId, fadeIn, tileProvider,
-      transparency, zIndex, visible, tileSize);
+      transparency, zIndex, visible, tileSize, cache, tileRequestTimeout,
+      source);
 }
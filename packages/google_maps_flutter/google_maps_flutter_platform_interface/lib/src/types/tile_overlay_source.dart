@@ -0,0 +1,56 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:ui' show hashValues;
+
+import 'package:meta/meta.dart' show immutable;
+
+import 'types.dart';
+
+/// Local storage the tiles of a [TileOverlay] are read from natively.
+///
+/// Tiles from a source are read by the platform without calling Dart, so they
+/// are available offline and don't depend on the Dart isolate. Android only.
+@immutable
+class TileOverlaySource {
+  const TileOverlaySource._(this._type, this.path, this._extension);
+
+  /// Reads tiles from the MBTiles file at [path].
+  ///
+  /// MBTiles is a SQLite database with a `tiles` table in the TMS tile scheme.
+  const TileOverlaySource.mbTiles(String path) : this._('mbTiles', path, null);
+
+  /// Reads tiles from files laid out as `<zoom>/<x>/<y>.<extension>` under the
+  /// directory at [path].
+  const TileOverlaySource.directory(String path, {String extension = 'png'})
+      : this._('directory', path, extension);
+
+  final String _type;
+
+  /// The absolute path of the MBTiles file or tile directory.
+  final String path;
+
+  final String? _extension;
+
+  /// Converts this object to something serializable in JSON.
+  Object toJson() => <Object>[
+        _type,
+        path,
+        if (_extension != null) _extension!,
+      ];
+
+  @override
+  bool operator ==(Object other) {
+    if (other.runtimeType != runtimeType) {
+      return false;
+    }
+    return other is TileOverlaySource &&
+        _type == other._type &&
+        path == other.path &&
+        _extension == other._extension;
+  }
+
+  @override
+  int get hashCode => hashValues(_type, path, _extension);
+}
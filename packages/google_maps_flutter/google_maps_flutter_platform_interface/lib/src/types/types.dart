@@ -6,25 +6,34 @@
 export 'bitmap.dart';
 export 'callbacks.dart';
 export 'camera.dart';
+export 'camera_move_throttle.dart';
 export 'cap.dart';
 export 'circle_updates.dart';
 export 'circle.dart';
+export 'cluster.dart';
 export 'joint_type.dart';
 export 'location.dart';
 export 'maps_object_updates.dart';
 export 'maps_object.dart';
 export 'marker_updates.dart';
 export 'marker.dart';
+export 'marker_animation.dart';
+export 'marker_clustering.dart';
+export 'packed_lat_lng_list.dart';
 export 'pattern_item.dart';
 export 'polygon_updates.dart';
 export 'polygon.dart';
 export 'polyline_updates.dart';
 export 'polyline.dart';
 export 'screen_coordinate.dart';
+export 'snapshot_options.dart';
 export 'tile.dart';
+export 'tile_cache_options.dart';
 export 'tile_overlay.dart';
+export 'tile_overlay_source.dart';
 export 'tile_provider.dart';
 export 'ui.dart';
+export 'viewport_culling.dart';
 
 // Export the utils, they're used by the Widget
 export 'utils/circle.dart';
@@ -0,0 +1,38 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:meta/meta.dart' show immutable;
+
+/// Configures viewport culling of the markers, polygons, polylines and circles
+/// of a map. Android only.
+///
+/// All objects are kept in a native spatial index, but only the objects near
+/// the visible region of the map are added to it. Objects are added and removed
+/// as the camera moves, so the cost of a map depends on what is on screen
+/// rather than on the number of objects.
+@immutable
+class ViewportCulling {
+  /// Creates an immutable representation of viewport culling options.
+  const ViewportCulling({this.margin = 0.5}) : assert(margin >= 0);
+
+  /// The margin around the visible region in which objects are added to the
+  /// map, as a fraction of the size of the visible region.
+  ///
+  /// Objects are added again when the visible region leaves the margin, so a
+  /// larger margin means fewer updates while panning.
+  final double margin;
+
+  /// Converts this object to something serializable in JSON.
+  Object toJson() => <String, Object>{'margin': margin};
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    return other is ViewportCulling && margin == other.margin;
+  }
+
+  @override
+  int get hashCode => margin.hashCode;
+}
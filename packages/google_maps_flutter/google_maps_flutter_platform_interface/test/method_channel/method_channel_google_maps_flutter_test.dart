@@ -2,6 +2,7 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'package:flutter/foundation.dart';
 import 'package:flutter/services.dart';
 import 'package:flutter_test/flutter_test.dart';
 
@@ -9,6 +10,7 @@ import 'package:google_maps_flutter_platform_interface/src/events/map_event.dart
 import 'package:google_maps_flutter_platform_interface/src/method_channel/method_channel_google_maps_flutter.dart';
 import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
 import 'dart:async';
+import 'dart:ui' show Rect;
 
 import 'package:async/async.dart';
 
@@ -81,6 +83,120 @@ void main() {
         'map#takeSnapshot',
       ]);
     });
+    test('registers bitmap descriptors', () async {
+      const int mapId = 3;
+      final MethodChannelGoogleMapsFlutter maps =
+          MethodChannelGoogleMapsFlutter();
+      final List<MethodCall> calls = <MethodCall>[];
+      configureMockMap(maps, mapId: mapId,
+          handler: (MethodCall methodCall) async {
+        calls.add(methodCall);
+        return null;
+      });
+
+      await maps.registerBitmapDescriptor(
+          'icon', BitmapDescriptor.defaultMarker,
+          mapId: mapId);
+      await maps.unregisterBitmapDescriptor('icon', mapId: mapId);
+
+      expect(log, <String>['bitmaps#register', 'bitmaps#unregister']);
+      expect(calls[0].arguments, <String, Object>{
+        'bitmapId': 'icon',
+        'bitmap': <Object>['defaultMarker'],
+      });
+      expect(calls[1].arguments, <String, Object>{'bitmapId': 'icon'});
+    });
+    test('animates markers', () async {
+      const int mapId = 4;
+      final MethodChannelGoogleMapsFlutter maps =
+          MethodChannelGoogleMapsFlutter();
+      final List<MethodCall> calls = <MethodCall>[];
+      configureMockMap(maps, mapId: mapId,
+          handler: (MethodCall methodCall) async {
+        calls.add(methodCall);
+        return null;
+      });
+
+      await maps.animateMarkers(<MarkerAnimation>[
+        MarkerAnimation(
+          markerId: MarkerId('car'),
+          position: LatLng(1, 2),
+          duration: Duration(milliseconds: 500),
+        ),
+      ], mapId: mapId);
+
+      expect(log, <String>['markers#animate']);
+      expect(calls[0].arguments, <String, Object>{
+        'animations': <Object>[
+          <String, Object>{
+            'markerId': 'car',
+            'position': <double>[1, 2],
+            'duration': 500,
+          },
+        ],
+      });
+    });
+    test('takes snapshots with options', () async {
+      const int mapId = 5;
+      final MethodChannelGoogleMapsFlutter maps =
+          MethodChannelGoogleMapsFlutter();
+      final List<MethodCall> calls = <MethodCall>[];
+      configureMockMap(maps, mapId: mapId,
+          handler: (MethodCall methodCall) async {
+        calls.add(methodCall);
+        return '/tmp/map.jpg';
+      });
+
+      final String? path = await maps.takeSnapshotToFile(
+        '/tmp/map.jpg',
+        options: SnapshotOptions(
+          format: SnapshotFormat.jpeg,
+          quality: 80,
+          region: Rect.fromLTWH(10, 20, 100, 50),
+          scale: 0.5,
+        ),
+        mapId: mapId,
+      );
+
+      expect(path, '/tmp/map.jpg');
+      expect(log, <String>['map#takeSnapshot']);
+      expect(calls[0].arguments, <String, Object>{
+        'options': <String, Object>{
+          'format': 'jpeg',
+          'quality': 80,
+          'scale': 0.5,
+          'region': <String, Object>{
+            'x': 10.0,
+            'y': 20.0,
+            'width': 100.0,
+            'height': 50.0,
+          },
+        },
+        'filePath': '/tmp/map.jpg',
+      });
+    });
+    test('snapshot options are not supported on iOS', () async {
+      const int mapId = 6;
+      final MethodChannelGoogleMapsFlutter maps =
+          MethodChannelGoogleMapsFlutter();
+      configureMockMap(maps, mapId: mapId,
+          handler: (MethodCall methodCall) async {
+        return null;
+      });
+
+      debugDefaultTargetPlatformOverride = TargetPlatform.iOS;
+      try {
+        expect(
+            () => maps.takeSnapshotWithOptions(const SnapshotOptions(),
+                mapId: mapId),
+            throwsUnimplementedError);
+        expect(() => maps.takeSnapshotToFile('/tmp/map.png', mapId: mapId),
+            throwsUnimplementedError);
+      } finally {
+        debugDefaultTargetPlatformOverride = null;
+      }
+      expect(log, isEmpty);
+    });
     test('markers send drag event to correct streams', () async {
       const int mapId = 1;
       final jsonMarkerDragStartEvent = <dynamic, dynamic>{
@@ -122,5 +238,70 @@ void main() {
       expect((await markerDragEndStream.next).value.value,
           equals("drag-end-marker"));
     });
+
+    test('clusters send tap events', () async {
+      const int mapId = 4;
+      final MethodChannelGoogleMapsFlutter maps =
+          MethodChannelGoogleMapsFlutter();
+      maps.ensureChannelInitialized(mapId);
+
+      final StreamQueue<ClusterTapEvent> clusterTapStream =
+          StreamQueue(maps.onClusterTap(mapId: mapId));
+
+      await sendPlatformMessage(mapId, "cluster#onTap", <dynamic, dynamic>{
+        "position": <double>[1.0, 2.0],
+        "markerIds": <String>["a", "b"],
+      });
+
+      expect(
+          (await clusterTapStream.next).value,
+          equals(Cluster(
+            position: LatLng(1.0, 2.0),
+            markerIds: <MarkerId>[MarkerId('a'), MarkerId('b')],
+          )));
+    });
+
+    test('tile overlays return batches of tiles', () async {
+      const int mapId = 2;
+      final MethodChannelGoogleMapsFlutter maps =
+          MethodChannelGoogleMapsFlutter();
+      configureMockMap(maps, mapId: mapId,
+          handler: (MethodCall methodCall) async => null);
+      await maps.updateTileOverlays(newTileOverlays: <TileOverlay>{
+        TileOverlay(
+            tileOverlayId: TileOverlayId('tiles'),
+            tileProvider: _TestTileProvider()),
+      }, mapId: mapId);
+
+      final ByteData byteData = const StandardMethodCodec()
+          .encodeMethodCall(MethodCall('tileOverlay#getTiles', <String, Object>{
+        'tileOverlayId': 'tiles',
+        'tiles': <Map<String, int>>[
+          <String, int>{'x': 1, 'y': 2, 'zoom': 3},
+          <String, int>{'x': -1, 'y': 0, 'zoom': 0},
+        ],
+      }));
+      final Completer<ByteData?> reply = Completer<ByteData?>();
+      await TestDefaultBinaryMessengerBinding.instance!.defaultBinaryMessenger
+          .handlePlatformMessage("plugins.flutter.io/google_maps_$mapId",
+              byteData, reply.complete);
+
+      final List<dynamic> tiles = const StandardMethodCodec()
+          .decodeEnvelope(await reply.future as ByteData) as List<dynamic>;
+      expect(tiles, hasLength(2));
+      expect(tiles[0]['width'], 1);
+      expect(tiles[0]['height'], 2);
+      expect(tiles[1], isNull);
+    });
   });
 }
+
+class _TestTileProvider extends TileProvider {
+  @override
+  Future<Tile> getTile(int x, int y, int? zoom) async {
+    if (x < 0) {
+      throw ArgumentError.value(x, 'x');
+    }
+    return Tile(x, y, null);
+  }
+}
@@ -78,6 +78,22 @@ void main() {
           }, throwsAssertionError);
         });
       });
+      group('registered', () {
+        test('id is passed', () {
+          expect(BitmapDescriptor.fromJson(['registered', 'icon']),
+              isA<BitmapDescriptor>());
+          expect(BitmapDescriptor.registered('icon').toJson(),
+              <Object>['registered', 'icon']);
+        });
+        test('id cannot be null or empty', () {
+          expect(() {
+            BitmapDescriptor.fromJson(['registered', null]);
+          }, throwsAssertionError);
+          expect(() {
+            BitmapDescriptor.fromJson(['registered', '']);
+          }, throwsAssertionError);
+        });
+      });
       group('fromAsset', () {
         test('name is passed', () {
           expect(BitmapDescriptor.fromJson(['fromAsset', 'some/path.png']),
@@ -0,0 +1,29 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter_test/flutter_test.dart';
+import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
+
+void main() {
+  group('$CameraMoveThrottle', () {
+    test('toJson', () {
+      expect(CameraMoveThrottle().toJson(), <String, Object>{
+        'minInterval': 100,
+        'minTargetDelta': 2.0,
+        'minZoomDelta': 0.05,
+        'minBearingDelta': 1.0,
+      });
+      expect(
+          CameraMoveThrottle(minInterval: Duration(milliseconds: 250))
+              .toJson(),
+          containsPair('minInterval', 250));
+    });
+
+    test('equality', () {
+      expect(CameraMoveThrottle(), CameraMoveThrottle());
+      expect(CameraMoveThrottle(minZoomDelta: 1), isNot(CameraMoveThrottle()));
+      expect(CameraMoveThrottle().hashCode, CameraMoveThrottle().hashCode);
+    });
+  });
+}
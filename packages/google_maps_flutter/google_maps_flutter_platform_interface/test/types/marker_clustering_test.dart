@@ -0,0 +1,27 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter_test/flutter_test.dart';
+import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
+
+void main() {
+  group('$MarkerClustering', () {
+    test('toJson', () {
+      expect(
+          MarkerClustering(gridSize: 80, minClusterSize: 3, maxZoom: 12)
+              .toJson(),
+          <String, Object>{
+            'gridSize': 80.0,
+            'minClusterSize': 3,
+            'maxZoom': 12.0,
+          });
+    });
+
+    test('equality', () {
+      expect(MarkerClustering(), MarkerClustering());
+      expect(MarkerClustering(gridSize: 80), isNot(MarkerClustering()));
+      expect(MarkerClustering().hashCode, MarkerClustering().hashCode);
+    });
+  });
+}
@@ -0,0 +1,43 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:typed_data';
+
+import 'package:flutter_test/flutter_test.dart';
+import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
+
+void main() {
+  group('$PackedLatLngList', () {
+    test('fromLatLngs', () {
+      final PackedLatLngList points = PackedLatLngList.fromLatLngs(
+          <LatLng>[LatLng(1, 2), LatLng(3, 4)]);
+
+      expect(points.coordinates, <double>[1, 2, 3, 4]);
+      expect(points, <LatLng>[LatLng(1, 2), LatLng(3, 4)]);
+    });
+
+    test('set point', () {
+      final PackedLatLngList points = PackedLatLngList(Float64List(4));
+      points[1] = LatLng(5, 6);
+
+      expect(points.coordinates, <double>[0, 0, 5, 6]);
+    });
+
+    test('polyline sends coordinates as a typed array', () {
+      final Float64List coordinates =
+          Float64List.fromList(<double>[1, 2, 3, 4]);
+      final Polyline polyline = Polyline(
+        polylineId: PolylineId('polyline'),
+        points: PackedLatLngList(coordinates),
+        simplificationTolerance: 2,
+      );
+      final Map<String, Object> json = polyline.toJson() as Map<String, Object>;
+
+      expect(json['points'], same(coordinates));
+      expect(json['simplificationTolerance'], 2.0);
+      expect(polyline.clone().points, polyline.points);
+      expect(polyline.clone(), polyline);
+    });
+  });
+}
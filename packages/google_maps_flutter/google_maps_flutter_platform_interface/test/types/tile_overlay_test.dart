@@ -137,7 +137,68 @@ void main() {
               tileOverlay.transparency,
               tileOverlay.zIndex,
               tileOverlay.visible,
-              tileOverlay.tileSize));
+              tileOverlay.tileSize,
+              tileOverlay.cache,
+              tileOverlay.tileRequestTimeout,
+              tileOverlay.source));
+    });
+
+    test('toJson includes cache options', () async {
+      const TileOverlay tileOverlay = TileOverlay(
+          tileOverlayId: TileOverlayId('id'),
+          cache: TileCacheOptions(
+              maxMemoryBytes: 1024,
+              diskCacheEnabled: true,
+              maxDiskBytes: 4096,
+              timeToLive: Duration(hours: 1)));
+      final Map<String, Object> json =
+          tileOverlay.toJson() as Map<String, Object>;
+      expect(json['cache'], <String, Object>{
+        'maxMemoryBytes': 1024,
+        'diskCacheEnabled': true,
+        'maxDiskBytes': 4096,
+        'timeToLiveMillis': 3600000,
+      });
+    });
+
+    test('equality with cache options', () async {
+      const TileOverlay tileOverlay =
+          TileOverlay(tileOverlayId: TileOverlayId('id1'));
+      const TileOverlay tileOverlayWithCache = TileOverlay(
+          tileOverlayId: TileOverlayId('id1'), cache: TileCacheOptions());
+      expect(tileOverlay, isNot(tileOverlayWithCache));
+      expect(tileOverlayWithCache,
+          tileOverlay.copyWith(cacheParam: const TileCacheOptions()));
+    });
+
+    test('toJson includes tile request timeout', () async {
+      const TileOverlay tileOverlay = TileOverlay(
+          tileOverlayId: TileOverlayId('id'),
+          tileRequestTimeout: Duration(seconds: 2));
+      final Map<String, Object> json =
+          tileOverlay.toJson() as Map<String, Object>;
+      expect(json['tileRequestTimeoutMillis'], 2000);
+      expect(tileOverlay,
+          isNot(tileOverlay.copyWith(tileRequestTimeoutParam: Duration.zero)));
+    });
+
+    test('toJson includes source', () async {
+      const TileOverlay mbTilesOverlay = TileOverlay(
+          tileOverlayId: TileOverlayId('id'),
+          source: TileOverlaySource.mbTiles('/maps/base.mbtiles'));
+      const TileOverlay directoryOverlay = TileOverlay(
+          tileOverlayId: TileOverlayId('id'),
+          source: TileOverlaySource.directory('/maps/base', extension: 'jpg'));
+      expect((mbTilesOverlay.toJson() as Map<String, Object>)['source'],
+          <Object>['mbTiles', '/maps/base.mbtiles']);
+      expect((directoryOverlay.toJson() as Map<String, Object>)['source'],
+          <Object>['directory', '/maps/base', 'jpg']);
+      expect(mbTilesOverlay, isNot(directoryOverlay));
+      expect(
+          mbTilesOverlay,
+          const TileOverlay(
+              tileOverlayId: TileOverlayId('id'),
+              source: TileOverlaySource.mbTiles('/maps/base.mbtiles')));
     });
   });
 }
@@ -0,0 +1,22 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter_test/flutter_test.dart';
+import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
+
+void main() {
+  group('$ViewportCulling', () {
+    test('toJson', () {
+      expect(ViewportCulling().toJson(), <String, Object>{'margin': 0.5});
+      expect(ViewportCulling(margin: 1).toJson(),
+          <String, Object>{'margin': 1.0});
+    });
+
+    test('equality', () {
+      expect(ViewportCulling(), ViewportCulling());
+      expect(ViewportCulling(margin: 1), isNot(ViewportCulling()));
+      expect(ViewportCulling().hashCode, ViewportCulling().hashCode);
+    });
+  });
+}
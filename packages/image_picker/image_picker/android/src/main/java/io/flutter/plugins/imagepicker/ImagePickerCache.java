@@ -125,6 +125,10 @@ class ImagePickerCache {
     prefs.edit().clear().apply();
   }
 
+  void clearImagePaths() {
+    prefs.edit().remove(FLUTTER_IMAGE_PICKER_IMAGE_PATH_KEY).apply();
+  }
+
   Map<String, Object> getCacheMap() {
 
     Map<String, Object> resultMap = new HashMap<>();
@@ -15,6 +15,7 @@ import android.media.MediaScannerConnection;
 import android.net.Uri;
 import android.os.Build;
 import android.provider.MediaStore;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import androidx.core.app.ActivityCompat;
 import androidx.core.content.FileProvider;
@@ -91,6 +92,8 @@ public class ImagePickerDelegate
   private final PermissionManager permissionManager;
   private final FileUriResolver fileUriResolver;
   private final FileUtils fileUtils;
+  private final MultiImageImporter multiImageImporter;
+  @Nullable private MultiImageImporter.ProgressListener multiImageProgressListener;
   private CameraDevice cameraDevice;
 
   interface PermissionManager {
@@ -164,7 +167,8 @@ public class ImagePickerDelegate
                 });
           }
         },
-        new FileUtils());
+        new FileUtils(),
+        new MultiImageImporter());
   }
 
   /**
@@ -181,7 +185,8 @@ public class ImagePickerDelegate
       final ImagePickerCache cache,
       final PermissionManager permissionManager,
       final FileUriResolver fileUriResolver,
-      final FileUtils fileUtils) {
+      final FileUtils fileUtils,
+      final MultiImageImporter multiImageImporter) {
     this.activity = activity;
     this.externalFilesDirectory = externalFilesDirectory;
     this.imageResizer = imageResizer;
@@ -191,9 +196,16 @@ public class ImagePickerDelegate
     this.permissionManager = permissionManager;
     this.fileUriResolver = fileUriResolver;
     this.fileUtils = fileUtils;
+    this.multiImageImporter = multiImageImporter;
     this.cache = cache;
   }
 
+  /** Sets the listener that is told as each image picked with pickMultiImage is imported. */
+  void setMultiImageProgressListener(
+      @Nullable MultiImageImporter.ProgressListener multiImageProgressListener) {
+    this.multiImageProgressListener = multiImageProgressListener;
+  }
+
   void setCameraDevice(CameraDevice device) {
     cameraDevice = device;
   }
@@ -495,15 +507,15 @@ public class ImagePickerDelegate
 
   private void handleChooseMultiImageResult(int resultCode, Intent intent) {
     if (resultCode == Activity.RESULT_OK && intent != null) {
-      ArrayList<String> paths = new ArrayList<>();
+      ArrayList<Uri> uris = new ArrayList<>();
       if (intent.getClipData() != null) {
         for (int i = 0; i < intent.getClipData().getItemCount(); i++) {
-          paths.add(fileUtils.getPathFromUri(activity, intent.getClipData().getItemAt(i).getUri()));
+          uris.add(intent.getClipData().getItemAt(i).getUri());
         }
       } else {
-        paths.add(fileUtils.getPathFromUri(activity, intent.getData()));
+        uris.add(intent.getData());
       }
-      handleMultiImageResult(paths, false);
+      importMultiImages(uris);
       return;
     }
 
@@ -560,25 +572,56 @@ public class ImagePickerDelegate
     finishWithSuccess(null);
   }
 
-  private void handleMultiImageResult(
-      ArrayList<String> paths, boolean shouldDeleteOriginalIfScaled) {
-    if (methodCall != null) {
-      ArrayList<String> finalPath = new ArrayList<>();
-      for (int i = 0; i < paths.size(); i++) {
-        String finalImagePath = getResizedImagePath(paths.get(i));
-
-        //delete original file if scaled
-        if (finalImagePath != null
-            && !finalImagePath.equals(paths.get(i))
-            && shouldDeleteOriginalIfScaled) {
-          new File(paths.get(i)).delete();
-        }
-        finalPath.add(i, finalImagePath);
-      }
-      finishWithListSuccess(finalPath);
-    } else {
-      finishWithListSuccess(paths);
-    }
+  // Copies and resizes the picked images in the background, so many images don't block the main
+  // thread.
+  private void importMultiImages(final List<Uri> uris) {
+    // The resize options are read now, since the method call is cleared once the result is sent.
+    final boolean shouldResize = methodCall != null;
+    final Double maxWidth = shouldResize ? methodCall.<Double>argument("maxWidth") : null;
+    final Double maxHeight = shouldResize ? methodCall.<Double>argument("maxHeight") : null;
+    final Integer imageQuality = shouldResize ? methodCall.<Integer>argument("imageQuality") : null;
+
+    multiImageImporter.importImages(
+        uris,
+        new MultiImageImporter.ImageProcessor() {
+          @Override
+          public String process(Uri uri) {
+            String path = fileUtils.getPathFromUri(activity, uri);
+            if (shouldResize && path != null) {
+              path = imageResizer.resizeImageIfNeeded(path, maxWidth, maxHeight, imageQuality);
+            }
+            return path;
+          }
+        },
+        new MultiImageImporter.ProgressListener() {
+          // The paths of the images imported so far, indexed in the order they were picked.
+          private final String[] importedPaths = new String[uris.size()];
+
+          @Override
+          public void onImageImported(int index, int completed, int total, String path) {
+            if (path != null) {
+              // Saved after each image, so the images already imported can be retrieved with
+              // retrieveLostImage if the activity is killed before the rest are done.
+              importedPaths[index] = path;
+              ArrayList<String> paths = new ArrayList<>();
+              for (String importedPath : importedPaths) {
+                if (importedPath != null) {
+                  paths.add(importedPath);
+                }
+              }
+              cache.saveResult(paths, null, null);
+            }
+            if (multiImageProgressListener != null) {
+              multiImageProgressListener.onImageImported(index, completed, total, path);
+            }
+          }
+        },
+        new MultiImageImporter.CompletionListener() {
+          @Override
+          public void onImagesImported(ArrayList<String> paths) {
+            finishWithListSuccess(paths);
+          }
+        });
   }
 
   private void handleImageResult(String path, boolean shouldDeleteOriginalIfScaled) {
@@ -637,6 +680,8 @@ public class ImagePickerDelegate
       cache.saveResult(imagePaths, null, null);
       return;
     }
+    // Drop the partial results saved while the images were imported.
+    cache.clearImagePaths();
     pendingResult.success(imagePaths);
     clearMethodCallAndResult();
   }
@@ -23,6 +23,8 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.PluginRegistry;
 import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
 
 @SuppressWarnings("deprecation")
 public class ImagePickerPlugin
@@ -188,6 +190,21 @@ public class ImagePickerPlugin
     this.delegate = constructDelegate(activity);
     channel = new MethodChannel(messenger, CHANNEL);
     channel.setMethodCallHandler(this);
+    delegate.setMultiImageProgressListener(
+        new MultiImageImporter.ProgressListener() {
+          @Override
+          public void onImageImported(int index, int completed, int total, String path) {
+            if (channel == null) {
+              return;
+            }
+            final Map<String, Object> arguments = new HashMap<>();
+            arguments.put("index", index);
+            arguments.put("completed", completed);
+            arguments.put("total", total);
+            arguments.put("path", path);
+            channel.invokeMethod("pickMultiImage#onProgress", arguments);
+          }
+        });
     observer = new LifeCycleObserver(activity);
     if (registrar != null) {
       // V1 embedding setup for activity listeners.
@@ -0,0 +1,142 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copies and resizes the images picked with {@code pickMultiImage} off the main thread.
+ *
+ * <p>Images are processed concurrently on a small background pool. Progress is reported on the main
+ * thread as each image is done, and the paths are then delivered in the order the images were
+ * picked. Images that could not be read are reported with a null path and left out of the result.
+ */
+class MultiImageImporter {
+  private static final String TAG = "MultiImageImporter";
+  // Resizing decodes the full image, so only a few images are processed at once to bound memory.
+  private static final int MAX_THREADS = 3;
+
+  interface ImageProcessor {
+    /** Returns the path of the processed image, or null if it could not be read. */
+    @Nullable
+    String process(Uri uri);
+  }
+
+  interface ProgressListener {
+    void onImageImported(int index, int completed, int total, @Nullable String path);
+  }
+
+  interface CompletionListener {
+    void onImagesImported(ArrayList<String> paths);
+  }
+
+  private final Executor backgroundExecutor;
+  private final Executor mainExecutor;
+
+  MultiImageImporter() {
+    this(createBackgroundExecutor(), createMainExecutor());
+  }
+
+  @VisibleForTesting
+  MultiImageImporter(Executor backgroundExecutor, Executor mainExecutor) {
+    this.backgroundExecutor = backgroundExecutor;
+    this.mainExecutor = mainExecutor;
+  }
+
+  void importImages(
+      final List<Uri> uris,
+      final ImageProcessor processor,
+      @Nullable final ProgressListener progressListener,
+      final CompletionListener completionListener) {
+    final int total = uris.size();
+    final String[] paths = new String[total];
+    if (total == 0) {
+      mainExecutor.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              completionListener.onImagesImported(new ArrayList<String>());
+            }
+          });
+      return;
+    }
+    // Guarded by paths, so progress is posted in order and always before completion.
+    final int[] completed = {0};
+    for (int i = 0; i < total; i++) {
+      final int index = i;
+      backgroundExecutor.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              String path = null;
+              try {
+                path = processor.process(uris.get(index));
+              } catch (RuntimeException e) {
+                Log.e(TAG, "Could not import image " + uris.get(index), e);
+              }
+              final String importedPath = path;
+              synchronized (paths) {
+                paths[index] = importedPath;
+                final int count = ++completed[0];
+                if (progressListener != null) {
+                  mainExecutor.execute(
+                      new Runnable() {
+                        @Override
+                        public void run() {
+                          progressListener.onImageImported(index, count, total, importedPath);
+                        }
+                      });
+                }
+                if (count == total) {
+                  final ArrayList<String> result = new ArrayList<>();
+                  for (String importedPath : paths) {
+                    if (importedPath != null) {
+                      result.add(importedPath);
+                    }
+                  }
+                  mainExecutor.execute(
+                      new Runnable() {
+                        @Override
+                        public void run() {
+                          completionListener.onImagesImported(result);
+                        }
+                      });
+                }
+              }
+            }
+          });
+    }
+  }
+
+  private static Executor createBackgroundExecutor() {
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            MAX_THREADS, MAX_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>());
+    // Don't keep idle threads around between picks.
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private static Executor createMainExecutor() {
+    final Handler handler = new Handler(Looper.getMainLooper());
+    return new Executor() {
+      @Override
+      public void execute(Runnable runnable) {
+        handler.post(runnable);
+      }
+    };
+  }
+}
@@ -12,7 +12,9 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -29,12 +31,15 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -56,6 +61,7 @@ public class ImagePickerDelegateTest {
   @Mock ImagePickerCache cache;
 
   ImagePickerDelegate.FileUriResolver mockFileUriResolver;
+  private final Executor directExecutor = Runnable::run;
   MockedStatic<File> mockStaticFile;
 
   private static class MockFileUriResolver implements ImagePickerDelegate.FileUriResolver {
@@ -300,6 +306,40 @@ public class ImagePickerDelegateTest {
     verifyNoMoreInteractions(mockResult);
   }
 
+  @Test
+  public void
+      onActivityResult_WhenMultiImagePickedFromGallery_FinishesWithScaledImagePathsAndProgress() {
+    when(mockMethodCall.argument("maxWidth")).thenReturn(WIDTH);
+    MultiImageImporter.ProgressListener mockProgressListener =
+        mock(MultiImageImporter.ProgressListener.class);
+
+    ImagePickerDelegate delegate = createDelegateWithPendingResultAndMethodCall();
+    delegate.setMultiImageProgressListener(mockProgressListener);
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_MULTI_IMAGE_FROM_GALLERY,
+        Activity.RESULT_OK,
+        mockIntent);
+
+    verify(mockProgressListener).onImageImported(0, 1, 1, "scaledPath");
+    verify(mockResult).success(new ArrayList<>(Arrays.asList("scaledPath")));
+    verifyNoMoreInteractions(mockResult);
+  }
+
+  @Test
+  public void onActivityResult_WhenMultiImagePickedFromGallery_SavesEachImportedImageToCache() {
+    ImagePickerDelegate delegate = createDelegateWithPendingResultAndMethodCall();
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_MULTI_IMAGE_FROM_GALLERY,
+        Activity.RESULT_OK,
+        mockIntent);
+
+    InOrder inOrder = inOrder(cache, mockResult);
+    inOrder.verify(cache).saveResult(new ArrayList<>(Arrays.asList("originalPath")), null, null);
+    inOrder.verify(cache).clearImagePaths();
+    inOrder.verify(mockResult).success(new ArrayList<>(Arrays.asList("originalPath")));
+    verify(cache, never()).clear();
+  }
+
   @Test
   public void
       onActivityResult_WhenVideoPickedFromGallery_AndResizeParametersSupplied_FinishesWithFilePath() {
@@ -412,7 +452,8 @@ public class ImagePickerDelegateTest {
         cache,
         mockPermissionManager,
         mockFileUriResolver,
-        mockFileUtils);
+        mockFileUtils,
+        new MultiImageImporter(directExecutor, directExecutor));
   }
 
   private ImagePickerDelegate createDelegateWithPendingResultAndMethodCall() {
@@ -425,7 +466,8 @@ public class ImagePickerDelegateTest {
         cache,
         mockPermissionManager,
         mockFileUriResolver,
-        mockFileUtils);
+        mockFileUtils,
+        new MultiImageImporter(directExecutor, directExecutor));
   }
 
   private void verifyFinishedWithAlreadyActiveError() {
@@ -0,0 +1,117 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import android.net.Uri;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MultiImageImporterTest {
+  private final List<Runnable> backgroundTasks = new ArrayList<>();
+  private final List<String> events = new ArrayList<>();
+  private final Map<Uri, String> uriToPath = new HashMap<>();
+  private List<Uri> uris;
+  private ArrayList<String> importedPaths;
+  private MultiImageImporter importer;
+
+  @Before
+  public void setUp() {
+    uris = Arrays.asList(mock(Uri.class), mock(Uri.class), mock(Uri.class));
+    uriToPath.put(uris.get(0), "path0");
+    uriToPath.put(uris.get(1), "path1");
+    uriToPath.put(uris.get(2), "path2");
+    importer = new MultiImageImporter(backgroundTasks::add, Runnable::run);
+  }
+
+  @Test
+  public void importImages_DeliversPathsInPickedOrder() {
+    importImages();
+    backgroundTasks.get(2).run();
+    backgroundTasks.get(0).run();
+    backgroundTasks.get(1).run();
+
+    assertEquals(Arrays.asList("path0", "path1", "path2"), importedPaths);
+  }
+
+  @Test
+  public void importImages_ReportsProgressBeforeCompletion() {
+    importImages();
+    backgroundTasks.get(1).run();
+    backgroundTasks.get(2).run();
+    backgroundTasks.get(0).run();
+
+    assertEquals(Arrays.asList("1: 1/3 path1", "2: 2/3 path2", "0: 3/3 path0", "done"), events);
+  }
+
+  @Test
+  public void importImages_LeavesOutFailedImages() {
+    uriToPath.remove(uris.get(1));
+    final Executor directExecutor = Runnable::run;
+    importer = new MultiImageImporter(directExecutor, directExecutor);
+    importer.importImages(
+        uris,
+        new MultiImageImporter.ImageProcessor() {
+          @Override
+          public String process(Uri uri) {
+            final String path = uriToPath.get(uri);
+            if (path == null) {
+              throw new IllegalStateException();
+            }
+            return path;
+          }
+        },
+        null,
+        new MultiImageImporter.CompletionListener() {
+          @Override
+          public void onImagesImported(ArrayList<String> paths) {
+            importedPaths = paths;
+          }
+        });
+
+    assertEquals(Arrays.asList("path0", "path2"), importedPaths);
+  }
+
+  @Test
+  public void importImages_CompletesWithoutImages() {
+    uris = new ArrayList<>();
+    importImages();
+
+    assertEquals(0, backgroundTasks.size());
+    assertEquals(new ArrayList<String>(), importedPaths);
+  }
+
+  private void importImages() {
+    importer.importImages(
+        uris,
+        new MultiImageImporter.ImageProcessor() {
+          @Override
+          public String process(Uri uri) {
+            return uriToPath.get(uri);
+          }
+        },
+        new MultiImageImporter.ProgressListener() {
+          @Override
+          public void onImageImported(int index, int completed, int total, String path) {
+            events.add(index + ": " + completed + "/" + total + " " + path);
+          }
+        },
+        new MultiImageImporter.CompletionListener() {
+          @Override
+          public void onImagesImported(ArrayList<String> paths) {
+            events.add("done");
+            importedPaths = paths;
+          }
+        });
+  }
+}
@@ -14,6 +14,7 @@ export 'package:image_picker_platform_interface/image_picker_platform_interface.
         CameraDevice,
         LostData,
         LostDataResponse,
+        MultiImagePickProgress,
         PickedFile,
         XFile,
         RetrieveType;
@@ -252,6 +253,14 @@ class ImagePicker {
     );
   }
 
+  /// A stream of the images picked with [pickMultiImage] as they are imported.
+  ///
+  /// Each event reports one image, in the order they finish importing, so
+  /// large selections can be shown before [pickMultiImage] completes.
+  /// (Android only)
+  Stream<MultiImagePickProgress> get onMultiImagePickProgress =>
+      platform.onMultiImagePickProgress;
+
   /// Returns an [XFile] object wrapping the video that was picked.
   ///
   /// The returned [XFile] is intended to be used within a single APP session. Do not save the file path and use it across sessions.
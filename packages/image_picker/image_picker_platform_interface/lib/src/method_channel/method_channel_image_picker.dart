@@ -18,6 +18,10 @@ class MethodChannelImagePicker extends ImagePickerPlatform {
   @visibleForTesting
   MethodChannel get channel => _channel;
 
+  final StreamController<MultiImagePickProgress> _multiImagePickProgress =
+      StreamController<MultiImagePickProgress>.broadcast();
+  bool _handlingMethodCalls = false;
+
   @override
   Future<PickedFile?> pickImage({
     required ImageSource source,
@@ -211,6 +215,26 @@ class MethodChannelImagePicker extends ImagePickerPlatform {
     return paths.map((path) => XFile(path)).toList();
   }
 
+  @override
+  Stream<MultiImagePickProgress> get onMultiImagePickProgress {
+    if (!_handlingMethodCalls) {
+      _handlingMethodCalls = true;
+      _channel.setMethodCallHandler(_handleMethodCall);
+    }
+    return _multiImagePickProgress.stream;
+  }
+
+  Future<dynamic> _handleMethodCall(MethodCall call) async {
+    switch (call.method) {
+      case 'pickMultiImage#onProgress':
+        _multiImagePickProgress.add(MultiImagePickProgress.fromMap(
+            call.arguments as Map<dynamic, dynamic>));
+        break;
+      default:
+        throw MissingPluginException();
+    }
+  }
+
   @override
   Future<XFile?> getVideo({
     required ImageSource source,
@@ -210,6 +210,16 @@ abstract class ImagePickerPlatform extends PlatformInterface {
     throw UnimplementedError('getMultiImage() has not been implemented.');
   }
 
+  /// A stream of the images picked with [getMultiImage] as they are imported.
+  ///
+  /// Copying and resizing many images can take a while, so this can be used
+  /// to show the images, or the progress, before [getMultiImage] completes.
+  /// Only supported on Android.
+  Stream<MultiImagePickProgress> get onMultiImagePickProgress {
+    throw UnimplementedError(
+        'onMultiImagePickProgress has not been implemented.');
+  }
+
   /// Returns a [XFile] containing the video that was picked.
   ///
   /// The [source] argument controls where the video comes from. This can
@@ -0,0 +1,62 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart';
+
+/// Reports that one of the images picked with `getMultiImage` is ready.
+///
+/// Images are imported concurrently, so they can be reported in any order.
+/// The final list of files is still returned in the order the images were
+/// picked.
+@immutable
+class MultiImagePickProgress {
+  /// Creates a [MultiImagePickProgress].
+  const MultiImagePickProgress({
+    required this.index,
+    required this.path,
+    required this.completed,
+    required this.total,
+  });
+
+  /// Creates a [MultiImagePickProgress] from the arguments of a platform
+  /// progress call.
+  factory MultiImagePickProgress.fromMap(Map<dynamic, dynamic> map) {
+    return MultiImagePickProgress(
+      index: map['index'] as int,
+      path: map['path'] as String?,
+      completed: map['completed'] as int,
+      total: map['total'] as int,
+    );
+  }
+
+  /// The position of the image in the picked images.
+  final int index;
+
+  /// The path of the imported image, or null if it could not be read.
+  final String? path;
+
+  /// The number of images imported so far, including this one.
+  final int completed;
+
+  /// The number of picked images.
+  final int total;
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    return other is MultiImagePickProgress &&
+        index == other.index &&
+        path == other.path &&
+        completed == other.completed &&
+        total == other.total;
+  }
+
+  @override
+  int get hashCode => hashValues(index, path, completed, total);
+
+  @override
+  String toString() =>
+      'MultiImagePickProgress($index, $path, $completed/$total)';
+}
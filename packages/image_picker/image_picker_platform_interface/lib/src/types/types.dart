@@ -7,6 +7,7 @@ export 'image_source.dart';
 export 'retrieve_type.dart';
 export 'picked_file/picked_file.dart';
 export 'lost_data_response.dart';
+export 'multi_image_pick_progress.dart';
 
 /// Denotes that an image is being picked.
 const String kTypeImage = 'image';
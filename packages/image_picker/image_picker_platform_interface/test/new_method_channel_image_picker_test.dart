@@ -810,6 +810,32 @@ void main() {
       });
     });
 
+    group('#onMultiImagePickProgress', () {
+      test('reports the imported images', () async {
+        final Future<List<MultiImagePickProgress>> events =
+            picker.onMultiImagePickProgress.take(2).toList();
+
+        await _sendProgress(<String, dynamic>{
+          'index': 1,
+          'completed': 1,
+          'total': 2,
+          'path': '/example/path1',
+        });
+        await _sendProgress(<String, dynamic>{
+          'index': 0,
+          'completed': 2,
+          'total': 2,
+          'path': null,
+        });
+
+        expect(await events, <MultiImagePickProgress>[
+          MultiImagePickProgress(
+              index: 1, path: '/example/path1', completed: 1, total: 2),
+          MultiImagePickProgress(index: 0, path: null, completed: 2, total: 2),
+        ]);
+      });
+    });
+
     group('#getVideo', () {
       test('passes the image source argument correctly', () async {
         await picker.getVideo(source: ImageSource.camera);
@@ -981,3 +1007,10 @@ void main() {
     });
   });
 }
+
+Future<void> _sendProgress(Map<String, dynamic> arguments) async {
+  final ByteData message = const StandardMethodCodec()
+      .encodeMethodCall(MethodCall('pickMultiImage#onProgress', arguments));
+  await ServicesBinding.instance!.defaultBinaryMessenger.handlePlatformMessage(
+      'plugins.flutter.io/image_picker', message, (ByteData? data) {});
+}
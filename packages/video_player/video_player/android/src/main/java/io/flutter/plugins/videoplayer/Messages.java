@@ -97,6 +97,56 @@ public class Messages {
       this.httpHeaders = setterArg;
     }
 
+    private Long minBufferMs;
+
+    public Long getMinBufferMs() {
+      return minBufferMs;
+    }
+
+    public void setMinBufferMs(Long setterArg) {
+      this.minBufferMs = setterArg;
+    }
+
+    private Long maxBufferMs;
+
+    public Long getMaxBufferMs() {
+      return maxBufferMs;
+    }
+
+    public void setMaxBufferMs(Long setterArg) {
+      this.maxBufferMs = setterArg;
+    }
+
+    private Long bufferForPlaybackMs;
+
+    public Long getBufferForPlaybackMs() {
+      return bufferForPlaybackMs;
+    }
+
+    public void setBufferForPlaybackMs(Long setterArg) {
+      this.bufferForPlaybackMs = setterArg;
+    }
+
+    private Long bufferForPlaybackAfterRebufferMs;
+
+    public Long getBufferForPlaybackAfterRebufferMs() {
+      return bufferForPlaybackAfterRebufferMs;
+    }
+
+    public void setBufferForPlaybackAfterRebufferMs(Long setterArg) {
+      this.bufferForPlaybackAfterRebufferMs = setterArg;
+    }
+
+    private Long maxBufferBytes;
+
+    public Long getMaxBufferBytes() {
+      return maxBufferBytes;
+    }
+
+    public void setMaxBufferBytes(Long setterArg) {
+      this.maxBufferBytes = setterArg;
+    }
+
     HashMap toMap() {
       HashMap<String, Object> toMapResult = new HashMap<>();
       toMapResult.put("asset", asset);
@@ -104,6 +154,11 @@ public class Messages {
       toMapResult.put("packageName", packageName);
       toMapResult.put("formatHint", formatHint);
       toMapResult.put("httpHeaders", httpHeaders);
+      toMapResult.put("minBufferMs", minBufferMs);
+      toMapResult.put("maxBufferMs", maxBufferMs);
+      toMapResult.put("bufferForPlaybackMs", bufferForPlaybackMs);
+      toMapResult.put("bufferForPlaybackAfterRebufferMs", bufferForPlaybackAfterRebufferMs);
+      toMapResult.put("maxBufferBytes", maxBufferBytes);
       return toMapResult;
     }
 
@@ -119,6 +174,37 @@ public class Messages {
       fromMapResult.formatHint = (String) formatHint;
       Object httpHeaders = map.get("httpHeaders");
       fromMapResult.httpHeaders = (HashMap) httpHeaders;
+      Object minBufferMs = map.get("minBufferMs");
+      fromMapResult.minBufferMs =
+          (minBufferMs == null)
+              ? null
+              : ((minBufferMs instanceof Integer) ? (Integer) minBufferMs : (Long) minBufferMs);
+      Object maxBufferMs = map.get("maxBufferMs");
+      fromMapResult.maxBufferMs =
+          (maxBufferMs == null)
+              ? null
+              : ((maxBufferMs instanceof Integer) ? (Integer) maxBufferMs : (Long) maxBufferMs);
+      Object bufferForPlaybackMs = map.get("bufferForPlaybackMs");
+      fromMapResult.bufferForPlaybackMs =
+          (bufferForPlaybackMs == null)
+              ? null
+              : ((bufferForPlaybackMs instanceof Integer)
+                  ? (Integer) bufferForPlaybackMs
+                  : (Long) bufferForPlaybackMs);
+      Object bufferForPlaybackAfterRebufferMs = map.get("bufferForPlaybackAfterRebufferMs");
+      fromMapResult.bufferForPlaybackAfterRebufferMs =
+          (bufferForPlaybackAfterRebufferMs == null)
+              ? null
+              : ((bufferForPlaybackAfterRebufferMs instanceof Integer)
+                  ? (Integer) bufferForPlaybackAfterRebufferMs
+                  : (Long) bufferForPlaybackAfterRebufferMs);
+      Object maxBufferBytes = map.get("maxBufferBytes");
+      fromMapResult.maxBufferBytes =
+          (maxBufferBytes == null)
+              ? null
+              : ((maxBufferBytes instanceof Integer)
+                  ? (Integer) maxBufferBytes
+                  : (Long) maxBufferBytes);
       return fromMapResult;
     }
   }
@@ -320,6 +406,401 @@ public class Messages {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PositionUpdatesMessage {
+    private Long textureId;
+
+    public Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(Long setterArg) {
+      this.textureId = setterArg;
+    }
+
+    private Long intervalMs;
+
+    public Long getIntervalMs() {
+      return intervalMs;
+    }
+
+    public void setIntervalMs(Long setterArg) {
+      this.intervalMs = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("intervalMs", intervalMs);
+      return toMapResult;
+    }
+
+    static PositionUpdatesMessage fromMap(HashMap map) {
+      PositionUpdatesMessage fromMapResult = new PositionUpdatesMessage();
+      Object textureId = map.get("textureId");
+      fromMapResult.textureId =
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId);
+      Object intervalMs = map.get("intervalMs");
+      fromMapResult.intervalMs =
+          (intervalMs == null)
+              ? null
+              : ((intervalMs instanceof Integer) ? (Integer) intervalMs : (Long) intervalMs);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class TrackSelectionMessage {
+    private Long textureId;
+
+    public Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(Long setterArg) {
+      this.textureId = setterArg;
+    }
+
+    private Long maxVideoWidth;
+
+    public Long getMaxVideoWidth() {
+      return maxVideoWidth;
+    }
+
+    public void setMaxVideoWidth(Long setterArg) {
+      this.maxVideoWidth = setterArg;
+    }
+
+    private Long maxVideoHeight;
+
+    public Long getMaxVideoHeight() {
+      return maxVideoHeight;
+    }
+
+    public void setMaxVideoHeight(Long setterArg) {
+      this.maxVideoHeight = setterArg;
+    }
+
+    private Long maxVideoBitrate;
+
+    public Long getMaxVideoBitrate() {
+      return maxVideoBitrate;
+    }
+
+    public void setMaxVideoBitrate(Long setterArg) {
+      this.maxVideoBitrate = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("maxVideoWidth", maxVideoWidth);
+      toMapResult.put("maxVideoHeight", maxVideoHeight);
+      toMapResult.put("maxVideoBitrate", maxVideoBitrate);
+      return toMapResult;
+    }
+
+    static TrackSelectionMessage fromMap(HashMap map) {
+      TrackSelectionMessage fromMapResult = new TrackSelectionMessage();
+      Object textureId = map.get("textureId");
+      fromMapResult.textureId =
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId);
+      Object maxVideoWidth = map.get("maxVideoWidth");
+      fromMapResult.maxVideoWidth =
+          (maxVideoWidth == null)
+              ? null
+              : ((maxVideoWidth instanceof Integer)
+                  ? (Integer) maxVideoWidth
+                  : (Long) maxVideoWidth);
+      Object maxVideoHeight = map.get("maxVideoHeight");
+      fromMapResult.maxVideoHeight =
+          (maxVideoHeight == null)
+              ? null
+              : ((maxVideoHeight instanceof Integer)
+                  ? (Integer) maxVideoHeight
+                  : (Long) maxVideoHeight);
+      Object maxVideoBitrate = map.get("maxVideoBitrate");
+      fromMapResult.maxVideoBitrate =
+          (maxVideoBitrate == null)
+              ? null
+              : ((maxVideoBitrate instanceof Integer)
+                  ? (Integer) maxVideoBitrate
+                  : (Long) maxVideoBitrate);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PlaybackMetricsMessage {
+    private Long textureId;
+
+    public Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(Long setterArg) {
+      this.textureId = setterArg;
+    }
+
+    private Boolean enabled;
+
+    public Boolean getEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(Boolean setterArg) {
+      this.enabled = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("enabled", enabled);
+      return toMapResult;
+    }
+
+    static PlaybackMetricsMessage fromMap(HashMap map) {
+      PlaybackMetricsMessage fromMapResult = new PlaybackMetricsMessage();
+      Object textureId = map.get("textureId");
+      fromMapResult.textureId =
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId);
+      Object enabled = map.get("enabled");
+      fromMapResult.enabled = (Boolean) enabled;
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class CacheConfigMessage {
+    private Boolean enabled;
+
+    public Boolean getEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(Boolean setterArg) {
+      this.enabled = setterArg;
+    }
+
+    private Long maxCacheBytes;
+
+    public Long getMaxCacheBytes() {
+      return maxCacheBytes;
+    }
+
+    public void setMaxCacheBytes(Long setterArg) {
+      this.maxCacheBytes = setterArg;
+    }
+
+    private String cacheDirectory;
+
+    public String getCacheDirectory() {
+      return cacheDirectory;
+    }
+
+    public void setCacheDirectory(String setterArg) {
+      this.cacheDirectory = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("enabled", enabled);
+      toMapResult.put("maxCacheBytes", maxCacheBytes);
+      toMapResult.put("cacheDirectory", cacheDirectory);
+      return toMapResult;
+    }
+
+    static CacheConfigMessage fromMap(HashMap map) {
+      CacheConfigMessage fromMapResult = new CacheConfigMessage();
+      Object enabled = map.get("enabled");
+      fromMapResult.enabled = (Boolean) enabled;
+      Object maxCacheBytes = map.get("maxCacheBytes");
+      fromMapResult.maxCacheBytes =
+          (maxCacheBytes == null)
+              ? null
+              : ((maxCacheBytes instanceof Integer)
+                  ? (Integer) maxCacheBytes
+                  : (Long) maxCacheBytes);
+      Object cacheDirectory = map.get("cacheDirectory");
+      fromMapResult.cacheDirectory = (String) cacheDirectory;
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class CacheStatsMessage {
+    private Long hitCount;
+
+    public Long getHitCount() {
+      return hitCount;
+    }
+
+    public void setHitCount(Long setterArg) {
+      this.hitCount = setterArg;
+    }
+
+    private Long missCount;
+
+    public Long getMissCount() {
+      return missCount;
+    }
+
+    public void setMissCount(Long setterArg) {
+      this.missCount = setterArg;
+    }
+
+    private Long bytesSaved;
+
+    public Long getBytesSaved() {
+      return bytesSaved;
+    }
+
+    public void setBytesSaved(Long setterArg) {
+      this.bytesSaved = setterArg;
+    }
+
+    private Long cacheSpaceBytes;
+
+    public Long getCacheSpaceBytes() {
+      return cacheSpaceBytes;
+    }
+
+    public void setCacheSpaceBytes(Long setterArg) {
+      this.cacheSpaceBytes = setterArg;
+    }
+
+    private Long prefetchCount;
+
+    public Long getPrefetchCount() {
+      return prefetchCount;
+    }
+
+    public void setPrefetchCount(Long setterArg) {
+      this.prefetchCount = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("hitCount", hitCount);
+      toMapResult.put("missCount", missCount);
+      toMapResult.put("bytesSaved", bytesSaved);
+      toMapResult.put("cacheSpaceBytes", cacheSpaceBytes);
+      toMapResult.put("prefetchCount", prefetchCount);
+      return toMapResult;
+    }
+
+    static CacheStatsMessage fromMap(HashMap map) {
+      CacheStatsMessage fromMapResult = new CacheStatsMessage();
+      Object hitCount = map.get("hitCount");
+      fromMapResult.hitCount =
+          (hitCount == null)
+              ? null
+              : ((hitCount instanceof Integer) ? (Integer) hitCount : (Long) hitCount);
+      Object missCount = map.get("missCount");
+      fromMapResult.missCount =
+          (missCount == null)
+              ? null
+              : ((missCount instanceof Integer) ? (Integer) missCount : (Long) missCount);
+      Object bytesSaved = map.get("bytesSaved");
+      fromMapResult.bytesSaved =
+          (bytesSaved == null)
+              ? null
+              : ((bytesSaved instanceof Integer) ? (Integer) bytesSaved : (Long) bytesSaved);
+      Object cacheSpaceBytes = map.get("cacheSpaceBytes");
+      fromMapResult.cacheSpaceBytes =
+          (cacheSpaceBytes == null)
+              ? null
+              : ((cacheSpaceBytes instanceof Integer)
+                  ? (Integer) cacheSpaceBytes
+                  : (Long) cacheSpaceBytes);
+      Object prefetchCount = map.get("prefetchCount");
+      fromMapResult.prefetchCount =
+          (prefetchCount == null)
+              ? null
+              : ((prefetchCount instanceof Integer)
+                  ? (Integer) prefetchCount
+                  : (Long) prefetchCount);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PrefetchMessage {
+    private String uri;
+
+    public String getUri() {
+      return uri;
+    }
+
+    public void setUri(String setterArg) {
+      this.uri = setterArg;
+    }
+
+    private HashMap httpHeaders;
+
+    public HashMap getHttpHeaders() {
+      return httpHeaders;
+    }
+
+    public void setHttpHeaders(HashMap setterArg) {
+      this.httpHeaders = setterArg;
+    }
+
+    private Long position;
+
+    public Long getPosition() {
+      return position;
+    }
+
+    public void setPosition(Long setterArg) {
+      this.position = setterArg;
+    }
+
+    private Long length;
+
+    public Long getLength() {
+      return length;
+    }
+
+    public void setLength(Long setterArg) {
+      this.length = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("uri", uri);
+      toMapResult.put("httpHeaders", httpHeaders);
+      toMapResult.put("position", position);
+      toMapResult.put("length", length);
+      return toMapResult;
+    }
+
+    static PrefetchMessage fromMap(HashMap map) {
+      PrefetchMessage fromMapResult = new PrefetchMessage();
+      Object uri = map.get("uri");
+      fromMapResult.uri = (String) uri;
+      Object httpHeaders = map.get("httpHeaders");
+      fromMapResult.httpHeaders = (HashMap) httpHeaders;
+      Object position = map.get("position");
+      fromMapResult.position =
+          (position == null)
+              ? null
+              : ((position instanceof Integer) ? (Integer) position : (Long) position);
+      Object length = map.get("length");
+      fromMapResult.length =
+          (length == null)
+              ? null
+              : ((length instanceof Integer) ? (Integer) length : (Long) length);
+      return fromMapResult;
+    }
+  }
+
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface VideoPlayerApi {
     void initialize();
@@ -344,6 +825,18 @@ public class Messages {
 
     void setMixWithOthers(MixWithOthersMessage arg);
 
+    void setCacheConfig(CacheConfigMessage arg);
+
+    CacheStatsMessage cacheStats();
+
+    void prefetch(PrefetchMessage arg);
+
+    void setPositionUpdates(PositionUpdatesMessage arg);
+
+    void setTrackSelectionLimits(TrackSelectionMessage arg);
+
+    void setPlaybackMetrics(PlaybackMetricsMessage arg);
+
     /** Sets up an instance of `VideoPlayerApi` to handle messages through the `binaryMessenger` */
     static void setup(BinaryMessenger binaryMessenger, VideoPlayerApi api) {
       {
@@ -608,6 +1101,148 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.setCacheConfig",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  @SuppressWarnings("ConstantConditions")
+                  CacheConfigMessage input = CacheConfigMessage.fromMap((HashMap) message);
+                  api.setCacheConfig(input);
+                  wrapped.put("result", null);
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.cacheStats",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  CacheStatsMessage output = api.cacheStats();
+                  wrapped.put("result", output.toMap());
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.prefetch",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  @SuppressWarnings("ConstantConditions")
+                  PrefetchMessage input = PrefetchMessage.fromMap((HashMap) message);
+                  api.prefetch(input);
+                  wrapped.put("result", null);
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.setPositionUpdates",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  @SuppressWarnings("ConstantConditions")
+                  PositionUpdatesMessage input = PositionUpdatesMessage.fromMap((HashMap) message);
+                  api.setPositionUpdates(input);
+                  wrapped.put("result", null);
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.setTrackSelectionLimits",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  @SuppressWarnings("ConstantConditions")
+                  TrackSelectionMessage input = TrackSelectionMessage.fromMap((HashMap) message);
+                  api.setTrackSelectionLimits(input);
+                  wrapped.put("result", null);
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.setPlaybackMetrics",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  @SuppressWarnings("ConstantConditions")
+                  PlaybackMetricsMessage input = PlaybackMetricsMessage.fromMap((HashMap) message);
+                  api.setPlaybackMetrics(input);
+                  wrapped.put("result", null);
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -0,0 +1,77 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.os.Handler;
+import android.os.SystemClock;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Drives push-based position updates for all playing {@link VideoPlayer}s from a single main
+ * thread callback.
+ *
+ * <p>Players are only registered while they are playing and have position updates enabled, so the
+ * ticker is idle whenever nothing is playing. Each tick asks every registered player to send an
+ * update if its own interval has elapsed.
+ *
+ * <p>This class is not thread-safe. All calls must be made on the thread of the {@link Handler}.
+ */
+final class PositionUpdateTicker {
+  private final Handler handler;
+  private final Set<VideoPlayer> activePlayers = new LinkedHashSet<>();
+  private boolean scheduled = false;
+
+  private final Runnable tick =
+      new Runnable() {
+        @Override
+        public void run() {
+          scheduled = false;
+          long now = SystemClock.elapsedRealtime();
+          // Copy, as a player may unregister itself while sending its update.
+          for (VideoPlayer player : new ArrayList<>(activePlayers)) {
+            player.maybeSendPositionUpdate(now);
+          }
+          scheduleNextTick();
+        }
+      };
+
+  PositionUpdateTicker(Handler handler) {
+    this.handler = handler;
+  }
+
+  /** Starts or stops delivering ticks to {@code player}. */
+  void setActive(VideoPlayer player, boolean active) {
+    if (active) {
+      activePlayers.add(player);
+      scheduleNextTick();
+    } else {
+      activePlayers.remove(player);
+      if (activePlayers.isEmpty() && scheduled) {
+        handler.removeCallbacks(tick);
+        scheduled = false;
+      }
+    }
+  }
+
+  private void scheduleNextTick() {
+    if (scheduled || activePlayers.isEmpty()) {
+      return;
+    }
+    long delay = Long.MAX_VALUE;
+    for (VideoPlayer player : activePlayers) {
+      delay = Math.min(delay, player.getPositionUpdateIntervalMs());
+    }
+    scheduled = true;
+    handler.postDelayed(tick, delay);
+  }
+
+  void dispose() {
+    activePlayers.clear();
+    handler.removeCallbacks(tick);
+    scheduled = false;
+  }
+}
@@ -6,6 +6,12 @@ package io.flutter.plugins.videoplayer;
 
 import io.flutter.plugin.common.EventChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * And implementation of {@link EventChannel.EventSink} which can wrap an underlying sink.
@@ -13,13 +19,53 @@ import java.util.ArrayList;
  * <p>It delivers messages immediately when downstream is available, but it queues messages before
  * the delegate event sink is set with setDelegate.
  *
+ * <p>The queue is bounded. Events that only report the latest state (such as {@code
+ * bufferingUpdate}) replace older events of the same type, and when the queue is full the oldest
+ * event that is not terminal is dropped. {@code bufferingStart} and {@code bufferingEnd} replace
+ * each other, so only the latest buffering state is queued and it is never dropped, as dropping one
+ * of a pair would leave the buffering state wrong. Terminal events (errors, end of stream, and
+ * anything not known to be droppable such as {@code initialized} or {@code completed}) are always
+ * kept.
+ *
  * <p>This class is not thread-safe. All calls must be done on the same thread or synchronized
  * externally.
  */
 final class QueuingEventSink implements EventChannel.EventSink {
+  static final int DEFAULT_CAPACITY = 32;
+
+  /** Events for which only the most recent one is meaningful. */
+  private static final Set<String> COALESCED_EVENTS =
+      new HashSet<>(
+          Arrays.asList(
+              "bufferingUpdate", "positionUpdate", "videoFormatChanged", "bandwidthEstimate"));
+
+  /** Events that report the buffering state, of which only the most recent one is meaningful. */
+  private static final Set<String> BUFFERING_STATE_EVENTS =
+      new HashSet<>(Arrays.asList("bufferingStart", "bufferingEnd"));
+
+  /** Events which may be dropped when the queue is full. */
+  private static final Set<String> DROPPABLE_EVENTS =
+      new HashSet<>(
+          Arrays.asList(
+              "bufferingUpdate",
+              "positionUpdate",
+              "videoFormatChanged",
+              "bandwidthEstimate",
+              "droppedFrames"));
+
   private EventChannel.EventSink delegate;
   private ArrayList<Object> eventQueue = new ArrayList<>();
   private boolean done = false;
+  private final int capacity;
+  private long droppedEventCount = 0;
+
+  QueuingEventSink() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  QueuingEventSink(int capacity) {
+    this.capacity = capacity;
+  }
 
   public void setDelegate(EventChannel.EventSink delegate) {
     this.delegate = delegate;
@@ -45,13 +91,62 @@ final class QueuingEventSink implements EventChannel.EventSink {
     maybeFlush();
   }
 
+  /** Returns the number of events discarded because of coalescing or the capacity limit. */
+  long getDroppedEventCount() {
+    return droppedEventCount;
+  }
+
   private void enqueue(Object event) {
     if (done) {
       return;
     }
+    if (delegate == null) {
+      String type = eventType(event);
+      if (type != null && COALESCED_EVENTS.contains(type)) {
+        removeQueued(Collections.singleton(type));
+      } else if (type != null && BUFFERING_STATE_EVENTS.contains(type)) {
+        removeQueued(BUFFERING_STATE_EVENTS);
+      }
+      if (eventQueue.size() >= capacity && !dropOldestDroppable()) {
+        if (type != null && DROPPABLE_EVENTS.contains(type)) {
+          droppedEventCount++;
+          return;
+        }
+      }
+    }
     eventQueue.add(event);
   }
 
+  private void removeQueued(Set<String> types) {
+    Iterator<Object> iterator = eventQueue.iterator();
+    while (iterator.hasNext()) {
+      if (types.contains(eventType(iterator.next()))) {
+        iterator.remove();
+        droppedEventCount++;
+      }
+    }
+  }
+
+  private boolean dropOldestDroppable() {
+    for (int i = 0; i < eventQueue.size(); i++) {
+      String type = eventType(eventQueue.get(i));
+      if (type != null && DROPPABLE_EVENTS.contains(type)) {
+        eventQueue.remove(i);
+        droppedEventCount++;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String eventType(Object event) {
+    if (!(event instanceof Map)) {
+      return null;
+    }
+    Object type = ((Map<?, ?>) event).get("event");
+    return type instanceof String ? (String) type : null;
+  }
+
   private void maybeFlush() {
     if (delegate == null) {
       return;
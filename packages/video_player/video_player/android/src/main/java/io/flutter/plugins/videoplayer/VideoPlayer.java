@@ -18,7 +18,9 @@ import com.google.android.exoplayer2.PlaybackParameters;
 import com.google.android.exoplayer2.Player;
 import com.google.android.exoplayer2.Player.Listener;
 import com.google.android.exoplayer2.SimpleExoPlayer;
+import com.google.android.exoplayer2.analytics.AnalyticsListener;
 import com.google.android.exoplayer2.audio.AudioAttributes;
+import com.google.android.exoplayer2.source.MediaLoadData;
 import com.google.android.exoplayer2.source.MediaSource;
 import com.google.android.exoplayer2.source.ProgressiveMediaSource;
 import com.google.android.exoplayer2.source.dash.DashMediaSource;
@@ -26,6 +28,7 @@ import com.google.android.exoplayer2.source.dash.DefaultDashChunkSource;
 import com.google.android.exoplayer2.source.hls.HlsMediaSource;
 import com.google.android.exoplayer2.source.smoothstreaming.DefaultSsChunkSource;
 import com.google.android.exoplayer2.source.smoothstreaming.SsMediaSource;
+import com.google.android.exoplayer2.trackselection.DefaultTrackSelector;
 import com.google.android.exoplayer2.upstream.DataSource;
 import com.google.android.exoplayer2.upstream.DefaultDataSourceFactory;
 import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
@@ -46,6 +49,10 @@ final class VideoPlayer {
 
   private SimpleExoPlayer exoPlayer;
 
+  private final DefaultTrackSelector trackSelector;
+
+  private AnalyticsListener metricsListener;
+
   private Surface surface;
 
   private final TextureRegistry.SurfaceTextureEntry textureEntry;
@@ -58,6 +65,15 @@ final class VideoPlayer {
 
   private final VideoPlayerOptions options;
 
+  private final PositionUpdateTicker positionUpdateTicker;
+
+  // The disk cache this player reads from, retained until the player is disposed.
+  private VideoPlayerCache cache;
+
+  private long positionUpdateIntervalMs = 0;
+
+  private long lastPositionUpdateMs = 0;
+
   VideoPlayer(
       Context context,
       EventChannel eventChannel,
@@ -65,38 +81,63 @@ final class VideoPlayer {
       String dataSource,
       String formatHint,
       Map<String, String> httpHeaders,
-      VideoPlayerOptions options) {
+      VideoPlayerOptions options,
+      PositionUpdateTicker positionUpdateTicker) {
     this.eventChannel = eventChannel;
     this.textureEntry = textureEntry;
     this.options = options;
+    this.positionUpdateTicker = positionUpdateTicker;
 
-    exoPlayer = new SimpleExoPlayer.Builder(context).build();
+    trackSelector = new DefaultTrackSelector(context);
+    SimpleExoPlayer.Builder builder =
+        new SimpleExoPlayer.Builder(context).setTrackSelector(trackSelector);
+    if (options.hasCustomBuffering()) {
+      builder.setLoadControl(options.buildLoadControl());
+    }
+    exoPlayer = builder.build();
 
     Uri uri = Uri.parse(dataSource);
 
     DataSource.Factory dataSourceFactory;
+    VideoPlayerCache playerCache = null;
     if (isHTTP(uri)) {
-      DefaultHttpDataSource.Factory httpDataSourceFactory =
-          new DefaultHttpDataSource.Factory()
-              .setUserAgent("ExoPlayer")
-              .setAllowCrossProtocolRedirects(true);
-
-      if (httpHeaders != null && !httpHeaders.isEmpty()) {
-        httpDataSourceFactory.setDefaultRequestProperties(httpHeaders);
+      DataSource.Factory httpDataSourceFactory = buildHttpDataSourceFactory(httpHeaders);
+      if (options.cache != null) {
+        playerCache = options.cache;
+        dataSourceFactory = playerCache.wrap(httpDataSourceFactory);
+      } else {
+        dataSourceFactory = httpDataSourceFactory;
       }
-      dataSourceFactory = httpDataSourceFactory;
     } else {
       dataSourceFactory = new DefaultDataSourceFactory(context, "ExoPlayer");
     }
 
     MediaSource mediaSource = buildMediaSource(uri, dataSourceFactory, formatHint, context);
+    // Retained only once the source is built, so a player that fails to build never holds the
+    // cache and keeps it from being reconfigured.
+    if (playerCache != null) {
+      playerCache.retain();
+      cache = playerCache;
+    }
     exoPlayer.setMediaSource(mediaSource);
     exoPlayer.prepare();
 
     setupVideoPlayer(eventChannel, textureEntry);
   }
 
-  private static boolean isHTTP(Uri uri) {
+  static DataSource.Factory buildHttpDataSourceFactory(Map<String, String> httpHeaders) {
+    DefaultHttpDataSource.Factory httpDataSourceFactory =
+        new DefaultHttpDataSource.Factory()
+            .setUserAgent("ExoPlayer")
+            .setAllowCrossProtocolRedirects(true);
+
+    if (httpHeaders != null && !httpHeaders.isEmpty()) {
+      httpDataSourceFactory.setDefaultRequestProperties(httpHeaders);
+    }
+    return httpDataSourceFactory;
+  }
+
+  static boolean isHTTP(Uri uri) {
     if (uri == null || uri.getScheme() == null) {
       return false;
     }
@@ -205,6 +246,18 @@ final class VideoPlayer {
             }
           }
 
+          @Override
+          public void onIsPlayingChanged(boolean isPlaying) {
+            if (positionUpdateIntervalMs <= 0) {
+              return;
+            }
+            positionUpdateTicker.setActive(VideoPlayer.this, isPlaying);
+            if (!isPlaying) {
+              // Report where playback stopped, as no further ticks arrive until it resumes.
+              sendPositionUpdate();
+            }
+          }
+
           @Override
           public void onPlayerError(final ExoPlaybackException error) {
             setBuffering(false);
@@ -218,9 +271,41 @@ final class VideoPlayer {
   void sendBufferingUpdate() {
     Map<String, Object> event = new HashMap<>();
     event.put("event", "bufferingUpdate");
+    event.put("values", getBufferedRanges());
+    eventSink.success(event);
+  }
+
+  private List<List<? extends Number>> getBufferedRanges() {
     List<? extends Number> range = Arrays.asList(0, exoPlayer.getBufferedPosition());
     // iOS supports a list of buffered ranges, so here is a list with a single range.
-    event.put("values", Collections.singletonList(range));
+    return Collections.singletonList(range);
+  }
+
+  /**
+   * Enables pushing position updates through the event channel every {@code intervalMs} while
+   * playing. An interval of zero or less disables them.
+   */
+  void setPositionUpdateInterval(long intervalMs) {
+    positionUpdateIntervalMs = Math.max(0, intervalMs);
+    positionUpdateTicker.setActive(this, positionUpdateIntervalMs > 0 && exoPlayer.isPlaying());
+  }
+
+  long getPositionUpdateIntervalMs() {
+    return positionUpdateIntervalMs;
+  }
+
+  void maybeSendPositionUpdate(long nowMs) {
+    if (nowMs - lastPositionUpdateMs >= positionUpdateIntervalMs) {
+      lastPositionUpdateMs = nowMs;
+      sendPositionUpdate();
+    }
+  }
+
+  private void sendPositionUpdate() {
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", "positionUpdate");
+    event.put("position", exoPlayer.getCurrentPosition());
+    event.put("values", getBufferedRanges());
     eventSink.success(event);
   }
 
@@ -255,6 +340,75 @@ final class VideoPlayer {
     exoPlayer.setPlaybackParameters(playbackParameters);
   }
 
+  /**
+   * Caps the video tracks chosen by adaptive streams. Null values remove the corresponding limit.
+   *
+   * <p>Capping the size to the rendered surface avoids decoding renditions that are larger than
+   * what is displayed.
+   */
+  void setTrackSelectionLimits(Integer maxWidth, Integer maxHeight, Integer maxBitrate) {
+    trackSelector.setParameters(
+        trackSelector
+            .buildUponParameters()
+            .setMaxVideoSize(
+                maxWidth != null ? maxWidth : Integer.MAX_VALUE,
+                maxHeight != null ? maxHeight : Integer.MAX_VALUE)
+            .setMaxVideoBitrate(maxBitrate != null ? maxBitrate : Integer.MAX_VALUE));
+  }
+
+  /**
+   * Enables or disables {@code videoFormatChanged}, {@code bandwidthEstimate} and {@code
+   * droppedFrames} events.
+   */
+  void setPlaybackMetricsEnabled(boolean enabled) {
+    if (enabled == (metricsListener != null)) {
+      return;
+    }
+    if (!enabled) {
+      exoPlayer.removeAnalyticsListener(metricsListener);
+      metricsListener = null;
+      return;
+    }
+    metricsListener =
+        new AnalyticsListener() {
+          @Override
+          public void onDownstreamFormatChanged(EventTime eventTime, MediaLoadData mediaLoadData) {
+            Format format = mediaLoadData.trackFormat;
+            if (format == null || mediaLoadData.trackType != C.TRACK_TYPE_VIDEO) {
+              return;
+            }
+            Map<String, Object> event = new HashMap<>();
+            event.put("event", "videoFormatChanged");
+            event.put("bitrate", format.bitrate);
+            event.put("width", format.width);
+            event.put("height", format.height);
+            eventSink.success(event);
+          }
+
+          @Override
+          public void onBandwidthEstimate(
+              EventTime eventTime,
+              int totalLoadTimeMs,
+              long totalBytesLoaded,
+              long bitrateEstimate) {
+            Map<String, Object> event = new HashMap<>();
+            event.put("event", "bandwidthEstimate");
+            event.put("bitrateEstimate", bitrateEstimate);
+            eventSink.success(event);
+          }
+
+          @Override
+          public void onDroppedVideoFrames(EventTime eventTime, int droppedFrames, long elapsedMs) {
+            Map<String, Object> event = new HashMap<>();
+            event.put("event", "droppedFrames");
+            event.put("count", droppedFrames);
+            event.put("elapsedMs", elapsedMs);
+            eventSink.success(event);
+          }
+        };
+    exoPlayer.addAnalyticsListener(metricsListener);
+  }
+
   void seekTo(int location) {
     exoPlayer.seekTo(location);
   }
@@ -288,6 +442,7 @@ final class VideoPlayer {
   }
 
   void dispose() {
+    positionUpdateTicker.setActive(this, false);
     if (isInitialized) {
       exoPlayer.stop();
     }
@@ -299,5 +454,9 @@ final class VideoPlayer {
     if (exoPlayer != null) {
       exoPlayer.release();
     }
+    if (cache != null) {
+      cache.release();
+      cache = null;
+    }
   }
 }
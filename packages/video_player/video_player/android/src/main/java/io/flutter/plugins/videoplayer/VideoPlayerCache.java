@@ -0,0 +1,242 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import android.net.Uri;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.database.ExoDatabaseProvider;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import com.google.android.exoplayer2.upstream.cache.Cache;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import com.google.android.exoplayer2.upstream.cache.CacheWriter;
+import com.google.android.exoplayer2.upstream.cache.LeastRecentlyUsedCacheEvictor;
+import com.google.android.exoplayer2.upstream.cache.SimpleCache;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A process-wide LRU disk cache for network video sources.
+ *
+ * <p>ExoPlayer's {@link SimpleCache} locks its directory, so only one instance may exist per
+ * directory. All {@link VideoPlayer}s therefore share the instance returned by {@link #obtain}.
+ *
+ * <p>Players and prefetches {@link #retain} the cache while they read from it, and it is only
+ * closed once it is no longer configured and nothing retains it.
+ */
+final class VideoPlayerCache {
+  /** Opens the underlying cache. Replaced by tests. */
+  interface CacheFactory {
+    Cache create(File directory, long maxCacheBytes);
+  }
+
+  private static VideoPlayerCache instance;
+
+  private final Cache cache;
+  private final File directory;
+  private final long maxCacheBytes;
+
+  // Guarded by VideoPlayerCache.class.
+  private int retainCount = 0;
+  private boolean closeWhenUnused = false;
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong bytesSaved = new AtomicLong();
+  private final AtomicLong prefetchCount = new AtomicLong();
+
+  private final CacheDataSource.EventListener cacheEventListener =
+      new CacheDataSource.EventListener() {
+        @Override
+        public void onCachedBytesRead(long cacheSizeBytes, long cachedBytesRead) {
+          hitCount.incrementAndGet();
+          bytesSaved.addAndGet(cachedBytesRead);
+        }
+
+        @Override
+        public void onCacheIgnored(int reason) {}
+      };
+
+  private VideoPlayerCache(Cache cache, File directory, long maxCacheBytes) {
+    this.cache = cache;
+    this.directory = directory;
+    this.maxCacheBytes = maxCacheBytes;
+  }
+
+  /**
+   * Returns the shared cache for {@code directory}, creating it if needed.
+   *
+   * <p>ExoPlayer does not support resizing a {@link SimpleCache} in place, so a cache with a
+   * different directory or size limit replaces the current one. This is refused with an {@link
+   * IllegalStateException} while players still read from the current cache.
+   */
+  static VideoPlayerCache obtain(final Context context, File directory, long maxCacheBytes) {
+    return obtain(
+        directory,
+        maxCacheBytes,
+        new CacheFactory() {
+          @Override
+          public Cache create(File directory, long maxCacheBytes) {
+            return new SimpleCache(
+                directory,
+                new LeastRecentlyUsedCacheEvictor(maxCacheBytes),
+                new ExoDatabaseProvider(context));
+          }
+        });
+  }
+
+  static synchronized VideoPlayerCache obtain(
+      File directory, long maxCacheBytes, CacheFactory cacheFactory) {
+    if (instance != null) {
+      if (instance.directory.equals(directory) && instance.maxCacheBytes == maxCacheBytes) {
+        instance.closeWhenUnused = false;
+        return instance;
+      }
+      if (instance.retainCount > 0) {
+        throw new IllegalStateException(
+            "The video cache can't be reconfigured while players are using it. "
+                + "Dispose of all network players first.");
+      }
+      instance.cache.release();
+    }
+    instance =
+        new VideoPlayerCache(
+            cacheFactory.create(directory, maxCacheBytes), directory, maxCacheBytes);
+    return instance;
+  }
+
+  /**
+   * Closes the shared cache once nothing retains it. Players created afterwards read from the
+   * network, while existing players keep using the cache until they are disposed.
+   */
+  static synchronized void releaseShared() {
+    if (instance != null) {
+      instance.closeWhenUnused = true;
+      instance.closeIfUnused();
+    }
+  }
+
+  /** Keeps the cache open until a matching {@link #release}. */
+  void retain() {
+    synchronized (VideoPlayerCache.class) {
+      retainCount++;
+    }
+  }
+
+  void release() {
+    synchronized (VideoPlayerCache.class) {
+      retainCount--;
+      closeIfUnused();
+    }
+  }
+
+  // Must be called while holding the VideoPlayerCache.class lock.
+  private void closeIfUnused() {
+    if (closeWhenUnused && retainCount == 0) {
+      cache.release();
+      if (instance == this) {
+        instance = null;
+      }
+    }
+  }
+
+  /**
+   * Wraps {@code upstreamFactory} so that reads go through this cache.
+   *
+   * <p>The cache must be retained while data sources created by the factory are in use.
+   */
+  CacheDataSource.Factory wrap(DataSource.Factory upstreamFactory) {
+    return new CacheDataSource.Factory()
+        .setCache(cache)
+        .setUpstreamDataSourceFactory(new CountingDataSourceFactory(upstreamFactory, missCount))
+        .setFlags(CacheDataSource.FLAG_IGNORE_CACHE_ON_ERROR)
+        .setEventListener(cacheEventListener);
+  }
+
+  /**
+   * Downloads {@code length} bytes of {@code uri} starting at {@code position} into the cache.
+   *
+   * <p>This call blocks until the range is cached and must not be made on the main thread. Pass
+   * {@link C#LENGTH_UNSET} as the length to cache until the end of the resource. The cache must be
+   * retained during the call.
+   *
+   * <p>Network reads made here are counted by {@link #getPrefetchCount} rather than as misses, so
+   * that the hit rate only reflects playback.
+   */
+  void prefetch(DataSource.Factory upstreamFactory, Uri uri, long position, long length)
+      throws IOException {
+    DataSpec dataSpec =
+        new DataSpec.Builder().setUri(uri).setPosition(position).setLength(length).build();
+    CacheDataSource dataSource =
+        new CacheDataSource.Factory()
+            .setCache(cache)
+            .setUpstreamDataSourceFactory(
+                new CountingDataSourceFactory(upstreamFactory, prefetchCount))
+            .setFlags(CacheDataSource.FLAG_IGNORE_CACHE_ON_ERROR)
+            .createDataSource();
+    CacheWriter writer = new CacheWriter(dataSource, dataSpec, true, null, null);
+    writer.cache();
+  }
+
+  long getHitCount() {
+    return hitCount.get();
+  }
+
+  long getMissCount() {
+    return missCount.get();
+  }
+
+  long getBytesSaved() {
+    return bytesSaved.get();
+  }
+
+  long getPrefetchCount() {
+    return prefetchCount.get();
+  }
+
+  long getCacheSpace() {
+    return cache.getCacheSpace();
+  }
+
+  /** Counts the network transfers started by the data sources of the wrapped factory. */
+  private static final class CountingDataSourceFactory implements DataSource.Factory {
+    private final DataSource.Factory wrapped;
+    private final TransferListener transferListener;
+
+    CountingDataSourceFactory(DataSource.Factory wrapped, final AtomicLong networkTransferCount) {
+      this.wrapped = wrapped;
+      this.transferListener =
+          new TransferListener() {
+            @Override
+            public void onTransferInitializing(
+                DataSource source, DataSpec dataSpec, boolean isNetwork) {}
+
+            @Override
+            public void onTransferStart(DataSource source, DataSpec dataSpec, boolean isNetwork) {
+              if (isNetwork) {
+                networkTransferCount.incrementAndGet();
+              }
+            }
+
+            @Override
+            public void onBytesTransferred(
+                DataSource source, DataSpec dataSpec, boolean isNetwork, int bytesTransferred) {}
+
+            @Override
+            public void onTransferEnd(DataSource source, DataSpec dataSpec, boolean isNetwork) {}
+          };
+    }
+
+    @Override
+    public DataSource createDataSource() {
+      DataSource dataSource = wrapped.createDataSource();
+      dataSource.addTransferListener(transferListener);
+      return dataSource;
+    }
+  }
+}
@@ -4,6 +4,121 @@
 
 package io.flutter.plugins.videoplayer;
 
+import com.google.android.exoplayer2.DefaultLoadControl;
+import com.google.android.exoplayer2.LoadControl;
+
 class VideoPlayerOptions {
   public boolean mixWithOthers;
+
+  /** The shared disk cache for network sources, or null if caching is disabled. */
+  public VideoPlayerCache cache;
+
+  // Buffering policy. A null value keeps ExoPlayer's default for that parameter.
+  public Integer minBufferMs;
+  public Integer maxBufferMs;
+  public Integer bufferForPlaybackMs;
+  public Integer bufferForPlaybackAfterRebufferMs;
+  public Integer maxBufferBytes;
+
+  /** Returns a copy of these options that can be customized for a single player. */
+  VideoPlayerOptions copy() {
+    VideoPlayerOptions copy = new VideoPlayerOptions();
+    copy.mixWithOthers = mixWithOthers;
+    copy.cache = cache;
+    copy.minBufferMs = minBufferMs;
+    copy.maxBufferMs = maxBufferMs;
+    copy.bufferForPlaybackMs = bufferForPlaybackMs;
+    copy.bufferForPlaybackAfterRebufferMs = bufferForPlaybackAfterRebufferMs;
+    copy.maxBufferBytes = maxBufferBytes;
+    return copy;
+  }
+
+  boolean hasCustomBuffering() {
+    return minBufferMs != null
+        || maxBufferMs != null
+        || bufferForPlaybackMs != null
+        || bufferForPlaybackAfterRebufferMs != null
+        || maxBufferBytes != null;
+  }
+
+  /**
+   * Fills in the buffer durations that were not overridden and checks that the result is a
+   * valid {@link DefaultLoadControl} configuration.
+   *
+   * <p>Defaults are clamped to the overridden values, so that for example a {@code minBufferMs}
+   * below ExoPlayer's default {@code bufferForPlaybackMs} also lowers the latter. Overrides that
+   * contradict each other are rejected.
+   *
+   * @throws IllegalArgumentException if the overridden values are negative or inconsistent.
+   */
+  void resolveBuffering() {
+    if (minBufferMs == null) {
+      int min = DefaultLoadControl.DEFAULT_MIN_BUFFER_MS;
+      if (bufferForPlaybackMs != null) {
+        min = Math.max(min, bufferForPlaybackMs);
+      }
+      if (bufferForPlaybackAfterRebufferMs != null) {
+        min = Math.max(min, bufferForPlaybackAfterRebufferMs);
+      }
+      if (maxBufferMs != null) {
+        min = Math.min(min, maxBufferMs);
+      }
+      minBufferMs = min;
+    }
+    if (maxBufferMs == null) {
+      maxBufferMs = Math.max(DefaultLoadControl.DEFAULT_MAX_BUFFER_MS, minBufferMs);
+    }
+    if (bufferForPlaybackMs == null) {
+      bufferForPlaybackMs =
+          Math.min(DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_MS, minBufferMs);
+    }
+    if (bufferForPlaybackAfterRebufferMs == null) {
+      bufferForPlaybackAfterRebufferMs =
+          Math.min(
+              DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_AFTER_REBUFFER_MS, minBufferMs);
+    }
+
+    if (bufferForPlaybackMs < 0 || bufferForPlaybackAfterRebufferMs < 0) {
+      throw new IllegalArgumentException("Buffer durations must not be negative.");
+    }
+    if (bufferForPlaybackMs > minBufferMs || bufferForPlaybackAfterRebufferMs > minBufferMs) {
+      throw new IllegalArgumentException(
+          "bufferForPlayback ("
+              + bufferForPlaybackMs
+              + " ms) and bufferForPlaybackAfterRebuffer ("
+              + bufferForPlaybackAfterRebufferMs
+              + " ms) must not exceed minBuffer ("
+              + minBufferMs
+              + " ms).");
+    }
+    if (minBufferMs > maxBufferMs) {
+      throw new IllegalArgumentException(
+          "minBuffer (" + minBufferMs + " ms) must not exceed maxBuffer (" + maxBufferMs + " ms).");
+    }
+    if (maxBufferBytes != null && maxBufferBytes <= 0) {
+      throw new IllegalArgumentException(
+          "maxBufferBytes must be positive, got " + maxBufferBytes + ".");
+    }
+  }
+
+  /**
+   * Builds a {@link LoadControl} from the buffering policy.
+   *
+   * <p>When a byte budget is given, size thresholds take priority over time thresholds so
+   * that the budget is actually honoured.
+   *
+   * @throws IllegalArgumentException if the buffering policy is invalid, see {@link
+   *     #resolveBuffering()}.
+   */
+  LoadControl buildLoadControl() {
+    resolveBuffering();
+    DefaultLoadControl.Builder builder = new DefaultLoadControl.Builder();
+    builder.setBufferDurationsMs(
+        minBufferMs, maxBufferMs, bufferForPlaybackMs, bufferForPlaybackAfterRebufferMs);
+    if (maxBufferBytes != null) {
+      builder.setTargetBufferBytes(maxBufferBytes);
+      builder.setPrioritizeTimeOverSizeThresholds(false);
+    }
+    return builder.build();
+  }
 }
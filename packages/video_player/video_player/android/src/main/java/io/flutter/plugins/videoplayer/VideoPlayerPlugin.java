@@ -5,33 +5,53 @@
 package io.flutter.plugins.videoplayer;
 
 import android.content.Context;
+import android.net.Uri;
 import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.LongSparseArray;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.DataSource;
 import io.flutter.FlutterInjector;
 import io.flutter.Log;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugins.videoplayer.Messages.CacheConfigMessage;
+import io.flutter.plugins.videoplayer.Messages.CacheStatsMessage;
 import io.flutter.plugins.videoplayer.Messages.CreateMessage;
 import io.flutter.plugins.videoplayer.Messages.LoopingMessage;
 import io.flutter.plugins.videoplayer.Messages.MixWithOthersMessage;
+import io.flutter.plugins.videoplayer.Messages.PlaybackMetricsMessage;
 import io.flutter.plugins.videoplayer.Messages.PlaybackSpeedMessage;
 import io.flutter.plugins.videoplayer.Messages.PositionMessage;
+import io.flutter.plugins.videoplayer.Messages.PositionUpdatesMessage;
+import io.flutter.plugins.videoplayer.Messages.PrefetchMessage;
 import io.flutter.plugins.videoplayer.Messages.TextureMessage;
+import io.flutter.plugins.videoplayer.Messages.TrackSelectionMessage;
 import io.flutter.plugins.videoplayer.Messages.VideoPlayerApi;
 import io.flutter.plugins.videoplayer.Messages.VolumeMessage;
 import io.flutter.view.TextureRegistry;
+import java.io.File;
+import java.io.IOException;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.net.ssl.HttpsURLConnection;
 
 /** Android platform implementation of the VideoPlayerPlugin. */
 public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
   private static final String TAG = "VideoPlayerPlugin";
+  private static final long DEFAULT_MAX_CACHE_BYTES = 100 * 1024 * 1024;
+  private static final String DEFAULT_CACHE_DIRECTORY = "video_player_cache";
   private final LongSparseArray<VideoPlayer> videoPlayers = new LongSparseArray<>();
   private FlutterState flutterState;
   private VideoPlayerOptions options = new VideoPlayerOptions();
+  private ExecutorService prefetchExecutor;
+  private final PositionUpdateTicker positionUpdateTicker =
+      new PositionUpdateTicker(new Handler(Looper.getMainLooper()));
 
   /** Register this with the v2 embedding for the plugin to respond to lifecycle callbacks. */
   public VideoPlayerPlugin() {}
@@ -94,6 +114,12 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
     flutterState.stopListening(binding.getBinaryMessenger());
     flutterState = null;
     initialize();
+    if (prefetchExecutor != null) {
+      for (Runnable pending : prefetchExecutor.shutdownNow()) {
+        ((PrefetchTask) pending).cancel();
+      }
+      prefetchExecutor = null;
+    }
   }
 
   private void disposeAllPlayers() {
@@ -101,6 +127,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
       videoPlayers.valueAt(i).dispose();
     }
     videoPlayers.clear();
+    positionUpdateTicker.dispose();
   }
 
   private void onDestroy() {
@@ -117,6 +144,28 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
   }
 
   public TextureMessage create(CreateMessage arg) {
+    VideoPlayerOptions playerOptions = options.copy();
+    if (arg.getMinBufferMs() != null) {
+      playerOptions.minBufferMs = arg.getMinBufferMs().intValue();
+    }
+    if (arg.getMaxBufferMs() != null) {
+      playerOptions.maxBufferMs = arg.getMaxBufferMs().intValue();
+    }
+    if (arg.getBufferForPlaybackMs() != null) {
+      playerOptions.bufferForPlaybackMs = arg.getBufferForPlaybackMs().intValue();
+    }
+    if (arg.getBufferForPlaybackAfterRebufferMs() != null) {
+      playerOptions.bufferForPlaybackAfterRebufferMs =
+          arg.getBufferForPlaybackAfterRebufferMs().intValue();
+    }
+    if (arg.getMaxBufferBytes() != null) {
+      playerOptions.maxBufferBytes = arg.getMaxBufferBytes().intValue();
+    }
+    // Reject an invalid buffering policy before any resources are allocated for the player.
+    if (playerOptions.hasCustomBuffering()) {
+      playerOptions.resolveBuffering();
+    }
+
     TextureRegistry.SurfaceTextureEntry handle =
         flutterState.textureRegistry.createSurfaceTexture();
     EventChannel eventChannel =
@@ -140,7 +189,8 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
               "asset:///" + assetLookupKey,
               null,
               null,
-              options);
+              playerOptions,
+              positionUpdateTicker);
     } else {
       @SuppressWarnings("unchecked")
       Map<String, String> httpHeaders = arg.getHttpHeaders();
@@ -152,7 +202,8 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
               arg.getUri(),
               arg.getFormatHint(),
               httpHeaders,
-              options);
+              playerOptions,
+              positionUpdateTicker);
     }
     videoPlayers.put(handle.id(), player);
 
@@ -195,6 +246,27 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
     return result;
   }
 
+  @Override
+  public void setPositionUpdates(PositionUpdatesMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setPositionUpdateInterval(arg.getIntervalMs() != null ? arg.getIntervalMs() : 0);
+  }
+
+  @Override
+  public void setTrackSelectionLimits(TrackSelectionMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setTrackSelectionLimits(
+        arg.getMaxVideoWidth() != null ? arg.getMaxVideoWidth().intValue() : null,
+        arg.getMaxVideoHeight() != null ? arg.getMaxVideoHeight().intValue() : null,
+        arg.getMaxVideoBitrate() != null ? arg.getMaxVideoBitrate().intValue() : null);
+  }
+
+  @Override
+  public void setPlaybackMetrics(PlaybackMetricsMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setPlaybackMetricsEnabled(arg.getEnabled() != null && arg.getEnabled());
+  }
+
   public void seekTo(PositionMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
     player.seekTo(arg.getPosition().intValue());
@@ -210,6 +282,108 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
     options.mixWithOthers = arg.getMixWithOthers();
   }
 
+  @Override
+  public void setCacheConfig(CacheConfigMessage arg) {
+    if (arg.getEnabled() == null || !arg.getEnabled()) {
+      options.cache = null;
+      VideoPlayerCache.releaseShared();
+      return;
+    }
+    File directory =
+        arg.getCacheDirectory() != null
+            ? new File(arg.getCacheDirectory())
+            : new File(flutterState.applicationContext.getCacheDir(), DEFAULT_CACHE_DIRECTORY);
+    long maxCacheBytes =
+        arg.getMaxCacheBytes() != null ? arg.getMaxCacheBytes() : DEFAULT_MAX_CACHE_BYTES;
+    options.cache =
+        VideoPlayerCache.obtain(flutterState.applicationContext, directory, maxCacheBytes);
+  }
+
+  @Override
+  public CacheStatsMessage cacheStats() {
+    CacheStatsMessage result = new CacheStatsMessage();
+    VideoPlayerCache cache = options.cache;
+    if (cache == null) {
+      result.setHitCount(0L);
+      result.setMissCount(0L);
+      result.setBytesSaved(0L);
+      result.setCacheSpaceBytes(0L);
+      result.setPrefetchCount(0L);
+      return result;
+    }
+    result.setHitCount(cache.getHitCount());
+    result.setMissCount(cache.getMissCount());
+    result.setBytesSaved(cache.getBytesSaved());
+    result.setCacheSpaceBytes(cache.getCacheSpace());
+    result.setPrefetchCount(cache.getPrefetchCount());
+    return result;
+  }
+
+  @Override
+  public void prefetch(PrefetchMessage arg) {
+    final VideoPlayerCache cache = options.cache;
+    if (cache == null) {
+      throw new IllegalStateException("Prefetching requires the video cache to be enabled.");
+    }
+    final Uri uri = Uri.parse(arg.getUri());
+    if (!VideoPlayer.isHTTP(uri)) {
+      throw new IllegalArgumentException("Only http(s) URIs can be prefetched: " + uri);
+    }
+    @SuppressWarnings("unchecked")
+    Map<String, String> httpHeaders = arg.getHttpHeaders();
+    final long position = arg.getPosition() != null ? arg.getPosition() : 0;
+    final long length = arg.getLength() != null ? arg.getLength() : C.LENGTH_UNSET;
+    final DataSource.Factory upstreamFactory = VideoPlayer.buildHttpDataSourceFactory(httpHeaders);
+    if (prefetchExecutor == null) {
+      prefetchExecutor = Executors.newSingleThreadExecutor();
+    }
+    prefetchExecutor.execute(new PrefetchTask(cache, upstreamFactory, uri, position, length));
+  }
+
+  /**
+   * Prefetches a range into the cache on the prefetch executor.
+   *
+   * <p>The cache is retained from the time the task is created until it runs or is cancelled, so
+   * disabling the cache meanwhile doesn't close it under the task.
+   */
+  private static final class PrefetchTask implements Runnable {
+    private final VideoPlayerCache cache;
+    private final DataSource.Factory upstreamFactory;
+    private final Uri uri;
+    private final long position;
+    private final long length;
+
+    PrefetchTask(
+        VideoPlayerCache cache,
+        DataSource.Factory upstreamFactory,
+        Uri uri,
+        long position,
+        long length) {
+      this.cache = cache;
+      this.upstreamFactory = upstreamFactory;
+      this.uri = uri;
+      this.position = position;
+      this.length = length;
+      cache.retain();
+    }
+
+    @Override
+    public void run() {
+      try {
+        cache.prefetch(upstreamFactory, uri, position, length);
+      } catch (IOException e) {
+        Log.w(TAG, "Failed to prefetch " + uri, e);
+      } finally {
+        cache.release();
+      }
+    }
+
+    /** Releases the cache of a task that will never run. */
+    void cancel() {
+      cache.release();
+    }
+  }
+
   private interface KeyForAssetFn {
     String get(String asset);
   }
@@ -0,0 +1,109 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.flutter.plugin.common.EventChannel;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+public class QueuingEventSinkTest {
+  private static Map<String, Object> event(String type) {
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", type);
+    return event;
+  }
+
+  @Test
+  public void deliversQueuedEventsInOrder() {
+    QueuingEventSink sink = new QueuingEventSink();
+    Map<String, Object> initialized = event("initialized");
+    Map<String, Object> completed = event("completed");
+    sink.success(initialized);
+    sink.success(completed);
+
+    EventChannel.EventSink delegate = mock(EventChannel.EventSink.class);
+    sink.setDelegate(delegate);
+
+    InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).success(initialized);
+    inOrder.verify(delegate).success(completed);
+    assertEquals(0, sink.getDroppedEventCount());
+  }
+
+  @Test
+  public void coalescesBufferingUpdates() {
+    QueuingEventSink sink = new QueuingEventSink();
+    Map<String, Object> latest = event("bufferingUpdate");
+    sink.success(event("bufferingUpdate"));
+    sink.success(event("bufferingUpdate"));
+    sink.success(latest);
+
+    EventChannel.EventSink delegate = mock(EventChannel.EventSink.class);
+    sink.setDelegate(delegate);
+
+    verify(delegate, times(1)).success(any());
+    verify(delegate).success(latest);
+    assertEquals(2, sink.getDroppedEventCount());
+  }
+
+  @Test
+  public void keepsTerminalEventsWhenFull() {
+    QueuingEventSink sink = new QueuingEventSink(2);
+    sink.success(event("droppedFrames"));
+    sink.success(event("initialized"));
+    sink.success(event("positionUpdate"));
+    sink.error("VideoError", "error", null);
+
+    EventChannel.EventSink delegate = mock(EventChannel.EventSink.class);
+    sink.setDelegate(delegate);
+
+    verify(delegate).success(event("initialized"));
+    verify(delegate).error("VideoError", "error", null);
+    assertEquals(2, sink.getDroppedEventCount());
+  }
+
+  @Test
+  public void keepsOnlyLatestBufferingState() {
+    QueuingEventSink sink = new QueuingEventSink(2);
+    sink.success(event("bufferingStart"));
+    sink.success(event("initialized"));
+    sink.success(event("bufferingEnd"));
+    sink.success(event("bufferingStart"));
+    sink.success(event("completed"));
+
+    EventChannel.EventSink delegate = mock(EventChannel.EventSink.class);
+    sink.setDelegate(delegate);
+
+    InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).success(event("initialized"));
+    inOrder.verify(delegate).success(event("bufferingStart"));
+    inOrder.verify(delegate).success(event("completed"));
+    verify(delegate, never()).success(event("bufferingEnd"));
+    assertEquals(2, sink.getDroppedEventCount());
+  }
+
+  @Test
+  public void doesNotDropEventsWithDelegate() {
+    QueuingEventSink sink = new QueuingEventSink(1);
+    EventChannel.EventSink delegate = mock(EventChannel.EventSink.class);
+    sink.setDelegate(delegate);
+
+    sink.success(event("bufferingUpdate"));
+    sink.success(event("bufferingUpdate"));
+
+    verify(delegate, times(2)).success(any());
+    assertEquals(0, sink.getDroppedEventCount());
+  }
+}
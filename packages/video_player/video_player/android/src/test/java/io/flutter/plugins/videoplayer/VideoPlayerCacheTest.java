@@ -0,0 +1,94 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.google.android.exoplayer2.upstream.cache.Cache;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+
+public class VideoPlayerCacheTest {
+  private final File directory = new File("cache");
+  private final List<Cache> createdCaches = new ArrayList<>();
+
+  private final VideoPlayerCache.CacheFactory cacheFactory =
+      new VideoPlayerCache.CacheFactory() {
+        @Override
+        public Cache create(File directory, long maxCacheBytes) {
+          Cache cache = mock(Cache.class);
+          createdCaches.add(cache);
+          return cache;
+        }
+      };
+
+  @After
+  public void tearDown() {
+    VideoPlayerCache.releaseShared();
+  }
+
+  @Test
+  public void obtainReusesMatchingCache() {
+    VideoPlayerCache cache = VideoPlayerCache.obtain(directory, 100, cacheFactory);
+
+    assertSame(cache, VideoPlayerCache.obtain(directory, 100, cacheFactory));
+  }
+
+  @Test
+  public void obtainReplacesUnusedCacheWithDifferentSize() {
+    VideoPlayerCache cache = VideoPlayerCache.obtain(directory, 100, cacheFactory);
+
+    assertNotSame(cache, VideoPlayerCache.obtain(directory, 200, cacheFactory));
+    verify(createdCaches.get(0)).release();
+  }
+
+  @Test
+  public void obtainRefusesToReplaceRetainedCache() {
+    VideoPlayerCache cache = VideoPlayerCache.obtain(directory, 100, cacheFactory);
+    cache.retain();
+
+    try {
+      VideoPlayerCache.obtain(directory, 200, cacheFactory);
+      fail("Expected an IllegalStateException");
+    } catch (IllegalStateException expected) {
+    }
+    verify(createdCaches.get(0), never()).release();
+
+    cache.release();
+  }
+
+  @Test
+  public void releaseSharedWaitsForLastRelease() {
+    VideoPlayerCache cache = VideoPlayerCache.obtain(directory, 100, cacheFactory);
+    cache.retain();
+    cache.retain();
+
+    VideoPlayerCache.releaseShared();
+    cache.release();
+    verify(createdCaches.get(0), never()).release();
+
+    cache.release();
+    verify(createdCaches.get(0)).release();
+  }
+
+  @Test
+  public void obtainAfterReleaseSharedKeepsRetainedCacheOpen() {
+    VideoPlayerCache cache = VideoPlayerCache.obtain(directory, 100, cacheFactory);
+    cache.retain();
+    VideoPlayerCache.releaseShared();
+
+    assertSame(cache, VideoPlayerCache.obtain(directory, 100, cacheFactory));
+    cache.release();
+    verify(createdCaches.get(0), never()).release();
+  }
+}
@@ -0,0 +1,109 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.android.exoplayer2.DefaultLoadControl;
+import org.junit.Test;
+
+public class VideoPlayerOptionsTest {
+  @Test
+  public void defaultOptionsUseDefaultBuffering() {
+    VideoPlayerOptions options = new VideoPlayerOptions();
+    assertFalse(options.hasCustomBuffering());
+  }
+
+  @Test
+  public void copyDoesNotAffectOriginal() {
+    VideoPlayerOptions options = new VideoPlayerOptions();
+    options.mixWithOthers = true;
+    options.minBufferMs = 1000;
+
+    VideoPlayerOptions copy = options.copy();
+    copy.maxBufferBytes = 1024;
+
+    assertTrue(copy.mixWithOthers);
+    assertEquals(Integer.valueOf(1000), copy.minBufferMs);
+    assertTrue(copy.hasCustomBuffering());
+    assertNull(options.maxBufferBytes);
+  }
+
+  @Test
+  public void buildLoadControlLowersDefaultsBelowMinBuffer() {
+    VideoPlayerOptions options = new VideoPlayerOptions();
+    options.minBufferMs = 1000;
+
+    options.buildLoadControl();
+
+    assertEquals(Integer.valueOf(1000), options.bufferForPlaybackMs);
+    assertEquals(Integer.valueOf(1000), options.bufferForPlaybackAfterRebufferMs);
+    assertEquals(Integer.valueOf(DefaultLoadControl.DEFAULT_MAX_BUFFER_MS), options.maxBufferMs);
+  }
+
+  @Test
+  public void buildLoadControlLowersDefaultMinBufferBelowMaxBuffer() {
+    VideoPlayerOptions options = new VideoPlayerOptions();
+    options.maxBufferMs = 1000;
+
+    options.buildLoadControl();
+
+    assertEquals(Integer.valueOf(1000), options.minBufferMs);
+    assertEquals(Integer.valueOf(1000), options.bufferForPlaybackMs);
+  }
+
+  @Test
+  public void buildLoadControlRaisesDefaultsAboveBufferForPlayback() {
+    VideoPlayerOptions options = new VideoPlayerOptions();
+    int bufferForPlaybackMs = DefaultLoadControl.DEFAULT_MAX_BUFFER_MS + 1000;
+    options.bufferForPlaybackMs = bufferForPlaybackMs;
+
+    options.buildLoadControl();
+
+    assertEquals(Integer.valueOf(bufferForPlaybackMs), options.minBufferMs);
+    assertEquals(Integer.valueOf(bufferForPlaybackMs), options.maxBufferMs);
+  }
+
+  @Test
+  public void buildLoadControlRejectsMinBufferAboveMaxBuffer() {
+    VideoPlayerOptions options = new VideoPlayerOptions();
+    options.minBufferMs = 5000;
+    options.maxBufferMs = 1000;
+
+    assertBuildLoadControlFails(options);
+  }
+
+  @Test
+  public void buildLoadControlRejectsBufferForPlaybackAboveMinBuffer() {
+    VideoPlayerOptions options = new VideoPlayerOptions();
+    options.minBufferMs = 1000;
+    options.bufferForPlaybackAfterRebufferMs = 2000;
+
+    assertBuildLoadControlFails(options);
+  }
+
+  @Test
+  public void buildLoadControlRejectsNegativeValues() {
+    VideoPlayerOptions options = new VideoPlayerOptions();
+    options.bufferForPlaybackMs = -1;
+    assertBuildLoadControlFails(options);
+
+    options = new VideoPlayerOptions();
+    options.maxBufferBytes = 0;
+    assertBuildLoadControlFails(options);
+  }
+
+  private static void assertBuildLoadControlFails(VideoPlayerOptions options) {
+    try {
+      options.buildLoadControl();
+      fail("Expected an IllegalArgumentException");
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+}
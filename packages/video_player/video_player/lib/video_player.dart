@@ -12,7 +12,14 @@ import 'package:meta/meta.dart';
 import 'package:video_player_platform_interface/video_player_platform_interface.dart';
 
 export 'package:video_player_platform_interface/video_player_platform_interface.dart'
-    show DurationRange, DataSourceType, VideoFormat, VideoPlayerOptions;
+    show
+        DurationRange,
+        DataSourceType,
+        VideoFormat,
+        VideoPlayerOptions,
+        VideoBufferingOptions,
+        VideoCacheConfig,
+        VideoCacheStats;
 
 import 'src/closed_caption_file.dart';
 export 'src/closed_caption_file.dart';
@@ -40,6 +47,9 @@ class VideoPlayerValue {
     this.volume = 1.0,
     this.playbackSpeed = 1.0,
     this.errorDescription,
+    this.videoBitrate,
+    this.bandwidthEstimate,
+    this.droppedFrames = 0,
   });
 
   /// Returns an instance for a video that hasn't been loaded.
@@ -96,6 +106,24 @@ class VideoPlayerValue {
   /// Indicates whether or not the video has been loaded and is ready to play.
   final bool isInitialized;
 
+  /// **Android only**. The bitrate of the selected video track in bits per
+  /// second.
+  ///
+  /// Only reported after [VideoPlayerController.setPlaybackMetricsEnabled]
+  /// enabled it, null otherwise.
+  final int? videoBitrate;
+
+  /// **Android only**. The estimated network bandwidth in bits per second.
+  ///
+  /// Only reported after [VideoPlayerController.setPlaybackMetricsEnabled]
+  /// enabled it, null otherwise.
+  final int? bandwidthEstimate;
+
+  /// **Android only**. The number of video frames dropped since playback
+  /// metrics were enabled with
+  /// [VideoPlayerController.setPlaybackMetricsEnabled].
+  final int droppedFrames;
+
   /// Indicates whether or not the video is in an error state. If this is true
   /// [errorDescription] should have information about the problem.
   bool get hasError => errorDescription != null;
@@ -132,6 +160,9 @@ class VideoPlayerValue {
     double? volume,
     double? playbackSpeed,
     String? errorDescription,
+    int? videoBitrate,
+    int? bandwidthEstimate,
+    int? droppedFrames,
   }) {
     return VideoPlayerValue(
       duration: duration ?? this.duration,
@@ -146,6 +177,9 @@ class VideoPlayerValue {
       volume: volume ?? this.volume,
       playbackSpeed: playbackSpeed ?? this.playbackSpeed,
       errorDescription: errorDescription ?? this.errorDescription,
+      videoBitrate: videoBitrate ?? this.videoBitrate,
+      bandwidthEstimate: bandwidthEstimate ?? this.bandwidthEstimate,
+      droppedFrames: droppedFrames ?? this.droppedFrames,
     );
   }
 
@@ -163,7 +197,10 @@ class VideoPlayerValue {
         'isBuffering: $isBuffering, '
         'volume: $volume, '
         'playbackSpeed: $playbackSpeed, '
-        'errorDescription: $errorDescription)';
+        'errorDescription: $errorDescription, '
+        'videoBitrate: $videoBitrate, '
+        'bandwidthEstimate: $bandwidthEstimate, '
+        'droppedFrames: $droppedFrames)';
   }
 }
 
@@ -271,6 +308,12 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
   Timer? _timer;
   bool _isDisposed = false;
   Completer<void>? _creatingCompleter;
+  bool _receivesPositionUpdates = false;
+  bool _playbackMetricsEnabled = false;
+  bool _hasTrackSelectionLimits = false;
+  int? _maxVideoWidth;
+  int? _maxVideoHeight;
+  int? _maxVideoBitrate;
   StreamSubscription<dynamic>? _eventSubscription;
   late _VideoAppLifeCycleObserver _lifeCycleObserver;
 
@@ -297,6 +340,7 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
           sourceType: DataSourceType.asset,
           asset: dataSource,
           package: package,
+          bufferingOptions: videoPlayerOptions?.bufferingOptions,
         );
         break;
       case DataSourceType.network:
@@ -305,18 +349,21 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
           uri: dataSource,
           formatHint: formatHint,
           httpHeaders: httpHeaders,
+          bufferingOptions: videoPlayerOptions?.bufferingOptions,
         );
         break;
       case DataSourceType.file:
         dataSourceDescription = DataSource(
           sourceType: DataSourceType.file,
           uri: dataSource,
+          bufferingOptions: videoPlayerOptions?.bufferingOptions,
         );
         break;
       case DataSourceType.contentUri:
         dataSourceDescription = DataSource(
           sourceType: DataSourceType.contentUri,
           uri: dataSource,
+          bufferingOptions: videoPlayerOptions?.bufferingOptions,
         );
         break;
     }
@@ -328,6 +375,10 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
 
     _textureId = (await _videoPlayerPlatform.create(dataSourceDescription)) ??
         kUninitializedTextureId;
+    if (videoPlayerOptions?.positionUpdateInterval != null) {
+      _receivesPositionUpdates = await _enablePositionUpdates(
+          videoPlayerOptions!.positionUpdateInterval!);
+    }
     _creatingCompleter!.complete(null);
     final Completer<void> initializingCompleter = Completer<void>();
 
@@ -347,6 +398,12 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
           _applyLooping();
           _applyVolume();
           _applyPlayPause();
+          if (_hasTrackSelectionLimits) {
+            _applyTrackSelectionLimits();
+          }
+          if (_playbackMetricsEnabled) {
+            _applyPlaybackMetrics();
+          }
           break;
         case VideoEventType.completed:
           // In this case we need to stop _timer, set isPlaying=false, and
@@ -364,6 +421,22 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
         case VideoEventType.bufferingEnd:
           value = value.copyWith(isBuffering: false);
           break;
+        case VideoEventType.positionUpdate:
+          _updatePosition(event.position!);
+          if (event.buffered != null) {
+            value = value.copyWith(buffered: event.buffered);
+          }
+          break;
+        case VideoEventType.videoFormatChanged:
+          value = value.copyWith(videoBitrate: event.bitrate);
+          break;
+        case VideoEventType.bandwidthEstimate:
+          value = value.copyWith(bandwidthEstimate: event.bitrate);
+          break;
+        case VideoEventType.droppedFrames:
+          value = value.copyWith(
+              droppedFrames: value.droppedFrames + event.droppedFrames!);
+          break;
         case VideoEventType.unknown:
           break;
       }
@@ -451,19 +524,23 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
 
       // Cancel previous timer.
       _timer?.cancel();
-      _timer = Timer.periodic(
-        const Duration(milliseconds: 500),
-        (Timer timer) async {
-          if (_isDisposed) {
-            return;
-          }
-          final Duration? newPosition = await position;
-          if (newPosition == null) {
-            return;
-          }
-          _updatePosition(newPosition);
-        },
-      );
+      // The platform pushes the position itself when position updates are
+      // enabled, so there is nothing to poll.
+      if (!_receivesPositionUpdates) {
+        _timer = Timer.periodic(
+          const Duration(milliseconds: 500),
+          (Timer timer) async {
+            if (_isDisposed) {
+              return;
+            }
+            final Duration? newPosition = await position;
+            if (newPosition == null) {
+              return;
+            }
+            _updatePosition(newPosition);
+          },
+        );
+      }
 
       // This ensures that the correct playback speed is always applied when
       // playing back. This is necessary because we do not set playback speed
@@ -475,6 +552,40 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
     }
   }
 
+  /// Returns whether the platform accepted pushing position updates every
+  /// [interval]. Platforms that don't support it fall back to polling.
+  Future<bool> _enablePositionUpdates(Duration interval) async {
+    try {
+      await _videoPlayerPlatform.setPositionUpdateInterval(
+          _textureId, interval);
+      return true;
+    } on UnimplementedError {
+      return false;
+    } on PlatformException {
+      return false;
+    }
+  }
+
+  Future<void> _applyTrackSelectionLimits() async {
+    if (_isDisposedOrNotInitialized) {
+      return;
+    }
+    await _videoPlayerPlatform.setTrackSelectionLimits(
+      _textureId,
+      maxVideoWidth: _maxVideoWidth,
+      maxVideoHeight: _maxVideoHeight,
+      maxVideoBitrate: _maxVideoBitrate,
+    );
+  }
+
+  Future<void> _applyPlaybackMetrics() async {
+    if (_isDisposedOrNotInitialized) {
+      return;
+    }
+    await _videoPlayerPlatform.setPlaybackMetricsEnabled(
+        _textureId, _playbackMetricsEnabled);
+  }
+
   Future<void> _applyVolume() async {
     if (_isDisposedOrNotInitialized) {
       return;
@@ -567,6 +678,65 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
     await _applyPlaybackSpeed();
   }
 
+  /// **Android only**. Caps the video tracks chosen by adaptive streams such
+  /// as DASH and HLS. A null value removes the corresponding limit.
+  ///
+  /// Limits set before [initialize] completes are applied once the video is
+  /// initialized.
+  Future<void> setTrackSelectionLimits({
+    int? maxVideoWidth,
+    int? maxVideoHeight,
+    int? maxVideoBitrate,
+  }) async {
+    _hasTrackSelectionLimits = true;
+    _maxVideoWidth = maxVideoWidth;
+    _maxVideoHeight = maxVideoHeight;
+    _maxVideoBitrate = maxVideoBitrate;
+    await _applyTrackSelectionLimits();
+  }
+
+  /// **Android only**. Enables or disables reporting of
+  /// [VideoPlayerValue.videoBitrate], [VideoPlayerValue.bandwidthEstimate]
+  /// and [VideoPlayerValue.droppedFrames].
+  Future<void> setPlaybackMetricsEnabled(bool enabled) async {
+    _playbackMetricsEnabled = enabled;
+    await _applyPlaybackMetrics();
+  }
+
+  /// **Android only**. Enables or disables the disk cache shared by all
+  /// network videos.
+  ///
+  /// Only controllers initialized after this call use the new configuration.
+  static Future<void> setCacheConfig(VideoCacheConfig config) {
+    return _videoPlayerPlatform.setCacheConfig(config);
+  }
+
+  /// **Android only**. Returns the usage statistics of the disk cache.
+  static Future<VideoCacheStats> getCacheStats() {
+    return _videoPlayerPlatform.getCacheStats();
+  }
+
+  /// **Android only**. Downloads part of a network video into the disk cache
+  /// so that a later [VideoPlayerController.network] for the same [uri]
+  /// starts without waiting for the network.
+  ///
+  /// Caches [length] bytes starting at [position], or until the end of the
+  /// video if [length] is null. Requires the cache to be enabled with
+  /// [setCacheConfig].
+  static Future<void> prefetch(
+    String uri, {
+    Map<String, String> httpHeaders = const <String, String>{},
+    int position = 0,
+    int? length,
+  }) {
+    return _videoPlayerPlatform.prefetch(
+      uri,
+      httpHeaders: httpHeaders,
+      position: position,
+      length: length,
+    );
+  }
+
   /// The closed caption based on the current [position] in the video.
   ///
   /// If there are no closed captions at the current [position], this will
@@ -36,12 +36,55 @@ class CreateMessage {
   String packageName;
   String formatHint;
   Map<String, String> httpHeaders;
+  int minBufferMs;
+  int maxBufferMs;
+  int bufferForPlaybackMs;
+  int bufferForPlaybackAfterRebufferMs;
+  int maxBufferBytes;
 }
 
 class MixWithOthersMessage {
   bool mixWithOthers;
 }
 
+class PositionUpdatesMessage {
+  int textureId;
+  int intervalMs;
+}
+
+class TrackSelectionMessage {
+  int textureId;
+  int maxVideoWidth;
+  int maxVideoHeight;
+  int maxVideoBitrate;
+}
+
+class PlaybackMetricsMessage {
+  int textureId;
+  bool enabled;
+}
+
+class CacheConfigMessage {
+  bool enabled;
+  int maxCacheBytes;
+  String cacheDirectory;
+}
+
+class CacheStatsMessage {
+  int hitCount;
+  int missCount;
+  int bytesSaved;
+  int cacheSpaceBytes;
+  int prefetchCount;
+}
+
+class PrefetchMessage {
+  String uri;
+  Map<String, String> httpHeaders;
+  int position;
+  int length;
+}
+
 @HostApi(dartHostTestHandler: 'TestHostVideoPlayerApi')
 abstract class VideoPlayerApi {
   void initialize();
@@ -55,6 +98,12 @@ abstract class VideoPlayerApi {
   void seekTo(PositionMessage msg);
   void pause(TextureMessage msg);
   void setMixWithOthers(MixWithOthersMessage msg);
+  void setCacheConfig(CacheConfigMessage msg);
+  CacheStatsMessage cacheStats();
+  void prefetch(PrefetchMessage msg);
+  void setPositionUpdates(PositionUpdatesMessage msg);
+  void setTrackSelectionLimits(TrackSelectionMessage msg);
+  void setPlaybackMetrics(PlaybackMetricsMessage msg);
 }
 
 void configurePigeon(PigeonOptions opts) {
@@ -63,6 +63,16 @@ class FakeController extends ValueNotifier<VideoPlayerValue>
   @override
   Future<void> setLooping(bool looping) async {}
 
+  @override
+  Future<void> setTrackSelectionLimits({
+    int? maxVideoWidth,
+    int? maxVideoHeight,
+    int? maxVideoBitrate,
+  }) async {}
+
+  @override
+  Future<void> setPlaybackMetricsEnabled(bool enabled) async {}
+
   @override
   VideoFormat? get formatHint => null;
 
@@ -264,6 +274,25 @@ void main() {
         );
       });
 
+      test('network with buffering options', () async {
+        final VideoPlayerController controller = VideoPlayerController.network(
+          'https://127.0.0.1',
+          videoPlayerOptions: VideoPlayerOptions(
+            bufferingOptions: const VideoBufferingOptions(
+              minBuffer: Duration(seconds: 10),
+              maxBufferBytes: 1024,
+            ),
+          ),
+        );
+        await controller.initialize();
+
+        final CreateMessage message =
+            fakeVideoPlayerPlatform.dataSourceDescriptions[0];
+        expect(message.minBufferMs, 10000);
+        expect(message.maxBufferMs, null);
+        expect(message.maxBufferBytes, 1024);
+      });
+
       test('init errors', () async {
         final VideoPlayerController controller = VideoPlayerController.network(
           'http://testing.com/invalid_url',
@@ -560,6 +589,107 @@ void main() {
       });
     });
 
+    group('Android playback options', () {
+      testWidgets('position updates replace polling',
+          (WidgetTester tester) async {
+        final VideoPlayerController controller = VideoPlayerController.network(
+          'https://127.0.0.1',
+          videoPlayerOptions: VideoPlayerOptions(
+              positionUpdateInterval: const Duration(milliseconds: 100)),
+        );
+        await controller.initialize();
+        expect(fakeVideoPlayerPlatform.positionUpdates!.intervalMs, 100);
+
+        await controller.play();
+        await tester.pump(const Duration(seconds: 1));
+        expect(fakeVideoPlayerPlatform.calls, isNot(contains('position')));
+
+        final FakeVideoEventStream fakeVideoEventStream =
+            fakeVideoPlayerPlatform.streams[controller.textureId]!;
+        fakeVideoEventStream.eventsChannel.sendEvent(<String, dynamic>{
+          'event': 'positionUpdate',
+          'position': 300,
+          'values': <List<int>>[<int>[0, 500]],
+        });
+        await tester.pumpAndSettle();
+
+        expect(controller.value.position, const Duration(milliseconds: 300));
+        expect(controller.value.buffered.length, 1);
+        expect(controller.value.buffered[0].end,
+            const Duration(milliseconds: 500));
+      });
+
+      testWidgets('track selection limits are applied on initialize',
+          (WidgetTester tester) async {
+        final VideoPlayerController controller = VideoPlayerController.network(
+          'https://127.0.0.1',
+        );
+        await controller.setTrackSelectionLimits(
+            maxVideoWidth: 1280, maxVideoBitrate: 2000000);
+        expect(fakeVideoPlayerPlatform.trackSelection, isNull);
+
+        await controller.initialize();
+        await tester.pumpAndSettle();
+
+        expect(fakeVideoPlayerPlatform.trackSelection!.maxVideoWidth, 1280);
+        expect(fakeVideoPlayerPlatform.trackSelection!.maxVideoHeight, null);
+        expect(
+            fakeVideoPlayerPlatform.trackSelection!.maxVideoBitrate, 2000000);
+      });
+
+      testWidgets('playback metrics', (WidgetTester tester) async {
+        final VideoPlayerController controller = VideoPlayerController.network(
+          'https://127.0.0.1',
+        );
+        await controller.initialize();
+        await controller.setPlaybackMetricsEnabled(true);
+        expect(fakeVideoPlayerPlatform.playbackMetrics!.enabled, isTrue);
+
+        final FakeVideoEventStream fakeVideoEventStream =
+            fakeVideoPlayerPlatform.streams[controller.textureId]!;
+        fakeVideoEventStream.eventsChannel.sendEvent(<String, dynamic>{
+          'event': 'videoFormatChanged',
+          'bitrate': 800000,
+          'width': 1280,
+          'height': 720,
+        });
+        fakeVideoEventStream.eventsChannel.sendEvent(<String, dynamic>{
+          'event': 'bandwidthEstimate',
+          'bitrateEstimate': 2000000,
+        });
+        for (int i = 0; i < 2; i++) {
+          fakeVideoEventStream.eventsChannel.sendEvent(<String, dynamic>{
+            'event': 'droppedFrames',
+            'count': 3,
+            'elapsedMs': 1000,
+          });
+        }
+        await tester.pumpAndSettle();
+
+        expect(controller.value.videoBitrate, 800000);
+        expect(controller.value.bandwidthEstimate, 2000000);
+        expect(controller.value.droppedFrames, 6);
+      });
+
+      test('cache', () async {
+        await VideoPlayerController.setCacheConfig(
+            const VideoCacheConfig(enabled: true, maxCacheBytes: 1024));
+        expect(fakeVideoPlayerPlatform.cacheConfig!.enabled, isTrue);
+        expect(fakeVideoPlayerPlatform.cacheConfig!.maxCacheBytes, 1024);
+
+        await VideoPlayerController.prefetch('https://127.0.0.1', length: 512);
+        expect(fakeVideoPlayerPlatform.prefetchMessage!.uri,
+            'https://127.0.0.1');
+        expect(fakeVideoPlayerPlatform.prefetchMessage!.position, 0);
+        expect(fakeVideoPlayerPlatform.prefetchMessage!.length, 512);
+
+        final VideoCacheStats stats =
+            await VideoPlayerController.getCacheStats();
+        expect(stats.hitCount, 1);
+        expect(stats.prefetchCount, 5);
+      });
+    });
+
     group('Platform callbacks', () {
       testWidgets('playing completed', (WidgetTester tester) async {
         final VideoPlayerController controller = VideoPlayerController.network(
@@ -726,7 +856,10 @@ void main() {
           'isBuffering: true, '
           'volume: 0.5, '
           'playbackSpeed: 1.5, '
-          'errorDescription: null)');
+          'errorDescription: null, '
+          'videoBitrate: null, '
+          'bandwidthEstimate: null, '
+          'droppedFrames: 0)');
     });
 
     test('copyWith()', () {
@@ -885,6 +1018,53 @@ class FakeVideoPlayerPlatform extends TestHostVideoPlayerApi {
   void setMixWithOthers(MixWithOthersMessage arg) {
     calls.add('setMixWithOthers');
   }
+
+  CacheConfigMessage? cacheConfig;
+  PrefetchMessage? prefetchMessage;
+  PositionUpdatesMessage? positionUpdates;
+  TrackSelectionMessage? trackSelection;
+  PlaybackMetricsMessage? playbackMetrics;
+
+  @override
+  void setCacheConfig(CacheConfigMessage arg) {
+    calls.add('setCacheConfig');
+    cacheConfig = arg;
+  }
+
+  @override
+  CacheStatsMessage cacheStats() {
+    calls.add('cacheStats');
+    return CacheStatsMessage()
+      ..hitCount = 1
+      ..missCount = 2
+      ..bytesSaved = 3
+      ..cacheSpaceBytes = 4
+      ..prefetchCount = 5;
+  }
+
+  @override
+  void prefetch(PrefetchMessage arg) {
+    calls.add('prefetch');
+    prefetchMessage = arg;
+  }
+
+  @override
+  void setPositionUpdates(PositionUpdatesMessage arg) {
+    calls.add('setPositionUpdates');
+    positionUpdates = arg;
+  }
+
+  @override
+  void setTrackSelectionLimits(TrackSelectionMessage arg) {
+    calls.add('setTrackSelectionLimits');
+    trackSelection = arg;
+  }
+
+  @override
+  void setPlaybackMetrics(PlaybackMetricsMessage arg) {
+    calls.add('setPlaybackMetrics');
+    playbackMetrics = arg;
+  }
 }
 
 class FakeVideoEventStream {
@@ -32,6 +32,11 @@ class CreateMessage {
   String? packageName;
   String? formatHint;
   Map<Object?, Object?>? httpHeaders;
+  int? minBufferMs;
+  int? maxBufferMs;
+  int? bufferForPlaybackMs;
+  int? bufferForPlaybackAfterRebufferMs;
+  int? maxBufferBytes;
 
   Object encode() {
     final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
@@ -40,6 +45,12 @@ class CreateMessage {
     pigeonMap['packageName'] = packageName;
     pigeonMap['formatHint'] = formatHint;
     pigeonMap['httpHeaders'] = httpHeaders;
+    pigeonMap['minBufferMs'] = minBufferMs;
+    pigeonMap['maxBufferMs'] = maxBufferMs;
+    pigeonMap['bufferForPlaybackMs'] = bufferForPlaybackMs;
+    pigeonMap['bufferForPlaybackAfterRebufferMs'] =
+        bufferForPlaybackAfterRebufferMs;
+    pigeonMap['maxBufferBytes'] = maxBufferBytes;
     return pigeonMap;
   }
 
@@ -50,7 +61,13 @@ class CreateMessage {
       ..uri = pigeonMap['uri'] as String?
       ..packageName = pigeonMap['packageName'] as String?
       ..formatHint = pigeonMap['formatHint'] as String?
-      ..httpHeaders = pigeonMap['httpHeaders'] as Map<Object?, Object?>?;
+      ..httpHeaders = pigeonMap['httpHeaders'] as Map<Object?, Object?>?
+      ..minBufferMs = pigeonMap['minBufferMs'] as int?
+      ..maxBufferMs = pigeonMap['maxBufferMs'] as int?
+      ..bufferForPlaybackMs = pigeonMap['bufferForPlaybackMs'] as int?
+      ..bufferForPlaybackAfterRebufferMs =
+          pigeonMap['bufferForPlaybackAfterRebufferMs'] as int?
+      ..maxBufferBytes = pigeonMap['maxBufferBytes'] as int?;
   }
 }
 
@@ -146,6 +163,144 @@ class MixWithOthersMessage {
   }
 }
 
+class PositionUpdatesMessage {
+  int? textureId;
+  int? intervalMs;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['intervalMs'] = intervalMs;
+    return pigeonMap;
+  }
+
+  static PositionUpdatesMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PositionUpdatesMessage()
+      ..textureId = pigeonMap['textureId'] as int?
+      ..intervalMs = pigeonMap['intervalMs'] as int?;
+  }
+}
+
+class TrackSelectionMessage {
+  int? textureId;
+  int? maxVideoWidth;
+  int? maxVideoHeight;
+  int? maxVideoBitrate;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['maxVideoWidth'] = maxVideoWidth;
+    pigeonMap['maxVideoHeight'] = maxVideoHeight;
+    pigeonMap['maxVideoBitrate'] = maxVideoBitrate;
+    return pigeonMap;
+  }
+
+  static TrackSelectionMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return TrackSelectionMessage()
+      ..textureId = pigeonMap['textureId'] as int?
+      ..maxVideoWidth = pigeonMap['maxVideoWidth'] as int?
+      ..maxVideoHeight = pigeonMap['maxVideoHeight'] as int?
+      ..maxVideoBitrate = pigeonMap['maxVideoBitrate'] as int?;
+  }
+}
+
+class PlaybackMetricsMessage {
+  int? textureId;
+  bool? enabled;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['enabled'] = enabled;
+    return pigeonMap;
+  }
+
+  static PlaybackMetricsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PlaybackMetricsMessage()
+      ..textureId = pigeonMap['textureId'] as int?
+      ..enabled = pigeonMap['enabled'] as bool?;
+  }
+}
+
+class CacheConfigMessage {
+  bool? enabled;
+  int? maxCacheBytes;
+  String? cacheDirectory;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['enabled'] = enabled;
+    pigeonMap['maxCacheBytes'] = maxCacheBytes;
+    pigeonMap['cacheDirectory'] = cacheDirectory;
+    return pigeonMap;
+  }
+
+  static CacheConfigMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return CacheConfigMessage()
+      ..enabled = pigeonMap['enabled'] as bool?
+      ..maxCacheBytes = pigeonMap['maxCacheBytes'] as int?
+      ..cacheDirectory = pigeonMap['cacheDirectory'] as String?;
+  }
+}
+
+class CacheStatsMessage {
+  int? hitCount;
+  int? missCount;
+  int? bytesSaved;
+  int? cacheSpaceBytes;
+  int? prefetchCount;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['hitCount'] = hitCount;
+    pigeonMap['missCount'] = missCount;
+    pigeonMap['bytesSaved'] = bytesSaved;
+    pigeonMap['cacheSpaceBytes'] = cacheSpaceBytes;
+    pigeonMap['prefetchCount'] = prefetchCount;
+    return pigeonMap;
+  }
+
+  static CacheStatsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return CacheStatsMessage()
+      ..hitCount = pigeonMap['hitCount'] as int?
+      ..missCount = pigeonMap['missCount'] as int?
+      ..bytesSaved = pigeonMap['bytesSaved'] as int?
+      ..cacheSpaceBytes = pigeonMap['cacheSpaceBytes'] as int?
+      ..prefetchCount = pigeonMap['prefetchCount'] as int?;
+  }
+}
+
+class PrefetchMessage {
+  String? uri;
+  Map<Object?, Object?>? httpHeaders;
+  int? position;
+  int? length;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['uri'] = uri;
+    pigeonMap['httpHeaders'] = httpHeaders;
+    pigeonMap['position'] = position;
+    pigeonMap['length'] = length;
+    return pigeonMap;
+  }
+
+  static PrefetchMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PrefetchMessage()
+      ..uri = pigeonMap['uri'] as String?
+      ..httpHeaders = pigeonMap['httpHeaders'] as Map<Object?, Object?>?
+      ..position = pigeonMap['position'] as int?
+      ..length = pigeonMap['length'] as int?;
+  }
+}
+
 class VideoPlayerApi {
   Future<void> initialize() async {
     const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
@@ -422,4 +577,157 @@ class VideoPlayerApi {
       // noop
     }
   }
+
+  Future<void> setCacheConfig(CacheConfigMessage arg) async {
+    final Object encoded = arg.encode();
+    const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.VideoPlayerApi.setCacheConfig',
+        StandardMessageCodec());
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>;
+      throw PlatformException(
+        code: error['code'] as String,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      // noop
+    }
+  }
+
+  Future<CacheStatsMessage> cacheStats() async {
+    const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.VideoPlayerApi.cacheStats', StandardMessageCodec());
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>;
+      throw PlatformException(
+        code: error['code'] as String,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return CacheStatsMessage.decode(replyMap['result']!);
+    }
+  }
+
+  Future<void> prefetch(PrefetchMessage arg) async {
+    final Object encoded = arg.encode();
+    const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.VideoPlayerApi.prefetch', StandardMessageCodec());
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>;
+      throw PlatformException(
+        code: error['code'] as String,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      // noop
+    }
+  }
+
+  Future<void> setPositionUpdates(PositionUpdatesMessage arg) async {
+    final Object encoded = arg.encode();
+    const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.VideoPlayerApi.setPositionUpdates',
+        StandardMessageCodec());
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>;
+      throw PlatformException(
+        code: error['code'] as String,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      // noop
+    }
+  }
+
+  Future<void> setTrackSelectionLimits(TrackSelectionMessage arg) async {
+    final Object encoded = arg.encode();
+    const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.VideoPlayerApi.setTrackSelectionLimits',
+        StandardMessageCodec());
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>;
+      throw PlatformException(
+        code: error['code'] as String,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      // noop
+    }
+  }
+
+  Future<void> setPlaybackMetrics(PlaybackMetricsMessage arg) async {
+    final Object encoded = arg.encode();
+    const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.VideoPlayerApi.setPlaybackMetrics',
+        StandardMessageCodec());
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>;
+      throw PlatformException(
+        code: error['code'] as String,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      // noop
+    }
+  }
 }
@@ -29,6 +29,16 @@ class MethodChannelVideoPlayer extends VideoPlayerPlatform {
   Future<int?> create(DataSource dataSource) async {
     CreateMessage message = CreateMessage();
 
+    final VideoBufferingOptions? buffering = dataSource.bufferingOptions;
+    if (buffering != null) {
+      message.minBufferMs = buffering.minBuffer?.inMilliseconds;
+      message.maxBufferMs = buffering.maxBuffer?.inMilliseconds;
+      message.bufferForPlaybackMs = buffering.bufferForPlayback?.inMilliseconds;
+      message.bufferForPlaybackAfterRebufferMs =
+          buffering.bufferForPlaybackAfterRebuffer?.inMilliseconds;
+      message.maxBufferBytes = buffering.maxBufferBytes;
+    }
+
     switch (dataSource.sourceType) {
       case DataSourceType.asset:
         message.asset = dataSource.asset;
@@ -127,6 +137,32 @@ class MethodChannelVideoPlayer extends VideoPlayerPlatform {
           return VideoEvent(eventType: VideoEventType.bufferingStart);
         case 'bufferingEnd':
           return VideoEvent(eventType: VideoEventType.bufferingEnd);
+        case 'positionUpdate':
+          final List<dynamic> values = map['values'];
+
+          return VideoEvent(
+            eventType: VideoEventType.positionUpdate,
+            position: Duration(milliseconds: map['position']),
+            buffered: values.map<DurationRange>(_toDurationRange).toList(),
+          );
+        case 'videoFormatChanged':
+          return VideoEvent(
+            eventType: VideoEventType.videoFormatChanged,
+            bitrate: map['bitrate'],
+            size: Size(map['width']?.toDouble() ?? 0.0,
+                map['height']?.toDouble() ?? 0.0),
+          );
+        case 'bandwidthEstimate':
+          return VideoEvent(
+            eventType: VideoEventType.bandwidthEstimate,
+            bitrate: map['bitrateEstimate'],
+          );
+        case 'droppedFrames':
+          return VideoEvent(
+            eventType: VideoEventType.droppedFrames,
+            droppedFrames: map['count'],
+            elapsed: Duration(milliseconds: map['elapsedMs']),
+          );
         default:
           return VideoEvent(eventType: VideoEventType.unknown);
       }
@@ -145,6 +181,68 @@ class MethodChannelVideoPlayer extends VideoPlayerPlatform {
     );
   }
 
+  @override
+  Future<void> setCacheConfig(VideoCacheConfig config) {
+    return _api.setCacheConfig(CacheConfigMessage()
+      ..enabled = config.enabled
+      ..maxCacheBytes = config.maxCacheBytes
+      ..cacheDirectory = config.cacheDirectory);
+  }
+
+  @override
+  Future<VideoCacheStats> getCacheStats() async {
+    final CacheStatsMessage response = await _api.cacheStats();
+    return VideoCacheStats(
+      hitCount: response.hitCount!,
+      missCount: response.missCount!,
+      bytesSaved: response.bytesSaved!,
+      cacheSpaceBytes: response.cacheSpaceBytes!,
+      prefetchCount: response.prefetchCount!,
+    );
+  }
+
+  @override
+  Future<void> prefetch(
+    String uri, {
+    Map<String, String> httpHeaders = const <String, String>{},
+    int position = 0,
+    int? length,
+  }) {
+    return _api.prefetch(PrefetchMessage()
+      ..uri = uri
+      ..httpHeaders = httpHeaders
+      ..position = position
+      ..length = length);
+  }
+
+  @override
+  Future<void> setPositionUpdateInterval(int textureId, Duration? interval) {
+    return _api.setPositionUpdates(PositionUpdatesMessage()
+      ..textureId = textureId
+      ..intervalMs = interval?.inMilliseconds ?? 0);
+  }
+
+  @override
+  Future<void> setTrackSelectionLimits(
+    int textureId, {
+    int? maxVideoWidth,
+    int? maxVideoHeight,
+    int? maxVideoBitrate,
+  }) {
+    return _api.setTrackSelectionLimits(TrackSelectionMessage()
+      ..textureId = textureId
+      ..maxVideoWidth = maxVideoWidth
+      ..maxVideoHeight = maxVideoHeight
+      ..maxVideoBitrate = maxVideoBitrate);
+  }
+
+  @override
+  Future<void> setPlaybackMetricsEnabled(int textureId, bool enabled) {
+    return _api.setPlaybackMetrics(PlaybackMetricsMessage()
+      ..textureId = textureId
+      ..enabled = enabled);
+  }
+
   EventChannel _eventChannelFor(int textureId) {
     return EventChannel('flutter.io/videoPlayer/videoEvents$textureId');
   }
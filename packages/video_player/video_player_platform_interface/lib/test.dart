@@ -25,6 +25,12 @@ abstract class TestHostVideoPlayerApi {
   void seekTo(PositionMessage arg);
   void pause(TextureMessage arg);
   void setMixWithOthers(MixWithOthersMessage arg);
+  void setCacheConfig(CacheConfigMessage arg);
+  CacheStatsMessage cacheStats();
+  void prefetch(PrefetchMessage arg);
+  void setPositionUpdates(PositionUpdatesMessage arg);
+  void setTrackSelectionLimits(TrackSelectionMessage arg);
+  void setPlaybackMetrics(PlaybackMetricsMessage arg);
   static void setup(TestHostVideoPlayerApi? api) {
     {
       const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
@@ -196,5 +202,101 @@ abstract class TestHostVideoPlayerApi {
         });
       }
     }
+    {
+      const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.VideoPlayerApi.setCacheConfig',
+          StandardMessageCodec());
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.VideoPlayerApi.setCacheConfig was null. Expected CacheConfigMessage.');
+          final CacheConfigMessage input = CacheConfigMessage.decode(message!);
+          api.setCacheConfig(input);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.VideoPlayerApi.cacheStats',
+          StandardMessageCodec());
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          // ignore message
+          final CacheStatsMessage output = api.cacheStats();
+          return <Object?, Object?>{'result': output.encode()};
+        });
+      }
+    }
+    {
+      const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.VideoPlayerApi.prefetch', StandardMessageCodec());
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.VideoPlayerApi.prefetch was null. Expected PrefetchMessage.');
+          final PrefetchMessage input = PrefetchMessage.decode(message!);
+          api.prefetch(input);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.VideoPlayerApi.setPositionUpdates',
+          StandardMessageCodec());
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.VideoPlayerApi.setPositionUpdates was null. Expected PositionUpdatesMessage.');
+          final PositionUpdatesMessage input =
+              PositionUpdatesMessage.decode(message!);
+          api.setPositionUpdates(input);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.VideoPlayerApi.setTrackSelectionLimits',
+          StandardMessageCodec());
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.VideoPlayerApi.setTrackSelectionLimits was null. Expected TrackSelectionMessage.');
+          final TrackSelectionMessage input =
+              TrackSelectionMessage.decode(message!);
+          api.setTrackSelectionLimits(input);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.VideoPlayerApi.setPlaybackMetrics',
+          StandardMessageCodec());
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.VideoPlayerApi.setPlaybackMetrics was null. Expected PlaybackMetricsMessage.');
+          final PlaybackMetricsMessage input =
+              PlaybackMetricsMessage.decode(message!);
+          api.setPlaybackMetrics(input);
+          return <Object?, Object?>{};
+        });
+      }
+    }
   }
 }
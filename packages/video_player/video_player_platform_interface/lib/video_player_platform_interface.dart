@@ -120,6 +120,59 @@ abstract class VideoPlayerPlatform {
     throw UnimplementedError('setMixWithOthers() has not been implemented.');
   }
 
+  /// Enables or disables the disk cache shared by all network videos.
+  ///
+  /// Only players created after this call use the new configuration.
+  Future<void> setCacheConfig(VideoCacheConfig config) {
+    throw UnimplementedError('setCacheConfig() has not been implemented.');
+  }
+
+  /// Returns the usage statistics of the disk cache.
+  Future<VideoCacheStats> getCacheStats() {
+    throw UnimplementedError('getCacheStats() has not been implemented.');
+  }
+
+  /// Downloads part of a network video into the disk cache.
+  ///
+  /// Caches [length] bytes starting at [position], or until the end of the
+  /// video if [length] is null. Requires the cache to be enabled with
+  /// [setCacheConfig].
+  Future<void> prefetch(
+    String uri, {
+    Map<String, String> httpHeaders = const <String, String>{},
+    int position = 0,
+    int? length,
+  }) {
+    throw UnimplementedError('prefetch() has not been implemented.');
+  }
+
+  /// Sets how often [VideoEventType.positionUpdate] events are sent while the
+  /// video plays. A null [interval] stops them.
+  Future<void> setPositionUpdateInterval(int textureId, Duration? interval) {
+    throw UnimplementedError(
+        'setPositionUpdateInterval() has not been implemented.');
+  }
+
+  /// Caps the video tracks chosen by adaptive streams. A null value removes
+  /// the corresponding limit.
+  Future<void> setTrackSelectionLimits(
+    int textureId, {
+    int? maxVideoWidth,
+    int? maxVideoHeight,
+    int? maxVideoBitrate,
+  }) {
+    throw UnimplementedError(
+        'setTrackSelectionLimits() has not been implemented.');
+  }
+
+  /// Enables or disables the [VideoEventType.videoFormatChanged],
+  /// [VideoEventType.bandwidthEstimate] and [VideoEventType.droppedFrames]
+  /// events.
+  Future<void> setPlaybackMetricsEnabled(int textureId, bool enabled) {
+    throw UnimplementedError(
+        'setPlaybackMetricsEnabled() has not been implemented.');
+  }
+
   // This method makes sure that VideoPlayer isn't implemented with `implements`.
   //
   // See class doc for more details on why implementing this class is forbidden.
@@ -152,6 +205,7 @@ class DataSource {
     this.asset,
     this.package,
     this.httpHeaders = const {},
+    this.bufferingOptions,
   });
 
   /// The way in which the video was originally loaded.
@@ -181,6 +235,10 @@ class DataSource {
   /// The package that the asset was loaded from. Only set for
   /// [DataSourceType.asset] videos.
   final String? package;
+
+  /// **Android only**. How much of the video is buffered ahead, or null to
+  /// use the platform defaults.
+  final VideoBufferingOptions? bufferingOptions;
 }
 
 /// The way in which the video was originally loaded.
@@ -222,13 +280,16 @@ class VideoEvent {
   ///
   /// The [eventType] argument is required.
   ///
-  /// Depending on the [eventType], the [duration], [size] and [buffered]
-  /// arguments can be null.
+  /// Depending on the [eventType], the other arguments can be null.
   VideoEvent({
     required this.eventType,
     this.duration,
     this.size,
     this.buffered,
+    this.position,
+    this.bitrate,
+    this.droppedFrames,
+    this.elapsed,
   });
 
   /// The type of the event.
@@ -241,14 +302,38 @@ class VideoEvent {
 
   /// Size of the video.
   ///
-  /// Only used if [eventType] is [VideoEventType.initialized].
+  /// Only used if [eventType] is [VideoEventType.initialized] or
+  /// [VideoEventType.videoFormatChanged].
   final Size? size;
 
   /// Buffered parts of the video.
   ///
-  /// Only used if [eventType] is [VideoEventType.bufferingUpdate].
+  /// Only used if [eventType] is [VideoEventType.bufferingUpdate] or
+  /// [VideoEventType.positionUpdate].
   final List<DurationRange>? buffered;
 
+  /// The playback position.
+  ///
+  /// Only used if [eventType] is [VideoEventType.positionUpdate].
+  final Duration? position;
+
+  /// A bitrate in bits per second.
+  ///
+  /// The bitrate of the selected video track if [eventType] is
+  /// [VideoEventType.videoFormatChanged], and the estimated network bandwidth
+  /// if it is [VideoEventType.bandwidthEstimate].
+  final int? bitrate;
+
+  /// The number of video frames dropped during [elapsed].
+  ///
+  /// Only used if [eventType] is [VideoEventType.droppedFrames].
+  final int? droppedFrames;
+
+  /// The time over which [droppedFrames] were counted.
+  ///
+  /// Only used if [eventType] is [VideoEventType.droppedFrames].
+  final Duration? elapsed;
+
   @override
   bool operator ==(Object other) {
     return identical(this, other) ||
@@ -257,7 +342,11 @@ class VideoEvent {
             eventType == other.eventType &&
             duration == other.duration &&
             size == other.size &&
-            listEquals(buffered, other.buffered);
+            listEquals(buffered, other.buffered) &&
+            position == other.position &&
+            bitrate == other.bitrate &&
+            droppedFrames == other.droppedFrames &&
+            elapsed == other.elapsed;
   }
 
   @override
@@ -265,7 +354,11 @@ class VideoEvent {
       eventType.hashCode ^
       duration.hashCode ^
       size.hashCode ^
-      buffered.hashCode;
+      buffered.hashCode ^
+      position.hashCode ^
+      bitrate.hashCode ^
+      droppedFrames.hashCode ^
+      elapsed.hashCode;
 }
 
 /// Type of the event.
@@ -288,6 +381,18 @@ enum VideoEventType {
   /// The video stopped to buffer.
   bufferingEnd,
 
+  /// The playback position, sent periodically while the video plays.
+  positionUpdate,
+
+  /// Adaptive streaming switched to another video track.
+  videoFormatChanged,
+
+  /// The estimated network bandwidth changed.
+  bandwidthEstimate,
+
+  /// Video frames were dropped.
+  droppedFrames,
+
   /// An unknown event has been received.
   unknown,
 }
@@ -360,6 +465,129 @@ class VideoPlayerOptions {
   /// currently no way to implement this feature in this platform).
   final bool mixWithOthers;
 
+  /// **Android only**. How much of the video is buffered ahead, or null to
+  /// use the platform defaults.
+  final VideoBufferingOptions? bufferingOptions;
+
+  /// **Android only**. How often the position is pushed by the platform while
+  /// the video plays.
+  ///
+  /// If null, or if the platform doesn't support it, the position is polled
+  /// instead.
+  final Duration? positionUpdateInterval;
+
   /// set additional optional player settings
-  VideoPlayerOptions({this.mixWithOthers = false});
+  VideoPlayerOptions({
+    this.mixWithOthers = false,
+    this.bufferingOptions,
+    this.positionUpdateInterval,
+  });
+}
+
+/// How much of a video the player buffers ahead of the playback position.
+///
+/// A null value keeps the platform default for that setting.
+class VideoBufferingOptions {
+  /// Creates a [VideoBufferingOptions].
+  ///
+  /// The durations must satisfy
+  /// `bufferForPlayback <= minBuffer <= maxBuffer` and
+  /// `bufferForPlaybackAfterRebuffer <= minBuffer`. Unset values take the
+  /// platform defaults, adjusted to satisfy these constraints with the values
+  /// that are set. Creating a player with inconsistent values fails.
+  const VideoBufferingOptions({
+    this.minBuffer,
+    this.maxBuffer,
+    this.bufferForPlayback,
+    this.bufferForPlaybackAfterRebuffer,
+    this.maxBufferBytes,
+  });
+
+  /// The duration the player tries to keep buffered at all times.
+  final Duration? minBuffer;
+
+  /// The maximum duration the player buffers ahead.
+  final Duration? maxBuffer;
+
+  /// The duration that must be buffered before playback starts or resumes
+  /// after a seek.
+  final Duration? bufferForPlayback;
+
+  /// The duration that must be buffered before playback resumes after the
+  /// buffer ran out.
+  final Duration? bufferForPlaybackAfterRebuffer;
+
+  /// The maximum size of the buffer in bytes.
+  ///
+  /// When set, the player stops buffering at this size even if [minBuffer]
+  /// has not been reached.
+  final int? maxBufferBytes;
+}
+
+/// The configuration of the disk cache shared by all network videos.
+class VideoCacheConfig {
+  /// Creates a [VideoCacheConfig].
+  const VideoCacheConfig({
+    required this.enabled,
+    this.maxCacheBytes,
+    this.cacheDirectory,
+  });
+
+  /// Whether network videos are cached.
+  final bool enabled;
+
+  /// The size of the cache, or null for the platform default.
+  final int? maxCacheBytes;
+
+  /// The absolute path of the cache directory, or null for the platform
+  /// default.
+  final String? cacheDirectory;
+}
+
+/// Usage statistics of the disk cache shared by all network videos.
+class VideoCacheStats {
+  /// Creates a [VideoCacheStats].
+  const VideoCacheStats({
+    required this.hitCount,
+    required this.missCount,
+    required this.bytesSaved,
+    required this.cacheSpaceBytes,
+    required this.prefetchCount,
+  });
+
+  /// The number of playback reads served from the cache.
+  final int hitCount;
+
+  /// The number of playback reads that went to the network.
+  ///
+  /// Reads made by prefetching are not counted.
+  final int missCount;
+
+  /// The number of bytes read from the cache instead of the network.
+  final int bytesSaved;
+
+  /// The number of bytes the cache uses on disk.
+  final int cacheSpaceBytes;
+
+  /// The number of network reads made by [VideoPlayerPlatform.prefetch].
+  final int prefetchCount;
+
+  @override
+  bool operator ==(Object other) =>
+      identical(this, other) ||
+      other is VideoCacheStats &&
+          runtimeType == other.runtimeType &&
+          hitCount == other.hitCount &&
+          missCount == other.missCount &&
+          bytesSaved == other.bytesSaved &&
+          cacheSpaceBytes == other.cacheSpaceBytes &&
+          prefetchCount == other.prefetchCount;
+
+  @override
+  int get hashCode =>
+      hitCount.hashCode ^
+      missCount.hashCode ^
+      bytesSaved.hashCode ^
+      cacheSpaceBytes.hashCode ^
+      prefetchCount.hashCode;
 }
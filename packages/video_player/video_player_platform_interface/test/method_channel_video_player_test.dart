@@ -20,6 +20,11 @@ class _ApiLogger implements TestHostVideoPlayerApi {
   VolumeMessage? volumeMessage;
   PlaybackSpeedMessage? playbackSpeedMessage;
   MixWithOthersMessage? mixWithOthersMessage;
+  CacheConfigMessage? cacheConfigMessage;
+  PrefetchMessage? prefetchMessage;
+  PositionUpdatesMessage? positionUpdatesMessage;
+  TrackSelectionMessage? trackSelectionMessage;
+  PlaybackMetricsMessage? playbackMetricsMessage;
 
   @override
   TextureMessage create(CreateMessage arg) {
@@ -87,6 +92,47 @@ class _ApiLogger implements TestHostVideoPlayerApi {
     log.add('setPlaybackSpeed');
     playbackSpeedMessage = arg;
   }
+
+  @override
+  void setCacheConfig(CacheConfigMessage arg) {
+    log.add('setCacheConfig');
+    cacheConfigMessage = arg;
+  }
+
+  @override
+  CacheStatsMessage cacheStats() {
+    log.add('cacheStats');
+    return CacheStatsMessage()
+      ..hitCount = 1
+      ..missCount = 2
+      ..bytesSaved = 3
+      ..cacheSpaceBytes = 4
+      ..prefetchCount = 5;
+  }
+
+  @override
+  void prefetch(PrefetchMessage arg) {
+    log.add('prefetch');
+    prefetchMessage = arg;
+  }
+
+  @override
+  void setPositionUpdates(PositionUpdatesMessage arg) {
+    log.add('setPositionUpdates');
+    positionUpdatesMessage = arg;
+  }
+
+  @override
+  void setTrackSelectionLimits(TrackSelectionMessage arg) {
+    log.add('setTrackSelectionLimits');
+    trackSelectionMessage = arg;
+  }
+
+  @override
+  void setPlaybackMetrics(PlaybackMetricsMessage arg) {
+    log.add('setPlaybackMetrics');
+    playbackMetricsMessage = arg;
+  }
 }
 
 void main() {
@@ -166,6 +212,34 @@ void main() {
       expect(textureId, 3);
     });
 
+    test('create with buffering options', () async {
+      await player.create(DataSource(
+        sourceType: DataSourceType.network,
+        uri: 'someUri',
+        bufferingOptions: const VideoBufferingOptions(
+          minBuffer: Duration(seconds: 10),
+          maxBuffer: Duration(seconds: 30),
+          bufferForPlayback: Duration(seconds: 1),
+          maxBufferBytes: 1024,
+        ),
+      ));
+      expect(log.log.last, 'create');
+      expect(log.createMessage?.minBufferMs, 10000);
+      expect(log.createMessage?.maxBufferMs, 30000);
+      expect(log.createMessage?.bufferForPlaybackMs, 1000);
+      expect(log.createMessage?.bufferForPlaybackAfterRebufferMs, null);
+      expect(log.createMessage?.maxBufferBytes, 1024);
+    });
+
+    test('create without buffering options', () async {
+      await player.create(DataSource(
+        sourceType: DataSourceType.network,
+        uri: 'someUri',
+      ));
+      expect(log.createMessage?.minBufferMs, null);
+      expect(log.createMessage?.maxBufferBytes, null);
+    });
+
     test('create with file', () async {
       final int? textureId = await player.create(DataSource(
         sourceType: DataSourceType.file,
@@ -226,6 +300,75 @@ void main() {
       expect(log.positionMessage?.position, 12345);
     });
 
+    test('setCacheConfig', () async {
+      await player.setCacheConfig(const VideoCacheConfig(
+        enabled: true,
+        maxCacheBytes: 1024,
+        cacheDirectory: '/cache',
+      ));
+      expect(log.log.last, 'setCacheConfig');
+      expect(log.cacheConfigMessage?.enabled, true);
+      expect(log.cacheConfigMessage?.maxCacheBytes, 1024);
+      expect(log.cacheConfigMessage?.cacheDirectory, '/cache');
+    });
+
+    test('getCacheStats', () async {
+      final VideoCacheStats stats = await player.getCacheStats();
+      expect(log.log.last, 'cacheStats');
+      expect(
+          stats,
+          const VideoCacheStats(
+            hitCount: 1,
+            missCount: 2,
+            bytesSaved: 3,
+            cacheSpaceBytes: 4,
+            prefetchCount: 5,
+          ));
+    });
+
+    test('prefetch', () async {
+      await player.prefetch(
+        'someUri',
+        httpHeaders: {'Authorization': 'Bearer token'},
+        position: 10,
+        length: 20,
+      );
+      expect(log.log.last, 'prefetch');
+      expect(log.prefetchMessage?.uri, 'someUri');
+      expect(
+          log.prefetchMessage?.httpHeaders, {'Authorization': 'Bearer token'});
+      expect(log.prefetchMessage?.position, 10);
+      expect(log.prefetchMessage?.length, 20);
+    });
+
+    test('setPositionUpdateInterval', () async {
+      await player.setPositionUpdateInterval(
+          1, const Duration(milliseconds: 250));
+      expect(log.log.last, 'setPositionUpdates');
+      expect(log.positionUpdatesMessage?.textureId, 1);
+      expect(log.positionUpdatesMessage?.intervalMs, 250);
+
+      await player.setPositionUpdateInterval(1, null);
+      expect(log.positionUpdatesMessage?.intervalMs, 0);
+    });
+
+    test('setTrackSelectionLimits', () async {
+      await player.setTrackSelectionLimits(1,
+          maxVideoWidth: 1280, maxVideoBitrate: 2000000);
+      expect(log.log.last, 'setTrackSelectionLimits');
+      expect(log.trackSelectionMessage?.textureId, 1);
+      expect(log.trackSelectionMessage?.maxVideoWidth, 1280);
+      expect(log.trackSelectionMessage?.maxVideoHeight, null);
+      expect(log.trackSelectionMessage?.maxVideoBitrate, 2000000);
+    });
+
+    test('setPlaybackMetricsEnabled', () async {
+      await player.setPlaybackMetricsEnabled(1, true);
+      expect(log.log.last, 'setPlaybackMetrics');
+      expect(log.playbackMetricsMessage?.textureId, 1);
+      expect(log.playbackMetricsMessage?.enabled, true);
+    });
+
     test('getPosition', () async {
       final Duration position = await player.getPosition(1);
       expect(log.log.last, 'position');
@@ -332,6 +475,116 @@ void main() {
             VideoEvent(eventType: VideoEventType.bufferingEnd),
           ]));
     });
+
+    test('videoEventsFor decodes positionUpdate events', () async {
+      _ambiguate(ServicesBinding.instance)
+          ?.defaultBinaryMessenger
+          .setMockMessageHandler(
+        "flutter.io/videoPlayer/videoEvents124",
+        (ByteData? message) async {
+          final MethodCall methodCall =
+              const StandardMethodCodec().decodeMethodCall(message);
+          if (methodCall.method == 'listen') {
+            for (final Map<String, dynamic> event in <Map<String, dynamic>>[
+              <String, dynamic>{
+                'event': 'positionUpdate',
+                'position': 1500,
+                'values': <List<dynamic>>[
+                  <int>[0, 4000],
+                ],
+              },
+            ]) {
+              await _ambiguate(ServicesBinding.instance)
+                  ?.defaultBinaryMessenger
+                  .handlePlatformMessage(
+                      "flutter.io/videoPlayer/videoEvents124",
+                      const StandardMethodCodec().encodeSuccessEnvelope(event),
+                      (ByteData? data) {});
+            }
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else if (methodCall.method == 'cancel') {
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else {
+            fail('Expected listen or cancel');
+          }
+        },
+      );
+      expect(
+          player.videoEventsFor(124),
+          emitsInOrder(<dynamic>[
+            VideoEvent(
+              eventType: VideoEventType.positionUpdate,
+              position: const Duration(milliseconds: 1500),
+              buffered: <DurationRange>[
+                DurationRange(
+                  const Duration(milliseconds: 0),
+                  const Duration(milliseconds: 4000),
+                ),
+              ],
+            ),
+          ]));
+    });
+
+    test('videoEventsFor decodes playback metrics events', () async {
+      _ambiguate(ServicesBinding.instance)
+          ?.defaultBinaryMessenger
+          .setMockMessageHandler(
+        "flutter.io/videoPlayer/videoEvents125",
+        (ByteData? message) async {
+          final MethodCall methodCall =
+              const StandardMethodCodec().decodeMethodCall(message);
+          if (methodCall.method == 'listen') {
+            for (final Map<String, dynamic> event in <Map<String, dynamic>>[
+              <String, dynamic>{
+                'event': 'videoFormatChanged',
+                'bitrate': 2000000,
+                'width': 1280,
+                'height': 720,
+              },
+              <String, dynamic>{
+                'event': 'bandwidthEstimate',
+                'bitrateEstimate': 5000000,
+              },
+              <String, dynamic>{
+                'event': 'droppedFrames',
+                'count': 3,
+                'elapsedMs': 1000,
+              },
+            ]) {
+              await _ambiguate(ServicesBinding.instance)
+                  ?.defaultBinaryMessenger
+                  .handlePlatformMessage(
+                      "flutter.io/videoPlayer/videoEvents125",
+                      const StandardMethodCodec().encodeSuccessEnvelope(event),
+                      (ByteData? data) {});
+            }
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else if (methodCall.method == 'cancel') {
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else {
+            fail('Expected listen or cancel');
+          }
+        },
+      );
+      expect(
+          player.videoEventsFor(125),
+          emitsInOrder(<dynamic>[
+            VideoEvent(
+              eventType: VideoEventType.videoFormatChanged,
+              bitrate: 2000000,
+              size: const Size(1280, 720),
+            ),
+            VideoEvent(
+              eventType: VideoEventType.bandwidthEstimate,
+              bitrate: 5000000,
+            ),
+            VideoEvent(
+              eventType: VideoEventType.droppedFrames,
+              droppedFrames: 3,
+              elapsed: const Duration(seconds: 1),
+            ),
+          ]));
+    });
   });
 }
 
@@ -0,0 +1,89 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Handler;
+import android.os.SystemClock;
+import androidx.annotation.Nullable;
+
+/**
+ * Limits how often a callback is sent to Dart.
+ *
+ * <p>The first callback is sent immediately. Callbacks submitted within the interval after that
+ * replace each other, and only the most recent one is sent once the interval has passed. Forced
+ * callbacks, such as the final progress update, are always sent immediately.
+ *
+ * <p>This class is not thread-safe. All calls must be made on the thread of the {@link Handler}.
+ */
+public class CallbackThrottle {
+  private final Handler handler;
+  private long intervalMs = 0;
+  private long lastSentTime = -1;
+  @Nullable private Runnable pendingCallback;
+
+  private final Runnable sendPendingRunnable = this::flush;
+
+  /**
+   * Creates a {@link CallbackThrottle} that sends every callback until an interval is set.
+   *
+   * @param handler schedules sending delayed callbacks
+   */
+  public CallbackThrottle(Handler handler) {
+    this.handler = handler;
+  }
+
+  /**
+   * Sets the minimum time between two callbacks.
+   *
+   * @param intervalMs the interval in milliseconds, or 0 to send every callback
+   */
+  public void setInterval(long intervalMs) {
+    this.intervalMs = Math.max(0, intervalMs);
+    if (this.intervalMs == 0) {
+      flush();
+    }
+  }
+
+  /**
+   * Sends {@code callback} now, or once the interval has passed if no newer callback replaces it.
+   *
+   * @param callback sends the callback to Dart
+   * @param force whether to send {@code callback} immediately and drop any pending callback
+   */
+  public void submit(Runnable callback, boolean force) {
+    final long now = SystemClock.uptimeMillis();
+    if (force || intervalMs == 0 || lastSentTime < 0 || now - lastSentTime >= intervalMs) {
+      cancel();
+      send(callback, now);
+      return;
+    }
+    if (pendingCallback == null) {
+      handler.postDelayed(sendPendingRunnable, intervalMs - (now - lastSentTime));
+    }
+    pendingCallback = callback;
+  }
+
+  /** Sends the pending callback, if any, immediately. */
+  public void flush() {
+    final Runnable callback = pendingCallback;
+    if (callback != null) {
+      cancel();
+      send(callback, SystemClock.uptimeMillis());
+    }
+  }
+
+  /** Drops the pending callback, if any. */
+  public void cancel() {
+    if (pendingCallback != null) {
+      handler.removeCallbacks(sendPendingRunnable);
+      pendingCallback = null;
+    }
+  }
+
+  private void send(Runnable callback, long now) {
+    lastSentTime = now;
+    callback.run();
+  }
+}
@@ -0,0 +1,250 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.webkit.ValueCallback;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import org.json.JSONObject;
+
+/**
+ * Evaluates JavaScript in a {@link WebView} and reads back its result in chunks.
+ *
+ * <p>{@link WebView#evaluateJavascript} returns the JSON encoding of a result as one string, which
+ * is expensive for large results. This class instead keeps the JSON encoding of the result in the
+ * page and only returns its length. The result is then read one chunk at a time, and the next
+ * chunk is only read after the previous one has been delivered. The chunks are JSON encoded
+ * strings, and their decoded values concatenate to the string {@link WebView#evaluateJavascript}
+ * would have returned.
+ *
+ * <p>Pages whose Content Security Policy forbids {@code eval} can't keep the result in the page.
+ * For those, the JavaScript is evaluated directly and its result is split into chunks here instead.
+ *
+ * <p>This class is not thread-safe and must be used on the main thread.
+ */
+public class ChunkedJavaScriptEvaluator {
+  // Property of the page's window that holds the results that are being read.
+  static final String RESULTS_PROPERTY = "__flutterJavaScriptResults";
+
+  // Returned by the store script when the page's Content Security Policy forbids eval.
+  private static final long EVAL_BLOCKED = -2;
+
+  /** Receives the chunks of a result. */
+  public interface ChunkListener {
+    /**
+     * Called with each chunk of a result, in order.
+     *
+     * @param requestId the id of the evaluation
+     * @param chunk the JSON encoding of the next part of the result
+     * @param onDelivered must be called once the chunk has been delivered, with whether the next
+     *     chunk should be read. Passing false stops reading and releases the result.
+     */
+    void onChunk(long requestId, String chunk, ValueCallback<Boolean> onDelivered);
+  }
+
+  private final WebView webView;
+  private final long requestId;
+  private final long chunkSize;
+  private final long maxLength;
+  private final ChunkListener listener;
+  private final GeneratedAndroidWebView.Result<Long> result;
+
+  private long length;
+  private long offset = 0;
+  // The JSON encoding of the result when it was evaluated directly instead of kept in the page.
+  private String directResult;
+
+  /**
+   * Creates a {@link ChunkedJavaScriptEvaluator}.
+   *
+   * @param webView the {@link WebView} to evaluate JavaScript in
+   * @param requestId the id of the evaluation, used to store its result in the page
+   * @param chunkSize the maximum number of characters of the result in each chunk
+   * @param maxLength the maximum length of the result, or 0 for no limit
+   * @param listener receives the chunks of the result
+   * @param result completed with the length of the result after the last chunk was delivered
+   */
+  public ChunkedJavaScriptEvaluator(
+      @NonNull WebView webView,
+      long requestId,
+      long chunkSize,
+      long maxLength,
+      @NonNull ChunkListener listener,
+      @NonNull GeneratedAndroidWebView.Result<Long> result) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+    }
+    this.webView = webView;
+    this.requestId = requestId;
+    this.chunkSize = chunkSize;
+    this.maxLength = maxLength;
+    this.listener = listener;
+    this.result = result;
+  }
+
+  /**
+   * Starts evaluating {@code javascriptString}.
+   *
+   * @param javascriptString the JavaScript to evaluate
+   */
+  public void evaluate(String javascriptString) {
+    webView.evaluateJavascript(
+        getStoreScript(javascriptString), value -> onResultStored(javascriptString, value));
+  }
+
+  private void onResultStored(String javascriptString, String value) {
+    long storedLength;
+    try {
+      storedLength = Long.parseLong(value);
+    } catch (NumberFormatException exception) {
+      storedLength = -1;
+    }
+
+    if (storedLength == EVAL_BLOCKED) {
+      // Scripts evaluated by the WebView itself are not subject to the page's Content Security
+      // Policy, so the result can still be read, just not kept in the page.
+      webView.evaluateJavascript(javascriptString, this::onDirectResult);
+      return;
+    }
+    if (storedLength < 0) {
+      result.error(new IllegalStateException("Evaluating JavaScript failed."));
+      return;
+    }
+    if (exceedsMaxLength(storedLength)) {
+      webView.evaluateJavascript(getReleaseScript(), null);
+      return;
+    }
+
+    length = storedLength;
+    readNextChunk();
+  }
+
+  private void onDirectResult(String value) {
+    if (value == null) {
+      result.error(new IllegalStateException("Evaluating JavaScript failed."));
+      return;
+    }
+    if (exceedsMaxLength(value.length())) {
+      return;
+    }
+
+    directResult = value;
+    length = value.length();
+    readNextChunk();
+  }
+
+  private boolean exceedsMaxLength(long resultLength) {
+    if (maxLength > 0 && resultLength > maxLength) {
+      result.error(
+          new IllegalStateException(
+              String.format(
+                  "Result of %d characters exceeds the maximum length of %d.",
+                  resultLength, maxLength)));
+      return true;
+    }
+    return false;
+  }
+
+  private void readNextChunk() {
+    if (offset >= length) {
+      result.success(length);
+      return;
+    }
+
+    final long end = Math.min(offset + chunkSize, length);
+    if (directResult != null) {
+      deliverChunk(end, JSONObject.quote(directResult.substring((int) offset, (int) end)));
+      return;
+    }
+    webView.evaluateJavascript(
+        getReadScript(offset, end, end == length),
+        chunk -> {
+          // The result is gone if the page navigated away while it was read.
+          if (chunk == null || chunk.equals("null")) {
+            result.error(new IllegalStateException("The page was unloaded while reading."));
+            return;
+          }
+          deliverChunk(end, chunk);
+        });
+  }
+
+  private void deliverChunk(long end, String chunk) {
+    offset = end;
+    listener.onChunk(
+        requestId,
+        chunk,
+        readMore -> {
+          if (Boolean.TRUE.equals(readMore)) {
+            readNextChunk();
+            return;
+          }
+          if (directResult == null) {
+            webView.evaluateJavascript(getReleaseScript(), null);
+          }
+          result.error(new IllegalStateException("Reading the result was cancelled."));
+        });
+  }
+
+  private String getStoreScript(String javascriptString) {
+    return "(function() {"
+        + "  var json;"
+        + "  try {"
+        + "    (0, eval)('0');"
+        + "  } catch (e) {"
+        + "    return "
+        + EVAL_BLOCKED
+        + ";"
+        + "  }"
+        + "  try {"
+        + "    json = JSON.stringify((0, eval)("
+        + JSONObject.quote(javascriptString)
+        + "));"
+        + "  } catch (e) {"
+        + "    return -1;"
+        + "  }"
+        + "  if (json === undefined) { json = 'null'; }"
+        + "  var results = window."
+        + RESULTS_PROPERTY
+        + " || (window."
+        + RESULTS_PROPERTY
+        + " = {});"
+        + "  results["
+        + requestId
+        + "] = json;"
+        + "  return json.length;"
+        + "})();";
+  }
+
+  private String getReadScript(long start, long end, boolean isLast) {
+    return "(function() {"
+        + "  var results = window."
+        + RESULTS_PROPERTY
+        + ";"
+        + "  if (!results || results["
+        + requestId
+        + "] === undefined) { return null; }"
+        + "  var chunk = results["
+        + requestId
+        + "].substring("
+        + start
+        + ", "
+        + end
+        + ");"
+        + (isLast ? "  delete results[" + requestId + "];" : "")
+        + "  return chunk;"
+        + "})();";
+  }
+
+  private String getReleaseScript() {
+    return "(function() {"
+        + "  var results = window."
+        + RESULTS_PROPERTY
+        + ";"
+        + "  if (results) { delete results["
+        + requestId
+        + "]; }"
+        + "})();";
+  }
+}
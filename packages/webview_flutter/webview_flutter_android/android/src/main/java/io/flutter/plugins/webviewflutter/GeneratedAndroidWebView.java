@@ -16,6 +16,7 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /** Generated class from Pigeon. */
@@ -155,6 +156,287 @@ public class GeneratedAndroidWebView {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class WebSettingsData {
+    private Boolean domStorageEnabled;
+
+    public Boolean getDomStorageEnabled() {
+      return domStorageEnabled;
+    }
+
+    public void setDomStorageEnabled(Boolean setterArg) {
+      this.domStorageEnabled = setterArg;
+    }
+
+    private Boolean javaScriptCanOpenWindowsAutomatically;
+
+    public Boolean getJavaScriptCanOpenWindowsAutomatically() {
+      return javaScriptCanOpenWindowsAutomatically;
+    }
+
+    public void setJavaScriptCanOpenWindowsAutomatically(Boolean setterArg) {
+      this.javaScriptCanOpenWindowsAutomatically = setterArg;
+    }
+
+    private Boolean supportMultipleWindows;
+
+    public Boolean getSupportMultipleWindows() {
+      return supportMultipleWindows;
+    }
+
+    public void setSupportMultipleWindows(Boolean setterArg) {
+      this.supportMultipleWindows = setterArg;
+    }
+
+    private Boolean javaScriptEnabled;
+
+    public Boolean getJavaScriptEnabled() {
+      return javaScriptEnabled;
+    }
+
+    public void setJavaScriptEnabled(Boolean setterArg) {
+      this.javaScriptEnabled = setterArg;
+    }
+
+    private String userAgentString;
+
+    public String getUserAgentString() {
+      return userAgentString;
+    }
+
+    public void setUserAgentString(String setterArg) {
+      this.userAgentString = setterArg;
+    }
+
+    private Boolean mediaPlaybackRequiresUserGesture;
+
+    public Boolean getMediaPlaybackRequiresUserGesture() {
+      return mediaPlaybackRequiresUserGesture;
+    }
+
+    public void setMediaPlaybackRequiresUserGesture(Boolean setterArg) {
+      this.mediaPlaybackRequiresUserGesture = setterArg;
+    }
+
+    private Boolean supportZoom;
+
+    public Boolean getSupportZoom() {
+      return supportZoom;
+    }
+
+    public void setSupportZoom(Boolean setterArg) {
+      this.supportZoom = setterArg;
+    }
+
+    private Boolean loadWithOverviewMode;
+
+    public Boolean getLoadWithOverviewMode() {
+      return loadWithOverviewMode;
+    }
+
+    public void setLoadWithOverviewMode(Boolean setterArg) {
+      this.loadWithOverviewMode = setterArg;
+    }
+
+    private Boolean useWideViewPort;
+
+    public Boolean getUseWideViewPort() {
+      return useWideViewPort;
+    }
+
+    public void setUseWideViewPort(Boolean setterArg) {
+      this.useWideViewPort = setterArg;
+    }
+
+    private Boolean displayZoomControls;
+
+    public Boolean getDisplayZoomControls() {
+      return displayZoomControls;
+    }
+
+    public void setDisplayZoomControls(Boolean setterArg) {
+      this.displayZoomControls = setterArg;
+    }
+
+    private Boolean builtInZoomControls;
+
+    public Boolean getBuiltInZoomControls() {
+      return builtInZoomControls;
+    }
+
+    public void setBuiltInZoomControls(Boolean setterArg) {
+      this.builtInZoomControls = setterArg;
+    }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("domStorageEnabled", domStorageEnabled);
+      toMapResult.put(
+          "javaScriptCanOpenWindowsAutomatically", javaScriptCanOpenWindowsAutomatically);
+      toMapResult.put("supportMultipleWindows", supportMultipleWindows);
+      toMapResult.put("javaScriptEnabled", javaScriptEnabled);
+      toMapResult.put("userAgentString", userAgentString);
+      toMapResult.put("mediaPlaybackRequiresUserGesture", mediaPlaybackRequiresUserGesture);
+      toMapResult.put("supportZoom", supportZoom);
+      toMapResult.put("loadWithOverviewMode", loadWithOverviewMode);
+      toMapResult.put("useWideViewPort", useWideViewPort);
+      toMapResult.put("displayZoomControls", displayZoomControls);
+      toMapResult.put("builtInZoomControls", builtInZoomControls);
+      return toMapResult;
+    }
+
+    static WebSettingsData fromMap(Map<String, Object> map) {
+      WebSettingsData fromMapResult = new WebSettingsData();
+      Object domStorageEnabled = map.get("domStorageEnabled");
+      fromMapResult.domStorageEnabled = (Boolean) domStorageEnabled;
+      Object javaScriptCanOpenWindowsAutomatically =
+          map.get("javaScriptCanOpenWindowsAutomatically");
+      fromMapResult.javaScriptCanOpenWindowsAutomatically =
+          (Boolean) javaScriptCanOpenWindowsAutomatically;
+      Object supportMultipleWindows = map.get("supportMultipleWindows");
+      fromMapResult.supportMultipleWindows = (Boolean) supportMultipleWindows;
+      Object javaScriptEnabled = map.get("javaScriptEnabled");
+      fromMapResult.javaScriptEnabled = (Boolean) javaScriptEnabled;
+      Object userAgentString = map.get("userAgentString");
+      fromMapResult.userAgentString = (String) userAgentString;
+      Object mediaPlaybackRequiresUserGesture = map.get("mediaPlaybackRequiresUserGesture");
+      fromMapResult.mediaPlaybackRequiresUserGesture = (Boolean) mediaPlaybackRequiresUserGesture;
+      Object supportZoom = map.get("supportZoom");
+      fromMapResult.supportZoom = (Boolean) supportZoom;
+      Object loadWithOverviewMode = map.get("loadWithOverviewMode");
+      fromMapResult.loadWithOverviewMode = (Boolean) loadWithOverviewMode;
+      Object useWideViewPort = map.get("useWideViewPort");
+      fromMapResult.useWideViewPort = (Boolean) useWideViewPort;
+      Object displayZoomControls = map.get("displayZoomControls");
+      fromMapResult.displayZoomControls = (Boolean) displayZoomControls;
+      Object builtInZoomControls = map.get("builtInZoomControls");
+      fromMapResult.builtInZoomControls = (Boolean) builtInZoomControls;
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PageLoadMetricsData {
+    private String url;
+
+    public String getUrl() {
+      return url;
+    }
+
+    public void setUrl(String setterArg) {
+      this.url = setterArg;
+    }
+
+    private Long startTimeMillis;
+
+    public Long getStartTimeMillis() {
+      return startTimeMillis;
+    }
+
+    public void setStartTimeMillis(Long setterArg) {
+      this.startTimeMillis = setterArg;
+    }
+
+    private Long pageFinishedMillis;
+
+    public Long getPageFinishedMillis() {
+      return pageFinishedMillis;
+    }
+
+    public void setPageFinishedMillis(Long setterArg) {
+      this.pageFinishedMillis = setterArg;
+    }
+
+    private Long firstVisualStateMillis;
+
+    public Long getFirstVisualStateMillis() {
+      return firstVisualStateMillis;
+    }
+
+    public void setFirstVisualStateMillis(Long setterArg) {
+      this.firstVisualStateMillis = setterArg;
+    }
+
+    private Long errorCode;
+
+    public Long getErrorCode() {
+      return errorCode;
+    }
+
+    public void setErrorCode(Long setterArg) {
+      this.errorCode = setterArg;
+    }
+
+    private String errorDescription;
+
+    public String getErrorDescription() {
+      return errorDescription;
+    }
+
+    public void setErrorDescription(String setterArg) {
+      this.errorDescription = setterArg;
+    }
+
+    private String performanceTiming;
+
+    public String getPerformanceTiming() {
+      return performanceTiming;
+    }
+
+    public void setPerformanceTiming(String setterArg) {
+      this.performanceTiming = setterArg;
+    }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("url", url);
+      toMapResult.put("startTimeMillis", startTimeMillis);
+      toMapResult.put("pageFinishedMillis", pageFinishedMillis);
+      toMapResult.put("firstVisualStateMillis", firstVisualStateMillis);
+      toMapResult.put("errorCode", errorCode);
+      toMapResult.put("errorDescription", errorDescription);
+      toMapResult.put("performanceTiming", performanceTiming);
+      return toMapResult;
+    }
+
+    static PageLoadMetricsData fromMap(Map<String, Object> map) {
+      PageLoadMetricsData fromMapResult = new PageLoadMetricsData();
+      Object url = map.get("url");
+      fromMapResult.url = (String) url;
+      Object startTimeMillis = map.get("startTimeMillis");
+      fromMapResult.startTimeMillis =
+          (startTimeMillis == null)
+              ? null
+              : ((startTimeMillis instanceof Integer)
+                  ? (Integer) startTimeMillis
+                  : (Long) startTimeMillis);
+      Object pageFinishedMillis = map.get("pageFinishedMillis");
+      fromMapResult.pageFinishedMillis =
+          (pageFinishedMillis == null)
+              ? null
+              : ((pageFinishedMillis instanceof Integer)
+                  ? (Integer) pageFinishedMillis
+                  : (Long) pageFinishedMillis);
+      Object firstVisualStateMillis = map.get("firstVisualStateMillis");
+      fromMapResult.firstVisualStateMillis =
+          (firstVisualStateMillis == null)
+              ? null
+              : ((firstVisualStateMillis instanceof Integer)
+                  ? (Integer) firstVisualStateMillis
+                  : (Long) firstVisualStateMillis);
+      Object errorCode = map.get("errorCode");
+      fromMapResult.errorCode =
+          (errorCode == null)
+              ? null
+              : ((errorCode instanceof Integer) ? (Integer) errorCode : (Long) errorCode);
+      Object errorDescription = map.get("errorDescription");
+      fromMapResult.errorDescription = (String) errorDescription;
+      Object performanceTiming = map.get("performanceTiming");
+      fromMapResult.performanceTiming = (String) performanceTiming;
+      return fromMapResult;
+    }
+  }
+
   public interface Result<T> {
     void success(T result);
 
@@ -213,6 +495,37 @@ public class GeneratedAndroidWebView {
 
     void setWebChromeClient(Long instanceId, Long clientInstanceId);
 
+    void configurePool(Long maxSize, Long warmUpCount, Boolean useHybridComposition);
+
+    Map<String, Long> getPoolStats();
+
+    void interceptAssets(String urlPrefix, String assetDirectory);
+
+    void interceptFiles(String urlPrefix, String directory);
+
+    void clearInterceptRoutes();
+
+    void setInterceptCache(Long maxSizeBytes, List<String> origins);
+
+    void postJavaScriptChannelPort(
+        Long instanceId,
+        Long javaScriptChannelInstanceId,
+        String targetOrigin);
+
+    Map<String, Long> getInstanceCounts();
+
+    Map<String, Long> getReleasedInstanceCounts();
+
+    void setRendererPriorityPolicy(Long instanceId, Long priority, Boolean waivedWhenNotVisible);
+
+    void evaluateJavascriptChunked(
+        Long instanceId,
+        Long requestId,
+        String javascriptString,
+        Long chunkSize,
+        Long maxLength,
+        Result<Long> result);
+
     /** The codec used by WebViewHostApi. */
     static MessageCodec<Object> getCodec() {
       return WebViewHostApiCodec.INSTANCE;
@@ -842,17 +1155,358 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Number clientInstanceIdArg = (Number) args.get(1);
-                  if (clientInstanceIdArg == null) {
-                    throw new NullPointerException("clientInstanceIdArg unexpectedly null.");
+                  Number clientInstanceIdArg = (Number) args.get(1);
+                  if (clientInstanceIdArg == null) {
+                    throw new NullPointerException("clientInstanceIdArg unexpectedly null.");
+                  }
+                  api.setWebChromeClient(
+                      instanceIdArg.longValue(), clientInstanceIdArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.configurePool", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number maxSizeArg = (Number) args.get(0);
+                  if (maxSizeArg == null) {
+                    throw new NullPointerException("maxSizeArg unexpectedly null.");
+                  }
+                  Number warmUpCountArg = (Number) args.get(1);
+                  if (warmUpCountArg == null) {
+                    throw new NullPointerException("warmUpCountArg unexpectedly null.");
+                  }
+                  Boolean useHybridCompositionArg = (Boolean) args.get(2);
+                  if (useHybridCompositionArg == null) {
+                    throw new NullPointerException("useHybridCompositionArg unexpectedly null.");
+                  }
+                  api.configurePool(
+                      maxSizeArg.longValue(), warmUpCountArg.longValue(), useHybridCompositionArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.getPoolStats", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  Map<String, Long> output = api.getPoolStats();
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.interceptAssets", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  String urlPrefixArg = (String) args.get(0);
+                  if (urlPrefixArg == null) {
+                    throw new NullPointerException("urlPrefixArg unexpectedly null.");
+                  }
+                  String assetDirectoryArg = (String) args.get(1);
+                  if (assetDirectoryArg == null) {
+                    throw new NullPointerException("assetDirectoryArg unexpectedly null.");
+                  }
+                  api.interceptAssets(urlPrefixArg, assetDirectoryArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.interceptFiles", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  String urlPrefixArg = (String) args.get(0);
+                  if (urlPrefixArg == null) {
+                    throw new NullPointerException("urlPrefixArg unexpectedly null.");
+                  }
+                  String directoryArg = (String) args.get(1);
+                  if (directoryArg == null) {
+                    throw new NullPointerException("directoryArg unexpectedly null.");
+                  }
+                  api.interceptFiles(urlPrefixArg, directoryArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.clearInterceptRoutes",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  api.clearInterceptRoutes();
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.setInterceptCache", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number maxSizeBytesArg = (Number) args.get(0);
+                  if (maxSizeBytesArg == null) {
+                    throw new NullPointerException("maxSizeBytesArg unexpectedly null.");
+                  }
+                  List<String> originsArg = (List<String>) args.get(1);
+                  if (originsArg == null) {
+                    throw new NullPointerException("originsArg unexpectedly null.");
+                  }
+                  api.setInterceptCache(maxSizeBytesArg.longValue(), originsArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.postJavaScriptChannelPort",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Number javaScriptChannelInstanceIdArg = (Number) args.get(1);
+                  if (javaScriptChannelInstanceIdArg == null) {
+                    throw new NullPointerException(
+                        "javaScriptChannelInstanceIdArg unexpectedly null.");
+                  }
+                  String targetOriginArg = (String) args.get(2);
+                  if (targetOriginArg == null) {
+                    throw new NullPointerException("targetOriginArg unexpectedly null.");
+                  }
+                  api.postJavaScriptChannelPort(
+                      instanceIdArg.longValue(),
+                      javaScriptChannelInstanceIdArg.longValue(),
+                      targetOriginArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.getInstanceCounts", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  Map<String, Long> output = api.getInstanceCounts();
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.getReleasedInstanceCounts",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  Map<String, Long> output = api.getReleasedInstanceCounts();
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.setRendererPriorityPolicy",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Number priorityArg = (Number) args.get(1);
+                  if (priorityArg == null) {
+                    throw new NullPointerException("priorityArg unexpectedly null.");
+                  }
+                  Boolean waivedWhenNotVisibleArg = (Boolean) args.get(2);
+                  if (waivedWhenNotVisibleArg == null) {
+                    throw new NullPointerException("waivedWhenNotVisibleArg unexpectedly null.");
+                  }
+                  api.setRendererPriorityPolicy(
+                      instanceIdArg.longValue(), priorityArg.longValue(), waivedWhenNotVisibleArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptChunked",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Number requestIdArg = (Number) args.get(1);
+                  if (requestIdArg == null) {
+                    throw new NullPointerException("requestIdArg unexpectedly null.");
+                  }
+                  String javascriptStringArg = (String) args.get(2);
+                  if (javascriptStringArg == null) {
+                    throw new NullPointerException("javascriptStringArg unexpectedly null.");
+                  }
+                  Number chunkSizeArg = (Number) args.get(3);
+                  if (chunkSizeArg == null) {
+                    throw new NullPointerException("chunkSizeArg unexpectedly null.");
+                  }
+                  Number maxLengthArg = (Number) args.get(4);
+                  if (maxLengthArg == null) {
+                    throw new NullPointerException("maxLengthArg unexpectedly null.");
                   }
-                  api.setWebChromeClient(
-                      instanceIdArg.longValue(), clientInstanceIdArg.longValue());
-                  wrapped.put("result", null);
+                  Result<Long> resultCallback =
+                      new Result<Long>() {
+                        public void success(Long result) {
+                          wrapped.put("result", result);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          wrapped.put("error", wrapError(error));
+                          reply.reply(wrapped);
+                        }
+                      };
+
+                  api.evaluateJavascriptChunked(
+                      instanceIdArg.longValue(),
+                      requestIdArg.longValue(),
+                      javascriptStringArg,
+                      chunkSizeArg.longValue(),
+                      maxLengthArg.longValue(),
+                      resultCallback);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
+                  reply.reply(wrapped);
                 }
-                reply.reply(wrapped);
               });
         } else {
           channel.setMessageHandler(null);
@@ -865,6 +1519,27 @@ public class GeneratedAndroidWebView {
     public static final WebSettingsHostApiCodec INSTANCE = new WebSettingsHostApiCodec();
 
     private WebSettingsHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return WebSettingsData.fromMap((Map<String, Object>) readValue(buffer));
+
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof WebSettingsData) {
+        stream.write(128);
+        writeValue(stream, ((WebSettingsData) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
   }
 
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
@@ -895,6 +1570,8 @@ public class GeneratedAndroidWebView {
 
     void setBuiltInZoomControls(Long instanceId, Boolean enabled);
 
+    void applySettings(Long instanceId, WebSettingsData settings);
+
     /** The codec used by WebSettingsHostApi. */
     static MessageCodec<Object> getCodec() {
       return WebSettingsHostApiCodec.INSTANCE;
@@ -1299,6 +1976,35 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebSettingsHostApi.applySettings", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  WebSettingsData settingsArg = (WebSettingsData) args.get(1);
+                  if (settingsArg == null) {
+                    throw new NullPointerException("settingsArg unexpectedly null.");
+                  }
+                  api.applySettings(instanceIdArg.longValue(), settingsArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -1313,6 +2019,8 @@ public class GeneratedAndroidWebView {
   public interface JavaScriptChannelHostApi {
     void create(Long instanceId, String channelName);
 
+    void setBatchWindow(Long instanceId, Long windowMs);
+
     /** The codec used by JavaScriptChannelHostApi. */
     static MessageCodec<Object> getCodec() {
       return JavaScriptChannelHostApiCodec.INSTANCE;
@@ -1352,6 +2060,37 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.JavaScriptChannelHostApi.setBatchWindow",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Number windowMsArg = (Number) args.get(1);
+                  if (windowMsArg == null) {
+                    throw new NullPointerException("windowMsArg unexpectedly null.");
+                  }
+                  api.setBatchWindow(instanceIdArg.longValue(), windowMsArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -1403,6 +2142,19 @@ public class GeneratedAndroidWebView {
             callback.reply(null);
           });
     }
+
+    public void postMessages(Long instanceIdArg, List<String> messagesArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, messagesArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
   }
 
   private static class WebViewClientHostApiCodec extends StandardMessageCodec {
@@ -1415,6 +2167,10 @@ public class GeneratedAndroidWebView {
   public interface WebViewClientHostApi {
     void create(Long instanceId, Boolean shouldOverrideUrlLoading);
 
+    void setNavigationInterval(Long instanceId, Long intervalMs);
+
+    void setPageLoadTracking(Long instanceId, Boolean enabled, Boolean collectPerformanceTiming);
+
     /** The codec used by WebViewClientHostApi. */
     static MessageCodec<Object> getCodec() {
       return WebViewClientHostApiCodec.INSTANCE;
@@ -1455,6 +2211,74 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewClientHostApi.setNavigationInterval",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Number intervalMsArg = (Number) args.get(1);
+                  if (intervalMsArg == null) {
+                    throw new NullPointerException("intervalMsArg unexpectedly null.");
+                  }
+                  api.setNavigationInterval(instanceIdArg.longValue(), intervalMsArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewClientHostApi.setPageLoadTracking",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Boolean enabledArg = (Boolean) args.get(1);
+                  if (enabledArg == null) {
+                    throw new NullPointerException("enabledArg unexpectedly null.");
+                  }
+                  Boolean collectPerformanceTimingArg = (Boolean) args.get(2);
+                  if (collectPerformanceTimingArg == null) {
+                    throw new NullPointerException(
+                        "collectPerformanceTimingArg unexpectedly null.");
+                  }
+                  api.setPageLoadTracking(
+                      instanceIdArg.longValue(), enabledArg, collectPerformanceTimingArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -1467,9 +2291,12 @@ public class GeneratedAndroidWebView {
     protected Object readValueOfType(byte type, ByteBuffer buffer) {
       switch (type) {
         case (byte) 128:
-          return WebResourceErrorData.fromMap((Map<String, Object>) readValue(buffer));
+          return PageLoadMetricsData.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 129:
+          return WebResourceErrorData.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 130:
           return WebResourceRequestData.fromMap((Map<String, Object>) readValue(buffer));
 
         default:
@@ -1479,11 +2306,14 @@ public class GeneratedAndroidWebView {
 
     @Override
     protected void writeValue(ByteArrayOutputStream stream, Object value) {
-      if (value instanceof WebResourceErrorData) {
+      if (value instanceof PageLoadMetricsData) {
         stream.write(128);
+        writeValue(stream, ((PageLoadMetricsData) value).toMap());
+      } else if (value instanceof WebResourceErrorData) {
+        stream.write(129);
         writeValue(stream, ((WebResourceErrorData) value).toMap());
       } else if (value instanceof WebResourceRequestData) {
-        stream.write(129);
+        stream.write(130);
         writeValue(stream, ((WebResourceRequestData) value).toMap());
       } else {
         super.writeValue(stream, value);
@@ -1618,6 +2448,65 @@ public class GeneratedAndroidWebView {
             callback.reply(null);
           });
     }
+
+    public void onRenderProcessGone(
+        Long instanceIdArg, Long webViewInstanceIdArg, Boolean didCrashArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.WebViewClientFlutterApi.onRenderProcessGone",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, webViewInstanceIdArg, didCrashArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void onRendererPriorityChanged(
+        Long instanceIdArg, Long webViewInstanceIdArg, Long priorityArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.WebViewClientFlutterApi.onRendererPriorityChanged",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, webViewInstanceIdArg, priorityArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void onTrimMemory(
+        Long instanceIdArg, Long webViewInstanceIdArg, Long levelArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.WebViewClientFlutterApi.onTrimMemory",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, webViewInstanceIdArg, levelArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void onPageLoadMetrics(
+        Long instanceIdArg,
+        Long webViewInstanceIdArg,
+        PageLoadMetricsData metricsArg,
+        Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.WebViewClientFlutterApi.onPageLoadMetrics",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, webViewInstanceIdArg, metricsArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
   }
 
   private static class DownloadListenerHostApiCodec extends StandardMessageCodec {
@@ -1740,6 +2629,8 @@ public class GeneratedAndroidWebView {
   public interface WebChromeClientHostApi {
     void create(Long instanceId, Long webViewClientInstanceId);
 
+    void setProgressInterval(Long instanceId, Long intervalMs);
+
     /** The codec used by WebChromeClientHostApi. */
     static MessageCodec<Object> getCodec() {
       return WebChromeClientHostApiCodec.INSTANCE;
@@ -1779,6 +2670,37 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebChromeClientHostApi.setProgressInterval",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Number intervalMsArg = (Number) args.get(1);
+                  if (intervalMsArg == null) {
+                    throw new NullPointerException("intervalMsArg unexpectedly null.");
+                  }
+                  api.setProgressInterval(instanceIdArg.longValue(), intervalMsArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -1831,6 +2753,43 @@ public class GeneratedAndroidWebView {
     }
   }
 
+  private static class JavaScriptResultFlutterApiCodec extends StandardMessageCodec {
+    public static final JavaScriptResultFlutterApiCodec INSTANCE =
+        new JavaScriptResultFlutterApiCodec();
+
+    private JavaScriptResultFlutterApiCodec() {}
+  }
+
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class JavaScriptResultFlutterApi {
+    private final BinaryMessenger binaryMessenger;
+
+    public JavaScriptResultFlutterApi(BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+
+    static MessageCodec<Object> getCodec() {
+      return JavaScriptResultFlutterApiCodec.INSTANCE;
+    }
+
+    public void onChunk(Long requestIdArg, String chunkArg, Reply<Boolean> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.JavaScriptResultFlutterApi.onChunk", getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(requestIdArg, chunkArg)),
+          channelReply -> {
+            @SuppressWarnings("ConstantConditions")
+            Boolean output = (Boolean) channelReply;
+            callback.reply(output);
+          });
+    }
+  }
+
   private static Map<String, Object> wrapError(Throwable exception) {
     Map<String, Object> errorMap = new HashMap<>();
     errorMap.put("message", exception.toString());
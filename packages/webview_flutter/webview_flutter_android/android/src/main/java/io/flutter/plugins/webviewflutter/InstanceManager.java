@@ -5,17 +5,37 @@
 package io.flutter.plugins.webviewflutter;
 
 import android.util.LongSparseArray;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Maintains instances to intercommunicate with Dart objects.
  *
  * <p>When an instance is added with an instanceId, either can be used to retrieve the other.
+ * Instances are compared by identity, so two equal but distinct objects are tracked separately. The
+ * manager holds strong references to its instances until they are removed.
+ *
+ * <p>The number of live instances of each type can be retrieved with {@link #getInstanceCounts()}.
+ * Removed instances are then tracked with weak references until they are garbage collected, and
+ * {@link #getReleasedInstanceCounts()} returns the ones that are still reachable. A released
+ * instance that is never collected is referenced by something other than the manager, such as a
+ * listener that was never unregistered.
  */
 public class InstanceManager {
   private final LongSparseArray<Object> instanceIdsToInstances = new LongSparseArray<>();
-  private final Map<Object, Long> instancesToInstanceIds = new HashMap<>();
+  private final Map<Object, Long> instancesToInstanceIds = new IdentityHashMap<>();
+  private final Map<Class<?>, Long> instanceCounts = new HashMap<>();
+  private final Set<ReleasedInstance> releasedInstances = new HashSet<>();
+  private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
 
   /**
    * Add a new instance to the manager.
@@ -26,8 +46,14 @@ public class InstanceManager {
    * @param instanceId unique id of the added object
    */
   public void addInstance(Object instance, long instanceId) {
+    removeInstanceWithId(instanceId);
+    removeInstance(instance);
+    // An instance can be added again after it was released, e.g. a pooled WebView.
+    forgetReleasedInstance(instance);
+
     instancesToInstanceIds.put(instance, instanceId);
     instanceIdsToInstances.append(instanceId, instance);
+    instanceCounts.put(instance.getClass(), getCount(instance.getClass()) + 1);
   }
 
   /**
@@ -39,8 +65,7 @@ public class InstanceManager {
   public Object removeInstanceWithId(long instanceId) {
     final Object instance = instanceIdsToInstances.get(instanceId);
     if (instance != null) {
-      instanceIdsToInstances.remove(instanceId);
-      instancesToInstanceIds.remove(instance);
+      removeEntry(instance, instanceId);
     }
     return instance;
   }
@@ -55,8 +80,7 @@ public class InstanceManager {
   public Long removeInstance(Object instance) {
     final Long instanceId = instancesToInstanceIds.get(instance);
     if (instanceId != null) {
-      instanceIdsToInstances.remove(instanceId);
-      instancesToInstanceIds.remove(instance);
+      removeEntry(instance, instanceId);
     }
     return instanceId;
   }
@@ -81,4 +105,94 @@ public class InstanceManager {
   public Long getInstanceId(Object instance) {
     return instancesToInstanceIds.get(instance);
   }
+
+  /**
+   * Retrieve the number of instances in the manager for each type.
+   *
+   * @return a map from the class name of each type to the number of its instances
+   */
+  public Map<String, Long> getInstanceCounts() {
+    final Map<String, Long> counts = new HashMap<>();
+    for (Map.Entry<Class<?>, Long> count : instanceCounts.entrySet()) {
+      counts.put(count.getKey().getName(), count.getValue());
+    }
+    return counts;
+  }
+
+  /**
+   * Retrieve the number of instances that were removed from the manager but haven't been garbage
+   * collected yet, for each type.
+   *
+   * @return a map from the class name of each type to the number of its released instances
+   */
+  public Map<String, Long> getReleasedInstanceCounts() {
+    purgeCollectedInstances();
+    final Map<String, Long> counts = new HashMap<>();
+    for (ReleasedInstance releasedInstance : releasedInstances) {
+      if (releasedInstance.get() == null) {
+        continue;
+      }
+      final String type = releasedInstance.type.getName();
+      final Long count = counts.get(type);
+      counts.put(type, count != null ? count + 1 : 1);
+    }
+    return counts;
+  }
+
+  /** Returns the weak reference tracking a removed instance, or null if it isn't tracked. */
+  @VisibleForTesting
+  @Nullable
+  Reference<Object> getReleasedReference(Object instance) {
+    for (ReleasedInstance releasedInstance : releasedInstances) {
+      if (releasedInstance.get() == instance) {
+        return releasedInstance;
+      }
+    }
+    return null;
+  }
+
+  private void removeEntry(Object instance, long instanceId) {
+    instanceIdsToInstances.remove(instanceId);
+    instancesToInstanceIds.remove(instance);
+    final long count = getCount(instance.getClass()) - 1;
+    if (count > 0) {
+      instanceCounts.put(instance.getClass(), count);
+    } else {
+      instanceCounts.remove(instance.getClass());
+    }
+
+    purgeCollectedInstances();
+    releasedInstances.add(new ReleasedInstance(instance, referenceQueue));
+  }
+
+  private void forgetReleasedInstance(Object instance) {
+    final Iterator<ReleasedInstance> iterator = releasedInstances.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().get() == instance) {
+        iterator.remove();
+      }
+    }
+  }
+
+  private void purgeCollectedInstances() {
+    Reference<?> reference;
+    while ((reference = referenceQueue.poll()) != null) {
+      releasedInstances.remove(reference);
+    }
+  }
+
+  private long getCount(Class<?> type) {
+    final Long count = instanceCounts.get(type);
+    return count != null ? count : 0;
+  }
+
+  // Compared by identity, so it can still be removed from the set once its instance is collected.
+  private static class ReleasedInstance extends WeakReference<Object> {
+    final Class<?> type;
+
+    ReleasedInstance(Object instance, ReferenceQueue<Object> referenceQueue) {
+      super(instance, referenceQueue);
+      this.type = instance.getClass();
+    }
+  }
 }
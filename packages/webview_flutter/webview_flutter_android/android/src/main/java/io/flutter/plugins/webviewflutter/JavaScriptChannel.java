@@ -4,11 +4,17 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import android.annotation.TargetApi;
+import android.os.Build;
 import android.os.Handler;
 import android.os.Looper;
 import android.webkit.JavascriptInterface;
+import android.webkit.WebMessage;
+import android.webkit.WebMessagePort;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Added as a JavaScript interface to the WebView for any JavaScript channel that the Dart code sets
@@ -17,13 +23,28 @@ import androidx.annotation.Nullable;
  * <p>Exposes a single method named `postMessage` to JavaScript, which sends a message to the Dart
  * code.
  *
+ * <p>When a batch window is set, messages are collected for that long and sent to Dart as a single
+ * list. Messages can also be received through a {@link WebMessagePort}, see {@link #setPort}.
+ *
  * <p>No messages are sent to Dart after {@link JavaScriptChannel#release} is called.
  */
 public class JavaScriptChannel implements Releasable {
+  /** Maximum number of messages sent to Dart in one batch. */
+  static final int MAX_BATCH_SIZE = 512;
+
   private final Handler platformThreadHandler;
   final String javaScriptChannelName;
   @Nullable private JavaScriptChannelFlutterApiImpl flutterApi;
 
+  // Guarded by pendingMessages.
+  private final List<String> pendingMessages = new ArrayList<>();
+  private boolean flushScheduled = false;
+  private volatile long batchWindowMs = 0;
+
+  @Nullable private WebMessagePort port;
+
+  private final Runnable flushRunnable = this::flush;
+
   /**
    * Creates a {@link JavaScriptChannel} that passes arguments of callback methods to Dart.
    *
@@ -44,6 +65,11 @@ public class JavaScriptChannel implements Releasable {
   @SuppressWarnings("unused")
   @JavascriptInterface
   public void postMessage(final String message) {
+    if (batchWindowMs > 0) {
+      enqueue(message);
+      return;
+    }
+
     final Runnable postMessageRunnable =
         () -> {
           if (flutterApi != null) {
@@ -58,8 +84,88 @@ public class JavaScriptChannel implements Releasable {
     }
   }
 
+  /**
+   * Sets how long messages are collected before they are sent to Dart as one batch.
+   *
+   * <p>A batch is sent early once it holds {@link #MAX_BATCH_SIZE} messages. A window of 0 sends
+   * every message on its own, which is the default.
+   *
+   * @param batchWindowMs the batch window in milliseconds
+   */
+  public void setBatchWindow(long batchWindowMs) {
+    this.batchWindowMs = Math.max(0, batchWindowMs);
+    if (this.batchWindowMs == 0) {
+      platformThreadHandler.post(flushRunnable);
+    }
+  }
+
+  /**
+   * Receives messages posted to {@code port} as messages of this channel.
+   *
+   * <p>Messages received through a port are delivered on the platform thread without going through
+   * the JavaScript bridge thread. The port is closed when this channel is released or another port
+   * is set.
+   *
+   * @param port the port messages are received on
+   */
+  @TargetApi(Build.VERSION_CODES.M)
+  public void setPort(@Nullable WebMessagePort port) {
+    if (this.port != null) {
+      this.port.close();
+    }
+    this.port = port;
+    if (port != null) {
+      port.setWebMessageCallback(
+          new WebMessagePort.WebMessageCallback() {
+            @Override
+            public void onMessage(WebMessagePort port, WebMessage message) {
+              postMessage(message.getData());
+            }
+          },
+          platformThreadHandler);
+    }
+  }
+
+  private void enqueue(String message) {
+    synchronized (pendingMessages) {
+      pendingMessages.add(message);
+      if (pendingMessages.size() >= MAX_BATCH_SIZE) {
+        platformThreadHandler.removeCallbacks(flushRunnable);
+        platformThreadHandler.post(flushRunnable);
+        flushScheduled = true;
+      } else if (!flushScheduled) {
+        platformThreadHandler.postDelayed(flushRunnable, batchWindowMs);
+        flushScheduled = true;
+      }
+    }
+  }
+
+  private void flush() {
+    final List<String> messages;
+    synchronized (pendingMessages) {
+      flushScheduled = false;
+      if (pendingMessages.isEmpty()) {
+        return;
+      }
+      messages = new ArrayList<>(pendingMessages);
+      pendingMessages.clear();
+    }
+    if (flutterApi != null) {
+      flutterApi.postMessages(this, messages, reply -> {});
+    }
+  }
+
   @Override
   public void release() {
+    platformThreadHandler.removeCallbacks(flushRunnable);
+    synchronized (pendingMessages) {
+      pendingMessages.clear();
+      flushScheduled = false;
+    }
+    if (port != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+      port.close();
+      port = null;
+    }
     if (flutterApi != null) {
       flutterApi.dispose(this, reply -> {});
     }
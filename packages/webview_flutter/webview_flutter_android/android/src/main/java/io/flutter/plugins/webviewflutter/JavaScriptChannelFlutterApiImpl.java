@@ -6,6 +6,7 @@ package io.flutter.plugins.webviewflutter;
 
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelFlutterApi;
+import java.util.List;
 
 /**
  * Flutter Api implementation for {@link JavaScriptChannel}.
@@ -33,6 +34,12 @@ public class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi
     super.postMessage(instanceManager.getInstanceId(javaScriptChannel), messageArg, callback);
   }
 
+  /** Passes a batch of messages from {@link JavaScriptChannel#postMessage} to Dart. */
+  public void postMessages(
+      JavaScriptChannel javaScriptChannel, List<String> messagesArg, Reply<Void> callback) {
+    super.postMessages(instanceManager.getInstanceId(javaScriptChannel), messagesArg, callback);
+  }
+
   /**
    * Communicates to Dart that the reference to a {@link JavaScriptChannel} was removed.
    *
@@ -72,4 +72,11 @@ public class JavaScriptChannelHostApiImpl implements JavaScriptChannelHostApi {
             flutterApi, channelName, platformThreadHandler);
     instanceManager.addInstance(javaScriptChannel, instanceId);
   }
+
+  @Override
+  public void setBatchWindow(Long instanceId, Long windowMs) {
+    final JavaScriptChannel javaScriptChannel =
+        (JavaScriptChannel) instanceManager.getInstance(instanceId);
+    javaScriptChannel.setBatchWindow(windowMs);
+  }
 }
@@ -0,0 +1,163 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Build;
+import android.os.SystemClock;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.PageLoadMetricsData;
+
+/**
+ * Measures how long main frame navigations of a {@link WebView} take to load.
+ *
+ * <p>A navigation starts with {@code onPageStarted} and ends with {@code onPageFinished}. The time
+ * until the first visual state after the page became visible and the first main frame error are
+ * recorded in between. When requested, the Navigation Timing and Resource Timing entries of the
+ * page are collected with a script once it finished loading. The metrics are then sent as one
+ * {@link PageLoadMetricsData} per navigation.
+ *
+ * <p>Tracking is disabled by default. This class is not thread-safe and must be used on the main
+ * thread.
+ */
+public class PageLoadTracker {
+  /** Maximum number of Resource Timing entries collected per navigation. */
+  static final int MAX_RESOURCE_ENTRIES = 250;
+
+  static final String PERFORMANCE_TIMING_SCRIPT =
+      "(function() {"
+          + "  if (!window.performance) { return null; }"
+          + "  var toJSON = function(entry) { return entry.toJSON ? entry.toJSON() : entry; };"
+          + "  var navigation = performance.getEntriesByType"
+          + "      ? performance.getEntriesByType('navigation').map(toJSON) : [];"
+          + "  if (navigation.length === 0 && performance.timing) {"
+          + "    navigation = [toJSON(performance.timing)];"
+          + "  }"
+          + "  var resource = performance.getEntriesByType"
+          + "      ? performance.getEntriesByType('resource').slice(0, "
+          + MAX_RESOURCE_ENTRIES
+          + ").map(toJSON) : [];"
+          + "  return {navigation: navigation, resource: resource};"
+          + "})();";
+
+  /** Receives the metrics of each tracked navigation. */
+  public interface Listener {
+    /**
+     * Called once the metrics of a navigation have been collected.
+     *
+     * @param view the {@link WebView} that loaded the page
+     * @param metrics the metrics of the navigation
+     */
+    void onPageLoadMetrics(WebView view, PageLoadMetricsData metrics);
+  }
+
+  private final Listener listener;
+  private boolean enabled = false;
+  private boolean collectPerformanceTiming = false;
+
+  // The navigation currently being tracked, if any. Replaced by every new navigation so callbacks
+  // of a previous one are ignored.
+  @Nullable private PageLoadMetricsData currentMetrics;
+  private long startedAt;
+  private long visualStateRequestId = 0;
+
+  /**
+   * Creates a {@link PageLoadTracker} that sends metrics to {@code listener}.
+   *
+   * @param listener receives the metrics of each tracked navigation
+   */
+  public PageLoadTracker(@NonNull Listener listener) {
+    this.listener = listener;
+  }
+
+  /**
+   * Enables or disables tracking.
+   *
+   * @param enabled whether navigations are tracked
+   * @param collectPerformanceTiming whether Navigation Timing and Resource Timing entries are
+   *     collected from the page
+   */
+  public void setEnabled(boolean enabled, boolean collectPerformanceTiming) {
+    this.enabled = enabled;
+    this.collectPerformanceTiming = collectPerformanceTiming;
+    if (!enabled) {
+      currentMetrics = null;
+    }
+  }
+
+  /** Starts tracking a navigation. */
+  public void onPageStarted(String url) {
+    if (!enabled) {
+      return;
+    }
+    currentMetrics = new PageLoadMetricsData();
+    currentMetrics.setUrl(url);
+    currentMetrics.setStartTimeMillis(System.currentTimeMillis());
+    startedAt = SystemClock.elapsedRealtime();
+  }
+
+  /**
+   * Waits for the first visual state of the current navigation once its content became visible.
+   *
+   * <p>The first visual state is only included in the metrics if it is drawn before the navigation
+   * finishes.
+   */
+  public void onPageCommitVisible(WebView view) {
+    if (currentMetrics == null || Build.VERSION.SDK_INT < Build.VERSION_CODES.M) {
+      return;
+    }
+    final PageLoadMetricsData metrics = currentMetrics;
+    final long navigationStartedAt = startedAt;
+    view.postVisualStateCallback(
+        ++visualStateRequestId,
+        new WebView.VisualStateCallback() {
+          @Override
+          public void onComplete(long requestId) {
+            if (metrics.getFirstVisualStateMillis() == null) {
+              metrics.setFirstVisualStateMillis(
+                  SystemClock.elapsedRealtime() - navigationStartedAt);
+            }
+          }
+        });
+  }
+
+  /** Records the first main frame error of the current navigation. */
+  public void onReceivedError(long errorCode, String description) {
+    if (currentMetrics == null || currentMetrics.getErrorCode() != null) {
+      return;
+    }
+    currentMetrics.setErrorCode(errorCode);
+    currentMetrics.setErrorDescription(description);
+  }
+
+  /** Finishes tracking the current navigation and sends its metrics. */
+  public void onPageFinished(WebView view) {
+    final PageLoadMetricsData metrics = currentMetrics;
+    if (metrics == null) {
+      return;
+    }
+    currentMetrics = null;
+    metrics.setPageFinishedMillis(SystemClock.elapsedRealtime() - startedAt);
+
+    if (collectPerformanceTiming && metrics.getErrorCode() == null) {
+      view.evaluateJavascript(
+          PERFORMANCE_TIMING_SCRIPT,
+          value -> {
+            if (value != null && !value.equals("null")) {
+              metrics.setPerformanceTiming(value);
+            }
+            listener.onPageLoadMetrics(view, metrics);
+          });
+    } else {
+      listener.onPageLoadMetrics(view, metrics);
+    }
+  }
+
+  /** Stops tracking the current navigation without sending its metrics. */
+  public void cancel() {
+    currentMetrics = null;
+  }
+}
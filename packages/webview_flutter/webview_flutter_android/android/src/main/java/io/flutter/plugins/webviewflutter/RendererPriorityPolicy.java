@@ -0,0 +1,99 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.webkit.WebView;
+
+/**
+ * Keeps track of the renderer priority requested for a {@link WebView}.
+ *
+ * <p>When the priority is waived while the view is not visible, it is also waived while the view
+ * is detached from a window, such as after a WebView card has scrolled off screen. This allows the
+ * system to reclaim the renderer of a detached WebView under memory pressure before it kills the
+ * app.
+ *
+ * <p>Nothing is applied until a policy has been set, so {@link WebView}s keep the default policy.
+ */
+public class RendererPriorityPolicy {
+  /** Applies renderer priorities to a {@link WebView} and reports when they change. */
+  public interface Delegate {
+    /**
+     * Applies the renderer priority to the {@link WebView}.
+     *
+     * @param priority one of the {@code WebView.RENDERER_PRIORITY_*} constants
+     * @param waivedWhenNotVisible whether the priority is waived while the view is not visible
+     */
+    void applyRendererPriority(int priority, boolean waivedWhenNotVisible);
+
+    /**
+     * Called after a different renderer priority was applied.
+     *
+     * @param priority the applied priority
+     */
+    void onRendererPriorityChanged(int priority);
+  }
+
+  private final Delegate delegate;
+  private boolean isSet = false;
+  private int priority;
+  private boolean waivedWhenNotVisible;
+  private boolean isAttached = false;
+  private int appliedPriority = -1;
+
+  /**
+   * Creates a {@link RendererPriorityPolicy} that applies priorities through {@code delegate}.
+   *
+   * @param delegate applies priorities to the {@link WebView}
+   */
+  public RendererPriorityPolicy(Delegate delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Sets the priority requested for the renderer while the view is attached to a window.
+   *
+   * @param priority one of the {@code WebView.RENDERER_PRIORITY_*} constants
+   * @param waivedWhenNotVisible whether the priority is waived while the view is not visible or
+   *     detached
+   */
+  public void setPolicy(int priority, boolean waivedWhenNotVisible) {
+    this.isSet = true;
+    this.priority = priority;
+    this.waivedWhenNotVisible = waivedWhenNotVisible;
+    update();
+  }
+
+  /**
+   * Updates whether the view is attached to a window.
+   *
+   * @param isAttached whether the view is attached to a window
+   */
+  public void setAttached(boolean isAttached) {
+    this.isAttached = isAttached;
+    update();
+  }
+
+  /** Restores the default policy if a policy was set. */
+  public void reset() {
+    if (isSet) {
+      setPolicy(WebView.RENDERER_PRIORITY_IMPORTANT, false);
+      isSet = false;
+      appliedPriority = -1;
+    }
+  }
+
+  private void update() {
+    if (!isSet) {
+      return;
+    }
+    final int newPriority =
+        !isAttached && waivedWhenNotVisible ? WebView.RENDERER_PRIORITY_WAIVED : priority;
+    delegate.applyRendererPriority(newPriority, waivedWhenNotVisible);
+    if (newPriority != appliedPriority) {
+      appliedPriority = newPriority;
+      delegate.onRendererPriorityChanged(newPriority);
+    }
+  }
+}
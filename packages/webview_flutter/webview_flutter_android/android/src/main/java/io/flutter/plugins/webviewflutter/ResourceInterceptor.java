@@ -0,0 +1,808 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.res.AssetManager;
+import android.os.Build;
+import android.webkit.CookieManager;
+import android.webkit.MimeTypeMap;
+import android.webkit.WebResourceResponse;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Serves requests of a {@link android.webkit.WebView} from Flutter assets, app files or an on-disk
+ * cache instead of the network.
+ *
+ * <p>URL prefixes can be mapped to a directory of Flutter assets or a directory on disk. A prefix
+ * matches URLs that continue it with a new path segment, query or fragment, and the rest of the URL
+ * after the prefix is resolved against that directory. Responses are streamed to the
+ * WebView, so files are never read into memory as a whole. Requests that don't match a route, or
+ * whose file doesn't exist, are loaded normally.
+ *
+ * <p>GET requests to selected origins can additionally be stored in an LRU disk cache. A response
+ * is written to the cache while the WebView reads it and only committed once it has been read
+ * completely. Cached responses are served with their original headers and without contacting the
+ * network until they expire according to {@code Cache-Control: max-age} or {@code Expires}.
+ * Responses without an expiration time stay cached until they are evicted, which also makes them
+ * available offline. Responses marked {@code no-store}, {@code no-cache} or {@code private} are not
+ * cached, as the cache is shared by all WebViews of the app. Neither are responses other than
+ * {@code 200 OK}, which are served directly, and redirects, which are left to the WebView. Requests
+ * and responses go through the {@link CookieManager} of the WebViews, but {@code Set-Cookie}
+ * headers are never cached.
+ *
+ * <p>{@link #intercept} is called on a background thread of the WebView, while routes are
+ * configured from the platform thread. This class is thread-safe.
+ */
+public class ResourceInterceptor {
+  private static final String CACHE_FILE_SUFFIX = ".res";
+  private static final String TEMP_FILE_SUFFIX = ".tmp";
+  private static final int CONNECT_TIMEOUT_MS = 15000;
+  private static final int READ_TIMEOUT_MS = 30000;
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  /** Returned by {@link #freshUntil} for responses that must not be cached. */
+  @VisibleForTesting static final long NOT_CACHEABLE = -1;
+
+  /** Returned by {@link #freshUntil} for responses that are cached until they are evicted. */
+  @VisibleForTesting static final long NO_EXPIRATION = 0;
+
+  // Response headers that only apply to the connection the response was received on, or that
+  // must not be replayed to other requests.
+  private static final Set<String> UNCACHED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+  static {
+    UNCACHED_HEADERS.addAll(
+        Arrays.asList(
+            "Connection",
+            "Content-Encoding",
+            "Content-Length",
+            "Keep-Alive",
+            "Proxy-Authenticate",
+            "Set-Cookie",
+            "Set-Cookie2",
+            "Trailer",
+            "Transfer-Encoding",
+            "Upgrade"));
+  }
+
+  /** Resolves the path of a Flutter asset in the {@link AssetManager} of the app. */
+  public interface AssetPathResolver {
+    /**
+     * Returns the path of a Flutter asset.
+     *
+     * @param assetName the name of the asset as declared in pubspec.yaml
+     * @return the path of the asset in the {@link AssetManager}
+     */
+    String getAssetFilePathByName(String assetName);
+  }
+
+  private static class Route {
+    final String urlPrefix;
+    final String directory;
+    final boolean isAsset;
+
+    Route(String urlPrefix, String directory, boolean isAsset) {
+      this.urlPrefix = urlPrefix;
+      this.directory = directory;
+      this.isAsset = isAsset;
+    }
+  }
+
+  private static class CacheConfig {
+    final File directory;
+    final long maxSizeBytes;
+    final Set<String> origins;
+
+    CacheConfig(File directory, long maxSizeBytes, Set<String> origins) {
+      this.directory = directory;
+      this.maxSizeBytes = maxSizeBytes;
+      this.origins = origins;
+    }
+  }
+
+  private final AssetManager assetManager;
+  private final AssetPathResolver assetPathResolver;
+  private final List<Route> routes = new CopyOnWriteArrayList<>();
+  @Nullable private volatile CacheConfig cacheConfig;
+
+  /**
+   * Creates a {@link ResourceInterceptor} without any routes.
+   *
+   * @param assetManager the asset manager of the app
+   * @param assetPathResolver resolves the paths of Flutter assets
+   */
+  public ResourceInterceptor(AssetManager assetManager, AssetPathResolver assetPathResolver) {
+    this.assetManager = assetManager;
+    this.assetPathResolver = assetPathResolver;
+  }
+
+  /**
+   * Serves URLs starting with {@code urlPrefix} from a directory of Flutter assets.
+   *
+   * @param urlPrefix the URL prefix to intercept
+   * @param assetDirectory the asset directory the rest of the URL is resolved against
+   */
+  public void addAssetRoute(String urlPrefix, String assetDirectory) {
+    routes.add(new Route(urlPrefix, assetDirectory, true));
+  }
+
+  /**
+   * Serves URLs starting with {@code urlPrefix} from a directory on disk.
+   *
+   * @param urlPrefix the URL prefix to intercept
+   * @param directory the absolute path of the directory the rest of the URL is resolved against
+   */
+  public void addFileRoute(String urlPrefix, String directory) {
+    routes.add(new Route(urlPrefix, directory, false));
+  }
+
+  /** Removes all routes added with {@link #addAssetRoute} and {@link #addFileRoute}. */
+  public void clearRoutes() {
+    routes.clear();
+  }
+
+  /**
+   * Enables the disk cache for GET requests to {@code origins}.
+   *
+   * @param directory the directory cached responses are stored in
+   * @param maxSizeBytes the maximum size of the cache, or 0 to disable and delete the cache
+   * @param origins origins such as {@code https://example.com} whose responses are cached
+   */
+  public void setCache(File directory, long maxSizeBytes, List<String> origins) {
+    if (maxSizeBytes <= 0 || origins.isEmpty()) {
+      cacheConfig = null;
+      deleteCacheFiles(directory);
+      return;
+    }
+    final Set<String> normalizedOrigins = new HashSet<>();
+    for (String origin : origins) {
+      normalizedOrigins.add(normalizeOrigin(origin));
+    }
+    final CacheConfig config =
+        new CacheConfig(directory, maxSizeBytes, Collections.unmodifiableSet(normalizedOrigins));
+    synchronized (this) {
+      // noinspection ResultOfMethodCallIgnored
+      directory.mkdirs();
+      cacheConfig = config;
+      trimCache(config);
+    }
+  }
+
+  /**
+   * Returns a response for the request, or null if the WebView should load it normally.
+   *
+   * @param url the URL of the request
+   * @param method the HTTP method of the request
+   * @param headers the headers of the request
+   * @return the response served to the WebView, or null
+   */
+  @Nullable
+  public WebResourceResponse intercept(
+      @NonNull String url, @NonNull String method, @Nullable Map<String, String> headers) {
+    final WebResourceResponse routed = interceptRoute(url);
+    if (routed != null) {
+      return routed;
+    }
+
+    final CacheConfig config = cacheConfig;
+    if (config == null || !"GET".equalsIgnoreCase(method) || !isCachedOrigin(config, url)) {
+      return null;
+    }
+    try {
+      final WebResourceResponse cached = readFromCache(config, url);
+      if (cached != null) {
+        return cached;
+      }
+      return fetchAndCache(config, url, headers);
+    } catch (IOException e) {
+      // Let the WebView load the resource, and report any error, itself.
+      return null;
+    }
+  }
+
+  @Nullable
+  private WebResourceResponse interceptRoute(String url) {
+    for (Route route : routes) {
+      if (!matchesPrefix(url, route.urlPrefix)) {
+        continue;
+      }
+      final String path = relativePath(url.substring(route.urlPrefix.length()));
+      if (path == null) {
+        continue;
+      }
+      try {
+        final InputStream stream =
+            route.isAsset ? openAsset(route.directory, path) : openFile(route.directory, path);
+        if (stream != null) {
+          return createResponse(guessMimeType(path), null, 200, "OK", null, stream);
+        }
+      } catch (IOException e) {
+        // Fall through to the next route, and eventually the network.
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns whether {@code url} starts with {@code urlPrefix} at a path boundary, so that {@code
+   * https://app.local/web} matches {@code https://app.local/web/index.html} but not {@code
+   * https://app.local/website}.
+   */
+  @VisibleForTesting
+  static boolean matchesPrefix(String url, String urlPrefix) {
+    if (!url.startsWith(urlPrefix)) {
+      return false;
+    }
+    if (url.length() == urlPrefix.length() || urlPrefix.endsWith("/")) {
+      return true;
+    }
+    final char next = url.charAt(urlPrefix.length());
+    return next == '/' || next == '?' || next == '#';
+  }
+
+  private InputStream openAsset(String assetDirectory, String path) throws IOException {
+    final String assetName =
+        assetDirectory.isEmpty() || assetDirectory.endsWith("/")
+            ? assetDirectory + path
+            : assetDirectory + "/" + path;
+    return assetManager.open(
+        assetPathResolver.getAssetFilePathByName(assetName), AssetManager.ACCESS_STREAMING);
+  }
+
+  @Nullable
+  private static InputStream openFile(String directory, String path) throws IOException {
+    final File root = new File(directory).getCanonicalFile();
+    final File file = new File(root, path).getCanonicalFile();
+    if (!file.getPath().startsWith(root.getPath() + File.separator) || !file.isFile()) {
+      return null;
+    }
+    return new FileInputStream(file);
+  }
+
+  /**
+   * Returns the decoded path of {@code remainder} without query and fragment, or null if it tries
+   * to leave the directory it is resolved against.
+   */
+  @VisibleForTesting
+  @Nullable
+  static String relativePath(String remainder) {
+    int end = remainder.length();
+    final int query = remainder.indexOf('?');
+    if (query >= 0) {
+      end = query;
+    }
+    final int fragment = remainder.indexOf('#');
+    if (fragment >= 0 && fragment < end) {
+      end = fragment;
+    }
+    String path = remainder.substring(0, end);
+    while (path.startsWith("/")) {
+      path = path.substring(1);
+    }
+    try {
+      path = URLDecoder.decode(path.replace("+", "%2B"), "UTF-8");
+    } catch (IllegalArgumentException | UnsupportedEncodingException e) {
+      return null;
+    }
+    if (path.isEmpty() || path.endsWith("/")) {
+      path += "index.html";
+    }
+    for (String segment : path.split("/")) {
+      if (segment.equals("..")) {
+        return null;
+      }
+    }
+    return path;
+  }
+
+  @VisibleForTesting
+  static String guessMimeType(String path) {
+    final int dot = path.lastIndexOf('.');
+    final String extension = dot >= 0 ? path.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    switch (extension) {
+      case "js":
+      case "mjs":
+        return "text/javascript";
+      case "wasm":
+        return "application/wasm";
+      case "json":
+        return "application/json";
+      default:
+        break;
+    }
+    final String mimeType = MimeTypeMap.getSingleton().getMimeTypeFromExtension(extension);
+    return mimeType != null ? mimeType : "application/octet-stream";
+  }
+
+  private static String normalizeOrigin(String origin) {
+    String normalized = origin.toLowerCase(Locale.ROOT);
+    while (normalized.endsWith("/")) {
+      normalized = normalized.substring(0, normalized.length() - 1);
+    }
+    return normalized;
+  }
+
+  private static boolean isCachedOrigin(CacheConfig config, String url) {
+    final int schemeEnd = url.indexOf("://");
+    if (schemeEnd < 0) {
+      return false;
+    }
+    int originEnd = url.length();
+    for (char delimiter : new char[] {'/', '?', '#'}) {
+      final int index = url.indexOf(delimiter, schemeEnd + 3);
+      if (index >= 0 && index < originEnd) {
+        originEnd = index;
+      }
+    }
+    return config.origins.contains(url.substring(0, originEnd).toLowerCase(Locale.ROOT));
+  }
+
+  @Nullable
+  private WebResourceResponse readFromCache(CacheConfig config, String url) throws IOException {
+    final File file = new File(config.directory, cacheKey(url) + CACHE_FILE_SUFFIX);
+    final InputStream stream;
+    synchronized (this) {
+      if (!file.isFile()) {
+        return null;
+      }
+      // Marks the entry as recently used.
+      // noinspection ResultOfMethodCallIgnored
+      file.setLastModified(System.currentTimeMillis());
+      stream = new FileInputStream(file);
+    }
+    CacheEntryHeader header;
+    try {
+      header = CacheEntryHeader.readFrom(stream);
+    } catch (IOException e) {
+      header = null;
+    }
+    if (header == null || header.isExpired(System.currentTimeMillis())) {
+      // Drops corrupt and expired entries so that the response is fetched again.
+      stream.close();
+      synchronized (this) {
+        // noinspection ResultOfMethodCallIgnored
+        file.delete();
+      }
+      return null;
+    }
+    final String contentType = header.headers.get("Content-Type");
+    return createResponse(
+        parseMimeType(contentType), parseEncoding(contentType), 200, "OK", header.headers, stream);
+  }
+
+  @Nullable
+  private WebResourceResponse fetchAndCache(
+      CacheConfig config, String url, @Nullable Map<String, String> headers) throws IOException {
+    final HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+    connection.setConnectTimeout(CONNECT_TIMEOUT_MS);
+    connection.setReadTimeout(READ_TIMEOUT_MS);
+    // A followed redirect would be cached under the original URL, so redirects are handled by the
+    // WebView instead.
+    connection.setInstanceFollowRedirects(false);
+    if (headers != null) {
+      for (Map.Entry<String, String> header : headers.entrySet()) {
+        // Leaving the encoding to HttpURLConnection makes it decompress the response
+        // transparently, so that the cached body can be served without Content-Encoding.
+        if (!"Accept-Encoding".equalsIgnoreCase(header.getKey())) {
+          connection.setRequestProperty(header.getKey(), header.getValue());
+        }
+      }
+    }
+    final CookieManager cookieManager = CookieManager.getInstance();
+    final String cookies = cookieManager.getCookie(url);
+    if (cookies != null && !cookies.isEmpty()) {
+      connection.setRequestProperty("Cookie", cookies);
+    }
+
+    final int statusCode = connection.getResponseCode();
+    final Map<String, List<String>> headerFields = connection.getHeaderFields();
+    for (Map.Entry<String, List<String>> field : headerFields.entrySet()) {
+      if ("Set-Cookie".equalsIgnoreCase(field.getKey())) {
+        for (String cookie : field.getValue()) {
+          cookieManager.setCookie(url, cookie);
+        }
+      }
+    }
+
+    if (statusCode >= HttpURLConnection.HTTP_MULT_CHOICE
+        && statusCode < HttpURLConnection.HTTP_BAD_REQUEST) {
+      // WebResourceResponse can't represent redirects, so the WebView has to load them itself.
+      connection.disconnect();
+      return null;
+    }
+
+    final String contentType = connection.getContentType();
+    if (statusCode != HttpURLConnection.HTTP_OK) {
+      // Only complete responses are cached, but other responses such as errors are still served
+      // rather than having the WebView request them again.
+      InputStream body =
+          statusCode >= HttpURLConnection.HTTP_BAD_REQUEST
+              ? connection.getErrorStream()
+              : connection.getInputStream();
+      if (body == null) {
+        body = new ByteArrayInputStream(new byte[0]);
+      }
+      return createResponse(
+          parseMimeType(contentType),
+          parseEncoding(contentType),
+          statusCode,
+          connection.getResponseMessage(),
+          cacheableHeaders(headerFields),
+          body);
+    }
+
+    final long freshUntil =
+        freshUntil(
+            connection.getHeaderField("Cache-Control"),
+            connection.getExpiration(),
+            System.currentTimeMillis());
+    final CacheEntryHeader header =
+        new CacheEntryHeader(freshUntil, cacheableHeaders(headerFields));
+    if (freshUntil == NOT_CACHEABLE) {
+      // Serves the response without storing it, rather than having the WebView request it again.
+      return createResponse(
+          parseMimeType(contentType),
+          parseEncoding(contentType),
+          statusCode,
+          connection.getResponseMessage(),
+          header.headers,
+          connection.getInputStream());
+    }
+
+    final File temp =
+        File.createTempFile(cacheKey(url), TEMP_FILE_SUFFIX, config.directory.getAbsoluteFile());
+    final OutputStream output;
+    try {
+      output = new FileOutputStream(temp);
+      header.writeTo(output);
+    } catch (IOException e) {
+      // noinspection ResultOfMethodCallIgnored
+      temp.delete();
+      connection.disconnect();
+      throw e;
+    }
+
+    final InputStream stream =
+        new CachingInputStream(
+            connection.getInputStream(),
+            output,
+            temp,
+            new File(config.directory, cacheKey(url) + CACHE_FILE_SUFFIX),
+            config);
+    return createResponse(
+        parseMimeType(contentType),
+        parseEncoding(contentType),
+        statusCode,
+        connection.getResponseMessage(),
+        header.headers,
+        stream);
+  }
+
+  /**
+   * Returns until when a response may be served from the cache.
+   *
+   * @param cacheControl the {@code Cache-Control} header of the response, or null
+   * @param expires the {@code Expires} header of the response in milliseconds since the epoch, or
+   *     0 if it is missing
+   * @param now the current time in milliseconds since the epoch
+   * @return the expiration time in milliseconds since the epoch, {@link #NO_EXPIRATION} or {@link
+   *     #NOT_CACHEABLE}
+   */
+  @VisibleForTesting
+  static long freshUntil(@Nullable String cacheControl, long expires, long now) {
+    if (cacheControl != null) {
+      for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+        final String trimmed = directive.trim();
+        if (trimmed.equals("no-store")
+            || trimmed.equals("no-cache")
+            || trimmed.startsWith("private")) {
+          return NOT_CACHEABLE;
+        }
+        if (trimmed.startsWith("max-age=")) {
+          final long maxAgeSeconds;
+          try {
+            maxAgeSeconds = Long.parseLong(trimmed.substring("max-age=".length()).trim());
+          } catch (NumberFormatException e) {
+            return NOT_CACHEABLE;
+          }
+          return maxAgeSeconds > 0 ? now + maxAgeSeconds * 1000 : NOT_CACHEABLE;
+        }
+      }
+    }
+    if (expires != 0) {
+      return expires > now ? expires : NOT_CACHEABLE;
+    }
+    return NO_EXPIRATION;
+  }
+
+  /** Returns the headers of a response that are replayed when it is served from the cache. */
+  @VisibleForTesting
+  static Map<String, String> cacheableHeaders(Map<String, List<String>> headerFields) {
+    final Map<String, String> headers = new LinkedHashMap<>();
+    for (Map.Entry<String, List<String>> field : headerFields.entrySet()) {
+      final String name = field.getKey();
+      // HttpURLConnection reports the status line with a null name.
+      if (name == null || UNCACHED_HEADERS.contains(name) || field.getValue().isEmpty()) {
+        continue;
+      }
+      final StringBuilder value = new StringBuilder();
+      for (String part : field.getValue()) {
+        if (value.length() > 0) {
+          value.append(", ");
+        }
+        value.append(part.replace('\r', ' ').replace('\n', ' '));
+      }
+      headers.put(name, value.toString());
+    }
+    return headers;
+  }
+
+  private synchronized void commit(CacheConfig config, File temp, File destination) {
+    if (cacheConfig != config || !temp.renameTo(destination)) {
+      // noinspection ResultOfMethodCallIgnored
+      temp.delete();
+      return;
+    }
+    trimCache(config);
+  }
+
+  private void trimCache(CacheConfig config) {
+    final File[] files = config.directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    final List<File> entries = new ArrayList<>();
+    long totalSize = 0;
+    for (File file : files) {
+      if (file.getName().endsWith(CACHE_FILE_SUFFIX)) {
+        entries.add(file);
+        totalSize += file.length();
+      }
+    }
+    if (totalSize <= config.maxSizeBytes) {
+      return;
+    }
+    Collections.sort(entries, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+    for (File file : entries) {
+      if (totalSize <= config.maxSizeBytes) {
+        break;
+      }
+      final long length = file.length();
+      if (file.delete()) {
+        totalSize -= length;
+      }
+    }
+  }
+
+  private synchronized void deleteCacheFiles(File directory) {
+    final File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File file : files) {
+      final String name = file.getName();
+      if (name.endsWith(CACHE_FILE_SUFFIX) || name.endsWith(TEMP_FILE_SUFFIX)) {
+        // noinspection ResultOfMethodCallIgnored
+        file.delete();
+      }
+    }
+  }
+
+  private static WebResourceResponse createResponse(
+      String mimeType,
+      @Nullable String encoding,
+      int statusCode,
+      @Nullable String reasonPhrase,
+      @Nullable Map<String, String> headers,
+      InputStream data) {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+      return new WebResourceResponse(
+          mimeType,
+          encoding,
+          statusCode,
+          reasonPhrase != null && !reasonPhrase.isEmpty() ? reasonPhrase : "OK",
+          headers != null ? headers : Collections.emptyMap(),
+          data);
+    }
+    return new WebResourceResponse(mimeType, encoding, data);
+  }
+
+  private static String parseMimeType(@Nullable String contentType) {
+    if (contentType == null || contentType.isEmpty()) {
+      return "application/octet-stream";
+    }
+    final int separator = contentType.indexOf(';');
+    return (separator >= 0 ? contentType.substring(0, separator) : contentType).trim();
+  }
+
+  @Nullable
+  private static String parseEncoding(@Nullable String contentType) {
+    if (contentType == null) {
+      return null;
+    }
+    for (String parameter : contentType.split(";")) {
+      final String trimmed = parameter.trim();
+      if (trimmed.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+        return trimmed.substring("charset=".length()).replace("\"", "");
+      }
+    }
+    return null;
+  }
+
+  /**
+   * The metadata at the start of a cache file: the expiration time on the first line, followed by
+   * one line per response header and an empty line.
+   */
+  @VisibleForTesting
+  static class CacheEntryHeader {
+    final long freshUntil;
+    final Map<String, String> headers;
+
+    CacheEntryHeader(long freshUntil, Map<String, String> headers) {
+      this.freshUntil = freshUntil;
+      this.headers = headers;
+    }
+
+    boolean isExpired(long now) {
+      return freshUntil != NO_EXPIRATION && freshUntil <= now;
+    }
+
+    void writeTo(OutputStream output) throws IOException {
+      final StringBuilder text = new StringBuilder();
+      text.append(freshUntil).append('\n');
+      for (Map.Entry<String, String> header : headers.entrySet()) {
+        text.append(header.getKey()).append(": ").append(header.getValue()).append('\n');
+      }
+      text.append('\n');
+      output.write(text.toString().getBytes(UTF_8));
+    }
+
+    /** Reads the metadata, leaving {@code stream} at the start of the response body. */
+    static CacheEntryHeader readFrom(InputStream stream) throws IOException {
+      final long freshUntil;
+      try {
+        freshUntil = Long.parseLong(readLine(stream));
+      } catch (NumberFormatException e) {
+        throw new IOException("Corrupt cache entry", e);
+      }
+      final Map<String, String> headers = new LinkedHashMap<>();
+      String line;
+      while (!(line = readLine(stream)).isEmpty()) {
+        final int separator = line.indexOf(": ");
+        if (separator > 0) {
+          headers.put(line.substring(0, separator), line.substring(separator + 2));
+        }
+      }
+      return new CacheEntryHeader(freshUntil, headers);
+    }
+  }
+
+  private static String readLine(InputStream stream) throws IOException {
+    final ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int read;
+    while ((read = stream.read()) != -1 && read != '\n') {
+      line.write(read);
+    }
+    return new String(line.toByteArray(), UTF_8);
+  }
+
+  private static String cacheKey(String url) {
+    try {
+      final byte[] digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(UTF_8));
+      final StringBuilder key = new StringBuilder();
+      for (byte b : digest) {
+        key.append(String.format(Locale.ROOT, "%02x", b));
+      }
+      return key.toString();
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256 is available on all supported versions of Android.
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Writes everything read from a network response to a temporary file and moves it into the cache
+   * once the response has been read completely.
+   */
+  private class CachingInputStream extends FilterInputStream {
+    private final OutputStream output;
+    private final File temp;
+    private final File destination;
+    private final CacheConfig config;
+    private boolean complete = false;
+    private boolean failed = false;
+
+    CachingInputStream(
+        InputStream input, OutputStream output, File temp, File destination, CacheConfig config) {
+      super(input);
+      this.output = output;
+      this.temp = temp;
+      this.destination = destination;
+      this.config = config;
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int read = super.read();
+      if (read == -1) {
+        complete = true;
+      } else {
+        write(new byte[] {(byte) read}, 0, 1);
+      }
+      return read;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      final int read = super.read(buffer, offset, length);
+      if (read == -1) {
+        complete = true;
+      } else {
+        write(buffer, offset, read);
+      }
+      return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        try {
+          output.close();
+        } catch (IOException e) {
+          failed = true;
+        }
+        if (complete && !failed) {
+          commit(config, temp, destination);
+        } else {
+          // noinspection ResultOfMethodCallIgnored
+          temp.delete();
+        }
+      }
+    }
+
+    private void write(byte[] buffer, int offset, int length) {
+      if (failed) {
+        return;
+      }
+      try {
+        output.write(buffer, offset, length);
+      } catch (IOException e) {
+        // Failing to cache must not fail the response.
+        failed = true;
+      }
+    }
+  }
+}
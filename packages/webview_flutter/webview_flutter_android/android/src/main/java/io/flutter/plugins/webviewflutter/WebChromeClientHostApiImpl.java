@@ -5,6 +5,8 @@
 package io.flutter.plugins.webviewflutter;
 
 import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
 import android.os.Message;
 import android.webkit.WebChromeClient;
 import android.webkit.WebResourceRequest;
@@ -32,6 +34,8 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
   public static class WebChromeClientImpl extends WebChromeClient implements Releasable {
     @Nullable private WebChromeClientFlutterApiImpl flutterApi;
     private WebViewClient webViewClient;
+    private final CallbackThrottle progressThrottle =
+        new CallbackThrottle(new Handler(Looper.getMainLooper()));
 
     /**
      * Creates a {@link WebChromeClient} that passes arguments of callbacks methods to Dart.
@@ -102,9 +106,25 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
 
     @Override
     public void onProgressChanged(WebView view, int progress) {
-      if (flutterApi != null) {
-        flutterApi.onProgressChanged(this, view, (long) progress, reply -> {});
-      }
+      progressThrottle.submit(
+          () -> {
+            if (flutterApi != null) {
+              flutterApi.onProgressChanged(this, view, (long) progress, reply -> {});
+            }
+          },
+          progress >= 100);
+    }
+
+    /**
+     * Sets the minimum time between two progress updates sent to Dart.
+     *
+     * <p>Intermediate updates within the interval are dropped in favor of the most recent one. An
+     * update for a progress of 100 is always sent immediately.
+     *
+     * @param intervalMs the interval in milliseconds, or 0 to send every update
+     */
+    public void setProgressInterval(long intervalMs) {
+      progressThrottle.setInterval(intervalMs);
     }
 
     /**
@@ -119,6 +139,7 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
 
     @Override
     public void release() {
+      progressThrottle.cancel();
       if (flutterApi != null) {
         flutterApi.dispose(this, reply -> {});
       }
@@ -165,4 +186,11 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
         webChromeClientCreator.createWebChromeClient(flutterApi, webViewClient);
     instanceManager.addInstance(webChromeClient, instanceId);
   }
+
+  @Override
+  public void setProgressInterval(Long instanceId, Long intervalMs) {
+    final WebChromeClientImpl webChromeClient =
+        (WebChromeClientImpl) instanceManager.getInstance(instanceId);
+    webChromeClient.setProgressInterval(intervalMs);
+  }
 }
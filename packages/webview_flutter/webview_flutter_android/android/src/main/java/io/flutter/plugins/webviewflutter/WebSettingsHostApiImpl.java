@@ -6,6 +6,7 @@ package io.flutter.plugins.webviewflutter;
 
 import android.webkit.WebSettings;
 import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebSettingsData;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebSettingsHostApi;
 
 /**
@@ -118,4 +119,44 @@ public class WebSettingsHostApiImpl implements WebSettingsHostApi {
     final WebSettings webSettings = (WebSettings) instanceManager.getInstance(instanceId);
     webSettings.setBuiltInZoomControls(enabled);
   }
+
+  @Override
+  public void applySettings(Long instanceId, WebSettingsData settings) {
+    final WebSettings webSettings = (WebSettings) instanceManager.getInstance(instanceId);
+    if (settings.getDomStorageEnabled() != null) {
+      webSettings.setDomStorageEnabled(settings.getDomStorageEnabled());
+    }
+    if (settings.getJavaScriptCanOpenWindowsAutomatically() != null) {
+      webSettings.setJavaScriptCanOpenWindowsAutomatically(
+          settings.getJavaScriptCanOpenWindowsAutomatically());
+    }
+    if (settings.getSupportMultipleWindows() != null) {
+      webSettings.setSupportMultipleWindows(settings.getSupportMultipleWindows());
+    }
+    if (settings.getJavaScriptEnabled() != null) {
+      webSettings.setJavaScriptEnabled(settings.getJavaScriptEnabled());
+    }
+    if (settings.getUserAgentString() != null) {
+      webSettings.setUserAgentString(settings.getUserAgentString());
+    }
+    if (settings.getMediaPlaybackRequiresUserGesture() != null) {
+      webSettings.setMediaPlaybackRequiresUserGesture(
+          settings.getMediaPlaybackRequiresUserGesture());
+    }
+    if (settings.getSupportZoom() != null) {
+      webSettings.setSupportZoom(settings.getSupportZoom());
+    }
+    if (settings.getLoadWithOverviewMode() != null) {
+      webSettings.setLoadWithOverviewMode(settings.getLoadWithOverviewMode());
+    }
+    if (settings.getUseWideViewPort() != null) {
+      webSettings.setUseWideViewPort(settings.getUseWideViewPort());
+    }
+    if (settings.getDisplayZoomControls() != null) {
+      webSettings.setDisplayZoomControls(settings.getDisplayZoomControls());
+    }
+    if (settings.getBuiltInZoomControls() != null) {
+      webSettings.setBuiltInZoomControls(settings.getBuiltInZoomControls());
+    }
+  }
 }
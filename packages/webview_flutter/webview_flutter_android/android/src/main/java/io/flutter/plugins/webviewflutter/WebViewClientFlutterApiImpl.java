@@ -13,6 +13,7 @@ import android.webkit.WebViewClient;
 import androidx.annotation.RequiresApi;
 import androidx.webkit.WebResourceErrorCompat;
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.PageLoadMetricsData;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewClientFlutterApi;
 
 /**
@@ -181,6 +182,49 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
         callback);
   }
 
+  /** Passes arguments from {@link WebViewClient#onRenderProcessGone} to Dart. */
+  public void onRenderProcessGone(
+      WebViewClient webViewClient, WebView webView, Boolean didCrashArg, Reply<Void> callback) {
+    onRenderProcessGone(
+        instanceManager.getInstanceId(webViewClient),
+        instanceManager.getInstanceId(webView),
+        didCrashArg,
+        callback);
+  }
+
+  /** Passes the renderer priority applied to a {@link WebView} to Dart. */
+  public void onRendererPriorityChanged(
+      WebViewClient webViewClient, WebView webView, Long priorityArg, Reply<Void> callback) {
+    onRendererPriorityChanged(
+        instanceManager.getInstanceId(webViewClient),
+        instanceManager.getInstanceId(webView),
+        priorityArg,
+        callback);
+  }
+
+  /** Passes a memory trim level received while a {@link WebView} is alive to Dart. */
+  public void onTrimMemory(
+      WebViewClient webViewClient, WebView webView, Long levelArg, Reply<Void> callback) {
+    onTrimMemory(
+        instanceManager.getInstanceId(webViewClient),
+        instanceManager.getInstanceId(webView),
+        levelArg,
+        callback);
+  }
+
+  /** Passes the page load metrics of a navigation to Dart. */
+  public void onPageLoadMetrics(
+      WebViewClient webViewClient,
+      WebView webView,
+      PageLoadMetricsData metricsArg,
+      Reply<Void> callback) {
+    onPageLoadMetrics(
+        instanceManager.getInstanceId(webViewClient),
+        instanceManager.getInstanceId(webView),
+        metricsArg,
+        callback);
+  }
+
   /**
    * Communicates to Dart that the reference to a {@link WebViewClient} was removed.
    *
@@ -8,9 +8,13 @@ import android.annotation.SuppressLint;
 import android.annotation.TargetApi;
 import android.graphics.Bitmap;
 import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.KeyEvent;
+import android.webkit.RenderProcessGoneDetail;
 import android.webkit.WebResourceError;
 import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
@@ -32,13 +36,61 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
   /**
    * An interface implemented by a class that extends {@link WebViewClient} and {@link Releasable}.
    */
-  public interface ReleasableWebViewClient extends Releasable {}
+  public interface ReleasableWebViewClient extends Releasable {
+    /**
+     * Sets the minimum time between navigation callbacks sent to Dart.
+     *
+     * <p>Within the interval, only the most recent {@code onPageStarted} is sent, and it is always
+     * sent before the following {@code onPageFinished}. Loading notifications are coalesced the
+     * same way when the client doesn't override url loading, as they are informational only then.
+     *
+     * @param intervalMs the interval in milliseconds, or 0 to send every callback
+     */
+    void setNavigationInterval(long intervalMs);
+
+    /**
+     * Passes the renderer priority a {@link WebView} changed to on to Dart.
+     *
+     * @param view the {@link WebView} whose renderer priority changed
+     * @param priority one of the {@code WebView.RENDERER_PRIORITY_*} constants
+     */
+    void onRendererPriorityChanged(WebView view, int priority);
+
+    /**
+     * Passes a memory trim level received while a {@link WebView} is alive on to Dart.
+     *
+     * @param view the {@link WebView} this client is set on
+     * @param level one of the {@code ComponentCallbacks2.TRIM_MEMORY_*} constants
+     */
+    void onTrimMemory(WebView view, int level);
+
+    /**
+     * Enables or disables sending page load metrics of main frame navigations to Dart.
+     *
+     * @param enabled whether navigations are tracked
+     * @param collectPerformanceTiming whether Navigation Timing and Resource Timing entries are
+     *     collected from the page
+     */
+    void setPageLoadTracking(boolean enabled, boolean collectPerformanceTiming);
+  }
 
   /** Implementation of {@link WebViewClient} that passes arguments of callback methods to Dart. */
   @RequiresApi(Build.VERSION_CODES.N)
   public static class WebViewClientImpl extends WebViewClient implements ReleasableWebViewClient {
     @Nullable private WebViewClientFlutterApiImpl flutterApi;
     private final boolean shouldOverrideUrlLoading;
+    @Nullable private final ResourceInterceptor resourceInterceptor;
+    private final CallbackThrottle pageStartedThrottle =
+        new CallbackThrottle(new Handler(Looper.getMainLooper()));
+    private final CallbackThrottle urlLoadingThrottle =
+        new CallbackThrottle(new Handler(Looper.getMainLooper()));
+    private final PageLoadTracker pageLoadTracker =
+        new PageLoadTracker(
+            (view, metrics) -> {
+              if (flutterApi != null) {
+                flutterApi.onPageLoadMetrics(this, view, metrics, reply -> {});
+              }
+            });
 
     /**
      * Creates a {@link WebViewClient} that passes arguments of callbacks methods to Dart.
@@ -48,26 +100,58 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
      */
     public WebViewClientImpl(
         @NonNull WebViewClientFlutterApiImpl flutterApi, boolean shouldOverrideUrlLoading) {
+      this(flutterApi, shouldOverrideUrlLoading, null);
+    }
+
+    /**
+     * Creates a {@link WebViewClient} that passes arguments of callbacks methods to Dart.
+     *
+     * @param flutterApi handles sending messages to Dart
+     * @param shouldOverrideUrlLoading whether loading a url should be overridden
+     * @param resourceInterceptor serves requests without the network, or null to load all requests
+     *     normally
+     */
+    public WebViewClientImpl(
+        @NonNull WebViewClientFlutterApiImpl flutterApi,
+        boolean shouldOverrideUrlLoading,
+        @Nullable ResourceInterceptor resourceInterceptor) {
       this.shouldOverrideUrlLoading = shouldOverrideUrlLoading;
       this.flutterApi = flutterApi;
+      this.resourceInterceptor = resourceInterceptor;
     }
 
     @Override
     public void onPageStarted(WebView view, String url, Bitmap favicon) {
-      if (flutterApi != null) {
-        flutterApi.onPageStarted(this, view, url, reply -> {});
-      }
+      pageLoadTracker.onPageStarted(url);
+      pageStartedThrottle.submit(
+          () -> {
+            if (flutterApi != null) {
+              flutterApi.onPageStarted(this, view, url, reply -> {});
+            }
+          },
+          false);
     }
 
     @Override
     public void onPageFinished(WebView view, String url) {
+      pageStartedThrottle.flush();
       if (flutterApi != null) {
         flutterApi.onPageFinished(this, view, url, reply -> {});
       }
+      pageLoadTracker.onPageFinished(view);
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.M)
+    @Override
+    public void onPageCommitVisible(WebView view, String url) {
+      pageLoadTracker.onPageCommitVisible(view);
     }
 
     @Override
     public void onReceivedError(WebView view, WebResourceRequest request, WebResourceError error) {
+      if (request.isForMainFrame()) {
+        pageLoadTracker.onReceivedError(error.getErrorCode(), error.getDescription().toString());
+      }
       if (flutterApi != null) {
         flutterApi.onReceivedRequestError(this, view, request, error, reply -> {});
       }
@@ -76,6 +160,7 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     @Override
     public void onReceivedError(
         WebView view, int errorCode, String description, String failingUrl) {
+      pageLoadTracker.onReceivedError(errorCode, description);
       if (flutterApi != null) {
         flutterApi.onReceivedError(
             this, view, (long) errorCode, description, failingUrl, reply -> {});
@@ -84,20 +169,38 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
 
     @Override
     public boolean shouldOverrideUrlLoading(WebView view, WebResourceRequest request) {
-      if (flutterApi != null) {
-        flutterApi.requestLoading(this, view, request, reply -> {});
-      }
+      urlLoadingThrottle.submit(
+          () -> {
+            if (flutterApi != null) {
+              flutterApi.requestLoading(this, view, request, reply -> {});
+            }
+          },
+          shouldOverrideUrlLoading);
       return shouldOverrideUrlLoading;
     }
 
     @Override
     public boolean shouldOverrideUrlLoading(WebView view, String url) {
-      if (flutterApi != null) {
-        flutterApi.urlLoading(this, view, url, reply -> {});
-      }
+      urlLoadingThrottle.submit(
+          () -> {
+            if (flutterApi != null) {
+              flutterApi.urlLoading(this, view, url, reply -> {});
+            }
+          },
+          shouldOverrideUrlLoading);
       return shouldOverrideUrlLoading;
     }
 
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(WebView view, WebResourceRequest request) {
+      if (resourceInterceptor != null) {
+        return resourceInterceptor.intercept(
+            request.getUrl().toString(), request.getMethod(), request.getRequestHeaders());
+      }
+      return null;
+    }
+
     @Override
     public void onUnhandledKeyEvent(WebView view, KeyEvent event) {
       // Deliberately empty. Occasionally the webview will mark events as having failed to be
@@ -105,7 +208,50 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       // truly lost.
     }
 
+    // The renderer of the WebView is gone and the view can no longer be used. Returning true keeps
+    // the app alive so Dart can dispose the WebView and replace it. The WebView is then destroyed
+    // instead of being returned to the pool.
+    @RequiresApi(api = Build.VERSION_CODES.O)
+    @Override
+    public boolean onRenderProcessGone(WebView view, RenderProcessGoneDetail detail) {
+      if (view instanceof WebViewPool.Reusable) {
+        ((WebViewPool.Reusable) view).onRenderProcessGone();
+      }
+      if (flutterApi != null) {
+        flutterApi.onRenderProcessGone(this, view, detail.didCrash(), reply -> {});
+      }
+      return true;
+    }
+
+    @Override
+    public void setNavigationInterval(long intervalMs) {
+      pageStartedThrottle.setInterval(intervalMs);
+      urlLoadingThrottle.setInterval(intervalMs);
+    }
+
+    @Override
+    public void onRendererPriorityChanged(WebView view, int priority) {
+      if (flutterApi != null) {
+        flutterApi.onRendererPriorityChanged(this, view, (long) priority, reply -> {});
+      }
+    }
+
+    @Override
+    public void onTrimMemory(WebView view, int level) {
+      if (flutterApi != null) {
+        flutterApi.onTrimMemory(this, view, (long) level, reply -> {});
+      }
+    }
+
+    @Override
+    public void setPageLoadTracking(boolean enabled, boolean collectPerformanceTiming) {
+      pageLoadTracker.setEnabled(enabled, collectPerformanceTiming);
+    }
+
     public void release() {
+      pageStartedThrottle.cancel();
+      urlLoadingThrottle.cancel();
+      pageLoadTracker.cancel();
       if (flutterApi != null) {
         flutterApi.dispose(this, reply -> {});
       }
@@ -121,25 +267,58 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       implements ReleasableWebViewClient {
     private @Nullable WebViewClientFlutterApiImpl flutterApi;
     private final boolean shouldOverrideUrlLoading;
+    @Nullable private final ResourceInterceptor resourceInterceptor;
+    private final CallbackThrottle pageStartedThrottle =
+        new CallbackThrottle(new Handler(Looper.getMainLooper()));
+    private final CallbackThrottle urlLoadingThrottle =
+        new CallbackThrottle(new Handler(Looper.getMainLooper()));
+    private final PageLoadTracker pageLoadTracker =
+        new PageLoadTracker(
+            (view, metrics) -> {
+              if (flutterApi != null) {
+                flutterApi.onPageLoadMetrics(this, view, metrics, reply -> {});
+              }
+            });
 
     public WebViewClientCompatImpl(
         @NonNull WebViewClientFlutterApiImpl flutterApi, boolean shouldOverrideUrlLoading) {
+      this(flutterApi, shouldOverrideUrlLoading, null);
+    }
+
+    public WebViewClientCompatImpl(
+        @NonNull WebViewClientFlutterApiImpl flutterApi,
+        boolean shouldOverrideUrlLoading,
+        @Nullable ResourceInterceptor resourceInterceptor) {
       this.shouldOverrideUrlLoading = shouldOverrideUrlLoading;
       this.flutterApi = flutterApi;
+      this.resourceInterceptor = resourceInterceptor;
     }
 
     @Override
     public void onPageStarted(WebView view, String url, Bitmap favicon) {
-      if (flutterApi != null) {
-        flutterApi.onPageStarted(this, view, url, reply -> {});
-      }
+      pageLoadTracker.onPageStarted(url);
+      pageStartedThrottle.submit(
+          () -> {
+            if (flutterApi != null) {
+              flutterApi.onPageStarted(this, view, url, reply -> {});
+            }
+          },
+          false);
     }
 
     @Override
     public void onPageFinished(WebView view, String url) {
+      pageStartedThrottle.flush();
       if (flutterApi != null) {
         flutterApi.onPageFinished(this, view, url, reply -> {});
       }
+      pageLoadTracker.onPageFinished(view);
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.M)
+    @Override
+    public void onPageCommitVisible(WebView view, String url) {
+      pageLoadTracker.onPageCommitVisible(view);
     }
 
     // This method is only called when the WebViewFeature.RECEIVE_WEB_RESOURCE_ERROR feature is
@@ -151,6 +330,9 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
         @NonNull WebView view,
         @NonNull WebResourceRequest request,
         @NonNull WebResourceErrorCompat error) {
+      if (request.isForMainFrame()) {
+        pageLoadTracker.onReceivedError(error.getErrorCode(), error.getDescription().toString());
+      }
       if (flutterApi != null) {
         flutterApi.onReceivedRequestError(this, view, request, error, reply -> {});
       }
@@ -159,6 +341,7 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     @Override
     public void onReceivedError(
         WebView view, int errorCode, String description, String failingUrl) {
+      pageLoadTracker.onReceivedError(errorCode, description);
       if (flutterApi != null) {
         flutterApi.onReceivedError(
             this, view, (long) errorCode, description, failingUrl, reply -> {});
@@ -169,20 +352,49 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     @Override
     public boolean shouldOverrideUrlLoading(
         @NonNull WebView view, @NonNull WebResourceRequest request) {
-      if (flutterApi != null) {
-        flutterApi.requestLoading(this, view, request, reply -> {});
-      }
+      urlLoadingThrottle.submit(
+          () -> {
+            if (flutterApi != null) {
+              flutterApi.requestLoading(this, view, request, reply -> {});
+            }
+          },
+          shouldOverrideUrlLoading);
       return shouldOverrideUrlLoading;
     }
 
     @Override
     public boolean shouldOverrideUrlLoading(WebView view, String url) {
-      if (flutterApi != null) {
-        flutterApi.urlLoading(this, view, url, reply -> {});
-      }
+      urlLoadingThrottle.submit(
+          () -> {
+            if (flutterApi != null) {
+              flutterApi.urlLoading(this, view, url, reply -> {});
+            }
+          },
+          shouldOverrideUrlLoading);
       return shouldOverrideUrlLoading;
     }
 
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(WebView view, WebResourceRequest request) {
+      if (resourceInterceptor != null) {
+        return resourceInterceptor.intercept(
+            request.getUrl().toString(), request.getMethod(), request.getRequestHeaders());
+      }
+      return null;
+    }
+
+    // Only called on devices before Lollipop.
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(WebView view, String url) {
+      if (resourceInterceptor != null) {
+        return resourceInterceptor.intercept(url, "GET", null);
+      }
+      return null;
+    }
+
     @Override
     public void onUnhandledKeyEvent(WebView view, KeyEvent event) {
       // Deliberately empty. Occasionally the webview will mark events as having failed to be
@@ -190,7 +402,50 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       // truly lost.
     }
 
+    // The renderer of the WebView is gone and the view can no longer be used. Returning true keeps
+    // the app alive so Dart can dispose the WebView and replace it. The WebView is then destroyed
+    // instead of being returned to the pool.
+    @RequiresApi(api = Build.VERSION_CODES.O)
+    @Override
+    public boolean onRenderProcessGone(WebView view, RenderProcessGoneDetail detail) {
+      if (view instanceof WebViewPool.Reusable) {
+        ((WebViewPool.Reusable) view).onRenderProcessGone();
+      }
+      if (flutterApi != null) {
+        flutterApi.onRenderProcessGone(this, view, detail.didCrash(), reply -> {});
+      }
+      return true;
+    }
+
+    @Override
+    public void setNavigationInterval(long intervalMs) {
+      pageStartedThrottle.setInterval(intervalMs);
+      urlLoadingThrottle.setInterval(intervalMs);
+    }
+
+    @Override
+    public void onRendererPriorityChanged(WebView view, int priority) {
+      if (flutterApi != null) {
+        flutterApi.onRendererPriorityChanged(this, view, (long) priority, reply -> {});
+      }
+    }
+
+    @Override
+    public void onTrimMemory(WebView view, int level) {
+      if (flutterApi != null) {
+        flutterApi.onTrimMemory(this, view, (long) level, reply -> {});
+      }
+    }
+
+    @Override
+    public void setPageLoadTracking(boolean enabled, boolean collectPerformanceTiming) {
+      pageLoadTracker.setEnabled(enabled, collectPerformanceTiming);
+    }
+
     public void release() {
+      pageStartedThrottle.cancel();
+      urlLoadingThrottle.cancel();
+      pageLoadTracker.cancel();
       if (flutterApi != null) {
         flutterApi.dispose(this, reply -> {});
       }
@@ -200,6 +455,22 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
 
   /** Handles creating {@link WebViewClient}s for a {@link WebViewClientHostApiImpl}. */
   public static class WebViewClientCreator {
+    @Nullable private final ResourceInterceptor resourceInterceptor;
+
+    /** Creates a {@link WebViewClientCreator} whose clients load all requests normally. */
+    public WebViewClientCreator() {
+      this(null);
+    }
+
+    /**
+     * Creates a {@link WebViewClientCreator}.
+     *
+     * @param resourceInterceptor serves requests of created clients without the network
+     */
+    public WebViewClientCreator(@Nullable ResourceInterceptor resourceInterceptor) {
+      this.resourceInterceptor = resourceInterceptor;
+    }
+
     /**
      * Creates a {@link WebViewClient}.
      *
@@ -217,9 +488,10 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       // to bug https://bugs.chromium.org/p/chromium/issues/detail?id=925887. Also, see
       // https://github.com/flutter/flutter/issues/29446.
       if (android.os.Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-        return new WebViewClientImpl(flutterApi, shouldOverrideUrlLoading);
+        return new WebViewClientImpl(flutterApi, shouldOverrideUrlLoading, resourceInterceptor);
       } else {
-        return new WebViewClientCompatImpl(flutterApi, shouldOverrideUrlLoading);
+        return new WebViewClientCompatImpl(
+            flutterApi, shouldOverrideUrlLoading, resourceInterceptor);
       }
     }
   }
@@ -246,4 +518,19 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
         webViewClientCreator.createWebViewClient(flutterApi, shouldOverrideUrlLoading);
     instanceManager.addInstance(webViewClient, instanceId);
   }
+
+  @Override
+  public void setNavigationInterval(Long instanceId, Long intervalMs) {
+    final ReleasableWebViewClient webViewClient =
+        (ReleasableWebViewClient) instanceManager.getInstance(instanceId);
+    webViewClient.setNavigationInterval(intervalMs);
+  }
+
+  @Override
+  public void setPageLoadTracking(
+      Long instanceId, Boolean enabled, Boolean collectPerformanceTiming) {
+    final ReleasableWebViewClient webViewClient =
+        (ReleasableWebViewClient) instanceManager.getInstance(instanceId);
+    webViewClient.setPageLoadTracking(enabled, collectPerformanceTiming);
+  }
 }
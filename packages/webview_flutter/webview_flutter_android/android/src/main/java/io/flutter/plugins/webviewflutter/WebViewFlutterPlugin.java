@@ -4,7 +4,9 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import android.content.ComponentCallbacks2;
 import android.content.Context;
+import android.content.res.Configuration;
 import android.os.Handler;
 import android.view.View;
 import androidx.annotation.NonNull;
@@ -15,6 +17,7 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.platform.PlatformViewRegistry;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.DownloadListenerHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptResultFlutterApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebChromeClientHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebSettingsHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewClientHostApi;
@@ -32,6 +35,7 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
   private FlutterCookieManager flutterCookieManager;
   private WebViewHostApiImpl webViewHostApi;
   private JavaScriptChannelHostApiImpl javaScriptChannelHostApi;
+  private ComponentCallbacks2 componentCallbacks;
 
   /**
    * Add an instance of this to {@link io.flutter.embedding.engine.plugins.PluginRegistry} to
@@ -61,7 +65,8 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
             registrar.messenger(),
             registrar.platformViewRegistry(),
             registrar.activity(),
-            registrar.view());
+            registrar.view(),
+            registrar::lookupKeyForAsset);
     new FlutterCookieManager(registrar.messenger());
   }
 
@@ -69,17 +74,25 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
       BinaryMessenger binaryMessenger,
       PlatformViewRegistry viewRegistry,
       Context context,
-      View containerView) {
+      View containerView,
+      ResourceInterceptor.AssetPathResolver assetPathResolver) {
     new FlutterCookieManager(binaryMessenger);
 
     InstanceManager instanceManager = new InstanceManager();
+    ResourceInterceptor resourceInterceptor =
+        new ResourceInterceptor(context.getAssets(), assetPathResolver);
 
     viewRegistry.registerViewFactory(
         "plugins.flutter.io/webview", new FlutterWebViewFactory(instanceManager));
 
     webViewHostApi =
         new WebViewHostApiImpl(
-            instanceManager, new WebViewHostApiImpl.WebViewProxy(), context, containerView);
+            instanceManager,
+            new WebViewHostApiImpl.WebViewProxy(),
+            context,
+            containerView,
+            resourceInterceptor);
+    webViewHostApi.setJavaScriptResultFlutterApi(new JavaScriptResultFlutterApi(binaryMessenger));
     javaScriptChannelHostApi =
         new JavaScriptChannelHostApiImpl(
             instanceManager,
@@ -93,7 +106,7 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
         binaryMessenger,
         new WebViewClientHostApiImpl(
             instanceManager,
-            new WebViewClientHostApiImpl.WebViewClientCreator(),
+            new WebViewClientHostApiImpl.WebViewClientCreator(resourceInterceptor),
             new WebViewClientFlutterApiImpl(binaryMessenger, instanceManager)));
     WebChromeClientHostApi.setup(
         binaryMessenger,
@@ -111,6 +124,23 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
         binaryMessenger,
         new WebSettingsHostApiImpl(
             instanceManager, new WebSettingsHostApiImpl.WebSettingsCreator()));
+
+    componentCallbacks =
+        new ComponentCallbacks2() {
+          @Override
+          public void onTrimMemory(int level) {
+            webViewHostApi.onTrimMemory(level);
+          }
+
+          @Override
+          public void onLowMemory() {
+            webViewHostApi.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+          }
+
+          @Override
+          public void onConfigurationChanged(@NonNull Configuration newConfig) {}
+        };
+    context.getApplicationContext().registerComponentCallbacks(componentCallbacks);
   }
 
   @Override
@@ -120,11 +150,17 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
         binding.getBinaryMessenger(),
         binding.getPlatformViewRegistry(),
         binding.getApplicationContext(),
-        null);
+        null,
+        binding.getFlutterAssets()::getAssetFilePathByName);
   }
 
   @Override
   public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
+    if (componentCallbacks != null) {
+      binding.getApplicationContext().unregisterComponentCallbacks(componentCallbacks);
+      componentCallbacks = null;
+    }
+
     if (flutterCookieManager == null) {
       return;
     }
@@ -5,22 +5,36 @@
 package io.flutter.plugins.webviewflutter;
 
 import android.annotation.SuppressLint;
+import android.content.ComponentCallbacks2;
 import android.content.Context;
 import android.hardware.display.DisplayManager;
+import android.net.Uri;
+import android.os.Build;
 import android.view.View;
+import android.view.ViewGroup;
 import android.webkit.DownloadListener;
 import android.webkit.WebChromeClient;
+import android.webkit.WebMessage;
+import android.webkit.WebMessagePort;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
 import io.flutter.plugin.platform.PlatformView;
 import io.flutter.plugins.webviewflutter.DownloadListenerHostApiImpl.DownloadListenerImpl;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptResultFlutterApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
 import io.flutter.plugins.webviewflutter.WebChromeClientHostApiImpl.WebChromeClientImpl;
 import io.flutter.plugins.webviewflutter.WebViewClientHostApiImpl.ReleasableWebViewClient;
+import java.io.File;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Host api implementation for {@link WebView}.
@@ -33,6 +47,13 @@ public class WebViewHostApiImpl implements WebViewHostApi {
   // values.
   private static final String nullStringIdentifier = "<null-value>";
 
+  private static final String RESOURCE_CACHE_DIRECTORY = "webview_flutter_resources";
+
+  // How much memory to release in onTrimMemory, see getTrimMemorySeverity.
+  @VisibleForTesting static final int TRIM_SEVERITY_NONE = 0;
+  @VisibleForTesting static final int TRIM_SEVERITY_LOW = 1;
+  @VisibleForTesting static final int TRIM_SEVERITY_CRITICAL = 2;
+
   private final InstanceManager instanceManager;
   private final WebViewProxy webViewProxy;
   // Only used with WebView using virtual displays.
@@ -40,6 +61,25 @@ public class WebViewHostApiImpl implements WebViewHostApi {
 
   private Context context;
 
+  private final WebViewPool webViewPool = new WebViewPool(this::createWebView);
+
+  @Nullable private final ResourceInterceptor resourceInterceptor;
+
+  @Nullable private JavaScriptResultFlutterApi javaScriptResultFlutterApi;
+
+  private final Set<WebView> liveWebViews =
+      Collections.newSetFromMap(new IdentityHashMap<WebView, Boolean>());
+
+  /** A {@link WebView} that passes memory trim levels on to its {@link WebViewClient}. */
+  public interface TrimMemoryListener {
+    /**
+     * Called when the system asks the app to trim its memory while the {@link WebView} is alive.
+     *
+     * @param level one of the {@code ComponentCallbacks2.TRIM_MEMORY_*} constants
+     */
+    void onTrimMemory(int level);
+  }
+
   /** Handles creating and calling static methods for {@link WebView}s. */
   public static class WebViewProxy {
     /**
@@ -102,7 +142,12 @@ public class WebViewHostApiImpl implements WebViewHostApi {
   }
 
   /** Implementation of {@link WebView} that can be used as a Flutter {@link PlatformView}s. */
-  public static class WebViewPlatformView extends WebView implements PlatformView, Releasable {
+  public static class WebViewPlatformView extends WebView
+      implements PlatformView,
+          Releasable,
+          WebViewPool.Reusable,
+          RendererPriorityPolicy.Delegate,
+          TrimMemoryListener {
     private final ReleasableValue<WebViewClientHostApiImpl.ReleasableWebViewClient>
         currentWebViewClient = new ReleasableValue<>();
     private final ReleasableValue<DownloadListenerImpl> currentDownloadListener =
@@ -111,6 +156,8 @@ public class WebViewHostApiImpl implements WebViewHostApi {
         new ReleasableValue<>();
     private final Map<String, ReleasableValue<JavaScriptChannel>> javaScriptInterfaces =
         new HashMap<>();
+    private final RendererPriorityPolicy rendererPriorityPolicy = new RendererPriorityPolicy(this);
+    @Nullable private WebViewPool pool;
 
     /**
      * Creates a {@link WebViewPlatformView}.
@@ -128,6 +175,9 @@ public class WebViewHostApiImpl implements WebViewHostApi {
 
     @Override
     public void dispose() {
+      if (pool != null && pool.onPlatformViewDisposed(this)) {
+        return;
+      }
       destroy();
     }
 
@@ -180,11 +230,79 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       currentWebViewClient.release();
       currentDownloadListener.release();
       currentWebChromeClient.release();
-      for (ReleasableValue<JavaScriptChannel> channel : javaScriptInterfaces.values()) {
-        channel.release();
+      for (Map.Entry<String, ReleasableValue<JavaScriptChannel>> entry :
+          javaScriptInterfaces.entrySet()) {
+        super.removeJavascriptInterface(entry.getKey());
+        entry.getValue().release();
       }
       javaScriptInterfaces.clear();
     }
+
+    @Override
+    protected void onAttachedToWindow() {
+      super.onAttachedToWindow();
+      rendererPriorityPolicy.setAttached(true);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+      super.onDetachedFromWindow();
+      rendererPriorityPolicy.setAttached(false);
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.O)
+    @Override
+    public void setRendererPriorityPolicy(
+        int rendererRequestedPriority, boolean waivedWhenNotVisible) {
+      rendererPriorityPolicy.setPolicy(rendererRequestedPriority, waivedWhenNotVisible);
+    }
+
+    @Override
+    public void applyRendererPriority(int priority, boolean waivedWhenNotVisible) {
+      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+        super.setRendererPriorityPolicy(priority, waivedWhenNotVisible);
+      }
+    }
+
+    @Override
+    public void onRendererPriorityChanged(int priority) {
+      final ReleasableWebViewClient webViewClient = currentWebViewClient.get();
+      if (webViewClient != null) {
+        webViewClient.onRendererPriorityChanged(this, priority);
+      }
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+      final ReleasableWebViewClient webViewClient = currentWebViewClient.get();
+      if (webViewClient != null) {
+        webViewClient.onTrimMemory(this, level);
+      }
+    }
+
+    @Override
+    public void setPool(@Nullable WebViewPool pool) {
+      this.pool = pool;
+    }
+
+    @Override
+    public void onRenderProcessGone() {
+      if (pool != null) {
+        pool.onRenderProcessGone(this);
+      }
+    }
+
+    @Override
+    public void resetForReuse() {
+      super.setWebViewClient(new WebViewPool.IdleWebViewClient(pool));
+      super.setWebChromeClient(null);
+      super.setDownloadListener(null);
+      rendererPriorityPolicy.reset();
+      if (getParent() instanceof ViewGroup) {
+        ((ViewGroup) getParent()).removeView(this);
+      }
+      WebViewPool.resetWebView(this);
+    }
   }
 
   /**
@@ -193,7 +311,11 @@ public class WebViewHostApiImpl implements WebViewHostApi {
    */
   @SuppressLint("ViewConstructor")
   public static class InputAwareWebViewPlatformView extends InputAwareWebView
-      implements PlatformView, Releasable {
+      implements PlatformView,
+          Releasable,
+          WebViewPool.Reusable,
+          RendererPriorityPolicy.Delegate,
+          TrimMemoryListener {
     private final ReleasableValue<WebViewClientHostApiImpl.ReleasableWebViewClient>
         currentWebViewClient = new ReleasableValue<>();
     private final ReleasableValue<DownloadListenerImpl> currentDownloadListener =
@@ -202,6 +324,8 @@ public class WebViewHostApiImpl implements WebViewHostApi {
         new ReleasableValue<>();
     private final Map<String, ReleasableValue<JavaScriptChannel>> javaScriptInterfaces =
         new HashMap<>();
+    private final RendererPriorityPolicy rendererPriorityPolicy = new RendererPriorityPolicy(this);
+    @Nullable private WebViewPool pool;
 
     /**
      * Creates a {@link InputAwareWebViewPlatformView}.
@@ -230,6 +354,9 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     @Override
     public void dispose() {
       super.dispose();
+      if (pool != null && pool.onPlatformViewDisposed(this)) {
+        return;
+      }
       destroy();
     }
 
@@ -292,11 +419,79 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       currentWebViewClient.release();
       currentDownloadListener.release();
       currentWebChromeClient.release();
-      for (ReleasableValue<JavaScriptChannel> channel : javaScriptInterfaces.values()) {
-        channel.release();
+      for (Map.Entry<String, ReleasableValue<JavaScriptChannel>> entry :
+          javaScriptInterfaces.entrySet()) {
+        super.removeJavascriptInterface(entry.getKey());
+        entry.getValue().release();
       }
       javaScriptInterfaces.clear();
     }
+
+    @Override
+    protected void onAttachedToWindow() {
+      super.onAttachedToWindow();
+      rendererPriorityPolicy.setAttached(true);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+      super.onDetachedFromWindow();
+      rendererPriorityPolicy.setAttached(false);
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.O)
+    @Override
+    public void setRendererPriorityPolicy(
+        int rendererRequestedPriority, boolean waivedWhenNotVisible) {
+      rendererPriorityPolicy.setPolicy(rendererRequestedPriority, waivedWhenNotVisible);
+    }
+
+    @Override
+    public void applyRendererPriority(int priority, boolean waivedWhenNotVisible) {
+      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+        super.setRendererPriorityPolicy(priority, waivedWhenNotVisible);
+      }
+    }
+
+    @Override
+    public void onRendererPriorityChanged(int priority) {
+      final ReleasableWebViewClient webViewClient = currentWebViewClient.get();
+      if (webViewClient != null) {
+        webViewClient.onRendererPriorityChanged(this, priority);
+      }
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+      final ReleasableWebViewClient webViewClient = currentWebViewClient.get();
+      if (webViewClient != null) {
+        webViewClient.onTrimMemory(this, level);
+      }
+    }
+
+    @Override
+    public void setPool(@Nullable WebViewPool pool) {
+      this.pool = pool;
+    }
+
+    @Override
+    public void onRenderProcessGone() {
+      if (pool != null) {
+        pool.onRenderProcessGone(this);
+      }
+    }
+
+    @Override
+    public void resetForReuse() {
+      super.setWebViewClient(new WebViewPool.IdleWebViewClient(pool));
+      super.setWebChromeClient(null);
+      super.setDownloadListener(null);
+      rendererPriorityPolicy.reset();
+      if (getParent() instanceof ViewGroup) {
+        ((ViewGroup) getParent()).removeView(this);
+      }
+      WebViewPool.resetWebView(this);
+    }
   }
 
   /**
@@ -312,10 +507,29 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       WebViewProxy webViewProxy,
       Context context,
       @Nullable View containerView) {
+    this(instanceManager, webViewProxy, context, containerView, null);
+  }
+
+  /**
+   * Creates a host API that handles creating {@link WebView}s and invoking its methods.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param webViewProxy handles creating {@link WebView}s and calling its static methods
+   * @param context an Activity Context to access application assets. This value cannot be null.
+   * @param containerView parent of the webView
+   * @param resourceInterceptor serves requests of {@link WebView}s without the network
+   */
+  public WebViewHostApiImpl(
+      InstanceManager instanceManager,
+      WebViewProxy webViewProxy,
+      Context context,
+      @Nullable View containerView,
+      @Nullable ResourceInterceptor resourceInterceptor) {
     this.instanceManager = instanceManager;
     this.webViewProxy = webViewProxy;
     this.context = context;
     this.containerView = containerView;
+    this.resourceInterceptor = resourceInterceptor;
   }
 
   /**
@@ -327,8 +541,17 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     this.context = context;
   }
 
-  @Override
-  public void create(Long instanceId, Boolean useHybridComposition) {
+  /**
+   * Sets the Flutter API that receives the chunks of {@link #evaluateJavascriptChunked} results.
+   *
+   * @param javaScriptResultFlutterApi the Flutter API that receives result chunks
+   */
+  public void setJavaScriptResultFlutterApi(
+      @Nullable JavaScriptResultFlutterApi javaScriptResultFlutterApi) {
+    this.javaScriptResultFlutterApi = javaScriptResultFlutterApi;
+  }
+
+  private WebView createWebView(Context context, boolean useHybridComposition) {
     DisplayListenerProxy displayListenerProxy = new DisplayListenerProxy();
     DisplayManager displayManager =
         (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
@@ -340,7 +563,17 @@ public class WebViewHostApiImpl implements WebViewHostApi {
             : webViewProxy.createInputAwareWebView(context, containerView);
 
     displayListenerProxy.onPostWebViewInitialization(displayManager);
+    return webView;
+  }
+
+  @Override
+  public void create(Long instanceId, Boolean useHybridComposition) {
+    final WebView webView =
+        webViewPool.isEnabled()
+            ? webViewPool.acquire(context, useHybridComposition)
+            : createWebView(context, useHybridComposition);
     instanceManager.addInstance(webView, instanceId);
+    liveWebViews.add(webView);
   }
 
   @Override
@@ -349,6 +582,8 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     if (instance != null) {
       ((Releasable) instance).release();
       instanceManager.removeInstance(instance);
+      liveWebViews.remove(instance);
+      webViewPool.onReleased(instance);
     }
   }
 
@@ -458,6 +693,22 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     webView.addJavascriptInterface(javaScriptChannel, javaScriptChannel.javaScriptChannelName);
   }
 
+  @Override
+  public void postJavaScriptChannelPort(
+      Long instanceId, Long javaScriptChannelInstanceId, String targetOrigin) {
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.M) {
+      throw new UnsupportedOperationException("WebMessagePort requires Android 6.0 or later.");
+    }
+    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final JavaScriptChannel javaScriptChannel =
+        (JavaScriptChannel) instanceManager.getInstance(javaScriptChannelInstanceId);
+    final WebMessagePort[] ports = webView.createWebMessageChannel();
+    javaScriptChannel.setPort(ports[0]);
+    webView.postWebMessage(
+        new WebMessage(javaScriptChannel.javaScriptChannelName, new WebMessagePort[] {ports[1]}),
+        Uri.parse(targetOrigin));
+  }
+
   @Override
   public void removeJavaScriptChannel(Long instanceId, Long javaScriptChannelInstanceId) {
     final WebView webView = (WebView) instanceManager.getInstance(instanceId);
@@ -477,4 +728,143 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     final WebView webView = (WebView) instanceManager.getInstance(instanceId);
     webView.setWebChromeClient((WebChromeClient) instanceManager.getInstance(clientInstanceId));
   }
+
+  @Override
+  public void configurePool(Long maxSize, Long warmUpCount, Boolean useHybridComposition) {
+    webViewPool.configure(
+        context, maxSize.intValue(), warmUpCount.intValue(), useHybridComposition);
+  }
+
+  @Override
+  public void setRendererPriorityPolicy(
+      Long instanceId, Long priority, Boolean waivedWhenNotVisible) {
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.O) {
+      return;
+    }
+    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    webView.setRendererPriorityPolicy(priority.intValue(), waivedWhenNotVisible);
+  }
+
+  @Override
+  public Map<String, Long> getPoolStats() {
+    return webViewPool.getStats();
+  }
+
+  @Override
+  public Map<String, Long> getInstanceCounts() {
+    return instanceManager.getInstanceCounts();
+  }
+
+  @Override
+  public Map<String, Long> getReleasedInstanceCounts() {
+    return instanceManager.getReleasedInstanceCounts();
+  }
+
+  @Override
+  public void interceptAssets(String urlPrefix, String assetDirectory) {
+    getResourceInterceptor().addAssetRoute(urlPrefix, assetDirectory);
+  }
+
+  @Override
+  public void interceptFiles(String urlPrefix, String directory) {
+    getResourceInterceptor().addFileRoute(urlPrefix, directory);
+  }
+
+  @Override
+  public void clearInterceptRoutes() {
+    getResourceInterceptor().clearRoutes();
+  }
+
+  @Override
+  public void setInterceptCache(Long maxSizeBytes, List<String> origins) {
+    getResourceInterceptor()
+        .setCache(
+            new File(context.getCacheDir(), RESOURCE_CACHE_DIRECTORY), maxSizeBytes, origins);
+  }
+
+  @Override
+  public void evaluateJavascriptChunked(
+      Long instanceId,
+      Long requestId,
+      String javascriptString,
+      Long chunkSize,
+      Long maxLength,
+      GeneratedAndroidWebView.Result<Long> result) {
+    final JavaScriptResultFlutterApi flutterApi = javaScriptResultFlutterApi;
+    if (flutterApi == null) {
+      throw new IllegalStateException("Chunked JavaScript results are not available.");
+    }
+    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    new ChunkedJavaScriptEvaluator(
+            webView,
+            requestId,
+            chunkSize,
+            maxLength,
+            (id, chunk, onDelivered) -> flutterApi.onChunk(id, chunk, onDelivered::onReceiveValue),
+            result)
+        .evaluate(javascriptString);
+  }
+
+  private ResourceInterceptor getResourceInterceptor() {
+    if (resourceInterceptor == null) {
+      throw new IllegalStateException("Resource interception is not available.");
+    }
+    return resourceInterceptor;
+  }
+
+  /**
+   * Returns how much memory should be released for a trim level.
+   *
+   * <p>The levels are not ordered by severity: {@code TRIM_MEMORY_UI_HIDDEN} only reports that the
+   * UI is no longer visible, and the background levels grow more severe independently of the
+   * {@code TRIM_MEMORY_RUNNING_*} levels of a foreground app.
+   */
+  @VisibleForTesting
+  static int getTrimMemorySeverity(int level) {
+    switch (level) {
+      case ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW:
+      case ComponentCallbacks2.TRIM_MEMORY_BACKGROUND:
+        return TRIM_SEVERITY_LOW;
+      case ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL:
+      case ComponentCallbacks2.TRIM_MEMORY_MODERATE:
+      case ComponentCallbacks2.TRIM_MEMORY_COMPLETE:
+        return TRIM_SEVERITY_CRITICAL;
+      case ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE:
+      case ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN:
+      default:
+        return TRIM_SEVERITY_NONE;
+    }
+  }
+
+  /** Destroys all idle pooled {@link WebView}s. */
+  public void clearPool() {
+    webViewPool.clear();
+  }
+
+  /**
+   * Releases memory when the system asks the app to trim its memory.
+   *
+   * <p>Idle pooled {@link WebView}s are destroyed once memory runs low, and the in-memory resource
+   * cache shared by all {@link WebView}s is cleared once it is critical. Every live {@link WebView}
+   * passes the level on to Dart through its {@link WebViewClient}.
+   *
+   * @param level one of the {@code ComponentCallbacks2.TRIM_MEMORY_*} constants
+   */
+  public void onTrimMemory(int level) {
+    final int severity = getTrimMemorySeverity(level);
+    if (severity >= TRIM_SEVERITY_LOW) {
+      clearPool();
+    }
+
+    boolean clearedCache = false;
+    for (WebView webView : liveWebViews) {
+      if (!clearedCache && severity >= TRIM_SEVERITY_CRITICAL) {
+        webView.clearCache(false);
+        clearedCache = true;
+      }
+      if (webView instanceof TrimMemoryListener) {
+        ((TrimMemoryListener) webView).onTrimMemory(level);
+      }
+    }
+  }
 }
@@ -0,0 +1,320 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.Context;
+import android.content.MutableContextWrapper;
+import android.os.Build;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.webkit.RenderProcessGoneDetail;
+import android.webkit.WebSettings;
+import android.webkit.WebView;
+import android.webkit.WebViewClient;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps a bounded number of initialized {@link WebView}s around so that creating a WebView does
+ * not have to pay for Chromium initialization.
+ *
+ * <p>WebViews are created with a {@link MutableContextWrapper} so they can be created before an
+ * Activity is available and moved to the current Context when they are handed out.
+ *
+ * <p>A WebView handed out by the pool is only returned to it once both the Dart object has been
+ * disposed and Flutter has disposed the platform view. Until then the pool keeps track of it, and
+ * destroys it instead if the pool is full when it comes back.
+ */
+public class WebViewPool {
+  /** Creates the WebViews held by the pool. */
+  public interface WebViewCreator {
+    /**
+     * Creates a WebView.
+     *
+     * @param context the context the WebView should be constructed with
+     * @param useHybridComposition whether the WebView will be displayed with hybrid composition
+     * @return the created WebView
+     */
+    WebView createWebView(Context context, boolean useHybridComposition);
+  }
+
+  /** Implemented by WebViews that can be reset and handed out again. */
+  interface Reusable {
+    /** Sets the pool the WebView reports to when it is disposed. */
+    void setPool(@Nullable WebViewPool pool);
+
+    /** Clears all state that belongs to the previous user of the WebView. */
+    void resetForReuse();
+
+    /** Tells the pool that the renderer of the WebView is gone, so it is never reused. */
+    void onRenderProcessGone();
+  }
+
+  /**
+   * The {@link WebViewClient} of idle WebViews.
+   *
+   * <p>Clears the history once the blank page loaded by {@link #resetWebView} has committed, as
+   * history entries can only be dropped up to the current page. If the renderer of an idle WebView
+   * is killed, the WebView is removed from the pool and destroyed.
+   */
+  static class IdleWebViewClient extends WebViewClient {
+    private final WebViewPool pool;
+
+    IdleWebViewClient(WebViewPool pool) {
+      this.pool = pool;
+    }
+
+    @Override
+    public void onPageFinished(WebView view, String url) {
+      view.clearHistory();
+    }
+
+    // Returning false would kill the app along with the renderer.
+    @RequiresApi(api = Build.VERSION_CODES.O)
+    @Override
+    public boolean onRenderProcessGone(WebView view, RenderProcessGoneDetail detail) {
+      pool.onRenderProcessGone(view);
+      return true;
+    }
+  }
+
+  private static final int RELEASED = 1;
+  private static final int PLATFORM_VIEW_DISPOSED = 2;
+  private static final int RENDERER_GONE = 4;
+
+  private final WebViewCreator creator;
+  private final Deque<WebView> hybridCompositionViews = new ArrayDeque<>();
+  private final Deque<WebView> virtualDisplayViews = new ArrayDeque<>();
+  private final Map<WebView, Integer> outstandingViews = new IdentityHashMap<>();
+
+  private int maxSize = 0;
+  private long hitCount = 0;
+  private long missCount = 0;
+  @Nullable private MessageQueue.IdleHandler warmUpHandler;
+
+  /**
+   * Creates an empty, disabled pool.
+   *
+   * @param creator creates WebViews for the pool
+   */
+  public WebViewPool(WebViewCreator creator) {
+    this.creator = creator;
+  }
+
+  /**
+   * Sets the number of idle WebViews kept per composition mode and starts warming up the pool.
+   *
+   * <p>Warm up happens one WebView at a time while the main thread is idle. A {@code maxSize} of
+   * zero disables the pool and destroys any idle WebViews.
+   *
+   * @param context the context idle WebViews are created with
+   * @param maxSize the maximum number of idle WebViews kept per composition mode
+   * @param warmUpCount the number of WebViews to create ahead of time
+   * @param useHybridComposition the composition mode of the WebViews created ahead of time
+   */
+  public void configure(
+      Context context, int maxSize, int warmUpCount, boolean useHybridComposition) {
+    this.maxSize = Math.max(0, maxSize);
+    trim(hybridCompositionViews);
+    trim(virtualDisplayViews);
+    stopWarmUp();
+
+    final int target = Math.min(warmUpCount, this.maxSize);
+    if (target <= 0) {
+      return;
+    }
+    final Context applicationContext = context.getApplicationContext();
+    warmUpHandler =
+        () -> {
+          final Deque<WebView> views = getViews(useHybridComposition);
+          if (views.size() < target) {
+            views.push(create(applicationContext, useHybridComposition));
+          }
+          final boolean keepWarmingUp = views.size() < target;
+          if (!keepWarmingUp) {
+            warmUpHandler = null;
+          }
+          return keepWarmingUp;
+        };
+    Looper.myQueue().addIdleHandler(warmUpHandler);
+  }
+
+  /** Whether the pool is enabled. */
+  public boolean isEnabled() {
+    return maxSize > 0;
+  }
+
+  /**
+   * Returns an idle WebView moved to {@code context}, or creates a new one.
+   *
+   * <p>The returned WebView is tracked by the pool until {@link #onReleased} and {@link
+   * #onPlatformViewDisposed} have both been called for it.
+   */
+  @NonNull
+  public WebView acquire(Context context, boolean useHybridComposition) {
+    final WebView webView = getViews(useHybridComposition).poll();
+    final WebView result;
+    if (webView != null) {
+      hitCount++;
+      ((MutableContextWrapper) webView.getContext()).setBaseContext(context);
+      result = webView;
+    } else {
+      missCount++;
+      result = create(context, useHybridComposition);
+    }
+    if (result instanceof Reusable) {
+      ((Reusable) result).setPool(this);
+    }
+    outstandingViews.put(result, 0);
+    return result;
+  }
+
+  /**
+   * Notifies the pool that the Dart object of {@code webView} has been disposed.
+   *
+   * @return whether {@code webView} is tracked by this pool
+   */
+  public boolean onReleased(WebView webView) {
+    return markAndMaybeRecycle(webView, RELEASED);
+  }
+
+  /**
+   * Notifies the pool that Flutter has disposed the platform view of {@code webView}.
+   *
+   * @return whether {@code webView} is tracked by this pool, in which case the pool is now
+   *     responsible for destroying it
+   */
+  public boolean onPlatformViewDisposed(WebView webView) {
+    return markAndMaybeRecycle(webView, PLATFORM_VIEW_DISPOSED);
+  }
+
+  /**
+   * Notifies the pool that the renderer of {@code webView} is gone.
+   *
+   * <p>A WebView without a renderer can't be used anymore, so an idle one is destroyed right away
+   * and one that is in use is destroyed instead of being returned to the pool.
+   */
+  public void onRenderProcessGone(WebView webView) {
+    if (hybridCompositionViews.remove(webView) || virtualDisplayViews.remove(webView)) {
+      webView.destroy();
+      return;
+    }
+    final Integer state = outstandingViews.get(webView);
+    if (state != null) {
+      outstandingViews.put(webView, state | RENDERER_GONE);
+    }
+  }
+
+  /** Returns hit, miss and idle counts of the pool. */
+  public Map<String, Long> getStats() {
+    final Map<String, Long> stats = new HashMap<>();
+    stats.put("hits", hitCount);
+    stats.put("misses", missCount);
+    stats.put("idle", (long) (hybridCompositionViews.size() + virtualDisplayViews.size()));
+    stats.put("inUse", (long) outstandingViews.size());
+    return stats;
+  }
+
+  /** Destroys all idle WebViews and stops warming up. */
+  public void clear() {
+    stopWarmUp();
+    destroyAll(hybridCompositionViews);
+    destroyAll(virtualDisplayViews);
+  }
+
+  @VisibleForTesting
+  Set<WebView> getOutstandingViews() {
+    return Collections.unmodifiableSet(outstandingViews.keySet());
+  }
+
+  private boolean markAndMaybeRecycle(WebView webView, int flag) {
+    final Integer state = outstandingViews.get(webView);
+    if (state == null) {
+      return false;
+    }
+    final int newState = state | flag;
+    if ((newState & (RELEASED | PLATFORM_VIEW_DISPOSED)) != (RELEASED | PLATFORM_VIEW_DISPOSED)) {
+      outstandingViews.put(webView, newState);
+      return true;
+    }
+    outstandingViews.remove(webView);
+
+    final Deque<WebView> views = getViews(!(webView instanceof InputAwareWebView));
+    if ((newState & RENDERER_GONE) == 0 && views.size() < maxSize && webView instanceof Reusable) {
+      ((Reusable) webView).resetForReuse();
+      ((MutableContextWrapper) webView.getContext())
+          .setBaseContext(webView.getContext().getApplicationContext());
+      views.push(webView);
+    } else {
+      webView.destroy();
+    }
+    return true;
+  }
+
+  /**
+   * Resets the settings, scroll position and content of {@code webView} to those of a new WebView.
+   *
+   * <p>Callers also replace the clients of {@code webView}, and should set an {@link
+   * IdleWebViewClient} so that the history is cleared once the blank page has loaded.
+   */
+  static void resetWebView(WebView webView) {
+    webView.stopLoading();
+    resetSettings(webView.getSettings());
+    webView.scrollTo(0, 0);
+    webView.loadUrl("about:blank");
+    webView.clearHistory();
+  }
+
+  /** Restores the defaults of everything {@link WebSettingsHostApiImpl} can change. */
+  private static void resetSettings(WebSettings settings) {
+    settings.setDomStorageEnabled(false);
+    settings.setJavaScriptCanOpenWindowsAutomatically(false);
+    settings.setSupportMultipleWindows(false);
+    settings.setJavaScriptEnabled(false);
+    settings.setUserAgentString(null);
+    settings.setMediaPlaybackRequiresUserGesture(true);
+    settings.setSupportZoom(true);
+    settings.setLoadWithOverviewMode(false);
+    settings.setUseWideViewPort(false);
+    settings.setDisplayZoomControls(true);
+    settings.setBuiltInZoomControls(false);
+  }
+
+  private WebView create(Context context, boolean useHybridComposition) {
+    return creator.createWebView(new MutableContextWrapper(context), useHybridComposition);
+  }
+
+  private Deque<WebView> getViews(boolean useHybridComposition) {
+    return useHybridComposition ? hybridCompositionViews : virtualDisplayViews;
+  }
+
+  private void trim(Deque<WebView> views) {
+    while (views.size() > maxSize) {
+      views.removeLast().destroy();
+    }
+  }
+
+  private void destroyAll(Deque<WebView> views) {
+    while (!views.isEmpty()) {
+      views.pop().destroy();
+    }
+  }
+
+  private void stopWarmUp() {
+    if (warmUpHandler != null) {
+      Looper.myQueue().removeIdleHandler(warmUpHandler);
+      warmUpHandler = null;
+    }
+  }
+}
@@ -0,0 +1,95 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import android.os.Handler;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class CallbackThrottleTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock Handler mockHandler;
+
+  CallbackThrottle testThrottle;
+
+  @Before
+  public void setUp() {
+    testThrottle = new CallbackThrottle(mockHandler);
+  }
+
+  @Test
+  public void sendEveryCallbackWithoutInterval() {
+    final Runnable first = mock(Runnable.class);
+    final Runnable second = mock(Runnable.class);
+
+    testThrottle.submit(first, false);
+    testThrottle.submit(second, false);
+
+    verify(first).run();
+    verify(second).run();
+    verify(mockHandler, never()).postDelayed(any(Runnable.class), anyLong());
+  }
+
+  @Test
+  public void sendMostRecentCallbackAfterInterval() {
+    testThrottle.setInterval(100);
+    final Runnable first = mock(Runnable.class);
+    final Runnable second = mock(Runnable.class);
+    final Runnable third = mock(Runnable.class);
+
+    testThrottle.submit(first, false);
+    testThrottle.submit(second, false);
+    testThrottle.submit(third, false);
+
+    verify(first).run();
+    final ArgumentCaptor<Runnable> sendPendingCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler).postDelayed(sendPendingCaptor.capture(), anyLong());
+
+    sendPendingCaptor.getValue().run();
+    verify(second, never()).run();
+    verify(third).run();
+  }
+
+  @Test
+  public void forcedCallbackReplacesPendingCallback() {
+    testThrottle.setInterval(100);
+    final Runnable first = mock(Runnable.class);
+    final Runnable second = mock(Runnable.class);
+    final Runnable last = mock(Runnable.class);
+
+    testThrottle.submit(first, false);
+    testThrottle.submit(second, false);
+    testThrottle.submit(last, true);
+
+    verify(second, never()).run();
+    verify(last).run();
+    verify(mockHandler).removeCallbacks(any(Runnable.class));
+  }
+
+  @Test
+  public void flushSendsPendingCallback() {
+    testThrottle.setInterval(100);
+    final Runnable first = mock(Runnable.class);
+    final Runnable second = mock(Runnable.class);
+
+    testThrottle.submit(first, false);
+    testThrottle.submit(second, false);
+    testThrottle.flush();
+
+    verify(second).run();
+  }
+}
@@ -0,0 +1,167 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.webkit.ValueCallback;
+import android.webkit.WebView;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class ChunkedJavaScriptEvaluatorTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock WebView mockWebView;
+
+  @Mock ChunkedJavaScriptEvaluator.ChunkListener mockListener;
+
+  @Mock GeneratedAndroidWebView.Result<Long> mockResult;
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void readResultInChunks() {
+    final ChunkedJavaScriptEvaluator evaluator =
+        new ChunkedJavaScriptEvaluator(mockWebView, 3L, 4L, 0L, mockListener, mockResult);
+    evaluator.evaluate("document.title");
+
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(anyString(), callbackCaptor.capture());
+    callbackCaptor.getValue().onReceiveValue("7");
+
+    final ArgumentCaptor<ValueCallback<Boolean>> onDeliveredCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView, times(2)).evaluateJavascript(anyString(), callbackCaptor.capture());
+    callbackCaptor.getValue().onReceiveValue("\"\\\"Tit\"");
+    verify(mockListener).onChunk(eq(3L), eq("\"\\\"Tit\""), onDeliveredCaptor.capture());
+    verify(mockResult, never()).success(anyLong());
+
+    onDeliveredCaptor.getValue().onReceiveValue(true);
+    verify(mockWebView, times(3)).evaluateJavascript(anyString(), callbackCaptor.capture());
+    callbackCaptor.getValue().onReceiveValue("\"le\\\"\"");
+    verify(mockListener).onChunk(eq(3L), eq("\"le\\\"\""), onDeliveredCaptor.capture());
+
+    final List<ValueCallback<Boolean>> onDelivered = onDeliveredCaptor.getAllValues();
+    onDelivered.get(onDelivered.size() - 1).onReceiveValue(true);
+    verify(mockResult).success(7L);
+    verify(mockWebView, times(3)).evaluateJavascript(anyString(), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void failWhenResultExceedsMaxLength() {
+    final ChunkedJavaScriptEvaluator evaluator =
+        new ChunkedJavaScriptEvaluator(mockWebView, 0L, 4L, 5L, mockListener, mockResult);
+    evaluator.evaluate("document.title");
+
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(anyString(), callbackCaptor.capture());
+    callbackCaptor.getValue().onReceiveValue("7");
+
+    verify(mockResult).error(any(IllegalStateException.class));
+    verify(mockListener, never()).onChunk(anyLong(), anyString(), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void failWhenJavaScriptThrows() {
+    final ChunkedJavaScriptEvaluator evaluator =
+        new ChunkedJavaScriptEvaluator(mockWebView, 0L, 4L, 0L, mockListener, mockResult);
+    evaluator.evaluate("throw 'error';");
+
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(anyString(), callbackCaptor.capture());
+    callbackCaptor.getValue().onReceiveValue("-1");
+
+    verify(mockResult).error(any(IllegalStateException.class));
+    assertEquals(1, callbackCaptor.getAllValues().size());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void stopReadingWhenDeliveryIsCancelled() {
+    final ChunkedJavaScriptEvaluator evaluator =
+        new ChunkedJavaScriptEvaluator(mockWebView, 3L, 4L, 0L, mockListener, mockResult);
+    evaluator.evaluate("document.title");
+
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(anyString(), callbackCaptor.capture());
+    callbackCaptor.getValue().onReceiveValue("7");
+    verify(mockWebView, times(2)).evaluateJavascript(anyString(), callbackCaptor.capture());
+    callbackCaptor.getValue().onReceiveValue("\"\\\"Tit\"");
+
+    final ArgumentCaptor<ValueCallback<Boolean>> onDeliveredCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockListener).onChunk(eq(3L), anyString(), onDeliveredCaptor.capture());
+    onDeliveredCaptor.getValue().onReceiveValue(false);
+
+    verify(mockResult).error(any(IllegalStateException.class));
+    verify(mockResult, never()).success(anyLong());
+    verify(mockWebView).evaluateJavascript(contains("delete"), isNull());
+    verify(mockWebView, times(3)).evaluateJavascript(anyString(), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void evaluateDirectlyWhenEvalIsBlocked() {
+    final ChunkedJavaScriptEvaluator evaluator =
+        new ChunkedJavaScriptEvaluator(mockWebView, 3L, 4L, 0L, mockListener, mockResult);
+    evaluator.evaluate("document.title");
+
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(anyString(), callbackCaptor.capture());
+    callbackCaptor.getValue().onReceiveValue("-2");
+
+    verify(mockWebView).evaluateJavascript(eq("document.title"), callbackCaptor.capture());
+    callbackCaptor.getValue().onReceiveValue("\"Title\"");
+
+    final ArgumentCaptor<ValueCallback<Boolean>> onDeliveredCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockListener).onChunk(eq(3L), eq("\"\\\"Tit\""), onDeliveredCaptor.capture());
+    onDeliveredCaptor.getValue().onReceiveValue(true);
+    verify(mockListener).onChunk(eq(3L), eq("\"le\\\"\""), onDeliveredCaptor.capture());
+    onDeliveredCaptor.getValue().onReceiveValue(true);
+
+    verify(mockResult).success(7L);
+    verify(mockWebView, times(2)).evaluateJavascript(anyString(), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void failWhenDirectResultExceedsMaxLength() {
+    final ChunkedJavaScriptEvaluator evaluator =
+        new ChunkedJavaScriptEvaluator(mockWebView, 0L, 4L, 5L, mockListener, mockResult);
+    evaluator.evaluate("document.title");
+
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(anyString(), callbackCaptor.capture());
+    callbackCaptor.getValue().onReceiveValue("-2");
+    verify(mockWebView).evaluateJavascript(eq("document.title"), callbackCaptor.capture());
+    callbackCaptor.getValue().onReceiveValue("\"Title\"");
+
+    verify(mockResult).error(any(IllegalStateException.class));
+    verify(mockListener, never()).onChunk(anyLong(), anyString(), any());
+  }
+}
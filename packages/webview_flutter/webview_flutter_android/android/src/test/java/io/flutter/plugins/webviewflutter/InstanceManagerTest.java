@@ -0,0 +1,120 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.Reference;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InstanceManagerTest {
+  InstanceManager testInstanceManager;
+
+  @Before
+  public void setUp() {
+    testInstanceManager = new InstanceManager();
+  }
+
+  @Test
+  public void addAndRemoveInstance() {
+    final Object instance = new Object();
+    testInstanceManager.addInstance(instance, 0L);
+
+    assertSame(instance, testInstanceManager.getInstance(0L));
+    assertEquals(Long.valueOf(0L), testInstanceManager.getInstanceId(instance));
+
+    assertEquals(Long.valueOf(0L), testInstanceManager.removeInstance(instance));
+    assertNull(testInstanceManager.getInstance(0L));
+    assertNull(testInstanceManager.getInstanceId(instance));
+  }
+
+  @Test
+  public void equalInstancesAreTrackedSeparately() {
+    final String first = new String("instance");
+    final String second = new String("instance");
+    testInstanceManager.addInstance(first, 0L);
+    testInstanceManager.addInstance(second, 1L);
+
+    assertEquals(Long.valueOf(0L), testInstanceManager.getInstanceId(first));
+    assertEquals(Long.valueOf(1L), testInstanceManager.getInstanceId(second));
+
+    testInstanceManager.removeInstanceWithId(0L);
+    assertNull(testInstanceManager.getInstanceId(first));
+    assertEquals(Long.valueOf(1L), testInstanceManager.getInstanceId(second));
+  }
+
+  @Test
+  public void addInstanceReplacesExistingId() {
+    final Object first = new Object();
+    final Object second = new Object();
+    testInstanceManager.addInstance(first, 0L);
+    testInstanceManager.addInstance(second, 0L);
+
+    assertSame(second, testInstanceManager.getInstance(0L));
+    assertNull(testInstanceManager.getInstanceId(first));
+  }
+
+  @Test
+  public void getInstanceCounts() {
+    testInstanceManager.addInstance(new Object(), 0L);
+    testInstanceManager.addInstance(new Object(), 1L);
+    testInstanceManager.addInstance("instance", 2L);
+    testInstanceManager.removeInstanceWithId(2L);
+
+    final Map<String, Long> counts = testInstanceManager.getInstanceCounts();
+    assertEquals(Collections.singletonMap(Object.class.getName(), 2L), counts);
+  }
+
+  @Test
+  public void removedInstanceIsReportedUntilCollected() {
+    final StringBuilder instance = new StringBuilder();
+    testInstanceManager.addInstance(instance, 0L);
+    assertTrue(testInstanceManager.getReleasedInstanceCounts().isEmpty());
+
+    testInstanceManager.removeInstanceWithId(0L);
+    assertEquals(
+        Collections.singletonMap(StringBuilder.class.getName(), 1L),
+        testInstanceManager.getReleasedInstanceCounts());
+
+    // Simulates the garbage collector clearing and enqueuing the weak reference.
+    final Reference<Object> reference = testInstanceManager.getReleasedReference(instance);
+    assertNotNull(reference);
+    reference.clear();
+    reference.enqueue();
+
+    assertTrue(testInstanceManager.getReleasedInstanceCounts().isEmpty());
+    assertNull(testInstanceManager.getReleasedReference(instance));
+  }
+
+  @Test
+  public void readdedInstanceIsNotReported() {
+    final Object instance = new Object();
+    testInstanceManager.addInstance(instance, 0L);
+    testInstanceManager.removeInstance(instance);
+    testInstanceManager.addInstance(instance, 1L);
+
+    assertTrue(testInstanceManager.getReleasedInstanceCounts().isEmpty());
+    assertSame(instance, testInstanceManager.getInstance(1L));
+  }
+
+  @Test
+  public void replacedInstanceIsReported() {
+    final Object first = new Object();
+    testInstanceManager.addInstance(first, 0L);
+    testInstanceManager.addInstance(new Object(), 0L);
+
+    assertEquals(
+        Collections.singletonMap(Object.class.getName(), 1L),
+        testInstanceManager.getReleasedInstanceCounts());
+    assertSame(first, testInstanceManager.getReleasedReference(first).get());
+  }
+}
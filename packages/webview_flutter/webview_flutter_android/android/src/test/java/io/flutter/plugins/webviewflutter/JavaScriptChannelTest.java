@@ -5,16 +5,21 @@
 package io.flutter.plugins.webviewflutter;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import android.os.Handler;
 import io.flutter.plugins.webviewflutter.JavaScriptChannelHostApiImpl.JavaScriptChannelCreator;
+import java.util.Arrays;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -62,4 +67,37 @@ public class JavaScriptChannelTest {
     javaScriptChannel.postMessage("a message");
     verify(mockFlutterApi, never()).postMessage((JavaScriptChannel) any(), any(), any());
   }
+
+  @Test
+  public void postMessagesInBatches() {
+    final Handler mockHandler = mock(Handler.class);
+    final JavaScriptChannel channel =
+        new JavaScriptChannel(mockFlutterApi, "aChannelName", mockHandler);
+    channel.setBatchWindow(16);
+
+    channel.postMessage("first");
+    channel.postMessage("second");
+
+    final ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler, times(1)).postDelayed(flushCaptor.capture(), eq(16L));
+    verify(mockFlutterApi, never()).postMessage((JavaScriptChannel) any(), any(), any());
+
+    flushCaptor.getValue().run();
+    verify(mockFlutterApi).postMessages(eq(channel), eq(Arrays.asList("first", "second")), any());
+  }
+
+  @Test
+  public void postMessagesFlushesFullBatch() {
+    final Handler mockHandler = mock(Handler.class);
+    final JavaScriptChannel channel =
+        new JavaScriptChannel(mockFlutterApi, "aChannelName", mockHandler);
+    channel.setBatchWindow(1000);
+
+    for (int i = 0; i < JavaScriptChannel.MAX_BATCH_SIZE; i++) {
+      channel.postMessage("message");
+    }
+
+    verify(mockHandler, times(1)).postDelayed(any(Runnable.class), anyLong());
+    verify(mockHandler).post(any(Runnable.class));
+  }
 }
@@ -0,0 +1,86 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import android.webkit.ValueCallback;
+import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.PageLoadMetricsData;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class PageLoadTrackerTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock PageLoadTracker.Listener mockListener;
+
+  @Mock WebView mockWebView;
+
+  PageLoadTracker testTracker;
+
+  @Before
+  public void setUp() {
+    testTracker = new PageLoadTracker(mockListener);
+  }
+
+  @Test
+  public void doNothingWhenDisabled() {
+    testTracker.onPageStarted("https://www.google.com");
+    testTracker.onPageFinished(mockWebView);
+
+    verify(mockListener, never()).onPageLoadMetrics(any(), any());
+  }
+
+  @Test
+  public void sendMetricsWhenPageFinished() {
+    testTracker.setEnabled(true, false);
+    testTracker.onPageStarted("https://www.google.com");
+    testTracker.onReceivedError(-2L, "host lookup");
+    testTracker.onReceivedError(-6L, "connect");
+    testTracker.onPageFinished(mockWebView);
+
+    final ArgumentCaptor<PageLoadMetricsData> metricsCaptor =
+        ArgumentCaptor.forClass(PageLoadMetricsData.class);
+    verify(mockListener).onPageLoadMetrics(eq(mockWebView), metricsCaptor.capture());
+    final PageLoadMetricsData metrics = metricsCaptor.getValue();
+    assertEquals("https://www.google.com", metrics.getUrl());
+    assertEquals(Long.valueOf(-2L), metrics.getErrorCode());
+    assertEquals("host lookup", metrics.getErrorDescription());
+    assertNull(metrics.getPerformanceTiming());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void collectPerformanceTiming() {
+    testTracker.setEnabled(true, true);
+    testTracker.onPageStarted("https://www.google.com");
+    testTracker.onPageFinished(mockWebView);
+
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView)
+        .evaluateJavascript(
+            eq(PageLoadTracker.PERFORMANCE_TIMING_SCRIPT), callbackCaptor.capture());
+    verify(mockListener, never()).onPageLoadMetrics(any(), any());
+
+    final String timing = "{\"navigation\":[],\"resource\":[]}";
+    callbackCaptor.getValue().onReceiveValue(timing);
+    final ArgumentCaptor<PageLoadMetricsData> metricsCaptor =
+        ArgumentCaptor.forClass(PageLoadMetricsData.class);
+    verify(mockListener).onPageLoadMetrics(eq(mockWebView), metricsCaptor.capture());
+    assertEquals(timing, metricsCaptor.getValue().getPerformanceTiming());
+  }
+}
@@ -0,0 +1,61 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import android.webkit.WebView;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class RendererPriorityPolicyTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock RendererPriorityPolicy.Delegate mockDelegate;
+
+  RendererPriorityPolicy testPolicy;
+
+  @Before
+  public void setUp() {
+    testPolicy = new RendererPriorityPolicy(mockDelegate);
+  }
+
+  @Test
+  public void doNothingWithoutPolicy() {
+    testPolicy.setAttached(true);
+    testPolicy.setAttached(false);
+
+    verify(mockDelegate, never()).applyRendererPriority(anyInt(), anyBoolean());
+    verify(mockDelegate, never()).onRendererPriorityChanged(anyInt());
+  }
+
+  @Test
+  public void waivePriorityWhileDetached() {
+    testPolicy.setAttached(true);
+    testPolicy.setPolicy(WebView.RENDERER_PRIORITY_IMPORTANT, true);
+    verify(mockDelegate).applyRendererPriority(WebView.RENDERER_PRIORITY_IMPORTANT, true);
+    verify(mockDelegate).onRendererPriorityChanged(WebView.RENDERER_PRIORITY_IMPORTANT);
+
+    testPolicy.setAttached(false);
+    verify(mockDelegate).applyRendererPriority(WebView.RENDERER_PRIORITY_WAIVED, true);
+    verify(mockDelegate).onRendererPriorityChanged(WebView.RENDERER_PRIORITY_WAIVED);
+  }
+
+  @Test
+  public void keepPriorityWhileDetachedIfNotWaived() {
+    testPolicy.setPolicy(WebView.RENDERER_PRIORITY_BOUND, false);
+    testPolicy.setAttached(false);
+
+    verify(mockDelegate, never()).applyRendererPriority(WebView.RENDERER_PRIORITY_WAIVED, false);
+    verify(mockDelegate).onRendererPriorityChanged(WebView.RENDERER_PRIORITY_BOUND);
+  }
+}
@@ -0,0 +1,182 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.res.AssetManager;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class ResourceInterceptorTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Mock AssetManager mockAssetManager;
+
+  ResourceInterceptor testInterceptor;
+
+  @Before
+  public void setUp() {
+    testInterceptor =
+        new ResourceInterceptor(mockAssetManager, assetName -> "flutter_assets/" + assetName);
+  }
+
+  @Test
+  public void relativePath() {
+    assertEquals("app.js", ResourceInterceptor.relativePath("/app.js?v=2#top"));
+    assertEquals("a b/index.html", ResourceInterceptor.relativePath("a%20b/"));
+    assertEquals("index.html", ResourceInterceptor.relativePath(""));
+    assertNull(ResourceInterceptor.relativePath("../secret.txt"));
+    assertNull(ResourceInterceptor.relativePath("a/%2E%2E/%2E%2E/secret.txt"));
+  }
+
+  @Test
+  public void matchesPrefix() {
+    assertTrue(ResourceInterceptor.matchesPrefix("https://app.local/web", "https://app.local/web"));
+    assertTrue(
+        ResourceInterceptor.matchesPrefix("https://app.local/web/a.js", "https://app.local/web"));
+    assertTrue(
+        ResourceInterceptor.matchesPrefix("https://app.local/web?v=2", "https://app.local/web"));
+    assertTrue(
+        ResourceInterceptor.matchesPrefix("https://app.local/web/a.js", "https://app.local/web/"));
+    assertFalse(
+        ResourceInterceptor.matchesPrefix("https://app.local/website", "https://app.local/web"));
+    assertFalse(ResourceInterceptor.matchesPrefix("https://app.local/", "https://app.local/web"));
+  }
+
+  @Test
+  public void interceptAsset() throws IOException {
+    final InputStream stream = new ByteArrayInputStream(new byte[0]);
+    when(mockAssetManager.open(anyString(), anyInt())).thenReturn(stream);
+    testInterceptor.addAssetRoute("https://app.local/", "assets/web");
+
+    assertNotNull(testInterceptor.intercept("https://app.local/js/main.js", "GET", null));
+    verify(mockAssetManager)
+        .open(eq("flutter_assets/assets/web/js/main.js"), eq(AssetManager.ACCESS_STREAMING));
+  }
+
+  @Test
+  public void interceptFile() throws IOException {
+    final File directory = temporaryFolder.newFolder("web");
+    try (FileOutputStream output = new FileOutputStream(new File(directory, "index.html"))) {
+      output.write("<html></html>".getBytes("UTF-8"));
+    }
+    temporaryFolder.newFile("secret.txt");
+    testInterceptor.addFileRoute("https://app.local/", directory.getAbsolutePath());
+
+    assertNotNull(testInterceptor.intercept("https://app.local/", "GET", null));
+    assertNull(testInterceptor.intercept("https://app.local/missing.html", "GET", null));
+    assertNull(testInterceptor.intercept("https://app.local/%2E%2E/secret.txt", "GET", null));
+    assertNull(testInterceptor.intercept("https://other.local/index.html", "GET", null));
+  }
+
+  @Test
+  public void interceptRouteOnlyAtPathBoundary() throws IOException {
+    when(mockAssetManager.open(anyString(), anyInt()))
+        .thenReturn(new ByteArrayInputStream(new byte[0]));
+    testInterceptor.addAssetRoute("https://app.local/web", "assets/web");
+
+    assertNull(testInterceptor.intercept("https://app.local/website.js", "GET", null));
+    assertNotNull(testInterceptor.intercept("https://app.local/web/site.js", "GET", null));
+    verify(mockAssetManager)
+        .open(eq("flutter_assets/assets/web/site.js"), eq(AssetManager.ACCESS_STREAMING));
+  }
+
+  @Test
+  public void clearRoutes() throws IOException {
+    when(mockAssetManager.open(anyString(), anyInt())).thenReturn(mock(InputStream.class));
+    testInterceptor.addAssetRoute("https://app.local/", "assets/web");
+    testInterceptor.clearRoutes();
+
+    assertNull(testInterceptor.intercept("https://app.local/index.html", "GET", null));
+  }
+
+  @Test
+  public void freshUntil() {
+    final long now = 1000000;
+    assertEquals(
+        now + 60000, ResourceInterceptor.freshUntil("public, max-age=60", now + 5000, now));
+    assertEquals(now + 5000, ResourceInterceptor.freshUntil(null, now + 5000, now));
+    assertEquals(ResourceInterceptor.NO_EXPIRATION, ResourceInterceptor.freshUntil(null, 0, now));
+    assertEquals(ResourceInterceptor.NOT_CACHEABLE, ResourceInterceptor.freshUntil(null, 1, now));
+    assertEquals(
+        ResourceInterceptor.NOT_CACHEABLE, ResourceInterceptor.freshUntil("max-age=0", 0, now));
+    assertEquals(
+        ResourceInterceptor.NOT_CACHEABLE, ResourceInterceptor.freshUntil("No-Store", 0, now));
+    assertEquals(
+        ResourceInterceptor.NOT_CACHEABLE,
+        ResourceInterceptor.freshUntil("private, max-age=60", 0, now));
+    assertEquals(
+        ResourceInterceptor.NOT_CACHEABLE, ResourceInterceptor.freshUntil("no-cache", 0, now));
+  }
+
+  @Test
+  public void cacheableHeaders() {
+    final Map<String, List<String>> headerFields = new LinkedHashMap<>();
+    headerFields.put(null, Collections.singletonList("HTTP/1.1 200 OK"));
+    headerFields.put("Content-Type", Collections.singletonList("text/html; charset=utf-8"));
+    headerFields.put("Set-Cookie", Collections.singletonList("session=1"));
+    headerFields.put("content-length", Collections.singletonList("42"));
+    headerFields.put("Vary", Arrays.asList("Accept", "Origin"));
+
+    final Map<String, String> headers = ResourceInterceptor.cacheableHeaders(headerFields);
+
+    final Map<String, String> expected = new HashMap<>();
+    expected.put("Content-Type", "text/html; charset=utf-8");
+    expected.put("Vary", "Accept, Origin");
+    assertEquals(expected, headers);
+  }
+
+  @Test
+  public void cacheEntryHeaderRoundTrip() throws IOException {
+    final Map<String, String> headers = new LinkedHashMap<>();
+    headers.put("Content-Type", "text/css");
+    headers.put("Last-Modified", "Wed, 21 Oct 2015 07:28:00 GMT");
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new ResourceInterceptor.CacheEntryHeader(2000, headers).writeTo(output);
+    output.write("body".getBytes("UTF-8"));
+
+    final InputStream input = new ByteArrayInputStream(output.toByteArray());
+    final ResourceInterceptor.CacheEntryHeader header =
+        ResourceInterceptor.CacheEntryHeader.readFrom(input);
+
+    assertEquals(2000, header.freshUntil);
+    assertEquals(headers, header.headers);
+    assertFalse(header.isExpired(1999));
+    assertTrue(header.isExpired(2000));
+    final byte[] body = new byte[4];
+    assertEquals(4, input.read(body));
+    assertEquals("body", new String(body, "UTF-8"));
+  }
+}
@@ -5,10 +5,13 @@
 package io.flutter.plugins.webviewflutter;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import android.webkit.WebSettings;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebSettingsData;
 import io.flutter.plugins.webviewflutter.WebSettingsHostApiImpl.WebSettingsCreator;
 import org.junit.Before;
 import org.junit.Rule;
@@ -100,4 +103,19 @@ public class WebSettingsTest {
     testHostApiImpl.setBuiltInZoomControls(0L, true);
     verify(mockWebSettings).setBuiltInZoomControls(true);
   }
+
+  @Test
+  public void applySettings() {
+    final WebSettingsData settings = new WebSettingsData();
+    settings.setDomStorageEnabled(true);
+    settings.setUserAgentString("hello");
+    settings.setBuiltInZoomControls(false);
+
+    testHostApiImpl.applySettings(0L, settings);
+    verify(mockWebSettings).setDomStorageEnabled(true);
+    verify(mockWebSettings).setUserAgentString("hello");
+    verify(mockWebSettings).setBuiltInZoomControls(false);
+    verify(mockWebSettings, never()).setJavaScriptEnabled(anyBoolean());
+    verify(mockWebSettings, never()).setSupportZoom(anyBoolean());
+  }
 }
@@ -4,12 +4,16 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import android.webkit.RenderProcessGoneDetail;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import io.flutter.plugins.webviewflutter.WebViewClientHostApiImpl.WebViewClientCompatImpl;
@@ -96,4 +100,23 @@ public class WebViewClientTest {
     webViewClient.shouldOverrideUrlLoading(mockWebView, "");
     verify(mockFlutterApi, never()).urlLoading((WebViewClient) any(), any(), any(), any());
   }
+
+  @Test
+  public void onRenderProcessGone() {
+    final RenderProcessGoneDetail mockDetail = mock(RenderProcessGoneDetail.class);
+    when(mockDetail.didCrash()).thenReturn(true);
+
+    assertTrue(webViewClient.onRenderProcessGone(mockWebView, mockDetail));
+    verify(mockFlutterApi).onRenderProcessGone(eq(webViewClient), eq(mockWebView), eq(true), any());
+  }
+
+  @Test
+  public void onRenderProcessGoneTellsThePoolNotToReuseTheWebView() {
+    final WebViewHostApiImpl.WebViewPlatformView pooledWebView =
+        mock(WebViewHostApiImpl.WebViewPlatformView.class);
+
+    webViewClient.onRenderProcessGone(pooledWebView, mock(RenderProcessGoneDetail.class));
+
+    verify(pooledWebView).onRenderProcessGone();
+  }
 }
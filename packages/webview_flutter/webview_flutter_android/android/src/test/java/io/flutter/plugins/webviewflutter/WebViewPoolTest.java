@@ -0,0 +1,150 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+import android.content.MutableContextWrapper;
+import android.webkit.RenderProcessGoneDetail;
+import android.webkit.WebSettings;
+import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewPoolTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock WebViewPool.WebViewCreator mockCreator;
+
+  @Mock Context mockContext;
+
+  WebViewPool testPool;
+
+  @Before
+  public void setUp() {
+    when(mockCreator.createWebView(any(Context.class), anyBoolean()))
+        .thenAnswer(invocation -> createMockWebView());
+    testPool = new WebViewPool(mockCreator);
+  }
+
+  @Test
+  public void reuseWebViewAfterReleaseAndDispose() {
+    testPool.configure(mockContext, 1, 0, true);
+
+    final WebViewPlatformView webView = (WebViewPlatformView) testPool.acquire(mockContext, true);
+    verify(webView).setPool(testPool);
+    assertTrue(testPool.onReleased(webView));
+    assertTrue(testPool.getOutstandingViews().contains(webView));
+    assertTrue(testPool.onPlatformViewDisposed(webView));
+    assertFalse(testPool.getOutstandingViews().contains(webView));
+
+    verify(webView).resetForReuse();
+    verify(webView, never()).destroy();
+    assertSame(webView, testPool.acquire(mockContext, true));
+    assertEquals(1L, (long) testPool.getStats().get("hits"));
+    assertEquals(1L, (long) testPool.getStats().get("misses"));
+  }
+
+  @Test
+  public void resetWebViewRestoresDefaultSettings() {
+    final WebView webView = mock(WebView.class);
+    final WebSettings webSettings = mock(WebSettings.class);
+    when(webView.getSettings()).thenReturn(webSettings);
+
+    WebViewPool.resetWebView(webView);
+
+    verify(webSettings).setJavaScriptEnabled(false);
+    verify(webSettings).setUserAgentString(null);
+    verify(webSettings).setSupportZoom(true);
+    verify(webSettings).setBuiltInZoomControls(false);
+    verify(webSettings).setDisplayZoomControls(true);
+    verify(webView).loadUrl("about:blank");
+  }
+
+  @Test
+  public void idleWebViewClientClearsHistoryOnceBlankPageLoaded() {
+    final WebView webView = mock(WebView.class);
+
+    new WebViewPool.IdleWebViewClient(testPool).onPageFinished(webView, "about:blank");
+
+    verify(webView).clearHistory();
+  }
+
+  @Test
+  public void destroyWebViewWhenPoolIsFull() {
+    testPool.configure(mockContext, 1, 0, true);
+
+    final WebViewPlatformView first = (WebViewPlatformView) testPool.acquire(mockContext, true);
+    final WebViewPlatformView second = (WebViewPlatformView) testPool.acquire(mockContext, true);
+    testPool.onReleased(first);
+    testPool.onPlatformViewDisposed(first);
+    testPool.onReleased(second);
+    testPool.onPlatformViewDisposed(second);
+
+    verify(first, never()).destroy();
+    verify(second).destroy();
+    assertEquals(1L, (long) testPool.getStats().get("idle"));
+  }
+
+  @Test
+  public void idleWebViewClientDestroysIdleWebViewWhenRendererIsGone() {
+    testPool.configure(mockContext, 1, 0, true);
+    final WebViewPlatformView webView = (WebViewPlatformView) testPool.acquire(mockContext, true);
+    testPool.onReleased(webView);
+    testPool.onPlatformViewDisposed(webView);
+
+    assertTrue(
+        new WebViewPool.IdleWebViewClient(testPool)
+            .onRenderProcessGone(webView, mock(RenderProcessGoneDetail.class)));
+
+    verify(webView).destroy();
+    assertEquals(0L, (long) testPool.getStats().get("idle"));
+  }
+
+  @Test
+  public void destroyWebViewWhoseRendererIsGone() {
+    testPool.configure(mockContext, 1, 0, true);
+
+    final WebViewPlatformView webView = (WebViewPlatformView) testPool.acquire(mockContext, true);
+    testPool.onRenderProcessGone(webView);
+    testPool.onReleased(webView);
+    testPool.onPlatformViewDisposed(webView);
+
+    verify(webView, never()).resetForReuse();
+    verify(webView).destroy();
+    assertEquals(0L, (long) testPool.getStats().get("idle"));
+  }
+
+  @Test
+  public void ignoreWebViewsNotFromPool() {
+    final WebViewPlatformView webView = createMockWebView();
+
+    assertFalse(testPool.onReleased(webView));
+    assertFalse(testPool.onPlatformViewDisposed(webView));
+  }
+
+  private WebViewPlatformView createMockWebView() {
+    final MutableContextWrapper mockContextWrapper = mock(MutableContextWrapper.class);
+    when(mockContextWrapper.getApplicationContext()).thenReturn(mockContext);
+    final WebViewPlatformView mockWebView = mock(WebViewPlatformView.class);
+    when(mockWebView.getContext()).thenReturn(mockContextWrapper);
+    return mockWebView;
+  }
+}
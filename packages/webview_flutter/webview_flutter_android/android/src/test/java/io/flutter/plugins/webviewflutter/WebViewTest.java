@@ -5,11 +5,14 @@
 package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import android.content.ComponentCallbacks2;
 import android.content.Context;
 import android.webkit.DownloadListener;
 import android.webkit.ValueCallback;
@@ -305,4 +308,45 @@ public class WebViewTest {
     testHostApiImpl.setWebChromeClient(0L, 1L);
     verify(mockWebView).setWebChromeClient(mockWebChromeClient);
   }
+
+  @Test
+  public void trimMemorySeverity() {
+    assertEquals(
+        WebViewHostApiImpl.TRIM_SEVERITY_NONE,
+        WebViewHostApiImpl.getTrimMemorySeverity(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE));
+    assertEquals(
+        WebViewHostApiImpl.TRIM_SEVERITY_LOW,
+        WebViewHostApiImpl.getTrimMemorySeverity(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW));
+    assertEquals(
+        WebViewHostApiImpl.TRIM_SEVERITY_CRITICAL,
+        WebViewHostApiImpl.getTrimMemorySeverity(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL));
+    assertEquals(
+        WebViewHostApiImpl.TRIM_SEVERITY_NONE,
+        WebViewHostApiImpl.getTrimMemorySeverity(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN));
+    assertEquals(
+        WebViewHostApiImpl.TRIM_SEVERITY_LOW,
+        WebViewHostApiImpl.getTrimMemorySeverity(ComponentCallbacks2.TRIM_MEMORY_BACKGROUND));
+    assertEquals(
+        WebViewHostApiImpl.TRIM_SEVERITY_CRITICAL,
+        WebViewHostApiImpl.getTrimMemorySeverity(ComponentCallbacks2.TRIM_MEMORY_MODERATE));
+    assertEquals(
+        WebViewHostApiImpl.TRIM_SEVERITY_CRITICAL,
+        WebViewHostApiImpl.getTrimMemorySeverity(ComponentCallbacks2.TRIM_MEMORY_COMPLETE));
+  }
+
+  @Test
+  public void onTrimMemoryUiHiddenKeepsCache() {
+    testHostApiImpl.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN);
+
+    verify(mockWebView, never()).clearCache(anyBoolean());
+    verify(mockWebView).onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN);
+  }
+
+  @Test
+  public void onTrimMemoryRunningCriticalClearsCache() {
+    testHostApiImpl.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL);
+
+    verify(mockWebView).clearCache(false);
+    verify(mockWebView).onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL);
+  }
 }
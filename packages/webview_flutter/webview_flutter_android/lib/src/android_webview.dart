@@ -37,6 +37,21 @@ class WebView {
     api.createFromInstance(this);
   }
 
+  /// The renderer may be killed by the system to reclaim memory at any time.
+  ///
+  /// See https://developer.android.com/reference/android/webkit/WebView#RENDERER_PRIORITY_WAIVED
+  static const int rendererPriorityWaived = 0;
+
+  /// The renderer has the same priority as a bound service of the app.
+  ///
+  /// See https://developer.android.com/reference/android/webkit/WebView#RENDERER_PRIORITY_BOUND
+  static const int rendererPriorityBound = 1;
+
+  /// The renderer has the same priority as the app itself.
+  ///
+  /// See https://developer.android.com/reference/android/webkit/WebView#RENDERER_PRIORITY_IMPORTANT
+  static const int rendererPriorityImportant = 2;
+
   /// Pigeon Host Api implementation for [WebView].
   @visibleForTesting
   static WebViewHostApiImpl api = WebViewHostApiImpl();
@@ -66,6 +81,96 @@ class WebView {
     return api.setWebContentsDebuggingEnabled(enabled);
   }
 
+  /// Keeps up to [maxSize] initialized WebViews per composition mode for reuse.
+  ///
+  /// Creating the first WebView of an application initializes Chromium, which
+  /// can take hundreds of milliseconds. When the pool is enabled, disposed
+  /// WebViews are reset and handed out again, and [warmUpCount] WebViews using
+  /// [useHybridComposition] are created while the main thread is idle.
+  ///
+  /// A [maxSize] of 0 disables the pool. The pool is disabled by default.
+  static Future<void> configurePool({
+    required int maxSize,
+    int warmUpCount = 0,
+    bool useHybridComposition = false,
+  }) {
+    return api.configurePool(maxSize, warmUpCount, useHybridComposition);
+  }
+
+  /// Returns the `hits`, `misses`, `idle` and `inUse` counts of the pool.
+  static Future<Map<String, int>> getPoolStats() async {
+    final Map<String?, int?> stats = await api.getPoolStats();
+    return stats.cast<String, int>();
+  }
+
+  /// Returns the number of live platform instances for each Java class name.
+  ///
+  /// An instance is live until its Dart object is disposed. A count that keeps
+  /// growing over the lifetime of the app usually points to objects that are
+  /// never disposed.
+  static Future<Map<String, int>> getInstanceCounts() async {
+    final Map<String?, int?> counts = await api.getInstanceCounts();
+    return counts.cast<String, int>();
+  }
+
+  /// Returns the number of disposed platform instances for each Java class
+  /// name that haven't been garbage collected yet.
+  ///
+  /// Disposed instances are only weakly referenced by the plugin, so they
+  /// normally disappear from these counts after the next garbage collection. An
+  /// instance that stays is still referenced by something else, such as a
+  /// listener that was never removed.
+  static Future<Map<String, int>> getReleasedInstanceCounts() async {
+    final Map<String?, int?> counts = await api.getReleasedInstanceCounts();
+    return counts.cast<String, int>();
+  }
+
+  /// Serves URLs starting with [urlPrefix] from Flutter assets.
+  ///
+  /// [urlPrefix] only matches at a path boundary, so `https://app.local/web`
+  /// matches `https://app.local/web/main.js` but not
+  /// `https://app.local/website.js`. The rest of the URL, without query and
+  /// fragment, is resolved against [assetDirectory], and `index.html` is used
+  /// for directories. Assets are streamed to the WebView. Requests for assets
+  /// that don't exist are loaded normally.
+  ///
+  /// Applies to all WebViews, including ones that are already created.
+  static Future<void> interceptAssets(String urlPrefix, String assetDirectory) {
+    return api.interceptAssets(urlPrefix, assetDirectory);
+  }
+
+  /// Serves URLs starting with [urlPrefix] from the files in [directory].
+  ///
+  /// [directory] is an absolute path on the device. URLs are resolved the
+  /// same way as in [interceptAssets], and can't escape [directory].
+  static Future<void> interceptFiles(String urlPrefix, String directory) {
+    return api.interceptFiles(urlPrefix, directory);
+  }
+
+  /// Removes all routes added with [interceptAssets] and [interceptFiles].
+  static Future<void> clearInterceptRoutes() {
+    return api.clearInterceptRoutes();
+  }
+
+  /// Stores GET responses from [origins] in a disk cache of [maxSizeBytes].
+  ///
+  /// Origins are given as `scheme://host[:port]`. Cached responses are served
+  /// with their original headers and without contacting the network until
+  /// they expire according to `Cache-Control: max-age` or `Expires`, or are
+  /// evicted, least recently used first. Responses without an expiration time
+  /// are kept until they are evicted, so only use this for origins whose
+  /// resources don't change under the same URL. Responses marked `no-store`,
+  /// `no-cache` or `private` are never cached, and neither are responses
+  /// other than `200 OK`. Requests send and responses store cookies like the
+  /// WebView itself would, but cookies are never cached. A [maxSizeBytes] of 0
+  /// disables and deletes the cache.
+  static Future<void> setInterceptCache({
+    required int maxSizeBytes,
+    required List<String> origins,
+  }) {
+    return api.setInterceptCache(maxSizeBytes, origins);
+  }
+
   /// Loads the given URL with additional HTTP headers, specified as a map from name to value.
   ///
   /// Note that if this map contains any of the headers that are set by default
@@ -146,6 +251,35 @@ class WebView {
     return result;
   }
 
+  /// Evaluates JavaScript like [evaluateJavascript] and streams the result in chunks.
+  ///
+  /// Concatenating the chunks gives the JSON encoding of the result, which is
+  /// what [evaluateJavascript] returns. Each chunk holds at most [chunkSize]
+  /// characters, and the next chunk is only read from the page after the
+  /// previous one was sent, so large results are never sent as a whole.
+  ///
+  /// If [maxLength] is non-null and the result is longer, the stream emits an
+  /// error without any chunks. It also emits an error if the script throws or
+  /// the page is unloaded before the last chunk was read. Cancelling the
+  /// subscription stops reading the remaining chunks.
+  ///
+  /// If the page's Content Security Policy forbids `eval`, the result can't be
+  /// kept in the page. The script is then evaluated directly and its whole
+  /// result is held by the platform side while the chunks are sent.
+  Stream<String> evaluateJavascriptChunked(
+    String javascriptString, {
+    int chunkSize = 65536,
+    int? maxLength,
+  }) {
+    assert(chunkSize > 0);
+    return api.evaluateJavascriptChunkedFromInstance(
+      this,
+      javascriptString,
+      chunkSize: chunkSize,
+      maxLength: maxLength,
+    );
+  }
+
   // TODO(bparrishMines): Update documentation when WebViewClient.onReceivedTitle is added.
   /// Gets the title for the current page.
   ///
@@ -225,6 +359,29 @@ class WebView {
     return api.addJavaScriptChannelFromInstance(this, javaScriptChannel);
   }
 
+  /// Sends a `MessagePort` for [javaScriptChannel] to the page.
+  ///
+  /// The page receives a `message` event whose `data` is the channel name and
+  /// whose `ports` contain the port. Messages posted to that port are delivered
+  /// to [javaScriptChannel] on the platform thread, without going through the
+  /// JavaScript bridge.
+  ///
+  /// The port is only delivered if the origin of the page matches
+  /// [targetOrigin]. Call this after the page finished loading.
+  ///
+  /// Requires Android 6.0 (API level 23) or later.
+  Future<void> postJavaScriptChannelPort(
+    JavaScriptChannel javaScriptChannel, {
+    String targetOrigin = '*',
+  }) async {
+    await JavaScriptChannel.api.createFromInstance(javaScriptChannel);
+    return api.postJavaScriptChannelPortFromInstance(
+      this,
+      javaScriptChannel,
+      targetOrigin,
+    );
+  }
+
   /// Removes a previously injected [JavaScriptChannel] from this WebView.
   ///
   /// Note that the removal will not be reflected in JavaScript until the page
@@ -260,6 +417,28 @@ class WebView {
     return api.setWebChromeClientFromInstance(this, client);
   }
 
+  /// Sets the priority of the renderer process of this [WebView].
+  ///
+  /// [priority] is one of the `rendererPriority*` constants. When
+  /// [waivedWhenNotVisible] is true, the priority is lowered to
+  /// [rendererPriorityWaived] while the [WebView] is not visible or is
+  /// detached from the window, such as after it scrolled off screen. The
+  /// system can then reclaim the renderer before it kills the app, in which
+  /// case [WebViewClient.onRenderProcessGone] is called. Changes are reported
+  /// to [WebViewClient.onRendererPriorityChanged].
+  ///
+  /// Does nothing before Android 8.0 (API level 26).
+  Future<void> setRendererPriorityPolicy(
+    int priority, {
+    bool waivedWhenNotVisible = false,
+  }) {
+    return api.setRendererPriorityPolicyFromInstance(
+      this,
+      priority,
+      waivedWhenNotVisible,
+    );
+  }
+
   /// Releases all resources used by the [WebView].
   ///
   /// Any methods called after [release] will throw an exception.
@@ -398,6 +577,41 @@ class WebSettings {
   Future<void> setBuiltInZoomControls(bool enabled) {
     return api.setBuiltInZoomControlsFromInstance(this, enabled);
   }
+
+  /// Applies several settings with a single message to the platform.
+  ///
+  /// Each parameter corresponds to one of the setters of this class, and only
+  /// settings that are not null are changed. Prefer this over calling the
+  /// setters one by one when configuring a new [WebView].
+  Future<void> apply({
+    bool? domStorageEnabled,
+    bool? javaScriptCanOpenWindowsAutomatically,
+    bool? supportMultipleWindows,
+    bool? javaScriptEnabled,
+    String? userAgentString,
+    bool? mediaPlaybackRequiresUserGesture,
+    bool? supportZoom,
+    bool? loadWithOverviewMode,
+    bool? useWideViewPort,
+    bool? displayZoomControls,
+    bool? builtInZoomControls,
+  }) {
+    return api.applySettingsFromInstance(
+      this,
+      domStorageEnabled: domStorageEnabled,
+      javaScriptCanOpenWindowsAutomatically:
+          javaScriptCanOpenWindowsAutomatically,
+      supportMultipleWindows: supportMultipleWindows,
+      javaScriptEnabled: javaScriptEnabled,
+      userAgentString: userAgentString,
+      mediaPlaybackRequiresUserGesture: mediaPlaybackRequiresUserGesture,
+      supportZoom: supportZoom,
+      loadWithOverviewMode: loadWithOverviewMode,
+      useWideViewPort: useWideViewPort,
+      displayZoomControls: displayZoomControls,
+      builtInZoomControls: builtInZoomControls,
+    );
+  }
 }
 
 /// Exposes a channel to receive calls from javaScript.
@@ -418,6 +632,23 @@ abstract class JavaScriptChannel {
 
   /// Callback method when javaScript calls `postMessage` on the object instance passed.
   void postMessage(String message);
+
+  /// Callback method for a batch of messages, see [setBatchWindow].
+  ///
+  /// Calls [postMessage] for each message by default.
+  void postMessages(List<String> messages) {
+    messages.forEach(postMessage);
+  }
+
+  /// Collects messages for [window] and delivers them to [postMessages].
+  ///
+  /// This reduces the overhead of channels that receive many small messages.
+  /// A batch is delivered early once it holds 512 messages. A [window] of
+  /// [Duration.zero] delivers every message to [postMessage] on its own, which
+  /// is the default.
+  Future<void> setBatchWindow(Duration window) {
+    return api.setBatchWindowFromInstance(this, window);
+  }
 }
 
 /// Receive various notifications and requests for [WebView].
@@ -587,6 +818,63 @@ abstract class WebViewClient {
   /// causes the current [WebView] to abort loading the URL, while returning
   /// false causes the [WebView] to continue loading the URL as usual.
   void urlLoading(WebView webView, String url) {}
+
+  /// Notify the host application that the renderer process of [webView] is gone.
+  ///
+  /// [didCrash] is false if the system killed the renderer to reclaim memory.
+  /// The [WebView] can no longer be used and should be released and replaced
+  /// with a new one.
+  ///
+  /// Only called on Android 8.0 (API level 26) and later.
+  void onRenderProcessGone(WebView webView, bool didCrash) {}
+
+  /// Notify the host application that the renderer priority of [webView] changed.
+  ///
+  /// See [WebView.setRendererPriorityPolicy].
+  void onRendererPriorityChanged(WebView webView, int priority) {}
+
+  /// Notify the host application that the system asked the app to trim memory.
+  ///
+  /// [level] is one of the `TRIM_MEMORY_*` constants of Android's
+  /// `ComponentCallbacks2`. Depending on the level, idle pooled WebViews and
+  /// the in-memory resource cache have already been released.
+  void onTrimMemory(WebView webView, int level) {}
+
+  /// Sets the minimum time between navigation callbacks.
+  ///
+  /// Within [interval], only the most recent [onPageStarted] is delivered, and
+  /// it is always delivered before the following [onPageFinished]. When
+  /// [shouldOverrideUrlLoading] is false, [requestLoading] and [urlLoading]
+  /// are coalesced the same way. This reduces platform channel traffic during
+  /// redirect chains. An [interval] of [Duration.zero] delivers every callback,
+  /// which is the default.
+  Future<void> setNavigationInterval(Duration interval) {
+    return api.setNavigationIntervalFromInstance(this, interval);
+  }
+
+  /// Notify the host application of the load metrics of a main frame navigation.
+  ///
+  /// Only called while page load tracking is enabled. See
+  /// [setPageLoadTracking].
+  void onPageLoadMetrics(WebView webView, PageLoadMetrics metrics) {}
+
+  /// Enables or disables page load tracking.
+  ///
+  /// While enabled, [onPageLoadMetrics] is called once for every main frame
+  /// navigation, after [onPageFinished]. When [collectPerformanceTiming] is
+  /// true, the Navigation Timing and Resource Timing entries of successfully
+  /// loaded pages are included as well, which requires JavaScript to be
+  /// enabled. Tracking is disabled by default.
+  Future<void> setPageLoadTracking({
+    required bool enabled,
+    bool collectPerformanceTiming = false,
+  }) {
+    return api.setPageLoadTrackingFromInstance(
+      this,
+      enabled: enabled,
+      collectPerformanceTiming: collectPerformanceTiming,
+    );
+  }
 }
 
 /// The interface to be used when content can not be handled by the rendering engine for [WebView], and should be downloaded instead.
@@ -623,6 +911,17 @@ abstract class WebChromeClient {
 
   /// Notify the host application that a file should be downloaded.
   void onProgressChanged(WebView webView, int progress) {}
+
+  /// Sets the minimum time between two calls to [onProgressChanged].
+  ///
+  /// Updates within [interval] are dropped in favor of the most recent one,
+  /// and a progress of 100 is always delivered immediately. An [interval] of
+  /// [Duration.zero] delivers every update, which is the default.
+  ///
+  /// Must be called after this client is passed to a [WebView].
+  Future<void> setProgressInterval(Duration interval) {
+    return api.setProgressIntervalFromInstance(this, interval);
+  }
 }
 
 /// Encompasses parameters to the [WebViewClient.requestLoading] method.
@@ -674,3 +973,48 @@ class WebResourceError {
   /// Describes the error.
   final String description;
 }
+
+/// Load metrics of a main frame navigation.
+///
+/// See [WebViewClient.onPageLoadMetrics].
+class PageLoadMetrics {
+  /// Constructs a [PageLoadMetrics].
+  PageLoadMetrics({
+    required this.url,
+    required this.startTime,
+    required this.pageFinished,
+    this.firstVisualState,
+    this.errorCode,
+    this.errorDescription,
+    this.performanceTiming,
+  });
+
+  /// The URL of the navigation.
+  final String url;
+
+  /// When the navigation started.
+  final DateTime startTime;
+
+  /// The time from the start of the navigation until the page finished loading.
+  final Duration pageFinished;
+
+  /// The time from the start of the navigation until its content was first drawn.
+  ///
+  /// Null if the content was not drawn before the page finished loading or on
+  /// Android versions before 23.
+  final Duration? firstVisualState;
+
+  /// The code of the first main frame error of the navigation, if any.
+  ///
+  /// See [WebResourceError.errorCode].
+  final int? errorCode;
+
+  /// Describes the first main frame error of the navigation, if any.
+  final String? errorDescription;
+
+  /// The Navigation Timing and Resource Timing entries of the page as JSON.
+  ///
+  /// Only collected when requested with [WebViewClient.setPageLoadTracking]
+  /// and the page loaded without a main frame error.
+  final String? performanceTiming;
+}
@@ -63,6 +63,90 @@ class WebResourceErrorData {
   }
 }
 
+class WebSettingsData {
+  bool? domStorageEnabled;
+  bool? javaScriptCanOpenWindowsAutomatically;
+  bool? supportMultipleWindows;
+  bool? javaScriptEnabled;
+  String? userAgentString;
+  bool? mediaPlaybackRequiresUserGesture;
+  bool? supportZoom;
+  bool? loadWithOverviewMode;
+  bool? useWideViewPort;
+  bool? displayZoomControls;
+  bool? builtInZoomControls;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['domStorageEnabled'] = domStorageEnabled;
+    pigeonMap['javaScriptCanOpenWindowsAutomatically'] =
+        javaScriptCanOpenWindowsAutomatically;
+    pigeonMap['supportMultipleWindows'] = supportMultipleWindows;
+    pigeonMap['javaScriptEnabled'] = javaScriptEnabled;
+    pigeonMap['userAgentString'] = userAgentString;
+    pigeonMap['mediaPlaybackRequiresUserGesture'] =
+        mediaPlaybackRequiresUserGesture;
+    pigeonMap['supportZoom'] = supportZoom;
+    pigeonMap['loadWithOverviewMode'] = loadWithOverviewMode;
+    pigeonMap['useWideViewPort'] = useWideViewPort;
+    pigeonMap['displayZoomControls'] = displayZoomControls;
+    pigeonMap['builtInZoomControls'] = builtInZoomControls;
+    return pigeonMap;
+  }
+
+  static WebSettingsData decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return WebSettingsData()
+      ..domStorageEnabled = pigeonMap['domStorageEnabled'] as bool?
+      ..javaScriptCanOpenWindowsAutomatically =
+          pigeonMap['javaScriptCanOpenWindowsAutomatically'] as bool?
+      ..supportMultipleWindows = pigeonMap['supportMultipleWindows'] as bool?
+      ..javaScriptEnabled = pigeonMap['javaScriptEnabled'] as bool?
+      ..userAgentString = pigeonMap['userAgentString'] as String?
+      ..mediaPlaybackRequiresUserGesture =
+          pigeonMap['mediaPlaybackRequiresUserGesture'] as bool?
+      ..supportZoom = pigeonMap['supportZoom'] as bool?
+      ..loadWithOverviewMode = pigeonMap['loadWithOverviewMode'] as bool?
+      ..useWideViewPort = pigeonMap['useWideViewPort'] as bool?
+      ..displayZoomControls = pigeonMap['displayZoomControls'] as bool?
+      ..builtInZoomControls = pigeonMap['builtInZoomControls'] as bool?;
+  }
+}
+
+class PageLoadMetricsData {
+  String? url;
+  int? startTimeMillis;
+  int? pageFinishedMillis;
+  int? firstVisualStateMillis;
+  int? errorCode;
+  String? errorDescription;
+  String? performanceTiming;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['url'] = url;
+    pigeonMap['startTimeMillis'] = startTimeMillis;
+    pigeonMap['pageFinishedMillis'] = pageFinishedMillis;
+    pigeonMap['firstVisualStateMillis'] = firstVisualStateMillis;
+    pigeonMap['errorCode'] = errorCode;
+    pigeonMap['errorDescription'] = errorDescription;
+    pigeonMap['performanceTiming'] = performanceTiming;
+    return pigeonMap;
+  }
+
+  static PageLoadMetricsData decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PageLoadMetricsData()
+      ..url = pigeonMap['url'] as String?
+      ..startTimeMillis = pigeonMap['startTimeMillis'] as int?
+      ..pageFinishedMillis = pigeonMap['pageFinishedMillis'] as int?
+      ..firstVisualStateMillis = pigeonMap['firstVisualStateMillis'] as int?
+      ..errorCode = pigeonMap['errorCode'] as int?
+      ..errorDescription = pigeonMap['errorDescription'] as String?
+      ..performanceTiming = pigeonMap['performanceTiming'] as String?;
+  }
+}
+
 class _WebViewHostApiCodec extends StandardMessageCodec {
   const _WebViewHostApiCodec();
 }
@@ -644,10 +728,332 @@ class WebViewHostApi {
       return;
     }
   }
+
+  Future<void> configurePool(int arg_maxSize, int arg_warmUpCount,
+      bool arg_useHybridComposition) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.configurePool', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel.send(<Object>[
+      arg_maxSize,
+      arg_warmUpCount,
+      arg_useHybridComposition
+    ]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<Map<String?, int?>> getPoolStats() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.getPoolStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return (replyMap['result'] as Map<Object?, Object?>?)!
+          .cast<String?, int?>();
+    }
+  }
+
+  Future<void> interceptAssets(
+      String arg_urlPrefix, String arg_assetDirectory) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.interceptAssets', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object>[arg_urlPrefix, arg_assetDirectory])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> interceptFiles(
+      String arg_urlPrefix, String arg_directory) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.interceptFiles', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object>[arg_urlPrefix, arg_directory])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> clearInterceptRoutes() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.clearInterceptRoutes', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setInterceptCache(
+      int arg_maxSizeBytes, List<String?> arg_origins) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.setInterceptCache', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object>[arg_maxSizeBytes, arg_origins])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> postJavaScriptChannelPort(int arg_instanceId,
+      int arg_javaScriptChannelInstanceId, String arg_targetOrigin) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.postJavaScriptChannelPort', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel.send(<Object>[
+      arg_instanceId,
+      arg_javaScriptChannelInstanceId,
+      arg_targetOrigin
+    ]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<Map<String?, int?>> getInstanceCounts() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.getInstanceCounts', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return (replyMap['result'] as Map<Object?, Object?>?)!
+          .cast<String?, int?>();
+    }
+  }
+
+  Future<Map<String?, int?>> getReleasedInstanceCounts() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.getReleasedInstanceCounts', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return (replyMap['result'] as Map<Object?, Object?>?)!
+          .cast<String?, int?>();
+    }
+  }
+
+  Future<void> setRendererPriorityPolicy(int arg_instanceId, int arg_priority,
+      bool arg_waivedWhenNotVisible) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.setRendererPriorityPolicy', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel.send(<Object>[
+      arg_instanceId,
+      arg_priority,
+      arg_waivedWhenNotVisible
+    ]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<int> evaluateJavascriptChunked(int arg_instanceId, int arg_requestId,
+      String arg_javascriptString, int arg_chunkSize, int arg_maxLength) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptChunked', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel.send(<Object>[
+      arg_instanceId,
+      arg_requestId,
+      arg_javascriptString,
+      arg_chunkSize,
+      arg_maxLength
+    ]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return (replyMap['result'] as int?)!;
+    }
+  }
 }
 
 class _WebSettingsHostApiCodec extends StandardMessageCodec {
   const _WebSettingsHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is WebSettingsData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return WebSettingsData.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
 }
 
 class WebSettingsHostApi {
@@ -997,6 +1403,33 @@ class WebSettingsHostApi {
       return;
     }
   }
+
+  Future<void> applySettings(
+      int arg_instanceId, WebSettingsData arg_settings) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebSettingsHostApi.applySettings', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object>[arg_instanceId, arg_settings])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 class _JavaScriptChannelHostApiCodec extends StandardMessageCodec {
@@ -1039,6 +1472,32 @@ class JavaScriptChannelHostApi {
       return;
     }
   }
+
+  Future<void> setBatchWindow(int arg_instanceId, int arg_windowMs) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.JavaScriptChannelHostApi.setBatchWindow', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object>[arg_instanceId, arg_windowMs])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 class _JavaScriptChannelFlutterApiCodec extends StandardMessageCodec {
@@ -1051,6 +1510,7 @@ abstract class JavaScriptChannelFlutterApi {
 
   void dispose(int instanceId);
   void postMessage(int instanceId, String message);
+  void postMessages(int instanceId, List<String?> messages);
   static void setup(JavaScriptChannelFlutterApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1094,6 +1554,29 @@ abstract class JavaScriptChannelFlutterApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages was null, expected non-null int.');
+          final List<String?>? arg_messages =
+              (args[1] as List<Object?>?)?.cast<String?>();
+          assert(arg_messages != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages was null, expected non-null List<String?>.');
+          api.postMessages(arg_instanceId!, arg_messages!);
+          return;
+        });
+      }
+    }
   }
 }
 
@@ -1138,18 +1621,77 @@ class WebViewClientHostApi {
       return;
     }
   }
+
+  Future<void> setNavigationInterval(
+      int arg_instanceId, int arg_intervalMs) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewClientHostApi.setNavigationInterval', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object>[arg_instanceId, arg_intervalMs])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setPageLoadTracking(int arg_instanceId, bool arg_enabled,
+      bool arg_collectPerformanceTiming) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewClientHostApi.setPageLoadTracking', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel.send(<Object>[
+      arg_instanceId,
+      arg_enabled,
+      arg_collectPerformanceTiming
+    ]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 class _WebViewClientFlutterApiCodec extends StandardMessageCodec {
   const _WebViewClientFlutterApiCodec();
   @override
   void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is WebResourceErrorData) {
+    if (value is PageLoadMetricsData) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
-    } else if (value is WebResourceRequestData) {
+    } else if (value is WebResourceErrorData) {
       buffer.putUint8(129);
       writeValue(buffer, value.encode());
+    } else if (value is WebResourceRequestData) {
+      buffer.putUint8(130);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -1159,9 +1701,12 @@ class _WebViewClientFlutterApiCodec extends StandardMessageCodec {
   Object? readValueOfType(int type, ReadBuffer buffer) {
     switch (type) {
       case 128:
-        return WebResourceErrorData.decode(readValue(buffer)!);
+        return PageLoadMetricsData.decode(readValue(buffer)!);
 
       case 129:
+        return WebResourceErrorData.decode(readValue(buffer)!);
+
+      case 130:
         return WebResourceRequestData.decode(readValue(buffer)!);
 
       default:
@@ -1183,6 +1728,13 @@ abstract class WebViewClientFlutterApi {
   void requestLoading(
       int instanceId, int webViewInstanceId, WebResourceRequestData request);
   void urlLoading(int instanceId, int webViewInstanceId, String url);
+  void onRenderProcessGone(
+      int instanceId, int webViewInstanceId, bool didCrash);
+  void onRendererPriorityChanged(
+      int instanceId, int webViewInstanceId, int priority);
+  void onTrimMemory(int instanceId, int webViewInstanceId, int level);
+  void onPageLoadMetrics(
+      int instanceId, int webViewInstanceId, PageLoadMetricsData metrics);
   static void setup(WebViewClientFlutterApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1370,6 +1922,112 @@ abstract class WebViewClientFlutterApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewClientFlutterApi.onRenderProcessGone',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewClientFlutterApi.onRenderProcessGone was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientFlutterApi.onRenderProcessGone was null, expected non-null int.');
+          final int? arg_webViewInstanceId = (args[1] as int?);
+          assert(arg_webViewInstanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientFlutterApi.onRenderProcessGone was null, expected non-null int.');
+          final bool? arg_didCrash = (args[2] as bool?);
+          assert(arg_didCrash != null,
+              'Argument for dev.flutter.pigeon.WebViewClientFlutterApi.onRenderProcessGone was null, expected non-null bool.');
+          api.onRenderProcessGone(
+              arg_instanceId!, arg_webViewInstanceId!, arg_didCrash!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewClientFlutterApi.onRendererPriorityChanged',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewClientFlutterApi.onRendererPriorityChanged was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientFlutterApi.onRendererPriorityChanged was null, expected non-null int.');
+          final int? arg_webViewInstanceId = (args[1] as int?);
+          assert(arg_webViewInstanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientFlutterApi.onRendererPriorityChanged was null, expected non-null int.');
+          final int? arg_priority = (args[2] as int?);
+          assert(arg_priority != null,
+              'Argument for dev.flutter.pigeon.WebViewClientFlutterApi.onRendererPriorityChanged was null, expected non-null int.');
+          api.onRendererPriorityChanged(
+              arg_instanceId!, arg_webViewInstanceId!, arg_priority!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewClientFlutterApi.onTrimMemory', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewClientFlutterApi.onTrimMemory was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientFlutterApi.onTrimMemory was null, expected non-null int.');
+          final int? arg_webViewInstanceId = (args[1] as int?);
+          assert(arg_webViewInstanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientFlutterApi.onTrimMemory was null, expected non-null int.');
+          final int? arg_level = (args[2] as int?);
+          assert(arg_level != null,
+              'Argument for dev.flutter.pigeon.WebViewClientFlutterApi.onTrimMemory was null, expected non-null int.');
+          api.onTrimMemory(arg_instanceId!, arg_webViewInstanceId!, arg_level!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewClientFlutterApi.onPageLoadMetrics', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewClientFlutterApi.onPageLoadMetrics was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientFlutterApi.onPageLoadMetrics was null, expected non-null int.');
+          final int? arg_webViewInstanceId = (args[1] as int?);
+          assert(arg_webViewInstanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientFlutterApi.onPageLoadMetrics was null, expected non-null int.');
+          final PageLoadMetricsData? arg_metrics =
+              (args[2] as PageLoadMetricsData?);
+          assert(arg_metrics != null,
+              'Argument for dev.flutter.pigeon.WebViewClientFlutterApi.onPageLoadMetrics was null, expected non-null PageLoadMetricsData.');
+          api.onPageLoadMetrics(
+              arg_instanceId!, arg_webViewInstanceId!, arg_metrics!);
+          return;
+        });
+      }
+    }
   }
 }
 
@@ -1525,6 +2183,33 @@ class WebChromeClientHostApi {
       return;
     }
   }
+
+  Future<void> setProgressInterval(
+      int arg_instanceId, int arg_intervalMs) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebChromeClientHostApi.setProgressInterval', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object>[arg_instanceId, arg_intervalMs])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 class _WebChromeClientFlutterApiCodec extends StandardMessageCodec {
@@ -1586,3 +2271,38 @@ abstract class WebChromeClientFlutterApi {
     }
   }
 }
+
+class _JavaScriptResultFlutterApiCodec extends StandardMessageCodec {
+  const _JavaScriptResultFlutterApiCodec();
+}
+
+abstract class JavaScriptResultFlutterApi {
+  static const MessageCodec<Object?> codec = _JavaScriptResultFlutterApiCodec();
+
+  bool onChunk(int requestId, String chunk);
+  static void setup(JavaScriptResultFlutterApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.JavaScriptResultFlutterApi.onChunk', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.JavaScriptResultFlutterApi.onChunk was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_requestId = (args[0] as int?);
+          assert(arg_requestId != null,
+              'Argument for dev.flutter.pigeon.JavaScriptResultFlutterApi.onChunk was null, expected non-null int.');
+          final String? arg_chunk = (args[1] as String?);
+          assert(arg_chunk != null,
+              'Argument for dev.flutter.pigeon.JavaScriptResultFlutterApi.onChunk was null, expected non-null String.');
+          final bool output = api.onChunk(arg_requestId!, arg_chunk!);
+          return output;
+        });
+      }
+    }
+  }
+}
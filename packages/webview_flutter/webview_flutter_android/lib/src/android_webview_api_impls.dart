@@ -2,6 +2,9 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:async';
+import 'dart:convert';
+
 import 'package:flutter/services.dart';
 
 import 'android_webview.dart';
@@ -29,6 +32,22 @@ WebResourceError _toWebResourceError(WebResourceErrorData data) {
   );
 }
 
+/// Converts [PageLoadMetricsData] to [PageLoadMetrics].
+PageLoadMetrics _toPageLoadMetrics(PageLoadMetricsData data) {
+  final int? firstVisualStateMillis = data.firstVisualStateMillis;
+  return PageLoadMetrics(
+    url: data.url!,
+    startTime: DateTime.fromMillisecondsSinceEpoch(data.startTimeMillis!),
+    pageFinished: Duration(milliseconds: data.pageFinishedMillis!),
+    firstVisualState: firstVisualStateMillis != null
+        ? Duration(milliseconds: firstVisualStateMillis)
+        : null,
+    errorCode: data.errorCode,
+    errorDescription: data.errorDescription,
+    performanceTiming: data.performanceTiming,
+  );
+}
+
 /// Handles initialization of Flutter APIs for Android WebView.
 class AndroidWebViewFlutterApis {
   /// Creates a [AndroidWebViewFlutterApis].
@@ -37,6 +56,7 @@ class AndroidWebViewFlutterApis {
     WebViewClientFlutterApiImpl? webViewClientFlutterApi,
     WebChromeClientFlutterApiImpl? webChromeClientFlutterApi,
     JavaScriptChannelFlutterApiImpl? javaScriptChannelFlutterApi,
+    JavaScriptResultFlutterApiImpl? javaScriptResultFlutterApi,
   }) {
     this.downloadListenerFlutterApi =
         downloadListenerFlutterApi ?? DownloadListenerFlutterApiImpl();
@@ -46,6 +66,8 @@ class AndroidWebViewFlutterApis {
         webChromeClientFlutterApi ?? WebChromeClientFlutterApiImpl();
     this.javaScriptChannelFlutterApi =
         javaScriptChannelFlutterApi ?? JavaScriptChannelFlutterApiImpl();
+    this.javaScriptResultFlutterApi =
+        javaScriptResultFlutterApi ?? JavaScriptResultFlutterApiImpl();
   }
 
   static bool _haveBeenSetUp = false;
@@ -67,6 +89,9 @@ class AndroidWebViewFlutterApis {
   /// Flutter Api for [JavaScriptChannel].
   late final JavaScriptChannelFlutterApiImpl javaScriptChannelFlutterApi;
 
+  /// Flutter Api for chunked results of [WebView.evaluateJavascriptChunked].
+  late final JavaScriptResultFlutterApiImpl javaScriptResultFlutterApi;
+
   /// Ensures all the Flutter APIs have been setup to receive calls from native code.
   void ensureSetUp() {
     if (!_haveBeenSetUp) {
@@ -74,6 +99,7 @@ class AndroidWebViewFlutterApis {
       WebViewClientFlutterApi.setup(webViewClientFlutterApi);
       WebChromeClientFlutterApi.setup(webChromeClientFlutterApi);
       JavaScriptChannelFlutterApi.setup(javaScriptChannelFlutterApi);
+      JavaScriptResultFlutterApi.setup(javaScriptResultFlutterApi);
       _haveBeenSetUp = true;
     }
   }
@@ -165,6 +191,47 @@ class WebViewHostApiImpl extends WebViewHostApi {
         instanceManager.getInstanceId(instance)!, javascriptString);
   }
 
+  /// Helper method to convert instances ids to objects.
+  ///
+  /// The chunks are routed to the returned stream by
+  /// [AndroidWebViewFlutterApis.javaScriptResultFlutterApi].
+  Stream<String> evaluateJavascriptChunkedFromInstance(
+    WebView instance,
+    String javascriptString, {
+    required int chunkSize,
+    int? maxLength,
+  }) {
+    final AndroidWebViewFlutterApis flutterApis =
+        AndroidWebViewFlutterApis.instance;
+    flutterApis.ensureSetUp();
+
+    late final int requestId;
+    final StreamController<String> controller = StreamController<String>(
+      onCancel: () =>
+          flutterApis.javaScriptResultFlutterApi.removeRequest(requestId),
+    );
+    requestId = flutterApis.javaScriptResultFlutterApi.addRequest(controller);
+    Future<void> evaluate() async {
+      try {
+        await evaluateJavascriptChunked(
+          instanceManager.getInstanceId(instance)!,
+          requestId,
+          javascriptString,
+          chunkSize,
+          maxLength ?? 0,
+        );
+      } catch (error, stackTrace) {
+        controller.addError(error, stackTrace);
+      } finally {
+        flutterApis.javaScriptResultFlutterApi.removeRequest(requestId);
+        controller.close();
+      }
+    }
+
+    evaluate();
+    return controller.stream;
+  }
+
   /// Helper method to convert instances ids to objects.
   Future<String> getTitleFromInstance(WebView instance) {
     return getTitle(instanceManager.getInstanceId(instance)!);
@@ -212,6 +279,19 @@ class WebViewHostApiImpl extends WebViewHostApi {
     );
   }
 
+  /// Helper method to convert instances ids to objects.
+  Future<void> postJavaScriptChannelPortFromInstance(
+    WebView instance,
+    JavaScriptChannel javaScriptChannel,
+    String targetOrigin,
+  ) {
+    return postJavaScriptChannelPort(
+      instanceManager.getInstanceId(instance)!,
+      instanceManager.getInstanceId(javaScriptChannel)!,
+      targetOrigin,
+    );
+  }
+
   /// Helper method to convert instances ids to objects.
   Future<void> removeJavaScriptChannelFromInstance(
     WebView instance,
@@ -234,6 +314,19 @@ class WebViewHostApiImpl extends WebViewHostApi {
     );
   }
 
+  /// Helper method to convert instances ids to objects.
+  Future<void> setRendererPriorityPolicyFromInstance(
+    WebView instance,
+    int priority,
+    bool waivedWhenNotVisible,
+  ) {
+    return setRendererPriorityPolicy(
+      instanceManager.getInstanceId(instance)!,
+      priority,
+      waivedWhenNotVisible,
+    );
+  }
+
   /// Helper method to convert instances ids to objects.
   Future<void> setWebChromeClientFromInstance(
     WebView instance,
@@ -387,6 +480,39 @@ class WebSettingsHostApiImpl extends WebSettingsHostApi {
       enabled,
     );
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> applySettingsFromInstance(
+    WebSettings instance, {
+    bool? domStorageEnabled,
+    bool? javaScriptCanOpenWindowsAutomatically,
+    bool? supportMultipleWindows,
+    bool? javaScriptEnabled,
+    String? userAgentString,
+    bool? mediaPlaybackRequiresUserGesture,
+    bool? supportZoom,
+    bool? loadWithOverviewMode,
+    bool? useWideViewPort,
+    bool? displayZoomControls,
+    bool? builtInZoomControls,
+  }) {
+    return applySettings(
+      instanceManager.getInstanceId(instance)!,
+      WebSettingsData()
+        ..domStorageEnabled = domStorageEnabled
+        ..javaScriptCanOpenWindowsAutomatically =
+            javaScriptCanOpenWindowsAutomatically
+        ..supportMultipleWindows = supportMultipleWindows
+        ..javaScriptEnabled = javaScriptEnabled
+        ..userAgentString = userAgentString
+        ..mediaPlaybackRequiresUserGesture = mediaPlaybackRequiresUserGesture
+        ..supportZoom = supportZoom
+        ..loadWithOverviewMode = loadWithOverviewMode
+        ..useWideViewPort = useWideViewPort
+        ..displayZoomControls = displayZoomControls
+        ..builtInZoomControls = builtInZoomControls,
+    );
+  }
 }
 
 /// Host api implementation for [JavaScriptChannel].
@@ -409,6 +535,18 @@ class JavaScriptChannelHostApiImpl extends JavaScriptChannelHostApi {
       return create(instanceId, instance.channelName);
     }
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setBatchWindowFromInstance(
+    JavaScriptChannel instance,
+    Duration window,
+  ) async {
+    await createFromInstance(instance);
+    return setBatchWindow(
+      instanceManager.getInstanceId(instance)!,
+      window.inMilliseconds,
+    );
+  }
 }
 
 /// Flutter api implementation for [JavaScriptChannel].
@@ -436,6 +574,53 @@ class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi {
     );
     instance!.postMessage(message);
   }
+
+  @override
+  void postMessages(int instanceId, List<String?> messages) {
+    final JavaScriptChannel? instance =
+        instanceManager.getInstance(instanceId) as JavaScriptChannel?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain an JavaScriptChannel with instanceId: $instanceId',
+    );
+    instance!.postMessages(messages.cast<String>());
+  }
+}
+
+/// Flutter api implementation for chunked results of [WebView.evaluateJavascriptChunked].
+class JavaScriptResultFlutterApiImpl extends JavaScriptResultFlutterApi {
+  final Map<int, StreamController<String>> _requests =
+      <int, StreamController<String>>{};
+  int _nextRequestId = 0;
+
+  /// Adds a pending request and returns its id.
+  ///
+  /// Chunks received for the request are decoded and added to [controller].
+  int addRequest(StreamController<String> controller) {
+    final int requestId = _nextRequestId++;
+    _requests[requestId] = controller;
+    return requestId;
+  }
+
+  /// Removes a pending request so later chunks are ignored.
+  ///
+  /// The platform stops reading the result of a removed request.
+  void removeRequest(int requestId) {
+    _requests.remove(requestId);
+  }
+
+  /// Adds [chunk] to the stream of its request.
+  ///
+  /// Returns whether the platform should read the next chunk.
+  @override
+  bool onChunk(int requestId, String chunk) {
+    final StreamController<String>? controller = _requests[requestId];
+    if (controller == null || controller.isClosed) {
+      return false;
+    }
+    controller.add(jsonDecode(chunk) as String);
+    return true;
+  }
 }
 
 /// Host api implementation for [WebViewClient].
@@ -458,6 +643,32 @@ class WebViewClientHostApiImpl extends WebViewClientHostApi {
       return create(instanceId, instance.shouldOverrideUrlLoading);
     }
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setNavigationIntervalFromInstance(
+    WebViewClient instance,
+    Duration interval,
+  ) async {
+    await createFromInstance(instance);
+    return setNavigationInterval(
+      instanceManager.getInstanceId(instance)!,
+      interval.inMilliseconds,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setPageLoadTrackingFromInstance(
+    WebViewClient instance, {
+    required bool enabled,
+    required bool collectPerformanceTiming,
+  }) async {
+    await createFromInstance(instance);
+    return setPageLoadTracking(
+      instanceManager.getInstanceId(instance)!,
+      enabled,
+      collectPerformanceTiming,
+    );
+  }
 }
 
 /// Flutter api implementation for [WebViewClient].
@@ -605,6 +816,90 @@ class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
     );
     instance!.urlLoading(webViewInstance!, url);
   }
+
+  @override
+  void onRenderProcessGone(
+    int instanceId,
+    int webViewInstanceId,
+    bool didCrash,
+  ) {
+    final WebViewClient? instance =
+        instanceManager.getInstance(instanceId) as WebViewClient?;
+    final WebView? webViewInstance =
+        instanceManager.getInstance(webViewInstanceId) as WebView?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain an WebViewClient with instanceId: $instanceId',
+    );
+    assert(
+      webViewInstance != null,
+      'InstanceManager does not contain an WebView with instanceId: $webViewInstanceId',
+    );
+    instance!.onRenderProcessGone(webViewInstance!, didCrash);
+  }
+
+  @override
+  void onRendererPriorityChanged(
+    int instanceId,
+    int webViewInstanceId,
+    int priority,
+  ) {
+    final WebViewClient? instance =
+        instanceManager.getInstance(instanceId) as WebViewClient?;
+    final WebView? webViewInstance =
+        instanceManager.getInstance(webViewInstanceId) as WebView?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain an WebViewClient with instanceId: $instanceId',
+    );
+    assert(
+      webViewInstance != null,
+      'InstanceManager does not contain an WebView with instanceId: $webViewInstanceId',
+    );
+    instance!.onRendererPriorityChanged(webViewInstance!, priority);
+  }
+
+  @override
+  void onTrimMemory(
+    int instanceId,
+    int webViewInstanceId,
+    int level,
+  ) {
+    final WebViewClient? instance =
+        instanceManager.getInstance(instanceId) as WebViewClient?;
+    final WebView? webViewInstance =
+        instanceManager.getInstance(webViewInstanceId) as WebView?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain an WebViewClient with instanceId: $instanceId',
+    );
+    assert(
+      webViewInstance != null,
+      'InstanceManager does not contain an WebView with instanceId: $webViewInstanceId',
+    );
+    instance!.onTrimMemory(webViewInstance!, level);
+  }
+
+  @override
+  void onPageLoadMetrics(
+    int instanceId,
+    int webViewInstanceId,
+    PageLoadMetricsData metrics,
+  ) {
+    final WebViewClient? instance =
+        instanceManager.getInstance(instanceId) as WebViewClient?;
+    final WebView? webViewInstance =
+        instanceManager.getInstance(webViewInstanceId) as WebView?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain an WebViewClient with instanceId: $instanceId',
+    );
+    assert(
+      webViewInstance != null,
+      'InstanceManager does not contain an WebView with instanceId: $webViewInstanceId',
+    );
+    instance!.onPageLoadMetrics(webViewInstance!, _toPageLoadMetrics(metrics));
+  }
 }
 
 /// Host api implementation for [DownloadListener].
@@ -692,6 +987,19 @@ class WebChromeClientHostApiImpl extends WebChromeClientHostApi {
       return create(instanceId, instanceManager.getInstanceId(webViewClient)!);
     }
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setProgressIntervalFromInstance(
+    WebChromeClient instance,
+    Duration interval,
+  ) {
+    final int? instanceId = instanceManager.getInstanceId(instance);
+    assert(
+      instanceId != null,
+      'The WebChromeClient must be passed to WebView.setWebChromeClient first.',
+    );
+    return setProgressInterval(instanceId!, interval.inMilliseconds);
+  }
 }
 
 /// Flutter api implementation for [DownloadListener].
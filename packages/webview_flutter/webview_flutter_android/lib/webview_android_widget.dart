@@ -97,13 +97,15 @@ class WebViewAndroidPlatformController extends WebViewPlatformController {
       useHybridComposition: useHybridComposition,
     );
 
-    webView.settings.setDomStorageEnabled(true);
-    webView.settings.setJavaScriptCanOpenWindowsAutomatically(true);
-    webView.settings.setSupportMultipleWindows(true);
-    webView.settings.setLoadWithOverviewMode(true);
-    webView.settings.setUseWideViewPort(true);
-    webView.settings.setDisplayZoomControls(false);
-    webView.settings.setBuiltInZoomControls(true);
+    webView.settings.apply(
+      domStorageEnabled: true,
+      javaScriptCanOpenWindowsAutomatically: true,
+      supportMultipleWindows: true,
+      loadWithOverviewMode: true,
+      useWideViewPort: true,
+      displayZoomControls: false,
+      builtInZoomControls: true,
+    );
 
     _setCreationParams(creationParams);
     webView.setDownloadListener(downloadListener);
@@ -532,6 +534,17 @@ class WebViewAndroidWebViewClient extends android_webview.WebViewClient {
     }
   }
 
+  @override
+  void onRenderProcessGone(android_webview.WebView webView, bool didCrash) {
+    onWebResourceErrorCallback(WebResourceError(
+      errorCode: android_webview.WebViewClient.errorUnknown,
+      description: didCrash
+          ? 'The WebView renderer process crashed.'
+          : 'The WebView renderer process was killed to reclaim memory.',
+      errorType: WebResourceErrorType.unknown,
+    ));
+  }
+
   @override
   void urlLoading(android_webview.WebView webView, String url) {
     if (!handlesNavigation) {
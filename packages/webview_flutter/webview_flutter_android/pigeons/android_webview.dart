@@ -18,6 +18,30 @@ class WebResourceErrorData {
   String? description;
 }
 
+class WebSettingsData {
+  bool? domStorageEnabled;
+  bool? javaScriptCanOpenWindowsAutomatically;
+  bool? supportMultipleWindows;
+  bool? javaScriptEnabled;
+  String? userAgentString;
+  bool? mediaPlaybackRequiresUserGesture;
+  bool? supportZoom;
+  bool? loadWithOverviewMode;
+  bool? useWideViewPort;
+  bool? displayZoomControls;
+  bool? builtInZoomControls;
+}
+
+class PageLoadMetricsData {
+  String? url;
+  int? startTimeMillis;
+  int? pageFinishedMillis;
+  int? firstVisualStateMillis;
+  int? errorCode;
+  String? errorDescription;
+  String? performanceTiming;
+}
+
 @HostApi(dartHostTestHandler: 'TestWebViewHostApi')
 abstract class WebViewHostApi {
   void create(int instanceId, bool useHybridComposition);
@@ -71,6 +95,43 @@ abstract class WebViewHostApi {
   void setDownloadListener(int instanceId, int listenerInstanceId);
 
   void setWebChromeClient(int instanceId, int clientInstanceId);
+
+  void configurePool(int maxSize, int warmUpCount, bool useHybridComposition);
+
+  Map<String, int> getPoolStats();
+
+  void interceptAssets(String urlPrefix, String assetDirectory);
+
+  void interceptFiles(String urlPrefix, String directory);
+
+  void clearInterceptRoutes();
+
+  void setInterceptCache(int maxSizeBytes, List<String> origins);
+
+  void postJavaScriptChannelPort(
+    int instanceId,
+    int javaScriptChannelInstanceId,
+    String targetOrigin,
+  );
+
+  Map<String, int> getInstanceCounts();
+
+  Map<String, int> getReleasedInstanceCounts();
+
+  void setRendererPriorityPolicy(
+    int instanceId,
+    int priority,
+    bool waivedWhenNotVisible,
+  );
+
+  @async
+  int evaluateJavascriptChunked(
+    int instanceId,
+    int requestId,
+    String javascriptString,
+    int chunkSize,
+    int maxLength,
+  );
 }
 
 @HostApi(dartHostTestHandler: 'TestWebSettingsHostApi')
@@ -100,11 +161,15 @@ abstract class WebSettingsHostApi {
   void setDisplayZoomControls(int instanceId, bool enabled);
 
   void setBuiltInZoomControls(int instanceId, bool enabled);
+
+  void applySettings(int instanceId, WebSettingsData settings);
 }
 
 @HostApi(dartHostTestHandler: 'TestJavaScriptChannelHostApi')
 abstract class JavaScriptChannelHostApi {
   void create(int instanceId, String channelName);
+
+  void setBatchWindow(int instanceId, int windowMs);
 }
 
 @FlutterApi()
@@ -112,11 +177,21 @@ abstract class JavaScriptChannelFlutterApi {
   void dispose(int instanceId);
 
   void postMessage(int instanceId, String message);
+
+  void postMessages(int instanceId, List<String> messages);
 }
 
 @HostApi(dartHostTestHandler: 'TestWebViewClientHostApi')
 abstract class WebViewClientHostApi {
   void create(int instanceId, bool shouldOverrideUrlLoading);
+
+  void setNavigationInterval(int instanceId, int intervalMs);
+
+  void setPageLoadTracking(
+    int instanceId,
+    bool enabled,
+    bool collectPerformanceTiming,
+  );
 }
 
 @FlutterApi()
@@ -149,6 +224,26 @@ abstract class WebViewClientFlutterApi {
   );
 
   void urlLoading(int instanceId, int webViewInstanceId, String url);
+
+  void onRenderProcessGone(
+    int instanceId,
+    int webViewInstanceId,
+    bool didCrash,
+  );
+
+  void onRendererPriorityChanged(
+    int instanceId,
+    int webViewInstanceId,
+    int priority,
+  );
+
+  void onTrimMemory(int instanceId, int webViewInstanceId, int level);
+
+  void onPageLoadMetrics(
+    int instanceId,
+    int webViewInstanceId,
+    PageLoadMetricsData metrics,
+  );
 }
 
 @HostApi(dartHostTestHandler: 'TestDownloadListenerHostApi')
@@ -173,6 +268,8 @@ abstract class DownloadListenerFlutterApi {
 @HostApi(dartHostTestHandler: 'TestWebChromeClientHostApi')
 abstract class WebChromeClientHostApi {
   void create(int instanceId, int webViewClientInstanceId);
+
+  void setProgressInterval(int instanceId, int intervalMs);
 }
 
 @FlutterApi()
@@ -181,3 +278,8 @@ abstract class WebChromeClientFlutterApi {
 
   void onProgressChanged(int instanceId, int webViewInstanceId, int progress);
 }
+
+@FlutterApi()
+abstract class JavaScriptResultFlutterApi {
+  bool onChunk(int requestId, String chunk);
+}
@@ -43,6 +43,20 @@ abstract class TestWebViewHostApi {
   void removeJavaScriptChannel(int instanceId, int javaScriptChannelInstanceId);
   void setDownloadListener(int instanceId, int listenerInstanceId);
   void setWebChromeClient(int instanceId, int clientInstanceId);
+  void configurePool(int maxSize, int warmUpCount, bool useHybridComposition);
+  Map<String?, int?> getPoolStats();
+  void interceptAssets(String urlPrefix, String assetDirectory);
+  void interceptFiles(String urlPrefix, String directory);
+  void clearInterceptRoutes();
+  void setInterceptCache(int maxSizeBytes, List<String?> origins);
+  void postJavaScriptChannelPort(
+      int instanceId, int javaScriptChannelInstanceId, String targetOrigin);
+  Map<String?, int?> getInstanceCounts();
+  Map<String?, int?> getReleasedInstanceCounts();
+  void setRendererPriorityPolicy(
+      int instanceId, int priority, bool waivedWhenNotVisible);
+  Future<int> evaluateJavascriptChunked(int instanceId, int requestId,
+      String javascriptString, int chunkSize, int maxLength);
   static void setup(TestWebViewHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -510,11 +524,261 @@ abstract class TestWebViewHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.configurePool', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.configurePool was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_maxSize = args[0] as int?;
+          assert(arg_maxSize != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.configurePool was null, expected non-null int.');
+          final int? arg_warmUpCount = args[1] as int?;
+          assert(arg_warmUpCount != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.configurePool was null, expected non-null int.');
+          final bool? arg_useHybridComposition = args[2] as bool?;
+          assert(arg_useHybridComposition != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.configurePool was null, expected non-null bool.');
+          api.configurePool(
+              arg_maxSize!, arg_warmUpCount!, arg_useHybridComposition!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.getPoolStats', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          final Map<String?, int?> output = api.getPoolStats();
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.interceptAssets', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.interceptAssets was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_urlPrefix = args[0] as String?;
+          assert(arg_urlPrefix != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.interceptAssets was null, expected non-null String.');
+          final String? arg_assetDirectory = args[1] as String?;
+          assert(arg_assetDirectory != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.interceptAssets was null, expected non-null String.');
+          api.interceptAssets(arg_urlPrefix!, arg_assetDirectory!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.interceptFiles', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.interceptFiles was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_urlPrefix = args[0] as String?;
+          assert(arg_urlPrefix != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.interceptFiles was null, expected non-null String.');
+          final String? arg_directory = args[1] as String?;
+          assert(arg_directory != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.interceptFiles was null, expected non-null String.');
+          api.interceptFiles(arg_urlPrefix!, arg_directory!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.clearInterceptRoutes', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          api.clearInterceptRoutes();
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.setInterceptCache', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setInterceptCache was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_maxSizeBytes = args[0] as int?;
+          assert(arg_maxSizeBytes != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setInterceptCache was null, expected non-null int.');
+          final List<String?>? arg_origins =
+              (args[1] as List<Object?>?)?.cast<String?>();
+          assert(arg_origins != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setInterceptCache was null, expected non-null List<String?>.');
+          api.setInterceptCache(arg_maxSizeBytes!, arg_origins!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.postJavaScriptChannelPort', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.postJavaScriptChannelPort was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = args[0] as int?;
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.postJavaScriptChannelPort was null, expected non-null int.');
+          final int? arg_javaScriptChannelInstanceId = args[1] as int?;
+          assert(arg_javaScriptChannelInstanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.postJavaScriptChannelPort was null, expected non-null int.');
+          final String? arg_targetOrigin = args[2] as String?;
+          assert(arg_targetOrigin != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.postJavaScriptChannelPort was null, expected non-null String.');
+          api.postJavaScriptChannelPort(arg_instanceId!,
+              arg_javaScriptChannelInstanceId!, arg_targetOrigin!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.getInstanceCounts', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          final Map<String?, int?> output = api.getInstanceCounts();
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.getReleasedInstanceCounts', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          final Map<String?, int?> output = api.getReleasedInstanceCounts();
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.setRendererPriorityPolicy', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setRendererPriorityPolicy was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = args[0] as int?;
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setRendererPriorityPolicy was null, expected non-null int.');
+          final int? arg_priority = args[1] as int?;
+          assert(arg_priority != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setRendererPriorityPolicy was null, expected non-null int.');
+          final bool? arg_waivedWhenNotVisible = args[2] as bool?;
+          assert(arg_waivedWhenNotVisible != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setRendererPriorityPolicy was null, expected non-null bool.');
+          api.setRendererPriorityPolicy(
+              arg_instanceId!, arg_priority!, arg_waivedWhenNotVisible!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptChunked', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptChunked was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = args[0] as int?;
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptChunked was null, expected non-null int.');
+          final int? arg_requestId = args[1] as int?;
+          assert(arg_requestId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptChunked was null, expected non-null int.');
+          final String? arg_javascriptString = args[2] as String?;
+          assert(arg_javascriptString != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptChunked was null, expected non-null String.');
+          final int? arg_chunkSize = args[3] as int?;
+          assert(arg_chunkSize != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptChunked was null, expected non-null int.');
+          final int? arg_maxLength = args[4] as int?;
+          assert(arg_maxLength != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptChunked was null, expected non-null int.');
+          final int output = await api.evaluateJavascriptChunked(
+              arg_instanceId!, arg_requestId!, arg_javascriptString!,
+              arg_chunkSize!, arg_maxLength!);
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
   }
 }
 
 class _TestWebSettingsHostApiCodec extends StandardMessageCodec {
   const _TestWebSettingsHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is WebSettingsData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return WebSettingsData.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
 }
 
 abstract class TestWebSettingsHostApi {
@@ -533,6 +797,7 @@ abstract class TestWebSettingsHostApi {
   void setUseWideViewPort(int instanceId, bool use);
   void setDisplayZoomControls(int instanceId, bool enabled);
   void setBuiltInZoomControls(int instanceId, bool enabled);
+  void applySettings(int instanceId, WebSettingsData settings);
   static void setup(TestWebSettingsHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -824,6 +1089,28 @@ abstract class TestWebSettingsHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebSettingsHostApi.applySettings', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebSettingsHostApi.applySettings was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = args[0] as int?;
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebSettingsHostApi.applySettings was null, expected non-null int.');
+          final WebSettingsData? arg_settings = (args[1] as WebSettingsData?);
+          assert(arg_settings != null,
+              'Argument for dev.flutter.pigeon.WebSettingsHostApi.applySettings was null, expected non-null WebSettingsData.');
+          api.applySettings(arg_instanceId!, arg_settings!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
   }
 }
 
@@ -836,6 +1123,7 @@ abstract class TestJavaScriptChannelHostApi {
       _TestJavaScriptChannelHostApiCodec();
 
   void create(int instanceId, String channelName);
+  void setBatchWindow(int instanceId, int windowMs);
   static void setup(TestJavaScriptChannelHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -860,6 +1148,28 @@ abstract class TestJavaScriptChannelHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.JavaScriptChannelHostApi.setBatchWindow', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatchWindow was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = args[0] as int?;
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatchWindow was null, expected non-null int.');
+          final int? arg_windowMs = args[1] as int?;
+          assert(arg_windowMs != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatchWindow was null, expected non-null int.');
+          api.setBatchWindow(arg_instanceId!, arg_windowMs!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
   }
 }
 
@@ -871,6 +1181,9 @@ abstract class TestWebViewClientHostApi {
   static const MessageCodec<Object?> codec = _TestWebViewClientHostApiCodec();
 
   void create(int instanceId, bool shouldOverrideUrlLoading);
+  void setNavigationInterval(int instanceId, int intervalMs);
+  void setPageLoadTracking(
+      int instanceId, bool enabled, bool collectPerformanceTiming);
   static void setup(TestWebViewClientHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -895,6 +1208,55 @@ abstract class TestWebViewClientHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewClientHostApi.setNavigationInterval',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setNavigationInterval was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = args[0] as int?;
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setNavigationInterval was null, expected non-null int.');
+          final int? arg_intervalMs = args[1] as int?;
+          assert(arg_intervalMs != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setNavigationInterval was null, expected non-null int.');
+          api.setNavigationInterval(arg_instanceId!, arg_intervalMs!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewClientHostApi.setPageLoadTracking', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setPageLoadTracking was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = args[0] as int?;
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setPageLoadTracking was null, expected non-null int.');
+          final bool? arg_enabled = args[1] as bool?;
+          assert(arg_enabled != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setPageLoadTracking was null, expected non-null bool.');
+          final bool? arg_collectPerformanceTiming = args[2] as bool?;
+          assert(arg_collectPerformanceTiming != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setPageLoadTracking was null, expected non-null bool.');
+          api.setPageLoadTracking(
+              arg_instanceId!, arg_enabled!, arg_collectPerformanceTiming!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
   }
 }
 
@@ -939,6 +1301,7 @@ abstract class TestWebChromeClientHostApi {
   static const MessageCodec<Object?> codec = _TestWebChromeClientHostApiCodec();
 
   void create(int instanceId, int webViewClientInstanceId);
+  void setProgressInterval(int instanceId, int intervalMs);
   static void setup(TestWebChromeClientHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -963,5 +1326,28 @@ abstract class TestWebChromeClientHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebChromeClientHostApi.setProgressInterval',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setProgressInterval was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = args[0] as int?;
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setProgressInterval was null, expected non-null int.');
+          final int? arg_intervalMs = args[1] as int?;
+          assert(arg_intervalMs != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setProgressInterval was null, expected non-null int.');
+          api.setProgressInterval(arg_instanceId!, arg_intervalMs!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
   }
 }
@@ -2,6 +2,9 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:async';
+
+import 'package:flutter/services.dart';
 import 'package:flutter_test/flutter_test.dart';
 import 'package:mockito/annotations.dart';
 import 'package:mockito/mockito.dart';
@@ -110,6 +113,48 @@ void main() {
         );
       });
 
+      test('evaluateJavascriptChunked', () {
+        when(
+          mockPlatformHostApi.evaluateJavascriptChunked(
+              webViewInstanceId, any, 'runJavaScript', 4, 0),
+        ).thenAnswer((Invocation invocation) async {
+          final int requestId = invocation.positionalArguments[1] as int;
+          final JavaScriptResultFlutterApiImpl flutterApi =
+              AndroidWebViewFlutterApis.instance.javaScriptResultFlutterApi;
+          flutterApi.onChunk(requestId, r'"\"ret"');
+          flutterApi.onChunk(requestId, r'"urn\""');
+          return 8;
+        });
+        expect(
+          webView.evaluateJavascriptChunked('runJavaScript', chunkSize: 4),
+          emitsInOrder(<Object>['"ret', 'urn"', emitsDone]),
+        );
+      });
+
+      test('evaluateJavascriptChunked stops reading after cancel', () async {
+        final Completer<int> hostResult = Completer<int>();
+        late int requestId;
+        when(
+          mockPlatformHostApi.evaluateJavascriptChunked(
+              webViewInstanceId, any, 'runJavaScript', 4, 0),
+        ).thenAnswer((Invocation invocation) {
+          requestId = invocation.positionalArguments[1] as int;
+          return hostResult.future;
+        });
+        final JavaScriptResultFlutterApiImpl flutterApi =
+            AndroidWebViewFlutterApis.instance.javaScriptResultFlutterApi;
+
+        final StreamSubscription<String> subscription = webView
+            .evaluateJavascriptChunked('runJavaScript', chunkSize: 4)
+            .listen((_) {});
+        await Future<void>.delayed(Duration.zero);
+        expect(flutterApi.onChunk(requestId, r'"\"ret"'), isTrue);
+
+        await subscription.cancel();
+        expect(flutterApi.onChunk(requestId, r'"urn\""'), isFalse);
+        hostResult.completeError(PlatformException(code: 'cancelled'));
+      });
+
       test('getTitle', () {
         when(mockPlatformHostApi.getTitle(webViewInstanceId))
             .thenReturn('aTitle');
@@ -373,6 +418,17 @@ void main() {
           true,
         ));
       });
+
+      test('apply', () {
+        webSettings.apply(javaScriptEnabled: true, userAgentString: 'hello');
+        final WebSettingsData settings = verify(mockPlatformHostApi
+                .applySettings(webSettingsInstanceId, captureAny))
+            .captured
+            .single as WebSettingsData;
+        expect(settings.javaScriptEnabled, isTrue);
+        expect(settings.userAgentString, 'hello');
+        expect(settings.domStorageEnabled, isNull);
+      });
     });
 
     group('$JavaScriptChannel', () {
@@ -516,6 +572,27 @@ void main() {
           'https://www.google.com',
         ));
       });
+
+      test('onPageLoadMetrics', () {
+        flutterApi.onPageLoadMetrics(
+          mockWebViewClientInstanceId,
+          mockWebViewInstanceId,
+          PageLoadMetricsData()
+            ..url = 'https://www.google.com'
+            ..startTimeMillis = 1000
+            ..pageFinishedMillis = 250
+            ..firstVisualStateMillis = 120,
+        );
+
+        final PageLoadMetrics metrics = verify(
+          mockWebViewClient.onPageLoadMetrics(mockWebView, captureAny),
+        ).captured.single as PageLoadMetrics;
+        expect(metrics.url, 'https://www.google.com');
+        expect(metrics.startTime.millisecondsSinceEpoch, 1000);
+        expect(metrics.pageFinished, const Duration(milliseconds: 250));
+        expect(metrics.firstVisualState, const Duration(milliseconds: 120));
+        expect(metrics.errorCode, isNull);
+      });
     });
 
     group('$DownloadListener', () {
@@ -10,6 +10,8 @@ import 'dart:async' as _i4;
 
 import 'package:mockito/mockito.dart' as _i1;
 import 'package:webview_flutter_android/src/android_webview.dart' as _i2;
+import 'package:webview_flutter_android/src/android_webview.pigeon.dart'
+    as _i5;
 
 import 'android_webview.pigeon.dart' as _i3;
 
@@ -186,6 +188,11 @@ class MockTestWebSettingsHostApi extends _i1.Mock
           Invocation.method(#setBuiltInZoomControls, [instanceId, enabled]),
           returnValueForMissingStub: null);
   @override
+  void applySettings(int? instanceId, _i5.WebSettingsData? settings) =>
+      super.noSuchMethod(
+          Invocation.method(#applySettings, [instanceId, settings]),
+          returnValueForMissingStub: null);
+  @override
   String toString() => super.toString();
 }
 
@@ -323,6 +330,13 @@ class MockTestWebViewHostApi extends _i1.Mock
               #setWebChromeClient, [instanceId, clientInstanceId]),
           returnValueForMissingStub: null);
   @override
+  _i4.Future<int> evaluateJavascriptChunked(int? instanceId, int? requestId,
+          String? javascriptString, int? chunkSize, int? maxLength) =>
+      (super.noSuchMethod(
+          Invocation.method(#evaluateJavascriptChunked,
+              [instanceId, requestId, javascriptString, chunkSize, maxLength]),
+          returnValue: Future<int>.value(0)) as _i4.Future<int>);
+  @override
   String toString() => super.toString();
 }
 
@@ -501,5 +515,11 @@ class MockWebViewClient extends _i1.Mock implements _i2.WebViewClient {
       super.noSuchMethod(Invocation.method(#urlLoading, [webView, url]),
           returnValueForMissingStub: null);
   @override
+  void onPageLoadMetrics(
+          _i2.WebView? webView, _i2.PageLoadMetrics? metrics) =>
+      super.noSuchMethod(
+          Invocation.method(#onPageLoadMetrics, [webView, metrics]),
+          returnValueForMissingStub: null);
+  @override
   String toString() => super.toString();
 }
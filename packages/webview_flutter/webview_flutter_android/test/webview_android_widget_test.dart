@@ -91,13 +91,15 @@ void main() {
     testWidgets('$WebViewAndroidWidget', (WidgetTester tester) async {
       await buildWidget(tester);
 
-      verify(mockWebSettings.setDomStorageEnabled(true));
-      verify(mockWebSettings.setJavaScriptCanOpenWindowsAutomatically(true));
-      verify(mockWebSettings.setSupportMultipleWindows(true));
-      verify(mockWebSettings.setLoadWithOverviewMode(true));
-      verify(mockWebSettings.setUseWideViewPort(true));
-      verify(mockWebSettings.setDisplayZoomControls(false));
-      verify(mockWebSettings.setBuiltInZoomControls(true));
+      verify(mockWebSettings.apply(
+        domStorageEnabled: true,
+        javaScriptCanOpenWindowsAutomatically: true,
+        supportMultipleWindows: true,
+        loadWithOverviewMode: true,
+        useWideViewPort: true,
+        displayZoomControls: false,
+        builtInZoomControls: true,
+      ));
 
       verifyInOrder(<Future<void>>[
         mockWebView.setWebViewClient(webViewClient),
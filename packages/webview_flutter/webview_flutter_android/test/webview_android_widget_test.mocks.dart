@@ -96,6 +96,36 @@ class MockWebSettings extends _i1.Mock implements _i2.WebSettings {
           returnValue: Future<void>.value(),
           returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
   @override
+  _i4.Future<void> apply(
+          {bool? domStorageEnabled,
+          bool? javaScriptCanOpenWindowsAutomatically,
+          bool? supportMultipleWindows,
+          bool? javaScriptEnabled,
+          String? userAgentString,
+          bool? mediaPlaybackRequiresUserGesture,
+          bool? supportZoom,
+          bool? loadWithOverviewMode,
+          bool? useWideViewPort,
+          bool? displayZoomControls,
+          bool? builtInZoomControls}) =>
+      (super.noSuchMethod(
+          Invocation.method(#apply, [], {
+            #domStorageEnabled: domStorageEnabled,
+            #javaScriptCanOpenWindowsAutomatically:
+                javaScriptCanOpenWindowsAutomatically,
+            #supportMultipleWindows: supportMultipleWindows,
+            #javaScriptEnabled: javaScriptEnabled,
+            #userAgentString: userAgentString,
+            #mediaPlaybackRequiresUserGesture: mediaPlaybackRequiresUserGesture,
+            #supportZoom: supportZoom,
+            #loadWithOverviewMode: loadWithOverviewMode,
+            #useWideViewPort: useWideViewPort,
+            #displayZoomControls: displayZoomControls,
+            #builtInZoomControls: builtInZoomControls
+          }),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
   String toString() => super.toString();
 }
 